@@ -3,6 +3,7 @@ plugins {
 	id("org.springframework.boot") version "4.0.2"
 	id("io.spring.dependency-management") version "1.1.7"
 	id("org.flywaydb.flyway") version "11.14.1"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "de.bettinger"
@@ -26,6 +27,14 @@ repositories {
 	mavenCentral()
 }
 
+val loadTest: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
@@ -53,6 +62,9 @@ dependencies {
 	testImplementation("org.testcontainers:testcontainers-postgresql")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 	testRuntimeOnly("com.h2database:h2")
+	jmhImplementation("org.mockito:mockito-core")
+	jmhRuntimeOnly("com.h2database:h2")
+	"loadTestRuntimeOnly"("org.postgresql:postgresql")
 }
 
 flyway {
@@ -64,6 +76,28 @@ flyway {
 	locations = arrayOf("classpath:db/migration")
 }
 
+jmh {
+	jmhVersion = "1.37"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
+
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.register<Test>("loadTest") {
+	description = "Runs the PostgreSQL load comparisons: request thread models and UUID key strategies (needs Docker)."
+	group = "verification"
+	testClassesDirs = loadTest.output.classesDirs
+	classpath = loadTest.runtimeClasspath
+	shouldRunAfter(tasks.test)
+	outputs.upToDateWhen { false }
+	listOf("concurrency", "warmup", "duration", "platformMaxThreads", "uuidRows").forEach { name ->
+		providers.systemProperty("loadTest.$name").orNull?.let { systemProperty("loadTest.$name", it) }
+	}
+}
@@ -0,0 +1,146 @@
+package de.bettinger.processmgmt.analytics.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.bettinger.processmgmt.analytics.api.TimelineGraphDtos.TimelineGraphResponse;
+import de.bettinger.processmgmt.casemanagement.domain.ProcessCaseStatus;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseEntity;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
+import de.bettinger.processmgmt.collaboration.domain.meeting.MeetingStatus;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.config.JacksonConfig;
+import de.bettinger.processmgmt.common.domain.Address;
+import de.bettinger.processmgmt.common.domain.StakeholderRole;
+import de.bettinger.processmgmt.common.infrastructure.persistence.LocationEntity;
+import de.bettinger.processmgmt.common.infrastructure.persistence.LocationRepository;
+import de.bettinger.processmgmt.common.infrastructure.persistence.StakeholderEntity;
+import de.bettinger.processmgmt.common.infrastructure.persistence.StakeholderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Sorting, mapping and ETag computation of the timeline graph on a cache miss. Repositories are stubbed with
+ * preloaded entities and the cache is disabled, so the numbers exclude database time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimelineGraphQueryServiceBenchmark {
+
+	private static final String TENANT_ID = "tenant-bench";
+
+	@Param({"10", "100"})
+	public int meetings;
+
+	@Param({"100", "1000"})
+	public int tasks;
+
+	private TimelineGraphQueryService service;
+	private UUID caseId;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		caseId = UUID.randomUUID();
+		UUID locationId = UUID.randomUUID();
+		List<StakeholderEntity> stakeholders = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			stakeholders.add(new StakeholderEntity(UUID.randomUUID(), TENANT_ID, "Vorname" + i, "Nachname" + i,
+					StakeholderRole.TEAM_MEMBER, Instant.EPOCH));
+		}
+		Instant base = Instant.parse("2026-01-01T09:00:00Z");
+		List<MeetingEntity> meetingEntities = new ArrayList<>(meetings);
+		for (int i = 0; i < meetings; i++) {
+			boolean held = random.nextBoolean();
+			Instant scheduledAt = base.plus(Duration.ofDays(random.nextInt(365)));
+			MeetingEntity meeting = new MeetingEntity(UUID.randomUUID(), caseId, locationId,
+					held ? MeetingStatus.HELD : MeetingStatus.SCHEDULED, "Meeting " + i, "Beschreibung",
+					scheduledAt, held ? scheduledAt.plus(Duration.ofHours(1)) : null, null);
+			meeting.replaceParticipants(List.of(
+					randomStakeholderId(stakeholders, random),
+					randomStakeholderId(stakeholders, random),
+					randomStakeholderId(stakeholders, random)));
+			meetingEntities.add(meeting);
+		}
+		List<TaskEntity> taskEntities = new ArrayList<>(tasks);
+		for (int i = 0; i < tasks; i++) {
+			UUID meetingId = random.nextInt(3) == 0 ? null
+					: meetingEntities.get(random.nextInt(meetingEntities.size())).getId();
+			taskEntities.add(new TaskEntity(UUID.randomUUID(), caseId, meetingId, meetingId, "Task " + i,
+					"Beschreibung", LocalDate.of(2026, 6, 1).plusDays(i % 90), 1 + random.nextInt(5),
+					randomStakeholderId(stakeholders, random), TaskState.ASSIGNED, null, null, null, null, null,
+					null, base.plusSeconds(i)));
+		}
+
+		ProcessCaseRepository processCaseRepository = mock(ProcessCaseRepository.class);
+		when(processCaseRepository.findById(caseId)).thenReturn(Optional.of(new ProcessCaseEntity(caseId, TENANT_ID,
+				"Case", UUID.randomUUID(), ProcessCaseStatus.ACTIVE, Instant.EPOCH)));
+		MeetingRepository meetingRepository = mock(MeetingRepository.class);
+		when(meetingRepository.findAllByCaseIdOrderByScheduledAtDesc(caseId)).thenReturn(meetingEntities);
+		TaskRepository taskRepository = mock(TaskRepository.class);
+		when(taskRepository.findAllByCaseIdOrderByCreatedAtDesc(caseId)).thenReturn(taskEntities);
+		StakeholderRepository stakeholderRepository = mock(StakeholderRepository.class);
+		when(stakeholderRepository.findAllById(anyIterable())).thenReturn(stakeholders);
+		LocationRepository locationRepository = mock(LocationRepository.class);
+		when(locationRepository.findAllById(any())).thenReturn(List.of(new LocationEntity(locationId, TENANT_ID,
+				"Kita Sonnenschein", new Address("Musterstrasse", "12", "10115", "Berlin", "DE"))));
+
+		TimelineGraphCache disabledCache = new TimelineGraphCache(
+				new TimelineGraphCacheProperties(false, 0, Duration.ZERO), new SimpleMeterRegistry());
+		service = new TimelineGraphQueryService(processCaseRepository, meetingRepository, taskRepository,
+				stakeholderRepository, locationRepository, disabledCache, new JacksonConfig().objectMapper(),
+				new NoOpTransactionManager());
+	}
+
+	@Benchmark
+	public TimelineGraphResponse loadTimelineGraph() {
+		return service.getTimelineGraph(caseId);
+	}
+
+	private String randomStakeholderId(List<StakeholderEntity> stakeholders, Random random) {
+		return stakeholders.get(random.nextInt(stakeholders.size())).getId().toString();
+	}
+
+	private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import de.bettinger.processmgmt.ProcessManagementApplication;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * First page of "my tasks" against an in-memory H2 with the Flyway schema. The assignee always owns
+ * {@value #ASSIGNED_TASKS} tasks; only the number of cases in the tenant grows, so the score should stay flat
+ * across {@code cases}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StakeholderTasksQueryServiceBenchmark {
+
+	private static final String TENANT_ID = "tenant-bench";
+	private static final int ASSIGNED_TASKS = 200;
+	private static final int BATCH_SIZE = 1_000;
+
+	@Param({"100", "1000", "10000"})
+	public int cases;
+
+	private ConfigurableApplicationContext context;
+	private StakeholderTasksQueryService service;
+	private UUID stakeholderId;
+	private KeysetPageRequest firstPage;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(ProcessManagementApplication.class)
+				.web(WebApplicationType.NONE)
+				.profiles("test")
+				.properties(
+						"spring.datasource.url=jdbc:h2:mem:tasks-bench-" + cases
+								+ ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+						"logging.level.root=WARN")
+				.run();
+		service = context.getBean(StakeholderTasksQueryService.class);
+		stakeholderId = UUID.randomUUID();
+		seed(context.getBean(JdbcTemplate.class));
+		firstPage = new KeysetPageRequest("dueDate", Sort.Direction.ASC, 0, 20, null, false);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public KeysetPage<TaskEntity> firstPageByDueDate() {
+		return service.listAssignedTasks(TENANT_ID, stakeholderId, null, firstPage);
+	}
+
+	@Benchmark
+	public KeysetPage<TaskEntity> firstPageInState() {
+		return service.listAssignedTasks(TENANT_ID, stakeholderId, TaskState.ASSIGNED, firstPage);
+	}
+
+	private void seed(JdbcTemplate jdbcTemplate) {
+		Timestamp createdAt = Timestamp.from(Instant.parse("2026-01-01T09:00:00Z"));
+		List<UUID> caseIds = new ArrayList<>(cases);
+		List<Object[]> caseRows = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < cases; i++) {
+			UUID caseId = UUID.randomUUID();
+			caseIds.add(caseId);
+			caseRows.add(new Object[] {caseId, TENANT_ID, "Case " + i, UUID.randomUUID(), "ACTIVE", createdAt});
+			if (caseRows.size() == BATCH_SIZE) {
+				insertCases(jdbcTemplate, caseRows);
+			}
+		}
+		insertCases(jdbcTemplate, caseRows);
+
+		// Every case gets a task for someone else; the benchmarked assignee's tasks are spread over all cases.
+		List<Object[]> taskRows = new ArrayList<>(BATCH_SIZE);
+		LocalDate baseDueDate = LocalDate.of(2026, 3, 1);
+		for (int i = 0; i < cases; i++) {
+			taskRows.add(taskRow(caseIds.get(i), "other-" + (i % 50), baseDueDate.plusDays(i % 90), createdAt));
+			if (taskRows.size() == BATCH_SIZE) {
+				insertTasks(jdbcTemplate, taskRows);
+			}
+		}
+		for (int i = 0; i < ASSIGNED_TASKS; i++) {
+			taskRows.add(taskRow(caseIds.get(i * cases / ASSIGNED_TASKS), stakeholderId.toString(),
+					baseDueDate.plusDays(i % 90), createdAt));
+		}
+		insertTasks(jdbcTemplate, taskRows);
+	}
+
+	private Object[] taskRow(UUID caseId, String assigneeId, LocalDate dueDate, Timestamp createdAt) {
+		return new Object[] {UUID.randomUUID(), caseId, "Task", "Desc", Date.valueOf(dueDate), assigneeId,
+				"ASSIGNED", createdAt};
+	}
+
+	private void insertCases(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO cases (id, tenant_id, title, kita_id, status, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+				rows);
+		rows.clear();
+	}
+
+	private void insertTasks(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+		jdbcTemplate.batchUpdate("""
+				INSERT INTO tasks (id, case_id, title, description, due_date, assignee_id, state, created_at)
+				VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+				""", rows);
+		rows.clear();
+	}
+}
@@ -0,0 +1,83 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Critical-path schedule of {@link TaskDag} on the synthetic graphs of {@code TaskDependencyGraphBenchmark}, with
+ * every fifth task resolved (zero duration).
+ *
+ * <ul>
+ *   <li>{@code CHAIN}: every task depends on its predecessor.</li>
+ *   <li>{@code LAYERED}: tasks in layers of 10, each depending on up to three random tasks of the previous layer.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskDagBenchmark {
+
+	private static final int LAYER_WIDTH = 10;
+
+	@Param({"1000", "10000"})
+	public int tasks;
+
+	@Param({"CHAIN", "LAYERED"})
+	public String shape;
+
+	private int[] dependentIndexes;
+	private int[] prerequisiteIndexes;
+	private int edgeCount;
+	private int[] durations;
+	private TaskDag dag;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		dependentIndexes = new int[tasks * 3];
+		prerequisiteIndexes = new int[tasks * 3];
+		edgeCount = 0;
+		for (int i = 1; i < tasks; i++) {
+			if ("CHAIN".equals(shape)) {
+				addEdge(i, i - 1);
+				continue;
+			}
+			int layerStart = (i / LAYER_WIDTH - 1) * LAYER_WIDTH;
+			if (layerStart < 0) {
+				continue;
+			}
+			for (int d = 0; d < 3; d++) {
+				addEdge(i, layerStart + random.nextInt(LAYER_WIDTH));
+			}
+		}
+		durations = new int[tasks];
+		for (int i = 0; i < tasks; i++) {
+			durations[i] = i % 5 == 0 ? 0 : 1;
+		}
+		dag = TaskDag.fromEdges(tasks, dependentIndexes, prerequisiteIndexes, edgeCount);
+	}
+
+	@Benchmark
+	public TaskSchedule schedule() {
+		return dag.schedule(durations);
+	}
+
+	@Benchmark
+	public TaskSchedule buildAndSchedule() {
+		return TaskDag.fromEdges(tasks, dependentIndexes, prerequisiteIndexes, edgeCount).schedule(durations);
+	}
+
+	private void addEdge(int dependent, int prerequisite) {
+		dependentIndexes[edgeCount] = dependent;
+		prerequisiteIndexes[edgeCount] = prerequisite;
+		edgeCount++;
+	}
+}
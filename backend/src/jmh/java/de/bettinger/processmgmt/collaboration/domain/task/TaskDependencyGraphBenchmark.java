@@ -0,0 +1,90 @@
+package de.bettinger.processmgmt.collaboration.domain.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cycle check of {@code TaskCommandService.validateNoCycles} on synthetic graphs. The check starts at the last task
+ * and looks for the first one, which sits at the bottom of the graph, so the search walks (nearly) all tasks
+ * reachable from the start.
+ *
+ * <ul>
+ *   <li>{@code CHAIN}: every task depends on its predecessor (deepest possible traversal).</li>
+ *   <li>{@code LAYERED}: tasks in layers of 10, each depending on up to three random tasks of the previous layer.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskDependencyGraphBenchmark {
+
+	private static final int LAYER_WIDTH = 10;
+
+	@Param({"10", "100", "1000", "10000"})
+	public int tasks;
+
+	@Param({"CHAIN", "LAYERED"})
+	public String shape;
+
+	private List<UUID> taskIds;
+	private List<UUID[]> edges;
+	private TaskDependencyGraph graph;
+	private UUID firstTaskId;
+	private Set<UUID> lastTaskDependencies;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		taskIds = new ArrayList<>(tasks);
+		for (int i = 0; i < tasks; i++) {
+			taskIds.add(UUID.randomUUID());
+		}
+		edges = new ArrayList<>();
+		for (int i = 1; i < tasks; i++) {
+			if ("CHAIN".equals(shape)) {
+				edges.add(new UUID[] {taskIds.get(i), taskIds.get(i - 1)});
+				continue;
+			}
+			int layerStart = (i / LAYER_WIDTH - 1) * LAYER_WIDTH;
+			if (layerStart < 0) {
+				continue;
+			}
+			for (int d = 0; d < 3; d++) {
+				edges.add(new UUID[] {taskIds.get(i), taskIds.get(layerStart + random.nextInt(LAYER_WIDTH))});
+			}
+		}
+		graph = buildGraph();
+		firstTaskId = taskIds.getFirst();
+		lastTaskDependencies = Set.of(taskIds.getLast());
+	}
+
+	@Benchmark
+	public boolean wouldCreateCycle() {
+		return graph.wouldCreateCycle(firstTaskId, lastTaskDependencies);
+	}
+
+	@Benchmark
+	public boolean buildAndCheck() {
+		return buildGraph().wouldCreateCycle(firstTaskId, lastTaskDependencies);
+	}
+
+	private TaskDependencyGraph buildGraph() {
+		TaskDependencyGraph built = new TaskDependencyGraph();
+		for (UUID[] edge : edges) {
+			built.addDependency(edge[0], edge[1]);
+		}
+		return built;
+	}
+}
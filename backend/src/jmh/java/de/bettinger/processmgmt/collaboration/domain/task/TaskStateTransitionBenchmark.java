@@ -0,0 +1,39 @@
+package de.bettinger.processmgmt.collaboration.domain.task;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskStateTransitionBenchmark {
+
+	private final UUID caseId = UUID.randomUUID();
+
+	@Benchmark
+	public Task fullLifecycle() {
+		Task task = Task.create(caseId, "Konzept abstimmen", "Beschreibung", Task.DEFAULT_PRIORITY);
+		task.assign("u-1");
+		task.start();
+		task.block("Wartet auf Rückmeldung");
+		task.unblock();
+		task.resolve(TaskResolutionKind.COMPLETED, "Erledigt", "u-1");
+		return task;
+	}
+
+	@Benchmark
+	public Task declineAndReassign() {
+		Task task = Task.rehydrate(UUID.randomUUID(), caseId, "Konzept abstimmen", "Beschreibung",
+				Task.DEFAULT_PRIORITY, TaskState.ASSIGNED, "u-1", null, null, null, null, null, null, Instant.EPOCH);
+		task.declineAssignment("Keine Kapazität", "u-2");
+		task.assign("u-2");
+		return task;
+	}
+}
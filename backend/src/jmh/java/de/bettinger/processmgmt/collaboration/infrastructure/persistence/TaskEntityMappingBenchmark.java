@@ -0,0 +1,78 @@
+package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
+
+import de.bettinger.processmgmt.collaboration.domain.task.Task;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the entity/domain round trip every task command performs: {@code toDomain}, a transition and
+ * {@code applyFrom}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskEntityMappingBenchmark {
+
+	private TaskEntity entity;
+	private Task task;
+
+	@Setup
+	public void setUp() {
+		UUID caseId = UUID.randomUUID();
+		entity = new TaskEntity(
+				UUID.randomUUID(),
+				caseId,
+				null,
+				null,
+				"Konzept abstimmen",
+				"Beschreibung",
+				LocalDate.of(2026, 3, 1),
+				Task.DEFAULT_PRIORITY,
+				"u-1",
+				TaskState.IN_PROGRESS,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				Instant.EPOCH
+		);
+		task = entity.toDomain();
+	}
+
+	@Benchmark
+	public Task toDomain() {
+		return entity.toDomain();
+	}
+
+	@Benchmark
+	public TaskEntity applyFrom() {
+		entity.applyFrom(task);
+		return entity;
+	}
+
+	@Benchmark
+	public TaskEntity fromDomain() {
+		return TaskEntity.fromDomain(task);
+	}
+
+	@Benchmark
+	public TaskEntity commandRoundTrip() {
+		Task domain = entity.toDomain();
+		domain.block("Wartet auf Rückmeldung");
+		domain.unblock();
+		entity.applyFrom(domain);
+		return entity;
+	}
+}
@@ -0,0 +1,74 @@
+package de.bettinger.processmgmt.common.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bettinger.processmgmt.analytics.api.TimelineGraphDtos.TimelineGraphMeeting;
+import de.bettinger.processmgmt.analytics.api.TimelineGraphDtos.TimelineGraphMeetingStatus;
+import de.bettinger.processmgmt.analytics.api.TimelineGraphDtos.TimelineGraphResponse;
+import de.bettinger.processmgmt.analytics.api.TimelineGraphDtos.TimelineGraphTask;
+import de.bettinger.processmgmt.collaboration.api.TaskDtos.TaskSummaryResponse;
+import de.bettinger.processmgmt.collaboration.api.TaskDtos.TasksResponse;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Response serialization through the application's {@link JacksonConfig} mapper for the two largest payloads: the
+ * task list and the timeline graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonSerializationBenchmark {
+
+	@Param({"100", "1000"})
+	public int items;
+
+	private ObjectMapper objectMapper;
+	private TasksResponse tasksResponse;
+	private TimelineGraphResponse timelineGraphResponse;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new JacksonConfig().objectMapper();
+		UUID caseId = UUID.randomUUID();
+		UUID meetingId = UUID.randomUUID();
+		List<TaskSummaryResponse> tasks = new ArrayList<>(items);
+		List<TimelineGraphTask> graphTasks = new ArrayList<>(items);
+		for (int i = 0; i < items; i++) {
+			UUID taskId = UUID.randomUUID();
+			List<UUID> dependencies = i == 0 ? List.of() : List.of(tasks.get(i - 1).id());
+			tasks.add(new TaskSummaryResponse(taskId, "Task " + i, "Beschreibung der Aufgabe " + i, 3,
+					TaskState.ASSIGNED, "u-" + (i % 20), meetingId, dependencies, dependencies));
+			graphTasks.add(new TimelineGraphTask(taskId, "Task " + i, TaskState.ASSIGNED, 3, "u-" + (i % 20),
+					meetingId, LocalDate.of(2026, 6, 1).plusDays(i % 90)));
+		}
+		tasksResponse = new TasksResponse(tasks);
+		Instant now = Instant.parse("2026-02-01T10:00:00Z");
+		TimelineGraphMeeting meeting = new TimelineGraphMeeting(meetingId, TimelineGraphMeetingStatus.PERFORMED, now,
+				now, "Auftakt", "Kita Sonnenschein", List.of("u-1", "u-2", "u-3"));
+		timelineGraphResponse = new TimelineGraphResponse(caseId, now, now, List.of(meeting), List.of(), graphTasks);
+	}
+
+	@Benchmark
+	public byte[] serializeTasks() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(tasksResponse);
+	}
+
+	@Benchmark
+	public byte[] serializeTimelineGraph() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(timelineGraphResponse);
+	}
+}
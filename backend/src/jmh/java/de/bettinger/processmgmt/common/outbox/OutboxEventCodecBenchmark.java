@@ -0,0 +1,61 @@
+package de.bettinger.processmgmt.common.outbox;
+
+import de.bettinger.processmgmt.collaboration.domain.meeting.MeetingHeld;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskAssigned;
+import de.bettinger.processmgmt.common.config.JacksonConfig;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Payload encoding on the command path and payload parsing in {@code CaseTimelineProjector}, which replaced the
+ * per-request payload parsing of the timeline query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OutboxEventCodecBenchmark {
+
+	private OutboxEventCodec codec;
+	private TaskAssigned taskAssigned;
+	private OutboxEventEntity storedTaskAssigned;
+	private OutboxEventEntity storedMeetingHeld;
+
+	@Setup
+	public void setUp() {
+		codec = new OutboxEventCodec(new JacksonConfig().objectMapper());
+		UUID caseId = UUID.randomUUID();
+		taskAssigned = new TaskAssigned(UUID.randomUUID(), caseId, "u-201");
+		storedTaskAssigned = stored(codec.encode(taskAssigned), TaskAssigned.TYPE, caseId);
+		MeetingHeld meetingHeld = new MeetingHeld(UUID.randomUUID(), caseId, UUID.randomUUID());
+		storedMeetingHeld = stored(codec.encode(meetingHeld), MeetingHeld.TYPE, caseId);
+	}
+
+	@Benchmark
+	public String encodeTaskAssigned() {
+		return codec.encode(taskAssigned);
+	}
+
+	@Benchmark
+	public Optional<TaskAssigned> decodeTaskAssigned() {
+		return codec.decode(storedTaskAssigned, TaskAssigned.class);
+	}
+
+	@Benchmark
+	public Optional<MeetingHeld> decodeMeetingHeld() {
+		return codec.decode(storedMeetingHeld, MeetingHeld.class);
+	}
+
+	private OutboxEventEntity stored(String payload, String eventType, UUID caseId) {
+		return new OutboxEventEntity(UUID.randomUUID(), "Task", UUID.randomUUID().toString(), eventType, caseId,
+				Instant.EPOCH, payload, null, null);
+	}
+}
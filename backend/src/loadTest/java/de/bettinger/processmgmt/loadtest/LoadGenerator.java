@@ -0,0 +1,113 @@
+package de.bettinger.processmgmt.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop HTTP load: {@code concurrency} clients, each on its own virtual thread, send the next request as soon
+ * as the previous one completed. Closed-loop load keeps the offered concurrency fixed, so the server's thread model
+ * is what limits throughput and tail latency.
+ */
+final class LoadGenerator {
+
+	private final HttpClient client;
+	private final String tenantId;
+	private final List<URI> targets;
+
+	LoadGenerator(String tenantId, List<URI> targets) {
+		this.client = HttpClient.newBuilder()
+				.connectTimeout(Duration.ofSeconds(5))
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.build();
+		this.tenantId = tenantId;
+		this.targets = List.copyOf(targets);
+	}
+
+	LoadTestResult run(String threadModel, int concurrency, Duration duration) throws Exception {
+		long deadline = System.nanoTime() + duration.toNanos();
+		List<Future<ClientStats>> futures = new ArrayList<>(concurrency);
+		long started = System.nanoTime();
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				futures.add(clients.submit(() -> runClient(deadline)));
+			}
+		}
+		long elapsedNanos = System.nanoTime() - started;
+		long errors = 0;
+		int requests = 0;
+		for (Future<ClientStats> future : futures) {
+			ClientStats stats = future.get();
+			errors += stats.errors();
+			requests += stats.count();
+		}
+		long[] latencies = new long[requests];
+		int offset = 0;
+		for (Future<ClientStats> future : futures) {
+			ClientStats stats = future.get();
+			System.arraycopy(stats.latencies(), 0, latencies, offset, stats.count());
+			offset += stats.count();
+		}
+		Arrays.sort(latencies);
+		return new LoadTestResult(
+				threadModel,
+				concurrency,
+				Duration.ofNanos(elapsedNanos).toMillis(),
+				requests,
+				errors,
+				requests / (elapsedNanos / 1_000_000_000.0),
+				percentileMillis(latencies, 0.50),
+				percentileMillis(latencies, 0.99),
+				percentileMillis(latencies, 1.0)
+		);
+	}
+
+	private ClientStats runClient(long deadline) {
+		long[] latencies = new long[1024];
+		int count = 0;
+		long errors = 0;
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while (System.nanoTime() < deadline) {
+			HttpRequest request = HttpRequest.newBuilder(targets.get(random.nextInt(targets.size())))
+					.header("X-Dev-UserId", "load-test")
+					.header("X-Tenant-Id", tenantId)
+					.timeout(Duration.ofSeconds(30))
+					.GET()
+					.build();
+			long sent = System.nanoTime();
+			try {
+				HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+				if (response.statusCode() != 200) {
+					errors++;
+				}
+			} catch (Exception ex) {
+				errors++;
+			}
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = System.nanoTime() - sent;
+		}
+		return new ClientStats(latencies, count, errors);
+	}
+
+	private double percentileMillis(long[] sortedNanos, double percentile) {
+		if (sortedNanos.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+		return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+	}
+
+	private record ClientStats(long[] latencies, int count, long errors) {
+	}
+}
@@ -0,0 +1,17 @@
+package de.bettinger.processmgmt.loadtest;
+
+/**
+ * Outcome of one measured load run. Latencies are per request, measured on the client from send to full body.
+ */
+public record LoadTestResult(
+		String threadModel,
+		int concurrency,
+		long durationMillis,
+		long requests,
+		long errors,
+		double throughputPerSecond,
+		double p50Millis,
+		double p99Millis,
+		double maxMillis
+) {
+}
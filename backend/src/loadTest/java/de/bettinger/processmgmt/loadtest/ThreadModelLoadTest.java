@@ -0,0 +1,130 @@
+package de.bettinger.processmgmt.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bettinger.processmgmt.ProcessManagementApplication;
+import de.bettinger.processmgmt.casemanagement.domain.ProcessCaseStatus;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseEntity;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
+import de.bettinger.processmgmt.collaboration.application.TaskAttachmentService;
+import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskAttachmentEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Runs the same closed-loop workload against the application once with platform and once with virtual request
+ * threads, each against a fresh PostgreSQL container, and writes both results to
+ * {@code build/reports/load-test/thread-model-comparison.json}.
+ *
+ * <p>The workload mixes list endpoints (short DB transactions) with attachment downloads (file streaming without a
+ * DB connection). Tune it with {@code -DloadTest.concurrency}, {@code warmup}, {@code duration} (seconds) and
+ * {@code platformMaxThreads}.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ThreadModelLoadTest {
+
+	private static final String TENANT_ID = "tenant-load";
+	private static final int CASES = 20;
+	private static final int TASKS_PER_CASE = 25;
+	private static final int ATTACHMENT_BYTES = 256 * 1024;
+
+	@TempDir
+	Path attachmentRoot;
+
+	@Test
+	void comparesPlatformAndVirtualRequestThreads(TestReporter testReporter) throws Exception {
+		int concurrency = Integer.getInteger("loadTest.concurrency", 800);
+		Duration warmup = Duration.ofSeconds(Integer.getInteger("loadTest.warmup", 15));
+		Duration duration = Duration.ofSeconds(Integer.getInteger("loadTest.duration", 60));
+
+		LoadTestResult platform = runAgainstFreshApplication(false, concurrency, warmup, duration);
+		LoadTestResult virtual = runAgainstFreshApplication(true, concurrency, warmup, duration);
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("platform", platform);
+		report.put("virtual", virtual);
+		report.put("throughputRatio", virtual.throughputPerSecond() / platform.throughputPerSecond());
+		report.put("p99Ratio", virtual.p99Millis() / platform.p99Millis());
+		Path reportFile = Path.of("build", "reports", "load-test", "thread-model-comparison.json");
+		Files.createDirectories(reportFile.getParent());
+		new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+		testReporter.publishEntry("report", reportFile.toAbsolutePath().toString());
+
+		assertThat(platform.requests()).isPositive();
+		assertThat(virtual.requests()).isPositive();
+		assertThat(platform.errors()).isZero();
+		assertThat(virtual.errors()).isZero();
+	}
+
+	private LoadTestResult runAgainstFreshApplication(boolean virtualThreads, int concurrency, Duration warmup,
+													  Duration duration) throws Exception {
+		String threadModel = virtualThreads ? "virtual" : "platform";
+		try (PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine")) {
+			postgres.start();
+			try (ConfigurableApplicationContext app = new SpringApplicationBuilder(ProcessManagementApplication.class)
+					.profiles("prod")
+					.run(
+							"--spring.datasource.url=" + postgres.getJdbcUrl(),
+							"--spring.datasource.username=" + postgres.getUsername(),
+							"--spring.datasource.password=" + postgres.getPassword(),
+							"--server.port=0",
+							"--spring.threads.virtual.enabled=" + virtualThreads,
+							"--server.tomcat.threads.max=" + Integer.getInteger("loadTest.platformMaxThreads", 200),
+							"--app.outbox.relay.enabled=false",
+							"--app.attachments.storage-root=" + attachmentRoot.resolve(threadModel)
+					)) {
+				URI baseUri = URI.create("http://localhost:" + app.getEnvironment().getProperty("local.server.port"));
+				LoadGenerator generator = new LoadGenerator(TENANT_ID, seed(app, baseUri));
+				generator.run(threadModel, concurrency, warmup);
+				return generator.run(threadModel, concurrency, duration);
+			}
+		}
+	}
+
+	private List<URI> seed(ConfigurableApplicationContext app, URI baseUri) {
+		ProcessCaseRepository processCaseRepository = app.getBean(ProcessCaseRepository.class);
+		TaskCommandService taskCommandService = app.getBean(TaskCommandService.class);
+		TaskAttachmentService taskAttachmentService = app.getBean(TaskAttachmentService.class);
+		byte[] attachment = new byte[ATTACHMENT_BYTES];
+		List<URI> targets = new ArrayList<>();
+		for (int c = 0; c < CASES; c++) {
+			UUID caseId = UUID.randomUUID();
+			processCaseRepository.save(new ProcessCaseEntity(caseId, TENANT_ID, "Load case " + c, UUID.randomUUID(),
+					ProcessCaseStatus.DRAFT, Instant.now()));
+			TaskEntity firstTask = null;
+			for (int t = 0; t < TASKS_PER_CASE; t++) {
+				TaskEntity task = taskCommandService.createTask(caseId, "Task " + t, "Load test task", 3, null,
+						t % 2 == 0 ? "u-" + t : null);
+				firstTask = firstTask == null ? task : firstTask;
+			}
+			// Distinct content per case, so deduplication does not collapse the downloads onto one file.
+			attachment[0] = (byte) c;
+			TaskAttachmentEntity stored = taskAttachmentService.uploadAttachment(TENANT_ID, "load-test",
+					firstTask.getId(), "load.bin", "application/octet-stream", attachment.length,
+					new ByteArrayInputStream(attachment));
+			targets.add(baseUri.resolve("/api/cases/" + caseId + "/tasks"));
+			targets.add(baseUri.resolve("/api/cases/" + caseId + "/meetings"));
+			targets.add(baseUri.resolve("/api/tasks/" + firstTask.getId() + "/attachments/" + stored.getId()));
+		}
+		return targets;
+	}
+}
@@ -0,0 +1,121 @@
+package de.bettinger.processmgmt.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bettinger.processmgmt.common.domain.UuidV7;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Inserts the same number of outbox-shaped rows keyed by random (v4) and by time-ordered (v7) UUIDs into PostgreSQL
+ * and compares insert rate and primary-key index size, leaf density and fragmentation ({@code pgstattuple}). Writes
+ * {@code build/reports/load-test/uuid-key-comparison.json}; tune the row count with {@code -DloadTest.uuidRows}.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UuidKeyLoadTest {
+
+	private static final int BATCH_SIZE = 1_000;
+
+	@Test
+	void comparesRandomAndTimeOrderedKeys(TestReporter testReporter) throws Exception {
+		int rows = Integer.getInteger("loadTest.uuidRows", 1_000_000);
+		try (PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine")) {
+			postgres.start();
+			try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(),
+					postgres.getPassword())) {
+				execute(connection, "CREATE EXTENSION pgstattuple");
+				UuidKeyResult random = run(connection, "random_v4", UUID::randomUUID, rows);
+				UuidKeyResult timeOrdered = run(connection, "time_ordered_v7", UuidV7::generate, rows);
+
+				Map<String, Object> report = new LinkedHashMap<>();
+				report.put("randomV4", random);
+				report.put("timeOrderedV7", timeOrdered);
+				report.put("insertRateRatio", timeOrdered.rowsPerSecond() / random.rowsPerSecond());
+				report.put("indexSizeRatio", (double) timeOrdered.indexBytes() / random.indexBytes());
+				Path reportFile = Path.of("build", "reports", "load-test", "uuid-key-comparison.json");
+				Files.createDirectories(reportFile.getParent());
+				new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+				testReporter.publishEntry("report", reportFile.toAbsolutePath().toString());
+
+				// Appends fill leaf pages completely; random inserts leave split pages roughly half to two-thirds full.
+				assertThat(timeOrdered.avgLeafDensity()).isGreaterThan(random.avgLeafDensity());
+				assertThat(timeOrdered.indexBytes()).isLessThan(random.indexBytes());
+			}
+		}
+	}
+
+	private UuidKeyResult run(Connection connection, String strategy, Supplier<UUID> ids, int rows) throws Exception {
+		String table = "keys_" + strategy;
+		execute(connection, """
+				CREATE TABLE %s (
+					id UUID PRIMARY KEY,
+					case_id UUID NOT NULL,
+					occurred_at TIMESTAMP NOT NULL,
+					payload TEXT NOT NULL
+				)
+				""".formatted(table));
+		connection.setAutoCommit(false);
+		long started = System.nanoTime();
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO " + table + " (id, case_id, occurred_at, payload) VALUES (?, ?, ?, ?)")) {
+			UUID caseId = UUID.randomUUID();
+			for (int i = 1; i <= rows; i++) {
+				insert.setObject(1, ids.get());
+				insert.setObject(2, caseId);
+				insert.setTimestamp(3, Timestamp.from(Instant.now()));
+				insert.setString(4, "{\"taskId\":\"" + caseId + "\"}");
+				insert.addBatch();
+				if (i % BATCH_SIZE == 0 || i == rows) {
+					insert.executeBatch();
+					connection.commit();
+				}
+			}
+		} finally {
+			connection.setAutoCommit(true);
+		}
+		long durationMillis = (System.nanoTime() - started) / 1_000_000;
+		execute(connection, "VACUUM ANALYZE " + table);
+		try (Statement statement = connection.createStatement();
+			 ResultSet stats = statement.executeQuery("""
+					 SELECT pg_relation_size('%1$s_pkey'), avg_leaf_density, leaf_fragmentation
+					 FROM pgstatindex('%1$s_pkey')
+					 """.formatted(table))) {
+			stats.next();
+			return new UuidKeyResult(strategy, rows, durationMillis, rows * 1000.0 / Math.max(durationMillis, 1),
+					stats.getLong(1), stats.getDouble(2), stats.getDouble(3));
+		}
+	}
+
+	private void execute(Connection connection, String sql) throws Exception {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	record UuidKeyResult(
+			String strategy,
+			int rows,
+			long durationMillis,
+			double rowsPerSecond,
+			long indexBytes,
+			double avgLeafDensity,
+			double leafFragmentation
+	) {
+	}
+}
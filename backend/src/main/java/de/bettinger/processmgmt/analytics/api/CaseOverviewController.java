@@ -0,0 +1,47 @@
+package de.bettinger.processmgmt.analytics.api;
+
+import de.bettinger.processmgmt.analytics.api.CaseOverviewDtos.CaseOverview;
+import de.bettinger.processmgmt.analytics.api.CaseOverviewDtos.CaseOverviewsResponse;
+import de.bettinger.processmgmt.analytics.application.CaseOverviewQueryService;
+import de.bettinger.processmgmt.auth.DevAuthFilter;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cases/overview")
+public class CaseOverviewController {
+
+	private static final int DEFAULT_PAGE_SIZE = 50;
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final Set<String> SORT_FIELDS = Set.of("createdAt");
+
+	private final CaseOverviewQueryService caseOverviewQueryService;
+
+	public CaseOverviewController(CaseOverviewQueryService caseOverviewQueryService) {
+		this.caseOverviewQueryService = caseOverviewQueryService;
+	}
+
+	/**
+	 * Always keyset-paginated, in the order of {@code GET /api/cases}.
+	 */
+	@GetMapping
+	public CaseOverviewsResponse listCaseOverviews(
+			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId,
+			@RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+			@RequestParam(required = false) String sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "false") boolean includeTotal
+	) {
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(0, size, sort, cursor, includeTotal, SORT_FIELDS,
+				Sort.Order.desc("createdAt"), MAX_PAGE_SIZE);
+		KeysetPage<CaseOverview> page = caseOverviewQueryService.listCaseOverviews(tenantId, pageRequest);
+		return new CaseOverviewsResponse(page.items(), page.encodedNextCursor(), page.totalItems());
+	}
+}
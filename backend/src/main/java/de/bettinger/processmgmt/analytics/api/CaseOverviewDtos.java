@@ -0,0 +1,23 @@
+package de.bettinger.processmgmt.analytics.api;
+
+import de.bettinger.processmgmt.casemanagement.domain.ProcessCaseStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public final class CaseOverviewDtos {
+
+	private CaseOverviewDtos() {
+	}
+
+	public record CaseOverviewMeeting(UUID id, String title, Instant scheduledAt, Instant heldAt) {
+	}
+
+	public record CaseOverview(UUID caseId, String title, ProcessCaseStatus status, UUID kitaId, Instant createdAt,
+			CaseOverviewMeeting nextMeeting, CaseOverviewMeeting lastHeldMeeting, long openTaskCount,
+			long overdueTaskCount) {
+	}
+
+	public record CaseOverviewsResponse(List<CaseOverview> items, String nextCursor, Long totalItems) {
+	}
+}
@@ -0,0 +1,25 @@
+package de.bettinger.processmgmt.analytics.api;
+
+import de.bettinger.processmgmt.analytics.api.CaseTaskStatsDtos.CaseTaskStatsResponse;
+import de.bettinger.processmgmt.analytics.application.CaseTaskStatsQueryService;
+import java.util.UUID;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cases/{caseId}/task-stats")
+public class CaseTaskStatsController {
+
+	private final CaseTaskStatsQueryService caseTaskStatsQueryService;
+
+	public CaseTaskStatsController(CaseTaskStatsQueryService caseTaskStatsQueryService) {
+		this.caseTaskStatsQueryService = caseTaskStatsQueryService;
+	}
+
+	@GetMapping
+	public CaseTaskStatsResponse getTaskStats(@PathVariable UUID caseId) {
+		return caseTaskStatsQueryService.getTaskStats(caseId);
+	}
+}
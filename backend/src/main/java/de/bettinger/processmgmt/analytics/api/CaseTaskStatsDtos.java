@@ -0,0 +1,14 @@
+package de.bettinger.processmgmt.analytics.api;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public final class CaseTaskStatsDtos {
+
+	private CaseTaskStatsDtos() {
+	}
+
+	public record CaseTaskStatsResponse(UUID caseId, int open, int assigned, int inProgress, int blocked,
+			int resolved, long overdue, int blockedByDependency, Instant updatedAt) {
+	}
+}
@@ -2,7 +2,10 @@ package de.bettinger.processmgmt.analytics.api;
 
 import de.bettinger.processmgmt.analytics.api.TimelineGraphDtos.TimelineGraphResponse;
 import de.bettinger.processmgmt.analytics.application.TimelineGraphQueryService;
+import de.bettinger.processmgmt.analytics.application.TimelineGraphSnapshot;
 import java.util.UUID;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,8 +21,15 @@ public class TimelineGraphController {
 		this.timelineGraphQueryService = timelineGraphQueryService;
 	}
 
+	/**
+	 * Returns the graph with its ETag; a matching {@code If-None-Match} is answered with 304 by Spring MVC.
+	 */
 	@GetMapping
-	public TimelineGraphResponse getTimelineGraph(@PathVariable UUID caseId) {
-		return timelineGraphQueryService.getTimelineGraph(caseId);
+	public ResponseEntity<TimelineGraphResponse> getTimelineGraph(@PathVariable UUID caseId) {
+		TimelineGraphSnapshot snapshot = timelineGraphQueryService.getTimelineGraphSnapshot(caseId);
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.noCache())
+				.eTag(snapshot.etag())
+				.body(snapshot.graph());
 	}
 }
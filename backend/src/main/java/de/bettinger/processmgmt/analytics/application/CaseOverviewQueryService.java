@@ -0,0 +1,97 @@
+package de.bettinger.processmgmt.analytics.application;
+
+import de.bettinger.processmgmt.analytics.api.CaseOverviewDtos.CaseOverview;
+import de.bettinger.processmgmt.analytics.api.CaseOverviewDtos.CaseOverviewMeeting;
+import de.bettinger.processmgmt.casemanagement.application.CaseQueryService;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseEntity;
+import de.bettinger.processmgmt.collaboration.domain.meeting.MeetingStatus;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Case list page: one keyset page of a tenant's cases with the next scheduled meeting, the last held meeting and
+ * unresolved/overdue task counts of each case. Besides the page (and optional count) query it runs one meeting query
+ * and one grouped task query for all cases of the page, independent of the page size.
+ */
+@Service
+public class CaseOverviewQueryService {
+
+	private static final Comparator<MeetingEntity> BY_SCHEDULED_AT =
+			Comparator.comparing(MeetingEntity::getScheduledAt).thenComparing(MeetingEntity::getId);
+	private static final Comparator<MeetingEntity> BY_HELD_AT =
+			Comparator.comparing(MeetingEntity::getHeldAt).thenComparing(MeetingEntity::getId);
+
+	private final CaseQueryService caseQueryService;
+	private final MeetingRepository meetingRepository;
+	private final TaskRepository taskRepository;
+	private final Clock clock;
+
+	public CaseOverviewQueryService(CaseQueryService caseQueryService, MeetingRepository meetingRepository,
+									TaskRepository taskRepository) {
+		this.caseQueryService = caseQueryService;
+		this.meetingRepository = meetingRepository;
+		this.taskRepository = taskRepository;
+		this.clock = Clock.systemUTC();
+	}
+
+	@Transactional(readOnly = true)
+	public KeysetPage<CaseOverview> listCaseOverviews(String tenantId, KeysetPageRequest pageRequest) {
+		KeysetPage<ProcessCaseEntity> cases = caseQueryService.pageCases(tenantId, pageRequest);
+		if (cases.items().isEmpty()) {
+			return new KeysetPage<>(List.of(), cases.nextCursor(), cases.totalItems());
+		}
+		List<UUID> caseIds = cases.items().stream().map(ProcessCaseEntity::getId).toList();
+
+		Map<UUID, MeetingEntity> nextMeetings = new HashMap<>();
+		Map<UUID, MeetingEntity> lastHeldMeetings = new HashMap<>();
+		for (MeetingEntity meeting : meetingRepository.findNextScheduledAndLastHeldByCaseIdIn(caseIds,
+				MeetingStatus.SCHEDULED, MeetingStatus.HELD, clock.instant())) {
+			if (meeting.getStatus() == MeetingStatus.SCHEDULED) {
+				nextMeetings.merge(meeting.getCaseId(), meeting, (a, b) -> BY_SCHEDULED_AT.compare(a, b) <= 0 ? a : b);
+			} else {
+				lastHeldMeetings.merge(meeting.getCaseId(), meeting, (a, b) -> BY_HELD_AT.compare(a, b) >= 0 ? a : b);
+			}
+		}
+
+		Map<UUID, TaskCounts> taskCounts = new HashMap<>();
+		for (Object[] row : taskRepository.countUnresolvedAndOverdueByCaseIdIn(caseIds, TaskState.RESOLVED,
+				LocalDate.now(clock))) {
+			taskCounts.put((UUID) row[0], new TaskCounts(((Number) row[1]).longValue(),
+					row[2] == null ? 0 : ((Number) row[2]).longValue()));
+		}
+
+		return cases.map(processCase -> {
+			TaskCounts counts = taskCounts.getOrDefault(processCase.getId(), TaskCounts.NONE);
+			return new CaseOverview(processCase.getId(), processCase.getTitle(), processCase.getStatus(),
+					processCase.getKitaId(), processCase.getCreatedAt(),
+					toMeeting(nextMeetings.get(processCase.getId())),
+					toMeeting(lastHeldMeetings.get(processCase.getId())), counts.unresolved(), counts.overdue());
+		});
+	}
+
+	private CaseOverviewMeeting toMeeting(MeetingEntity meeting) {
+		if (meeting == null) {
+			return null;
+		}
+		return new CaseOverviewMeeting(meeting.getId(), meeting.getTitle(), meeting.getScheduledAt(),
+				meeting.getHeldAt());
+	}
+
+	private record TaskCounts(long unresolved, long overdue) {
+
+		static final TaskCounts NONE = new TaskCounts(0, 0);
+	}
+}
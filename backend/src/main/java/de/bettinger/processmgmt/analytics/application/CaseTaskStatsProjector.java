@@ -0,0 +1,64 @@
+package de.bettinger.processmgmt.analytics.application;
+
+import de.bettinger.processmgmt.analytics.infrastructure.persistence.CaseTaskStatsRepository;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskStatesChanged;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the {@code case_task_stats} read model in the transaction of the task command. State counters are
+ * applied as deltas in a single {@code UPDATE}; the row is created on the first task of a case. The
+ * blocked-by-dependency count cannot be derived from one transition, since resolving one task can unblock any
+ * number of dependents, so it is recounted for the case when dependencies change or a task is resolved.
+ *
+ * <p>Not every transition is written to the outbox (start, block, unblock and decline are not), so the projector
+ * listens to {@link TaskStatesChanged} rather than {@code OutboxEventAppended}.
+ */
+@Service
+public class CaseTaskStatsProjector {
+
+	private final CaseTaskStatsRepository caseTaskStatsRepository;
+	private final TaskRepository taskRepository;
+
+	public CaseTaskStatsProjector(CaseTaskStatsRepository caseTaskStatsRepository, TaskRepository taskRepository) {
+		this.caseTaskStatsRepository = caseTaskStatsRepository;
+		this.taskRepository = taskRepository;
+	}
+
+	@EventListener
+	public void onTaskStatesChanged(TaskStatesChanged changed) {
+		UUID caseId = changed.caseId();
+		Instant now = Instant.now();
+		Map<TaskState, Integer> deltas = new EnumMap<>(TaskState.class);
+		for (TaskStatesChanged.Transition transition : changed.transitions()) {
+			if (transition.from() != null) {
+				deltas.merge(transition.from(), -1, Integer::sum);
+			}
+			deltas.merge(transition.to(), 1, Integer::sum);
+		}
+		if (addStateCounts(caseId, deltas, now) == 0) {
+			caseTaskStatsRepository.insertIfAbsent(caseId, now);
+			addStateCounts(caseId, deltas, now);
+		}
+		if (changed.dependenciesChanged()) {
+			caseTaskStatsRepository.updateBlockedByDependencyCount(caseId,
+					taskRepository.countBlockedByDependency(caseId, TaskState.RESOLVED), now);
+		}
+	}
+
+	private int addStateCounts(UUID caseId, Map<TaskState, Integer> deltas, Instant now) {
+		return caseTaskStatsRepository.addStateCounts(caseId,
+				deltas.getOrDefault(TaskState.OPEN, 0),
+				deltas.getOrDefault(TaskState.ASSIGNED, 0),
+				deltas.getOrDefault(TaskState.IN_PROGRESS, 0),
+				deltas.getOrDefault(TaskState.BLOCKED, 0),
+				deltas.getOrDefault(TaskState.RESOLVED, 0),
+				now);
+	}
+}
@@ -0,0 +1,42 @@
+package de.bettinger.processmgmt.analytics.application;
+
+import de.bettinger.processmgmt.analytics.api.CaseTaskStatsDtos.CaseTaskStatsResponse;
+import de.bettinger.processmgmt.analytics.infrastructure.persistence.CaseTaskStatsEntity;
+import de.bettinger.processmgmt.analytics.infrastructure.persistence.CaseTaskStatsRepository;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class CaseTaskStatsQueryService {
+
+	private final CaseTaskStatsRepository caseTaskStatsRepository;
+	private final TaskRepository taskRepository;
+	private final Clock clock;
+
+	public CaseTaskStatsQueryService(CaseTaskStatsRepository caseTaskStatsRepository, TaskRepository taskRepository) {
+		this.caseTaskStatsRepository = caseTaskStatsRepository;
+		this.taskRepository = taskRepository;
+		this.clock = Clock.systemUTC();
+	}
+
+	/**
+	 * Reads the counters by primary key. Overdue depends on the current date rather than on a task change, so it is
+	 * counted on read: unresolved tasks whose due date lies before today (UTC), the same rule as the timeline.
+	 */
+	@Transactional(readOnly = true)
+	public CaseTaskStatsResponse getTaskStats(UUID caseId) {
+		Optional<CaseTaskStatsEntity> stats = caseTaskStatsRepository.findById(caseId);
+		long overdue = stats.isEmpty() ? 0 : taskRepository.countByCaseIdAndStateNotAndDueDateBefore(caseId,
+				TaskState.RESOLVED, LocalDate.now(clock));
+		return stats.map(entity -> new CaseTaskStatsResponse(caseId, entity.getOpenCount(), entity.getAssignedCount(),
+						entity.getInProgressCount(), entity.getBlockedCount(), entity.getResolvedCount(), overdue,
+						entity.getBlockedByDependencyCount(), entity.getUpdatedAt()))
+				.orElseGet(() -> new CaseTaskStatsResponse(caseId, 0, 0, 0, 0, 0, 0, 0, null));
+	}
+}
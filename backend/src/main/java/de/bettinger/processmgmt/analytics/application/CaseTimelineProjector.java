@@ -0,0 +1,139 @@
+package de.bettinger.processmgmt.analytics.application;
+
+import de.bettinger.processmgmt.analytics.infrastructure.persistence.CaseTimelineEntryEntity;
+import de.bettinger.processmgmt.analytics.infrastructure.persistence.CaseTimelineEntryRepository;
+import de.bettinger.processmgmt.collaboration.domain.meeting.MeetingHeld;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskAssigned;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskCreated;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskResolved;
+import de.bettinger.processmgmt.common.outbox.OutboxEventAppended;
+import de.bettinger.processmgmt.common.outbox.OutboxEventCodec;
+import de.bettinger.processmgmt.common.outbox.OutboxEventEntity;
+import de.bettinger.processmgmt.common.outbox.OutboxEventRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the {@code case_timeline_entries} read model. New outbox events are projected in the
+ * transaction that writes them; {@link #rebuild()} backfills the table from the full outbox.
+ *
+ * <p>A rebuild may run while the application keeps writing. An outbox event only becomes visible to the rebuild
+ * once its transaction, and with it the live entry, has committed, so each batch skips the events that already
+ * have an entry instead of inserting them a second time.
+ */
+@Service
+public class CaseTimelineProjector {
+
+	private static final Logger log = LoggerFactory.getLogger(CaseTimelineProjector.class);
+	private static final int REBUILD_BATCH_SIZE = 500;
+	private static final Map<String, String> TIMELINE_TYPES = Map.of(
+			TaskCreated.TYPE, "TASK_CREATED",
+			TaskAssigned.TYPE, "TASK_ASSIGNED",
+			TaskResolved.TYPE, "TASK_RESOLVED",
+			MeetingHeld.TYPE, "MEETING_HELD"
+	);
+
+	private final CaseTimelineEntryRepository caseTimelineEntryRepository;
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxEventCodec outboxEventCodec;
+	private final TransactionTemplate transactionTemplate;
+
+	public CaseTimelineProjector(CaseTimelineEntryRepository caseTimelineEntryRepository,
+								 OutboxEventRepository outboxEventRepository, OutboxEventCodec outboxEventCodec,
+								 PlatformTransactionManager transactionManager) {
+		this.caseTimelineEntryRepository = caseTimelineEntryRepository;
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxEventCodec = outboxEventCodec;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@EventListener
+	public void onOutboxEventAppended(OutboxEventAppended appended) {
+		toEntry(appended.event()).ifPresent(caseTimelineEntryRepository::save);
+	}
+
+	public long rebuild() {
+		transactionTemplate.executeWithoutResult(status -> caseTimelineEntryRepository.deleteAllInBatch());
+		long projected = backfill();
+		log.info("Rebuilt case timeline projection, entries={}", projected);
+		return projected;
+	}
+
+	/**
+	 * Projects every timeline event of the outbox that has no entry yet. Returns the number of entries written.
+	 */
+	long backfill() {
+		Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("occurredAt", "id"));
+		long projected = 0;
+		while (true) {
+			Pageable page = pageable;
+			BatchResult batch = transactionTemplate.execute(status -> projectBatch(page));
+			projected += batch.projected();
+			if (!batch.hasNext()) {
+				break;
+			}
+			pageable = pageable.next();
+		}
+		return projected;
+	}
+
+	private BatchResult projectBatch(Pageable pageable) {
+		Slice<OutboxEventEntity> events = outboxEventRepository.findAllByEventTypeIn(TIMELINE_TYPES.keySet(), pageable);
+		List<CaseTimelineEntryEntity> entries = new ArrayList<>(events.getNumberOfElements());
+		for (OutboxEventEntity event : events) {
+			toEntry(event).ifPresent(entries::add);
+		}
+		if (!entries.isEmpty()) {
+			Set<UUID> existing = new HashSet<>(caseTimelineEntryRepository.findExistingEventIds(
+					entries.stream().map(CaseTimelineEntryEntity::getEventId).toList()));
+			entries.removeIf(entry -> existing.contains(entry.getEventId()));
+		}
+		caseTimelineEntryRepository.saveAll(entries);
+		return new BatchResult(entries.size(), events.hasNext());
+	}
+
+	private Optional<CaseTimelineEntryEntity> toEntry(OutboxEventEntity event) {
+		String type = TIMELINE_TYPES.get(event.getEventType());
+		if (type == null) {
+			return Optional.empty();
+		}
+		Optional<CaseTimelineEntryEntity> projected = switch (event.getEventType()) {
+			case TaskCreated.TYPE -> outboxEventCodec.decode(event, TaskCreated.class)
+					.map(created -> entry(event, type, created.caseId(), created.meetingId(), created.taskId(), null, null));
+			case TaskAssigned.TYPE -> outboxEventCodec.decode(event, TaskAssigned.class)
+					.map(assigned -> entry(event, type, assigned.caseId(), null, assigned.taskId(),
+							assigned.assigneeId(), null));
+			case TaskResolved.TYPE -> outboxEventCodec.decode(event, TaskResolved.class)
+					.map(resolved -> entry(event, type, resolved.caseId(), null, resolved.taskId(), null, null));
+			case MeetingHeld.TYPE -> outboxEventCodec.decode(event, MeetingHeld.class)
+					.map(held -> entry(event, type, held.caseId(), held.meetingId(), null, null, held.locationId()));
+			default -> Optional.empty();
+		};
+		return projected.filter(candidate -> candidate.getCaseId() != null);
+	}
+
+	private CaseTimelineEntryEntity entry(OutboxEventEntity event, String type, UUID payloadCaseId, UUID meetingId,
+										  UUID taskId, String assigneeId, UUID locationId) {
+		UUID caseId = event.getCaseId() != null ? event.getCaseId() : payloadCaseId;
+		return new CaseTimelineEntryEntity(event.getId(), caseId, event.getOccurredAt(), type, meetingId, taskId,
+				assigneeId, locationId);
+	}
+
+	private record BatchResult(int projected, boolean hasNext) {
+	}
+}
@@ -0,0 +1,26 @@
+package de.bettinger.processmgmt.analytics.application;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills the case timeline projection on startup when {@code app.timeline.rebuild-on-startup=true}.
+ * Intended as a one-off command, e.g. {@code ./gradlew bootRun --args='--app.timeline.rebuild-on-startup=true'}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.timeline.rebuild-on-startup", havingValue = "true")
+public class CaseTimelineRebuildRunner implements ApplicationRunner {
+
+	private final CaseTimelineProjector caseTimelineProjector;
+
+	public CaseTimelineRebuildRunner(CaseTimelineProjector caseTimelineProjector) {
+		this.caseTimelineProjector = caseTimelineProjector;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		caseTimelineProjector.rebuild();
+	}
+}
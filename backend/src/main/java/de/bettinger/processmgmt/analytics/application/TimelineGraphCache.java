@@ -0,0 +1,100 @@
+package de.bettinger.processmgmt.analytics.application;
+
+import de.bettinger.processmgmt.common.application.BoundedLruMap;
+import de.bettinger.processmgmt.common.domain.CaseContentChanged;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded per-case cache of timeline graphs. Entries expire after {@code app.timeline.graph-cache.ttl}, the least
+ * recently used entry is evicted once {@code max-entries} is exceeded, and a case is invalidated after any committed
+ * {@link CaseContentChanged}.
+ *
+ * <p>Graphs are loaded outside the lock. A load only populates the cache if the case was not invalidated while it was
+ * running, so a slow reader cannot put back a graph that predates a concurrent write.
+ */
+@Component
+@EnableConfigurationProperties(TimelineGraphCacheProperties.class)
+public class TimelineGraphCache {
+
+	private final TimelineGraphCacheProperties properties;
+	private final long ttlNanos;
+	private final BoundedLruMap<UUID, CacheEntry> entries;
+	private final Map<UUID, Object> loadsInFlight = new HashMap<>();
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter sizeEvictionCounter;
+	private final Counter expiredEvictionCounter;
+	private final Counter invalidationCounter;
+
+	public TimelineGraphCache(TimelineGraphCacheProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.ttlNanos = properties.ttl().toNanos();
+		this.sizeEvictionCounter = meterRegistry.counter("timeline.graph.cache.evictions", "cause", "size");
+		this.expiredEvictionCounter = meterRegistry.counter("timeline.graph.cache.evictions", "cause", "expired");
+		this.invalidationCounter = meterRegistry.counter("timeline.graph.cache.evictions", "cause", "invalidated");
+		this.hitCounter = meterRegistry.counter("timeline.graph.cache.requests", "result", "hit");
+		this.missCounter = meterRegistry.counter("timeline.graph.cache.requests", "result", "miss");
+		this.entries = new BoundedLruMap<>(properties.maxEntries(), (caseId, entry) -> sizeEvictionCounter.increment());
+		meterRegistry.gauge("timeline.graph.cache.size", Tags.empty(), entries, BoundedLruMap::size);
+	}
+
+	public TimelineGraphSnapshot get(UUID caseId, Supplier<TimelineGraphSnapshot> loader) {
+		if (!properties.enabled()) {
+			return loader.get();
+		}
+		Object loadToken = new Object();
+		synchronized (this) {
+			CacheEntry entry = entries.get(caseId);
+			if (entry != null) {
+				if (!entry.isExpired(System.nanoTime())) {
+					hitCounter.increment();
+					return entry.snapshot();
+				}
+				entries.remove(caseId);
+				expiredEvictionCounter.increment();
+			}
+			loadsInFlight.put(caseId, loadToken);
+		}
+		missCounter.increment();
+		TimelineGraphSnapshot snapshot = null;
+		try {
+			snapshot = loader.get();
+			return snapshot;
+		} finally {
+			synchronized (this) {
+				if (loadsInFlight.remove(caseId, loadToken) && snapshot != null) {
+					entries.put(caseId, new CacheEntry(snapshot, System.nanoTime() + ttlNanos));
+				}
+			}
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCaseContentChanged(CaseContentChanged changed) {
+		invalidate(changed.caseId());
+	}
+
+	public synchronized void invalidate(UUID caseId) {
+		loadsInFlight.remove(caseId);
+		if (entries.remove(caseId) != null) {
+			invalidationCounter.increment();
+		}
+	}
+
+	private record CacheEntry(TimelineGraphSnapshot snapshot, long expiresAtNanos) {
+
+		boolean isExpired(long nowNanos) {
+			return nowNanos - expiresAtNanos >= 0;
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package de.bettinger.processmgmt.analytics.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.timeline.graph-cache")
+public record TimelineGraphCacheProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("1000") int maxEntries,
+		@DefaultValue("5m") Duration ttl
+) {
+}
@@ -1,5 +1,7 @@
 package de.bettinger.processmgmt.analytics.application;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.bettinger.processmgmt.analytics.api.TimelineGraphDtos.TimelineGraphMeeting;
 import de.bettinger.processmgmt.analytics.api.TimelineGraphDtos.TimelineGraphMeetingStatus;
 import de.bettinger.processmgmt.analytics.api.TimelineGraphDtos.TimelineGraphResponse;
@@ -14,8 +16,11 @@ import de.bettinger.processmgmt.common.infrastructure.persistence.LocationEntity
 import de.bettinger.processmgmt.common.infrastructure.persistence.LocationRepository;
 import de.bettinger.processmgmt.common.infrastructure.persistence.StakeholderEntity;
 import de.bettinger.processmgmt.common.infrastructure.persistence.StakeholderRepository;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +29,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class TimelineGraphQueryService {
@@ -34,23 +40,48 @@ public class TimelineGraphQueryService {
 	private final TaskRepository taskRepository;
 	private final StakeholderRepository stakeholderRepository;
 	private final LocationRepository locationRepository;
+	private final TimelineGraphCache timelineGraphCache;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate readOnlyTransaction;
 
 	public TimelineGraphQueryService(
 			ProcessCaseRepository processCaseRepository,
 			MeetingRepository meetingRepository,
 			TaskRepository taskRepository,
 			StakeholderRepository stakeholderRepository,
-			LocationRepository locationRepository
+			LocationRepository locationRepository,
+			TimelineGraphCache timelineGraphCache,
+			ObjectMapper objectMapper,
+			PlatformTransactionManager transactionManager
 	) {
 		this.processCaseRepository = processCaseRepository;
 		this.meetingRepository = meetingRepository;
 		this.taskRepository = taskRepository;
 		this.stakeholderRepository = stakeholderRepository;
 		this.locationRepository = locationRepository;
+		this.timelineGraphCache = timelineGraphCache;
+		this.objectMapper = objectMapper;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
 	}
 
-	@Transactional(readOnly = true)
 	public TimelineGraphResponse getTimelineGraph(UUID caseId) {
+		return getTimelineGraphSnapshot(caseId).graph();
+	}
+
+	/**
+	 * Returns the timeline graph of a case, served from {@link TimelineGraphCache} when possible. Cache hits touch
+	 * neither the database nor a transaction; only {@code now} is refreshed.
+	 */
+	public TimelineGraphSnapshot getTimelineGraphSnapshot(UUID caseId) {
+		TimelineGraphSnapshot cached = timelineGraphCache.get(caseId,
+				() -> readOnlyTransaction.execute(status -> loadTimelineGraph(caseId)));
+		TimelineGraphResponse graph = cached.graph();
+		return new TimelineGraphSnapshot(new TimelineGraphResponse(graph.caseId(), graph.generatedAt(), Instant.now(),
+				graph.meetings(), graph.stakeholders(), graph.tasks()), cached.etag());
+	}
+
+	private TimelineGraphSnapshot loadTimelineGraph(UUID caseId) {
 		ProcessCaseEntity processCase = processCaseRepository.findById(caseId)
 				.orElseThrow(() -> new NotFoundException("Case not found: " + caseId));
 		Instant now = Instant.now();
@@ -97,7 +128,19 @@ public class TimelineGraphQueryService {
 				.sorted(Comparator.comparing(TimelineGraphStakeholder::id))
 				.toList();
 
-		return new TimelineGraphResponse(caseId, now, now, meetings, stakeholders, tasks);
+		return new TimelineGraphSnapshot(new TimelineGraphResponse(caseId, now, now, meetings, stakeholders, tasks),
+				etag(meetings, stakeholders, tasks));
+	}
+
+	private String etag(List<TimelineGraphMeeting> meetings, List<TimelineGraphStakeholder> stakeholders,
+						List<TimelineGraphTask> tasks) {
+		try {
+			byte[] content = objectMapper.writeValueAsBytes(List.of(meetings, stakeholders, tasks));
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+			return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+		} catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("Failed to compute timeline graph ETag", ex);
+		}
 	}
 
 	private TimelineGraphTask toTimelineTask(TaskEntity task, Map<UUID, Instant> graphAtByMeetingId) {
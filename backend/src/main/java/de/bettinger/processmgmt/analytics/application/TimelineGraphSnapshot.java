@@ -0,0 +1,9 @@
+package de.bettinger.processmgmt.analytics.application;
+
+import de.bettinger.processmgmt.analytics.api.TimelineGraphDtos.TimelineGraphResponse;
+
+/**
+ * A computed timeline graph together with the ETag of its content.
+ */
+public record TimelineGraphSnapshot(TimelineGraphResponse graph, String etag) {
+}
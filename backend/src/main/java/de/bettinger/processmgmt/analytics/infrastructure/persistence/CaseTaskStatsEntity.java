@@ -0,0 +1,49 @@
+package de.bettinger.processmgmt.analytics.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Read side of {@code case_task_stats}. Rows are only written through the counter updates of
+ * {@link CaseTaskStatsRepository}, never through the entity.
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "case_task_stats")
+public class CaseTaskStatsEntity {
+
+	@Id
+	@Column(name = "case_id", nullable = false)
+	private UUID caseId;
+
+	@Column(name = "open_count", nullable = false)
+	private int openCount;
+
+	@Column(name = "assigned_count", nullable = false)
+	private int assignedCount;
+
+	@Column(name = "in_progress_count", nullable = false)
+	private int inProgressCount;
+
+	@Column(name = "blocked_count", nullable = false)
+	private int blockedCount;
+
+	@Column(name = "resolved_count", nullable = false)
+	private int resolvedCount;
+
+	@Column(name = "blocked_by_dependency_count", nullable = false)
+	private int blockedByDependencyCount;
+
+	@Column(name = "updated_at", nullable = false)
+	private Instant updatedAt;
+
+	protected CaseTaskStatsEntity() {
+	}
+}
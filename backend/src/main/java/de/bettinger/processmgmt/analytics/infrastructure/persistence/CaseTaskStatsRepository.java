@@ -0,0 +1,49 @@
+package de.bettinger.processmgmt.analytics.infrastructure.persistence;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CaseTaskStatsRepository extends JpaRepository<CaseTaskStatsEntity, UUID> {
+
+	/**
+	 * Creates the zero row of a case; a concurrent first write of the same case makes this a no-op.
+	 */
+	@Modifying
+	@Query(value = """
+			INSERT INTO case_task_stats (case_id, open_count, assigned_count, in_progress_count, blocked_count,
+										 resolved_count, blocked_by_dependency_count, updated_at)
+			VALUES (:caseId, 0, 0, 0, 0, 0, 0, :now)
+			ON CONFLICT (case_id) DO NOTHING
+			""", nativeQuery = true)
+	void insertIfAbsent(@Param("caseId") UUID caseId, @Param("now") Instant now);
+
+	/**
+	 * Adds the given deltas in one statement; the row lock serializes concurrent commands of the same case.
+	 */
+	@Modifying
+	@Query(value = """
+			UPDATE case_task_stats
+			SET open_count = open_count + :open,
+				assigned_count = assigned_count + :assigned,
+				in_progress_count = in_progress_count + :inProgress,
+				blocked_count = blocked_count + :blocked,
+				resolved_count = resolved_count + :resolved,
+				updated_at = :now
+			WHERE case_id = :caseId
+			""", nativeQuery = true)
+	int addStateCounts(@Param("caseId") UUID caseId, @Param("open") int open, @Param("assigned") int assigned,
+						@Param("inProgress") int inProgress, @Param("blocked") int blocked,
+						@Param("resolved") int resolved, @Param("now") Instant now);
+
+	@Modifying
+	@Query(value = """
+			UPDATE case_task_stats SET blocked_by_dependency_count = :count, updated_at = :now
+			WHERE case_id = :caseId
+			""", nativeQuery = true)
+	void updateBlockedByDependencyCount(@Param("caseId") UUID caseId, @Param("count") long count,
+										@Param("now") Instant now);
+}
@@ -0,0 +1,61 @@
+package de.bettinger.processmgmt.analytics.infrastructure.persistence;
+
+import de.bettinger.processmgmt.common.infrastructure.persistence.AssignedIdEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+@Entity
+@Table(name = "case_timeline_entries")
+public class CaseTimelineEntryEntity extends AssignedIdEntity {
+
+	@Id
+	@Column(name = "event_id", nullable = false)
+	private UUID eventId;
+
+	@Column(name = "case_id", nullable = false)
+	private UUID caseId;
+
+	@Column(name = "occurred_at", nullable = false)
+	private Instant occurredAt;
+
+	@Column(name = "entry_type", nullable = false, length = 50)
+	private String entryType;
+
+	@Column(name = "meeting_id")
+	private UUID meetingId;
+
+	@Column(name = "task_id")
+	private UUID taskId;
+
+	@Column(name = "assignee_id")
+	private String assigneeId;
+
+	@Column(name = "location_id")
+	private UUID locationId;
+
+	protected CaseTimelineEntryEntity() {
+	}
+
+	public CaseTimelineEntryEntity(UUID eventId, UUID caseId, Instant occurredAt, String entryType, UUID meetingId,
+								   UUID taskId, String assigneeId, UUID locationId) {
+		this.eventId = eventId;
+		this.caseId = caseId;
+		this.occurredAt = occurredAt;
+		this.entryType = entryType;
+		this.meetingId = meetingId;
+		this.taskId = taskId;
+		this.assigneeId = assigneeId;
+		this.locationId = locationId;
+	}
+
+	@Override
+	public UUID getId() {
+		return eventId;
+	}
+}
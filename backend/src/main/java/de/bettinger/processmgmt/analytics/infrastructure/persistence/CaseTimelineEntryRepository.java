@@ -0,0 +1,15 @@
+package de.bettinger.processmgmt.analytics.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CaseTimelineEntryRepository extends JpaRepository<CaseTimelineEntryEntity, UUID> {
+	List<CaseTimelineEntryEntity> findAllByCaseIdOrderByOccurredAtAscEventIdAsc(UUID caseId);
+
+	@Query("SELECT e.eventId FROM CaseTimelineEntryEntity e WHERE e.eventId IN :eventIds")
+	List<UUID> findExistingEventIds(@Param("eventIds") Collection<UUID> eventIds);
+}
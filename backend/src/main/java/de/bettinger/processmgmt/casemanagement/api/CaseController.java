@@ -2,6 +2,7 @@ package de.bettinger.processmgmt.casemanagement.api;
 
 import de.bettinger.processmgmt.auth.DevAuthFilter;
 import de.bettinger.processmgmt.casemanagement.application.CaseCommandService;
+import de.bettinger.processmgmt.casemanagement.application.CaseEventHub;
 import de.bettinger.processmgmt.casemanagement.application.CaseQueryService;
 import de.bettinger.processmgmt.casemanagement.api.CaseDtos.AddStakeholderRequest;
 import de.bettinger.processmgmt.casemanagement.api.CaseDtos.ActivateCaseResponse;
@@ -12,12 +13,18 @@ import de.bettinger.processmgmt.casemanagement.api.CaseDtos.CreateCaseResponse;
 import de.bettinger.processmgmt.casemanagement.api.CaseDtos.StakeholderResponse;
 import de.bettinger.processmgmt.casemanagement.api.CaseDtos.StakeholdersResponse;
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseEntity;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,20 +32,28 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/cases")
 public class CaseController {
 
 	private static final Logger log = LoggerFactory.getLogger(CaseController.class);
+	private static final int DEFAULT_PAGE_SIZE = 50;
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final Set<String> SORT_FIELDS = Set.of("createdAt");
 
 	private final CaseCommandService caseCommandService;
 	private final CaseQueryService caseQueryService;
+	private final CaseEventHub caseEventHub;
 
-	public CaseController(CaseCommandService caseCommandService, CaseQueryService caseQueryService) {
+	public CaseController(CaseCommandService caseCommandService, CaseQueryService caseQueryService,
+						  CaseEventHub caseEventHub) {
 		this.caseCommandService = caseCommandService;
 		this.caseQueryService = caseQueryService;
+		this.caseEventHub = caseEventHub;
 	}
 
 	@PostMapping
@@ -71,6 +86,19 @@ public class CaseController {
 		return new ActivateCaseResponse(entity.getId(), entity.getStatus());
 	}
 
+	/**
+	 * Live stream of the case's outbox events (task and meeting changes). Each event carries the outbox event id,
+	 * so a reconnecting {@code EventSource} resumes via {@code Last-Event-ID}.
+	 */
+	@GetMapping(path = "/{caseId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamCaseEvents(
+			@PathVariable UUID caseId,
+			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId,
+			@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId
+	) {
+		return caseEventHub.subscribe(tenantId, caseId, lastEventId);
+	}
+
 	@GetMapping("/{caseId}")
 	public CaseDetailsResponse getCase(@PathVariable UUID caseId) {
 		log.info("Get case request caseId={}", caseId);
@@ -80,13 +108,28 @@ public class CaseController {
 	}
 
 	@GetMapping
-	public CasesResponse listCases(@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId) {
+	public CasesResponse listCases(
+			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(required = false) String sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "false") boolean includeTotal
+	) {
 		log.info("List cases request tenantId={}", tenantId);
-		List<CaseDetailsResponse> items = caseQueryService.listCases(tenantId).stream()
-				.map(this::toDetails)
-				.toList();
-		log.info("List cases success tenantId={}, count={}", tenantId, items.size());
-		return new CasesResponse(items);
+		Optional<KeysetPageRequest> pageRequest = KeysetPageRequest.ifRequested(size, sort, cursor, includeTotal,
+				SORT_FIELDS, Sort.Order.desc("createdAt"), DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+		if (pageRequest.isEmpty()) {
+			List<CaseDetailsResponse> items = caseQueryService.listCases(tenantId).stream()
+					.map(this::toDetails)
+					.toList();
+			log.info("List cases success tenantId={}, count={}", tenantId, items.size());
+			return new CasesResponse(items);
+		}
+		KeysetPage<CaseDetailsResponse> page = caseQueryService.listCases(tenantId, pageRequest.get())
+				.map(this::toDetails);
+		log.info("List cases success tenantId={}, count={}, hasMore={}", tenantId, page.items().size(),
+				page.nextCursor() != null);
+		return new CasesResponse(page.items(), page.encodedNextCursor(), page.totalItems());
 	}
 
 	private List<StakeholderResponse> toStakeholders(ProcessCaseEntity entity) {
@@ -35,6 +35,9 @@ public final class CaseDtos {
 			List<StakeholderResponse> stakeholders, Instant createdAt) {
 	}
 
-	public record CasesResponse(List<CaseDetailsResponse> items) {
+	public record CasesResponse(List<CaseDetailsResponse> items, String nextCursor, Long totalItems) {
+		public CasesResponse(List<CaseDetailsResponse> items) {
+			this(items, null, null);
+		}
 	}
 }
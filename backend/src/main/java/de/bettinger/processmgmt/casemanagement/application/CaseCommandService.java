@@ -2,9 +2,9 @@ package de.bettinger.processmgmt.casemanagement.application;
 
 import de.bettinger.processmgmt.casemanagement.domain.ProcessCaseStatus;
 import de.bettinger.processmgmt.casemanagement.domain.StakeholderRole;
-import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaRepository;
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseEntity;
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
+import de.bettinger.processmgmt.common.domain.UuidV7;
 import de.bettinger.processmgmt.common.errors.NotFoundException;
 import java.time.Instant;
 import java.util.UUID;
@@ -15,21 +15,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class CaseCommandService {
 
 	private final ProcessCaseRepository processCaseRepository;
-	private final KitaRepository kitaRepository;
+	private final KitaService kitaService;
 
-	public CaseCommandService(ProcessCaseRepository processCaseRepository, KitaRepository kitaRepository) {
+	public CaseCommandService(ProcessCaseRepository processCaseRepository, KitaService kitaService) {
 		this.processCaseRepository = processCaseRepository;
-		this.kitaRepository = kitaRepository;
+		this.kitaService = kitaService;
 	}
 
 	@Transactional
 	public ProcessCaseEntity createCase(String tenantId, String title, UUID kitaId) {
-		boolean kitaExists = kitaRepository.findByIdAndTenantId(kitaId, tenantId).isPresent();
+		boolean kitaExists = kitaService.findKita(tenantId, kitaId).isPresent();
 		if (!kitaExists) {
 			throw new NotFoundException("Kita not found: " + kitaId);
 		}
 		ProcessCaseEntity entity = new ProcessCaseEntity(
-				UUID.randomUUID(),
+				UuidV7.generate(),
 				tenantId,
 				title,
 				kitaId,
@@ -41,7 +41,7 @@ public class CaseCommandService {
 
 	@Transactional
 	public ProcessCaseEntity addStakeholder(UUID caseId, String userId, StakeholderRole role) {
-		ProcessCaseEntity entity = processCaseRepository.findById(caseId)
+		ProcessCaseEntity entity = processCaseRepository.findWithStakeholdersById(caseId)
 				.orElseThrow(() -> new NotFoundException("Case not found: " + caseId));
 		entity.addStakeholder(userId, role);
 		return processCaseRepository.save(entity);
@@ -49,7 +49,7 @@ public class CaseCommandService {
 
 	@Transactional
 	public ProcessCaseEntity activateCase(UUID caseId) {
-		ProcessCaseEntity entity = processCaseRepository.findById(caseId)
+		ProcessCaseEntity entity = processCaseRepository.findWithStakeholdersById(caseId)
 				.orElseThrow(() -> new NotFoundException("Case not found: " + caseId));
 		boolean hasConsultant = entity.getStakeholders().stream()
 				.anyMatch(stakeholder -> stakeholder.getRole() == StakeholderRole.CONSULTANT);
@@ -0,0 +1,268 @@
+package de.bettinger.processmgmt.casemanagement.application;
+
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
+import de.bettinger.processmgmt.common.domain.CaseContentChanged;
+import de.bettinger.processmgmt.common.errors.NotFoundException;
+import de.bettinger.processmgmt.common.outbox.OutboxEventAppended;
+import de.bettinger.processmgmt.common.outbox.OutboxEventEntity;
+import de.bettinger.processmgmt.common.outbox.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * In-process fan-out of committed outbox events to the Server-Sent Event subscribers of a case. Changes without an
+ * outbox event (e.g. starting or blocking a task, editing dependencies, rescheduling a meeting) are pushed as a
+ * {@value #CHANGED_EVENT} event from {@link CaseContentChanged}; it carries no id and is not replayed.
+ *
+ * <p>Every subscriber owns a bounded queue drained by its own virtual thread, which writes a heartbeat comment
+ * whenever the queue stays empty for {@code app.case-events.heartbeat-interval}. A subscriber whose queue overflows
+ * is disconnected instead of slowing down the committing thread; the browser reconnects with {@code Last-Event-ID}
+ * and the missed events are replayed from the outbox table. Events committed on other nodes reach a subscriber only
+ * through that replay.
+ */
+@Component
+public class CaseEventHub {
+
+	public static final String RESET_EVENT = "reset";
+	public static final String CHANGED_EVENT = "changed";
+
+	private static final Logger log = LoggerFactory.getLogger(CaseEventHub.class);
+	private static final StreamEvent WAKE_UP = new StreamEvent(null, null, null);
+
+	private final ConcurrentMap<UUID, Set<Subscriber>> subscribersByCase = new ConcurrentHashMap<>();
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	private final ProcessCaseRepository processCaseRepository;
+	private final OutboxEventRepository outboxEventRepository;
+	private final TaskExecutor executor;
+	private final CaseEventStreamProperties properties;
+	private final Counter overflowCounter;
+
+	public CaseEventHub(ProcessCaseRepository processCaseRepository, OutboxEventRepository outboxEventRepository,
+						@Qualifier("caseEventStreamExecutor") TaskExecutor executor,
+						CaseEventStreamProperties properties, MeterRegistry meterRegistry) {
+		this.processCaseRepository = processCaseRepository;
+		this.outboxEventRepository = outboxEventRepository;
+		this.executor = executor;
+		this.properties = properties;
+		this.overflowCounter = meterRegistry.counter("case.events.disconnects", "cause", "overflow");
+		meterRegistry.gauge("case.events.subscribers", subscriberCount);
+	}
+
+	/**
+	 * Opens a stream for the case. With a {@code lastEventId} the events committed after it are replayed first; if
+	 * that id is unknown or too far behind, a {@value #RESET_EVENT} event tells the client to reload instead.
+	 */
+	public SseEmitter subscribe(String tenantId, UUID caseId, String lastEventId) {
+		if (processCaseRepository.findByIdAndTenantId(caseId, tenantId).isEmpty()) {
+			throw new NotFoundException("Case not found: " + caseId);
+		}
+		SseEmitter emitter = new SseEmitter(properties.connectionTimeout().toMillis());
+		Subscriber subscriber = new Subscriber(caseId, emitter,
+				new ArrayBlockingQueue<>(properties.subscriberBufferSize()));
+		// Register before replaying, so nothing committed in between is lost; duplicates are skipped by id.
+		subscribersByCase.compute(caseId, (key, subscribers) -> {
+			Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+			target.add(subscriber);
+			return target;
+		});
+		subscriberCount.incrementAndGet();
+		emitter.onCompletion(() -> close(subscriber));
+		emitter.onTimeout(() -> close(subscriber));
+		emitter.onError(ex -> close(subscriber));
+		executor.execute(() -> stream(subscriber, lastEventId));
+		return emitter;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onOutboxEventAppended(OutboxEventAppended appended) {
+		OutboxEventEntity event = appended.event();
+		if (event.getCaseId() != null) {
+			publish(event.getCaseId(), StreamEvent.from(event));
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCaseContentChanged(CaseContentChanged changed) {
+		if (changed.caseId() != null) {
+			publish(changed.caseId(), StreamEvent.changed(changed.caseId()));
+		}
+	}
+
+	private void publish(UUID caseId, StreamEvent streamEvent) {
+		Set<Subscriber> subscribers = subscribersByCase.get(caseId);
+		if (subscribers == null) {
+			return;
+		}
+		for (Subscriber subscriber : subscribers) {
+			if (!subscriber.queue().offer(streamEvent)) {
+				overflowCounter.increment();
+				close(subscriber);
+			}
+		}
+	}
+
+	@PreDestroy
+	void closeAll() {
+		subscribersByCase.values().forEach(subscribers -> subscribers.forEach(this::close));
+	}
+
+	private void stream(Subscriber subscriber, String lastEventId) {
+		SseEmitter emitter = subscriber.emitter();
+		try {
+			Set<UUID> replayed = replay(subscriber, lastEventId);
+			long heartbeatMillis = properties.heartbeatInterval().toMillis();
+			while (subscriber.isOpen()) {
+				StreamEvent event = subscriber.queue().poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+				if (event == WAKE_UP || !subscriber.isOpen()) {
+					continue;
+				}
+				if (event == null) {
+					emitter.send(SseEmitter.event().comment("heartbeat"));
+				} else if (!replayed.remove(event.id())) {
+					send(emitter, event);
+				}
+			}
+			emitter.complete();
+		} catch (IOException ex) {
+			// The client went away; the container reports it through onError as well.
+			log.debug("Case event stream closed caseId={}", subscriber.caseId());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			emitter.complete();
+		} catch (RuntimeException ex) {
+			log.warn("Case event stream failed caseId={}", subscriber.caseId(), ex);
+			emitter.completeWithError(ex);
+		} finally {
+			close(subscriber);
+		}
+	}
+
+	private Set<UUID> replay(Subscriber subscriber, String lastEventId) throws IOException {
+		Set<UUID> replayed = new HashSet<>();
+		if (lastEventId == null || lastEventId.isBlank()) {
+			return replayed;
+		}
+		Optional<OutboxEventEntity> lastEvent = parseEventId(lastEventId)
+				.flatMap(outboxEventRepository::findById)
+				.filter(event -> subscriber.caseId().equals(event.getCaseId()));
+		if (lastEvent.isEmpty()) {
+			sendReset(subscriber);
+			return replayed;
+		}
+		int maxReplayEvents = properties.maxReplayEvents();
+		List<OutboxEventEntity> missed = outboxEventRepository.findCaseEventsAfter(subscriber.caseId(),
+				lastEvent.get().getOccurredAt(), lastEvent.get().getId(), maxReplayEvents + 1);
+		if (missed.size() > maxReplayEvents) {
+			sendReset(subscriber);
+			return replayed;
+		}
+		for (OutboxEventEntity event : missed) {
+			send(subscriber.emitter(), StreamEvent.from(event));
+			replayed.add(event.getId());
+		}
+		return replayed;
+	}
+
+	private void sendReset(Subscriber subscriber) throws IOException {
+		SseEmitter.SseEventBuilder reset = SseEmitter.event().name(RESET_EVENT).data("{}");
+		outboxEventRepository.findFirstByCaseIdOrderByOccurredAtDescIdDesc(subscriber.caseId())
+				.ifPresent(latest -> reset.id(latest.getId().toString()));
+		subscriber.emitter().send(reset);
+	}
+
+	private void send(SseEmitter emitter, StreamEvent event) throws IOException {
+		SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.eventType()).data(event.payload());
+		// Without an id the client keeps the last outbox event id for Last-Event-ID.
+		if (event.id() != null) {
+			builder.id(event.id().toString());
+		}
+		emitter.send(builder);
+	}
+
+	private void close(Subscriber subscriber) {
+		if (!subscriber.markClosed()) {
+			return;
+		}
+		subscribersByCase.computeIfPresent(subscriber.caseId(), (key, subscribers) -> {
+			subscribers.remove(subscriber);
+			return subscribers.isEmpty() ? null : subscribers;
+		});
+		subscriberCount.decrementAndGet();
+		subscriber.queue().offer(WAKE_UP);
+	}
+
+	private Optional<UUID> parseEventId(String value) {
+		try {
+			return Optional.of(UUID.fromString(value.trim()));
+		} catch (IllegalArgumentException ex) {
+			return Optional.empty();
+		}
+	}
+
+	private record StreamEvent(UUID id, String eventType, String payload) {
+
+		static StreamEvent from(OutboxEventEntity event) {
+			return new StreamEvent(event.getId(), event.getEventType(), event.getPayload());
+		}
+
+		static StreamEvent changed(UUID caseId) {
+			return new StreamEvent(null, CHANGED_EVENT, "{\"caseId\":\"" + caseId + "\"}");
+		}
+	}
+
+	private static final class Subscriber {
+
+		private final UUID caseId;
+		private final SseEmitter emitter;
+		private final BlockingQueue<StreamEvent> queue;
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private Subscriber(UUID caseId, SseEmitter emitter, BlockingQueue<StreamEvent> queue) {
+			this.caseId = caseId;
+			this.emitter = emitter;
+			this.queue = queue;
+		}
+
+		UUID caseId() {
+			return caseId;
+		}
+
+		SseEmitter emitter() {
+			return emitter;
+		}
+
+		BlockingQueue<StreamEvent> queue() {
+			return queue;
+		}
+
+		boolean isOpen() {
+			return !closed.get();
+		}
+
+		boolean markClosed() {
+			return closed.compareAndSet(false, true);
+		}
+	}
+}
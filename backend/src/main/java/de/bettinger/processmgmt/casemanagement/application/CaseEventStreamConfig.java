@@ -0,0 +1,20 @@
+package de.bettinger.processmgmt.casemanagement.application;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(CaseEventStreamProperties.class)
+public class CaseEventStreamConfig {
+
+	@Bean
+	public SimpleAsyncTaskExecutor caseEventStreamExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("case-events-");
+		// One mostly parked writer per open stream: virtual threads keep idle subscribers nearly free.
+		executor.setVirtualThreads(true);
+		executor.setTaskTerminationTimeout(5_000);
+		return executor;
+	}
+}
@@ -0,0 +1,14 @@
+package de.bettinger.processmgmt.casemanagement.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.case-events")
+public record CaseEventStreamProperties(
+		@DefaultValue("256") int subscriberBufferSize,
+		@DefaultValue("15s") Duration heartbeatInterval,
+		@DefaultValue("30m") Duration connectionTimeout,
+		@DefaultValue("500") int maxReplayEvents
+) {
+}
@@ -2,26 +2,49 @@ package de.bettinger.processmgmt.casemanagement.application;
 
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseEntity;
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
 import de.bettinger.processmgmt.common.errors.NotFoundException;
+import de.bettinger.processmgmt.common.infrastructure.persistence.KeysetQueryExecutor;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CaseQueryService {
 
 	private final ProcessCaseRepository processCaseRepository;
+	private final KeysetQueryExecutor keysetQueryExecutor;
 
-	public CaseQueryService(ProcessCaseRepository processCaseRepository) {
+	public CaseQueryService(ProcessCaseRepository processCaseRepository, KeysetQueryExecutor keysetQueryExecutor) {
 		this.processCaseRepository = processCaseRepository;
+		this.keysetQueryExecutor = keysetQueryExecutor;
 	}
 
 	public ProcessCaseEntity getCase(UUID caseId) {
-		return processCaseRepository.findById(caseId)
+		return processCaseRepository.findWithStakeholdersById(caseId)
 				.orElseThrow(() -> new NotFoundException("Case not found: " + caseId));
 	}
 
 	public List<ProcessCaseEntity> listCases(String tenantId) {
-		return processCaseRepository.findAllByTenantIdOrderByCreatedAtDesc(tenantId);
+		return processCaseRepository.findWithStakeholdersByTenantIdOrderByCreatedAtDesc(tenantId);
+	}
+
+	@Transactional(readOnly = true)
+	public KeysetPage<ProcessCaseEntity> listCases(String tenantId, KeysetPageRequest pageRequest) {
+		KeysetPage<ProcessCaseEntity> page = pageCases(tenantId, pageRequest);
+		page.items().forEach(processCase -> Hibernate.initialize(processCase.getStakeholders()));
+		return page;
+	}
+
+	/**
+	 * Keyset page of a tenant's cases with stakeholders left unloaded, for views that do not show them.
+	 */
+	@Transactional(readOnly = true)
+	public KeysetPage<ProcessCaseEntity> pageCases(String tenantId, KeysetPageRequest pageRequest) {
+		return keysetQueryExecutor.fetch(ProcessCaseEntity.class,
+				(root, cb) -> cb.equal(root.get("tenantId"), tenantId), pageRequest);
 	}
 }
@@ -2,31 +2,42 @@ package de.bettinger.processmgmt.casemanagement.application;
 
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaEntity;
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaRepository;
+import de.bettinger.processmgmt.common.application.LocationService;
+import de.bettinger.processmgmt.common.application.ReferenceDataCacheProperties;
+import de.bettinger.processmgmt.common.application.ReferenceDataChanged;
+import de.bettinger.processmgmt.common.application.TenantReferenceCache;
+import de.bettinger.processmgmt.common.domain.UuidV7;
 import de.bettinger.processmgmt.common.errors.NotFoundException;
-import de.bettinger.processmgmt.common.infrastructure.persistence.LocationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 public class KitaService {
 
 	private final KitaRepository kitaRepository;
-	private final LocationRepository locationRepository;
+	private final LocationService locationService;
+	private final TenantReferenceCache<KitaEntity> kitaCache;
 
-	public KitaService(KitaRepository kitaRepository, LocationRepository locationRepository) {
+	public KitaService(KitaRepository kitaRepository, LocationService locationService,
+					   ReferenceDataCacheProperties cacheProperties, MeterRegistry meterRegistry) {
 		this.kitaRepository = kitaRepository;
-		this.locationRepository = locationRepository;
+		this.locationService = locationService;
+		this.kitaCache = new TenantReferenceCache<>("kitas", cacheProperties, meterRegistry);
 	}
 
 	@Transactional
 	public KitaEntity createKita(String tenantId, String name, UUID locationId) {
-		boolean locationExists = locationRepository.findByIdAndTenantId(locationId, tenantId).isPresent();
+		boolean locationExists = locationService.findLocation(tenantId, locationId).isPresent();
 		if (!locationExists) {
 			throw new NotFoundException("Location not found: " + locationId);
 		}
-		KitaEntity entity = new KitaEntity(UUID.randomUUID(), tenantId, name, locationId);
+		KitaEntity entity = new KitaEntity(UuidV7.generate(), tenantId, name, locationId);
 		return kitaRepository.save(entity);
 	}
 
@@ -35,9 +46,22 @@ public class KitaService {
 		return kitaRepository.findAllByTenantId(tenantId);
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Read-through lookup for existence checks; served from {@link TenantReferenceCache}.
+	 */
+	public Optional<KitaEntity> findKita(String tenantId, UUID kitaId) {
+		return kitaCache.get(tenantId, kitaId, () -> kitaRepository.findByIdAndTenantId(kitaId, tenantId));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onReferenceDataChanged(ReferenceDataChanged changed) {
+		if (changed.type() == KitaEntity.class) {
+			kitaCache.invalidate(changed.tenantId(), changed.id());
+		}
+	}
+
 	public KitaEntity getKita(String tenantId, UUID kitaId) {
-		return kitaRepository.findByIdAndTenantId(kitaId, tenantId)
+		return findKita(tenantId, kitaId)
 				.orElseThrow(() -> new NotFoundException("Kita not found: " + kitaId));
 	}
 }
@@ -1,8 +1,8 @@
 package de.bettinger.processmgmt.casemanagement.domain;
 
 import de.bettinger.processmgmt.common.domain.LocationId;
+import de.bettinger.processmgmt.common.domain.UuidV7;
 import java.util.Objects;
-import java.util.UUID;
 import lombok.Getter;
 
 @Getter
@@ -21,7 +21,7 @@ public class Kita {
 	}
 
 	public static Kita create(String tenantId, String name, LocationId locationId) {
-		return new Kita(new KitaId(UUID.randomUUID()), tenantId, name, locationId);
+		return new Kita(new KitaId(UuidV7.generate()), tenantId, name, locationId);
 	}
 
 	private static String requireName(String name) {
@@ -1,5 +1,6 @@
 package de.bettinger.processmgmt.casemanagement.domain;
 
+import de.bettinger.processmgmt.common.domain.UuidV7;
 import lombok.Getter;
 
 import java.time.Instant;
@@ -35,7 +36,7 @@ public class ProcessCase {
 	}
 
 	public static ProcessCase create(String tenantId, String title, UUID kitaId) {
-		return new ProcessCase(UUID.randomUUID(), tenantId, title, kitaId, Instant.now());
+		return new ProcessCase(UuidV7.generate(), tenantId, title, kitaId, Instant.now());
 	}
 
 	public void addStakeholder(String userId, StakeholderRole role) {
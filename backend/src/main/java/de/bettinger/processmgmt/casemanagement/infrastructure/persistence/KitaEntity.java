@@ -1,7 +1,10 @@
 package de.bettinger.processmgmt.casemanagement.infrastructure.persistence;
 
+import de.bettinger.processmgmt.common.infrastructure.persistence.ReferenceDataChangeListener;
+import de.bettinger.processmgmt.common.infrastructure.persistence.TenantOwnedEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.util.UUID;
@@ -9,8 +12,9 @@ import lombok.Getter;
 
 @Getter
 @Entity
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "kitas")
-public class KitaEntity {
+public class KitaEntity implements TenantOwnedEntity {
 
 	@Id
 	@Column(name = "id", nullable = false)
@@ -13,6 +13,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -45,7 +46,8 @@ public class ProcessCaseEntity {
 	@Column(name = "created_at", nullable = false)
 	private Instant createdAt;
 
-	@OneToMany(mappedBy = "processCase", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+	@OneToMany(mappedBy = "processCase", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+	@BatchSize(size = 100)
 	private final List<CaseStakeholderEntity> stakeholders = new ArrayList<>();
 
 	protected ProcessCaseEntity() {
@@ -15,10 +15,15 @@ import de.bettinger.processmgmt.collaboration.infrastructure.persistence.Meeting
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingEntity;
 import de.bettinger.processmgmt.auth.DevAuthFilter;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingParticipantEntity;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,12 +33,17 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/cases/{caseId}/meetings")
 public class MeetingController {
 
+	private static final int DEFAULT_PAGE_SIZE = 50;
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final Set<String> SORT_FIELDS = Set.of("scheduledAt");
+
 	private final MeetingCommandService meetingCommandService;
 	private final MeetingQueryService meetingQueryService;
 
@@ -43,22 +53,20 @@ public class MeetingController {
 	}
 
 	@GetMapping
-	public MeetingsResponse listMeetings(@PathVariable UUID caseId) {
-		List<MeetingSummaryResponse> items = meetingQueryService.listMeetings(caseId).stream()
-				.map(meeting -> new MeetingSummaryResponse(
-						meeting.getId(),
-						meeting.getStatus(),
-						meeting.getLocationId(),
-						meeting.getParticipants().stream()
-								.map(MeetingParticipantEntity::getUserId)
-								.toList(),
-						meeting.getTitle(),
-						meeting.getDescription(),
-						meeting.getScheduledAt(),
-						meeting.getHeldAt()
-				))
-				.toList();
-		return new MeetingsResponse(items);
+	public MeetingsResponse listMeetings(
+			@PathVariable UUID caseId,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(required = false) String sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "false") boolean includeTotal
+	) {
+		Optional<KeysetPageRequest> pageRequest = KeysetPageRequest.ifRequested(size, sort, cursor, includeTotal,
+				SORT_FIELDS, Sort.Order.desc("scheduledAt"), DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+		if (pageRequest.isEmpty()) {
+			return new MeetingsResponse(toSummaries(meetingQueryService.listMeetings(caseId)));
+		}
+		KeysetPage<MeetingEntity> page = meetingQueryService.listMeetings(caseId, pageRequest.get());
+		return new MeetingsResponse(toSummaries(page.items()), page.encodedNextCursor(), page.totalItems());
 	}
 
 	@PostMapping
@@ -142,6 +150,23 @@ public class MeetingController {
 		return new HoldMeetingResponse(meeting.getId(), createdTaskIds);
 	}
 
+	private List<MeetingSummaryResponse> toSummaries(List<MeetingEntity> meetings) {
+		return meetings.stream()
+				.map(meeting -> new MeetingSummaryResponse(
+						meeting.getId(),
+						meeting.getStatus(),
+						meeting.getLocationId(),
+						meeting.getParticipants().stream()
+								.map(MeetingParticipantEntity::getUserId)
+								.toList(),
+						meeting.getTitle(),
+						meeting.getDescription(),
+						meeting.getScheduledAt(),
+						meeting.getHeldAt()
+				))
+				.toList();
+	}
+
 	private List<MeetingActionItemCommand> toCommands(List<MeetingDtos.ActionItemRequest> actionItems) {
 		if (actionItems == null) {
 			return List.of();
@@ -70,6 +70,9 @@ public final class MeetingDtos {
 										 String title, String description, Instant scheduledAt, Instant heldAt) {
 	}
 
-	public record MeetingsResponse(List<MeetingSummaryResponse> items) {
+	public record MeetingsResponse(List<MeetingSummaryResponse> items, String nextCursor, Long totalItems) {
+		public MeetingsResponse(List<MeetingSummaryResponse> items) {
+			this(items, null, null);
+		}
 	}
 }
@@ -2,34 +2,47 @@ package de.bettinger.processmgmt.collaboration.api;
 
 import de.bettinger.processmgmt.auth.DevAuthFilter;
 import de.bettinger.processmgmt.collaboration.api.TaskAttachmentDtos.CreateAttachmentResponse;
+import de.bettinger.processmgmt.collaboration.api.TaskAttachmentDtos.StartUploadRequest;
 import de.bettinger.processmgmt.collaboration.api.TaskAttachmentDtos.TaskAttachmentResponse;
 import de.bettinger.processmgmt.collaboration.api.TaskAttachmentDtos.TaskAttachmentsResponse;
+import de.bettinger.processmgmt.collaboration.api.TaskAttachmentDtos.UploadStatusResponse;
 import de.bettinger.processmgmt.collaboration.application.TaskAttachmentService;
 import de.bettinger.processmgmt.collaboration.application.TaskAttachmentService.AttachmentDownload;
+import de.bettinger.processmgmt.collaboration.application.TaskAttachmentService.UploadProgress;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.AttachmentUploadSessionEntity;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskAttachmentEntity;
+import jakarta.validation.Valid;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
-@RequestMapping("/api/tasks/{taskId}/attachments")
+@RequestMapping("/api/tasks")
 public class TaskAttachmentController {
 
+	static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
+
 	private static final long MAX_SIZE_BYTES = 25L * 1024L * 1024L;
+	private static final int MAX_BATCH_TASKS = 100;
 
 	private final TaskAttachmentService taskAttachmentService;
 
@@ -37,7 +50,7 @@ public class TaskAttachmentController {
 		this.taskAttachmentService = taskAttachmentService;
 	}
 
-	@PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@PostMapping(path = "/{taskId}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
 	public ResponseEntity<CreateAttachmentResponse> uploadAttachment(
 			@PathVariable UUID taskId,
 			@RequestHeader(DevAuthFilter.USER_HEADER) String userId,
@@ -59,7 +72,65 @@ public class TaskAttachmentController {
 		return ResponseEntity.status(201).body(new CreateAttachmentResponse(attachment.getId()));
 	}
 
-	@GetMapping
+	/**
+	 * Starts a resumable upload. Chunks are then sent with {@code PATCH} to the returned upload id; files above the
+	 * multipart limit must use this path.
+	 */
+	@PostMapping(path = "/{taskId}/attachments/uploads", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<UploadStatusResponse> startUpload(
+			@PathVariable UUID taskId,
+			@RequestHeader(DevAuthFilter.USER_HEADER) String userId,
+			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId,
+			@Valid @RequestBody StartUploadRequest request
+	) {
+		AttachmentUploadSessionEntity session = taskAttachmentService.startUpload(
+				tenantId,
+				userId,
+				taskId,
+				sanitizeFileName(request.fileName()),
+				resolveContentType(request.contentType()),
+				request.sizeBytes()
+		);
+		return ResponseEntity.status(201).body(toUploadStatus(session, null));
+	}
+
+	/**
+	 * Appends the request body at {@code Upload-Offset}. A client that lost track of its progress reads the
+	 * received byte count via {@code GET} and resumes from there; a mismatching offset is answered with 409.
+	 */
+	@PatchMapping(path = "/{taskId}/attachments/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public UploadStatusResponse appendChunk(
+			@PathVariable UUID taskId,
+			@PathVariable UUID uploadId,
+			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId,
+			@RequestHeader(UPLOAD_OFFSET_HEADER) long offset,
+			InputStream body
+	) {
+		UploadProgress progress = taskAttachmentService.appendChunk(tenantId, taskId, uploadId, offset, body);
+		UUID attachmentId = progress.attachment() != null ? progress.attachment().getId() : null;
+		return toUploadStatus(progress.session(), attachmentId);
+	}
+
+	@GetMapping("/{taskId}/attachments/uploads/{uploadId}")
+	public UploadStatusResponse getUpload(
+			@PathVariable UUID taskId,
+			@PathVariable UUID uploadId,
+			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId
+	) {
+		return toUploadStatus(taskAttachmentService.getUpload(tenantId, taskId, uploadId), null);
+	}
+
+	@DeleteMapping("/{taskId}/attachments/uploads/{uploadId}")
+	public ResponseEntity<Void> abortUpload(
+			@PathVariable UUID taskId,
+			@PathVariable UUID uploadId,
+			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId
+	) {
+		taskAttachmentService.abortUpload(tenantId, taskId, uploadId);
+		return ResponseEntity.noContent().build();
+	}
+
+	@GetMapping("/{taskId}/attachments")
 	public TaskAttachmentsResponse listAttachments(
 			@PathVariable UUID taskId,
 			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId
@@ -70,23 +141,49 @@ public class TaskAttachmentController {
 		return new TaskAttachmentsResponse(items);
 	}
 
-	@GetMapping("/{attachmentId}")
-	public ResponseEntity<ByteArrayResource> downloadAttachment(
+	/**
+	 * Attachments of up to {@value #MAX_BATCH_TASKS} tasks in one call, e.g. for a page of tasks. Every task must belong
+	 * to the tenant, otherwise the request fails with 404 like the single-task endpoint.
+	 */
+	@GetMapping("/attachments")
+	public TaskAttachmentsResponse listAttachmentsForTasks(
+			@RequestParam List<UUID> taskIds,
+			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId
+	) {
+		if (taskIds.isEmpty() || taskIds.size() > MAX_BATCH_TASKS) {
+			throw new IllegalArgumentException("taskIds must contain between 1 and " + MAX_BATCH_TASKS + " ids");
+		}
+		List<TaskAttachmentResponse> items = taskAttachmentService.listAttachments(tenantId, taskIds).values().stream()
+				.flatMap(List::stream)
+				.map(this::toResponse)
+				.toList();
+		return new TaskAttachmentsResponse(items);
+	}
+
+	/**
+	 * Streams the attachment. Spring MVC answers {@code Range} requests with 206 and {@code If-None-Match} /
+	 * {@code If-Modified-Since} with 304 based on the headers set here.
+	 */
+	@GetMapping("/{taskId}/attachments/{attachmentId}")
+	public ResponseEntity<Resource> downloadAttachment(
 			@PathVariable UUID taskId,
 			@PathVariable UUID attachmentId,
 			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId
 	) {
 		AttachmentDownload download = taskAttachmentService.downloadAttachment(tenantId, taskId, attachmentId);
 		TaskAttachmentEntity attachment = download.attachment();
-		ByteArrayResource resource = new ByteArrayResource(download.bytes());
 		HttpHeaders headers = new HttpHeaders();
 		headers.setContentType(MediaType.parseMediaType(resolveContentType(attachment.getContentType())));
-		headers.setContentLength(attachment.getSizeBytes());
 		headers.setContentDisposition(ContentDisposition.attachment().filename(attachment.getFileName()).build());
-		return ResponseEntity.ok().headers(headers).body(resource);
+		return ResponseEntity.ok()
+				.headers(headers)
+				.eTag(download.etag())
+				.lastModified(attachment.getUploadedAt())
+				.cacheControl(CacheControl.noCache().cachePrivate())
+				.body(download.resource());
 	}
 
-	@DeleteMapping("/{attachmentId}")
+	@DeleteMapping("/{taskId}/attachments/{attachmentId}")
 	public ResponseEntity<Void> deleteAttachment(
 			@PathVariable UUID taskId,
 			@PathVariable UUID attachmentId,
@@ -105,6 +202,15 @@ public class TaskAttachmentController {
 		}
 	}
 
+	private UploadStatusResponse toUploadStatus(AttachmentUploadSessionEntity session, UUID attachmentId) {
+		return new UploadStatusResponse(
+				session.getId(),
+				session.getReceivedBytes(),
+				session.getTotalSizeBytes(),
+				attachmentId
+		);
+	}
+
 	private TaskAttachmentResponse toResponse(TaskAttachmentEntity attachment) {
 		return new TaskAttachmentResponse(
 				attachment.getId(),
@@ -1,5 +1,7 @@
 package de.bettinger.processmgmt.collaboration.api;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -25,4 +27,19 @@ public final class TaskAttachmentDtos {
 
 	public record TaskAttachmentsResponse(List<TaskAttachmentResponse> items) {
 	}
+
+	public record StartUploadRequest(
+			@NotBlank String fileName,
+			String contentType,
+			@Positive long sizeBytes
+	) {
+	}
+
+	public record UploadStatusResponse(
+			UUID uploadId,
+			long receivedBytes,
+			long totalSizeBytes,
+			UUID attachmentId
+	) {
+	}
 }
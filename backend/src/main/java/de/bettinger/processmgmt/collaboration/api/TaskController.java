@@ -2,24 +2,40 @@ package de.bettinger.processmgmt.collaboration.api;
 
 import de.bettinger.processmgmt.collaboration.api.TaskDtos.AssignTaskRequest;
 import de.bettinger.processmgmt.collaboration.api.TaskDtos.BlockTaskRequest;
+import de.bettinger.processmgmt.collaboration.api.TaskDtos.BulkCreateTasksRequest;
+import de.bettinger.processmgmt.collaboration.api.TaskDtos.BulkCreateTasksResponse;
+import de.bettinger.processmgmt.collaboration.api.TaskDtos.BulkCreatedTaskResponse;
+import de.bettinger.processmgmt.collaboration.api.TaskDtos.BulkTaskItem;
 import de.bettinger.processmgmt.collaboration.api.TaskDtos.CreateTaskRequest;
 import de.bettinger.processmgmt.collaboration.api.TaskDtos.CreateTaskResponse;
 import de.bettinger.processmgmt.collaboration.api.TaskDtos.DeclineTaskRequest;
+import de.bettinger.processmgmt.collaboration.api.TaskDtos.DownstreamTaskResponse;
+import de.bettinger.processmgmt.collaboration.api.TaskDtos.DownstreamTasksResponse;
 import de.bettinger.processmgmt.collaboration.api.TaskDtos.ResolveTaskRequest;
+import de.bettinger.processmgmt.collaboration.api.TaskDtos.ScheduledTaskResponse;
+import de.bettinger.processmgmt.collaboration.api.TaskDtos.TaskScheduleResponse;
 import de.bettinger.processmgmt.collaboration.api.TaskDtos.TaskStatusResponse;
 import de.bettinger.processmgmt.collaboration.api.TaskDtos.TaskSummaryResponse;
 import de.bettinger.processmgmt.collaboration.api.TaskDtos.TasksResponse;
 import de.bettinger.processmgmt.collaboration.api.TaskDtos.UpdateTaskRequest;
+import de.bettinger.processmgmt.collaboration.application.CaseTaskSchedule;
 import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.collaboration.application.TaskCreateCommand;
 import de.bettinger.processmgmt.collaboration.application.TaskQueryService;
+import de.bettinger.processmgmt.collaboration.application.TaskScheduleService;
 import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
 import de.bettinger.processmgmt.auth.DevAuthFilter;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
 import jakarta.validation.Valid;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,18 +45,26 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api")
 public class TaskController {
 
+	private static final int DEFAULT_PAGE_SIZE = 50;
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final Set<String> SORT_FIELDS = Set.of("createdAt", "dueDate");
+
 	private final TaskCommandService taskCommandService;
 	private final TaskQueryService taskQueryService;
+	private final TaskScheduleService taskScheduleService;
 
-	public TaskController(TaskCommandService taskCommandService, TaskQueryService taskQueryService) {
+	public TaskController(TaskCommandService taskCommandService, TaskQueryService taskQueryService,
+						  TaskScheduleService taskScheduleService) {
 		this.taskCommandService = taskCommandService;
 		this.taskQueryService = taskQueryService;
+		this.taskScheduleService = taskScheduleService;
 	}
 
 	@PostMapping("/cases/{caseId}/tasks")
@@ -57,17 +81,43 @@ public class TaskController {
 						new ArrayList<>(task.getDependsOnTaskIds()), blockedByTaskIds));
 	}
 
-	@GetMapping("/cases/{caseId}/tasks")
-	public TasksResponse listTasks(@PathVariable UUID caseId) {
-		List<TaskEntity> tasks = taskQueryService.listTasks(caseId);
+	@PostMapping("/cases/{caseId}/tasks/bulk")
+	public ResponseEntity<BulkCreateTasksResponse> createTasks(
+			@PathVariable UUID caseId,
+			@Valid @RequestBody BulkCreateTasksRequest request
+	) {
+		List<BulkTaskItem> items = request.tasks();
+		List<TaskEntity> tasks = taskCommandService.createTasks(caseId, items.stream()
+				.map(item -> new TaskCreateCommand(item.ref(), item.title(), item.description(), item.priority(),
+						item.dueDate(), item.assigneeId(), item.createdFromMeetingId(), item.dependsOnTaskIds(),
+						item.dependsOnRefs()))
+				.toList());
 		Map<UUID, TaskState> taskStateById = taskQueryService.taskStateById(tasks);
-		List<TaskSummaryResponse> items = tasks.stream()
-				.map(task -> new TaskSummaryResponse(task.getId(), task.getTitle(), task.getDescription(),
-						task.getPriority(), task.getState(), task.getAssigneeId(), task.getCreatedFromMeetingId(),
-						new ArrayList<>(task.getDependsOnTaskIds()),
-						taskQueryService.blockedByTaskIds(task, taskStateById)))
-				.toList();
-		return new TasksResponse(items);
+		List<BulkCreatedTaskResponse> created = new ArrayList<>(tasks.size());
+		for (int index = 0; index < tasks.size(); index++) {
+			TaskEntity task = tasks.get(index);
+			created.add(new BulkCreatedTaskResponse(items.get(index).ref(), task.getId(), task.getState(),
+					task.getCreatedFromMeetingId(), new ArrayList<>(task.getDependsOnTaskIds()),
+					taskQueryService.blockedByTaskIds(task, taskStateById)));
+		}
+		return ResponseEntity.status(HttpStatus.CREATED).body(new BulkCreateTasksResponse(created));
+	}
+
+	@GetMapping("/cases/{caseId}/tasks")
+	public TasksResponse listTasks(
+			@PathVariable UUID caseId,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(required = false) String sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "false") boolean includeTotal
+	) {
+		Optional<KeysetPageRequest> pageRequest = KeysetPageRequest.ifRequested(size, sort, cursor, includeTotal,
+				SORT_FIELDS, Sort.Order.desc("createdAt"), DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+		if (pageRequest.isEmpty()) {
+			return new TasksResponse(toSummaries(taskQueryService.listTasks(caseId)));
+		}
+		KeysetPage<TaskEntity> page = taskQueryService.listTasks(caseId, pageRequest.get());
+		return new TasksResponse(toSummaries(page.items()), page.encodedNextCursor(), page.totalItems());
 	}
 
 	@PutMapping("/tasks/{taskId}")
@@ -82,6 +132,30 @@ public class TaskController {
 				new ArrayList<>(task.getDependsOnTaskIds()), blockedByTaskIds);
 	}
 
+	/**
+	 * Transitive downstream impact: all tasks that wait on this task, directly or through other tasks.
+	 */
+	@GetMapping("/tasks/{taskId}/downstream")
+	public DownstreamTasksResponse listDownstreamTasks(@PathVariable UUID taskId) {
+		List<DownstreamTaskResponse> items = taskQueryService.listDownstreamTasks(taskId).stream()
+				.map(task -> new DownstreamTaskResponse(task.id(), task.title(), task.state(), task.depth()))
+				.toList();
+		return new DownstreamTasksResponse(taskId, items);
+	}
+
+	/**
+	 * Critical-path schedule of the case's tasks over their dependencies; see {@link TaskScheduleService}.
+	 */
+	@GetMapping("/cases/{caseId}/task-schedule")
+	public TaskScheduleResponse getTaskSchedule(@PathVariable UUID caseId) {
+		CaseTaskSchedule schedule = taskScheduleService.schedule(caseId);
+		List<ScheduledTaskResponse> tasks = schedule.tasks().stream()
+				.map(task -> new ScheduledTaskResponse(task.id(), task.title(), task.state(), task.dueDate(),
+						task.overdue(), task.earliestStart(), task.latestStart(), task.slack(), task.critical()))
+				.toList();
+		return new TaskScheduleResponse(schedule.caseId(), schedule.length(), schedule.criticalPath(), tasks);
+	}
+
 	@PostMapping("/tasks/{taskId}/assign")
 	public TaskStatusResponse assignTask(
 			@PathVariable UUID taskId,
@@ -136,4 +210,14 @@ public class TaskController {
 		return new TaskStatusResponse(task.getId(), task.getState(), task.getAssigneeId(),
 				task.getCreatedFromMeetingId());
 	}
+
+	private List<TaskSummaryResponse> toSummaries(List<TaskEntity> tasks) {
+		Map<UUID, TaskState> taskStateById = taskQueryService.taskStateById(tasks);
+		return tasks.stream()
+				.map(task -> new TaskSummaryResponse(task.getId(), task.getTitle(), task.getDescription(),
+						task.getPriority(), task.getState(), task.getAssigneeId(), task.getCreatedFromMeetingId(),
+						new ArrayList<>(task.getDependsOnTaskIds()),
+						taskQueryService.blockedByTaskIds(task, taskStateById)))
+				.toList();
+	}
 }
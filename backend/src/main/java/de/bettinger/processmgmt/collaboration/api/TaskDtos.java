@@ -3,8 +3,10 @@ package de.bettinger.processmgmt.collaboration.api;
 import de.bettinger.processmgmt.collaboration.domain.task.TaskResolutionKind;
 import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
 import jakarta.validation.constraints.Max;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
@@ -31,6 +33,29 @@ public final class TaskDtos {
 									 List<UUID> blockedByTaskIds) {
 	}
 
+	public record BulkCreateTasksRequest(@NotEmpty @Size(max = 500) List<@Valid BulkTaskItem> tasks) {
+	}
+
+	public record BulkTaskItem(
+			@Size(max = 100) String ref,
+			@NotBlank String title,
+			@Size(max = 10_000) String description,
+			@NotNull @Min(1) @Max(5) Integer priority,
+			LocalDate dueDate,
+			String assigneeId,
+			UUID createdFromMeetingId,
+			List<UUID> dependsOnTaskIds,
+			List<String> dependsOnRefs
+	) {
+	}
+
+	public record BulkCreatedTaskResponse(String ref, UUID id, TaskState state, UUID createdFromMeetingId,
+										  List<UUID> dependsOnTaskIds, List<UUID> blockedByTaskIds) {
+	}
+
+	public record BulkCreateTasksResponse(List<BulkCreatedTaskResponse> items) {
+	}
+
 	public record UpdateTaskRequest(List<UUID> dependsOnTaskIds) {
 	}
 
@@ -54,6 +79,23 @@ public final class TaskDtos {
 									  List<UUID> blockedByTaskIds) {
 	}
 
-	public record TasksResponse(List<TaskSummaryResponse> items) {
+	public record DownstreamTaskResponse(UUID id, String title, TaskState state, int depth) {
+	}
+
+	public record DownstreamTasksResponse(UUID taskId, List<DownstreamTaskResponse> items) {
+	}
+
+	public record ScheduledTaskResponse(UUID id, String title, TaskState state, LocalDate dueDate, boolean overdue,
+										int earliestStart, int latestStart, int slack, boolean critical) {
+	}
+
+	public record TaskScheduleResponse(UUID caseId, int length, List<UUID> criticalPath,
+									   List<ScheduledTaskResponse> tasks) {
+	}
+
+	public record TasksResponse(List<TaskSummaryResponse> items, String nextCursor, Long totalItems) {
+		public TasksResponse(List<TaskSummaryResponse> items) {
+			this(items, null, null);
+		}
 	}
 }
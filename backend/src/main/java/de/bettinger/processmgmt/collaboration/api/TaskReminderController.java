@@ -75,7 +75,9 @@ public class TaskReminderController {
 				reminder.getStakeholderId(),
 				reminder.getRemindAt(),
 				reminder.getNote(),
-				reminder.getCreatedAt()
+				reminder.getCreatedAt(),
+				reminder.getStatus() == null ? "PENDING" : reminder.getStatus(),
+				reminder.getDispatchedAt()
 		);
 	}
 }
@@ -29,7 +29,9 @@ public final class TaskReminderDtos {
 			UUID stakeholderId,
 			Instant remindAt,
 			String note,
-			Instant createdAt
+			Instant createdAt,
+			String status,
+			Instant dispatchedAt
 	) {
 	}
 
@@ -0,0 +1,42 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes resumable uploads that were started but not finished within {@code app.attachments.upload-session-ttl},
+ * together with their staging files.
+ */
+@Component
+@EnableScheduling
+@ConditionalOnProperty(name = "app.attachments.upload-sweep.enabled", havingValue = "true", matchIfMissing = true)
+public class AttachmentUploadSweeper {
+
+	private static final Logger log = LoggerFactory.getLogger(AttachmentUploadSweeper.class);
+	private static final int BATCH_SIZE = 100;
+
+	private final TaskAttachmentService taskAttachmentService;
+
+	public AttachmentUploadSweeper(TaskAttachmentService taskAttachmentService) {
+		this.taskAttachmentService = taskAttachmentService;
+	}
+
+	@Scheduled(fixedDelayString = "${app.attachments.upload-sweep.interval:PT1H}")
+	public void sweep() {
+		try {
+			int deleted;
+			do {
+				deleted = taskAttachmentService.deleteExpiredUploads(BATCH_SIZE);
+				if (deleted > 0) {
+					log.info("Deleted expired attachment uploads count={}", deleted);
+				}
+			} while (deleted == BATCH_SIZE);
+		} catch (RuntimeException ex) {
+			log.error("Attachment upload sweep failed", ex);
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Schedule of a case's tasks: {@code tasks} in topological order, {@code criticalPath} from first to last task.
+ */
+public record CaseTaskSchedule(UUID caseId, int length, List<UUID> criticalPath, List<ScheduledTask> tasks) {
+}
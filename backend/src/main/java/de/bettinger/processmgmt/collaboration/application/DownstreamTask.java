@@ -0,0 +1,11 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import java.util.UUID;
+
+/**
+ * A task that depends on another task directly ({@code depth} 1) or transitively; {@code depth} is the length of the
+ * shortest dependency path.
+ */
+public record DownstreamTask(UUID id, String title, TaskState state, int depth) {
+}
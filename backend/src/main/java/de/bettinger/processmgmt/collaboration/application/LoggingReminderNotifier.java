@@ -0,0 +1,19 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fallback notifier used until a real delivery channel is configured. Logs identifiers only, never the note.
+ */
+public class LoggingReminderNotifier implements ReminderNotifier {
+
+	private static final Logger log = LoggerFactory.getLogger(LoggingReminderNotifier.class);
+
+	@Override
+	public void notify(TaskReminderEntity reminder) {
+		log.info("Task reminder due reminderId={}, taskId={}, stakeholderId={}, remindAt={}",
+				reminder.getId(), reminder.getTaskId(), reminder.getStakeholderId(), reminder.getRemindAt());
+	}
+}
@@ -1,21 +1,32 @@
 package de.bettinger.processmgmt.collaboration.application;
 
+import de.bettinger.processmgmt.collaboration.domain.meeting.MeetingHeld;
 import de.bettinger.processmgmt.collaboration.domain.meeting.MeetingStatus;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskAssigned;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskCreated;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskStatesChanged;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingActionItemEntity;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingEntity;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingRepository;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.application.LocationService;
+import de.bettinger.processmgmt.common.domain.CaseContentChanged;
+import de.bettinger.processmgmt.common.domain.DomainEvent;
+import de.bettinger.processmgmt.common.domain.SearchDocumentType;
+import de.bettinger.processmgmt.common.domain.SearchableContentChanged;
+import de.bettinger.processmgmt.common.domain.UuidV7;
 import de.bettinger.processmgmt.common.errors.NotFoundException;
-import de.bettinger.processmgmt.common.infrastructure.persistence.LocationRepository;
-import de.bettinger.processmgmt.common.outbox.OutboxEventEntity;
-import de.bettinger.processmgmt.common.outbox.OutboxEventRepository;
+import de.bettinger.processmgmt.common.outbox.OutboxEventWriter;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,15 +35,18 @@ public class MeetingCommandService {
 
 	private final MeetingRepository meetingRepository;
 	private final TaskRepository taskRepository;
-	private final OutboxEventRepository outboxEventRepository;
-	private final LocationRepository locationRepository;
+	private final OutboxEventWriter outboxEventWriter;
+	private final LocationService locationService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public MeetingCommandService(MeetingRepository meetingRepository, TaskRepository taskRepository,
-								 OutboxEventRepository outboxEventRepository, LocationRepository locationRepository) {
+								 OutboxEventWriter outboxEventWriter, LocationService locationService,
+								 ApplicationEventPublisher eventPublisher) {
 		this.meetingRepository = meetingRepository;
 		this.taskRepository = taskRepository;
-		this.outboxEventRepository = outboxEventRepository;
-		this.locationRepository = locationRepository;
+		this.outboxEventWriter = outboxEventWriter;
+		this.locationService = locationService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Transactional
@@ -40,7 +54,7 @@ public class MeetingCommandService {
 										 String description, Instant scheduledAt, List<String> participantIds) {
 		validateLocation(tenantId, locationId);
 		MeetingEntity entity = new MeetingEntity(
-				UUID.randomUUID(),
+				UuidV7.generate(),
 				caseId,
 				locationId,
 				MeetingStatus.SCHEDULED,
@@ -51,14 +65,18 @@ public class MeetingCommandService {
 				null
 		);
 		entity.replaceParticipants(participantIds);
-		return meetingRepository.save(entity);
+		MeetingEntity saved = meetingRepository.save(entity);
+		eventPublisher.publishEvent(SearchableContentChanged.created(SearchDocumentType.MEETING,
+				List.of(saved.getId())));
+		eventPublisher.publishEvent(new CaseContentChanged(saved.getCaseId()));
+		return saved;
 	}
 
 	@Transactional
 	public MeetingEntity updateMeeting(String tenantId, UUID caseId, UUID meetingId, UUID locationId, String title,
 									   String description, Instant scheduledAt, List<String> participantIds) {
 		validateLocation(tenantId, locationId);
-		MeetingEntity entity = meetingRepository.findById(meetingId)
+		MeetingEntity entity = meetingRepository.findWithParticipantsById(meetingId)
 				.orElseThrow(() -> new NotFoundException("Meeting not found: " + meetingId));
 		if (!entity.getCaseId().equals(caseId)) {
 			throw new NotFoundException("Meeting not found: " + meetingId);
@@ -71,9 +89,17 @@ public class MeetingCommandService {
 		entity.setTitle(title);
 		entity.setDescription(description);
 		entity.replaceParticipants(participantIds);
-		return meetingRepository.save(entity);
+		MeetingEntity saved = meetingRepository.save(entity);
+		eventPublisher.publishEvent(SearchableContentChanged.updated(SearchDocumentType.MEETING, saved.getId()));
+		eventPublisher.publishEvent(new CaseContentChanged(saved.getCaseId()));
+		return saved;
 	}
 
+	/**
+	 * New action-item tasks and all outbox events are collected first and written in one flush at commit: tasks,
+	 * action items and events each go out as a single JDBC batch. Action items are diffed by key, so re-holding a
+	 * meeting with unchanged items writes nothing for them.
+	 */
 	@Transactional
 	public MeetingEntity holdMeeting(String tenantId, UUID meetingId, UUID locationId, Instant heldAt,
 									 String minutesText, List<String> participantIds,
@@ -86,28 +112,47 @@ public class MeetingCommandService {
 		}
 		entity.setLocationId(locationId);
 		Map<String, UUID> existingTaskIdsByKey = existingTaskIdsByKey(entity);
+		List<TaskEntity> newTasks = new ArrayList<>();
+		List<DomainEvent> events = new ArrayList<>();
+		List<MeetingActionItemEntity> items = toActionItems(entity, actionItems, existingTaskIdsByKey, newTasks, events);
 		entity.setStatus(MeetingStatus.HELD);
 		entity.setHeldAt(heldAt);
 		entity.setMinutesText(minutesText);
 		entity.replaceParticipants(participantIds);
-		entity.replaceActionItems(toActionItems(entity, actionItems, existingTaskIdsByKey));
-		MeetingEntity saved = meetingRepository.save(entity);
-		outboxEventRepository.save(outboxEvent("Meeting", saved.getId(), "MeetingHeld",
-				"{\"meetingId\":\"" + saved.getId() + "\",\"caseId\":\"" + saved.getCaseId()
-						+ "\",\"locationId\":\"" + saved.getLocationId() + "\"}"));
-		return saved;
+		entity.replaceActionItems(items);
+		// The meeting is managed: dirty checking flushes it and cascades new child rows as plain inserts. An explicit
+		// save() would merge and issue a SELECT per new action item.
+		taskRepository.saveAll(newTasks);
+		events.add(new MeetingHeld(entity.getId(), entity.getCaseId(), entity.getLocationId()));
+		outboxEventWriter.appendAll(events);
+		if (!newTasks.isEmpty()) {
+			eventPublisher.publishEvent(new TaskStatesChanged(entity.getCaseId(), newTasks.stream()
+					.map(task -> new TaskStatesChanged.Transition(null, task.getState()))
+					.toList(), false));
+			eventPublisher.publishEvent(SearchableContentChanged.created(SearchDocumentType.TASK,
+					newTasks.stream().map(TaskEntity::getId).toList()));
+		}
+		eventPublisher.publishEvent(SearchableContentChanged.updated(SearchDocumentType.MEETING, entity.getId()));
+		eventPublisher.publishEvent(new CaseContentChanged(entity.getCaseId()));
+		return entity;
 	}
 
-	private List<MeetingActionItemEntity> toActionItems(MeetingEntity meeting,
-			List<MeetingActionItemCommand> commands, Map<String, UUID> existingTaskIdsByKey) {
+	private List<MeetingActionItemEntity> toActionItems(MeetingEntity meeting, List<MeetingActionItemCommand> commands,
+			Map<String, UUID> existingTaskIdsByKey, List<TaskEntity> newTasks, List<DomainEvent> events) {
 		List<MeetingActionItemEntity> items = new ArrayList<>();
 		if (commands == null) {
 			return items;
 		}
+		Set<String> keys = new HashSet<>();
 		for (MeetingActionItemCommand command : commands) {
+			if (!keys.add(command.key())) {
+				throw new IllegalArgumentException("actionItems keys must be unique: " + command.key());
+			}
 			UUID createdTaskId = existingTaskIdsByKey.get(command.key());
 			if (createdTaskId == null) {
-				createdTaskId = createTaskFromActionItem(meeting, command);
+				TaskEntity task = newTaskFromActionItem(meeting, command, events);
+				newTasks.add(task);
+				createdTaskId = task.getId();
 			}
 			items.add(new MeetingActionItemEntity(meeting, command.key(), command.title(), command.assigneeId(),
 					command.dueDate(), createdTaskId));
@@ -115,8 +160,9 @@ public class MeetingCommandService {
 		return items;
 	}
 
-	private UUID createTaskFromActionItem(MeetingEntity meeting, MeetingActionItemCommand command) {
-		UUID taskId = UUID.randomUUID();
+	private TaskEntity newTaskFromActionItem(MeetingEntity meeting, MeetingActionItemCommand command,
+			List<DomainEvent> events) {
+		UUID taskId = UuidV7.generate();
 		String normalizedAssigneeId = normalizeAssigneeId(command.assigneeId());
 		int priority = resolvePriority(command.priority());
 		String description = normalizeDescription(command.description());
@@ -143,16 +189,11 @@ public class MeetingCommandService {
 				null,
 				Instant.now()
 		);
-		taskRepository.save(task);
-		outboxEventRepository.save(outboxEvent("Task", taskId, "TaskCreated",
-				"{\"taskId\":\"" + taskId + "\",\"caseId\":\"" + meeting.getCaseId() + "\",\"meetingId\":\""
-						+ meeting.getId() + "\"}"));
+		events.add(new TaskCreated(taskId, meeting.getCaseId(), meeting.getId()));
 		if (normalizedAssigneeId != null) {
-			outboxEventRepository.save(outboxEvent("Task", taskId, "TaskAssigned",
-					"{\"taskId\":\"" + taskId + "\",\"caseId\":\"" + meeting.getCaseId()
-							+ "\",\"assigneeId\":\"" + normalizedAssigneeId + "\"}"));
+			events.add(new TaskAssigned(taskId, meeting.getCaseId(), normalizedAssigneeId));
 		}
-		return taskId;
+		return task;
 	}
 
 	private Map<String, UUID> existingTaskIdsByKey(MeetingEntity meeting) {
@@ -165,21 +206,8 @@ public class MeetingCommandService {
 		return existing;
 	}
 
-	private OutboxEventEntity outboxEvent(String aggregateType, UUID aggregateId, String eventType, String payload) {
-		return new OutboxEventEntity(
-				UUID.randomUUID(),
-				aggregateType,
-				aggregateId.toString(),
-				eventType,
-				Instant.now(),
-				payload,
-				null,
-				null
-		);
-	}
-
 	private void validateLocation(String tenantId, UUID locationId) {
-		boolean exists = locationRepository.findByIdAndTenantId(locationId, tenantId).isPresent();
+		boolean exists = locationService.findLocation(tenantId, locationId).isPresent();
 		if (!exists) {
 			throw new NotFoundException("Location not found: " + locationId);
 		}
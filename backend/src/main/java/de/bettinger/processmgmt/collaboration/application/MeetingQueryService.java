@@ -2,20 +2,35 @@ package de.bettinger.processmgmt.collaboration.application;
 
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingEntity;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingRepository;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
+import de.bettinger.processmgmt.common.infrastructure.persistence.KeysetQueryExecutor;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class MeetingQueryService {
 
 	private final MeetingRepository meetingRepository;
+	private final KeysetQueryExecutor keysetQueryExecutor;
 
-	public MeetingQueryService(MeetingRepository meetingRepository) {
+	public MeetingQueryService(MeetingRepository meetingRepository, KeysetQueryExecutor keysetQueryExecutor) {
 		this.meetingRepository = meetingRepository;
+		this.keysetQueryExecutor = keysetQueryExecutor;
 	}
 
 	public List<MeetingEntity> listMeetings(UUID caseId) {
 		return meetingRepository.findAllByCaseIdOrderByScheduledAtDesc(caseId);
 	}
+
+	@Transactional(readOnly = true)
+	public KeysetPage<MeetingEntity> listMeetings(UUID caseId, KeysetPageRequest pageRequest) {
+		KeysetPage<MeetingEntity> page = keysetQueryExecutor.fetch(MeetingEntity.class,
+				(root, cb) -> cb.equal(root.get("caseId"), caseId), pageRequest);
+		page.items().forEach(meeting -> Hibernate.initialize(meeting.getParticipants()));
+		return page;
+	}
 }
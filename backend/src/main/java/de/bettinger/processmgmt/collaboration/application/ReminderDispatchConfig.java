@@ -0,0 +1,17 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReminderDispatchProperties.class)
+public class ReminderDispatchConfig {
+
+	@Bean
+	@ConditionalOnMissingBean(ReminderNotifier.class)
+	public ReminderNotifier loggingReminderNotifier() {
+		return new LoggingReminderNotifier();
+	}
+}
@@ -0,0 +1,20 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.reminders.dispatch")
+public record ReminderDispatchProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("100") int batchSize,
+		@DefaultValue("10m") Duration horizon,
+		@DefaultValue("1000") int lookaheadSize,
+		@DefaultValue("1m") Duration refreshInterval,
+		@DefaultValue("30s") Duration maxIdle,
+		@DefaultValue("5") int maxAttempts,
+		@DefaultValue("30s") Duration initialBackoff,
+		@DefaultValue("30m") Duration maxBackoff,
+		@DefaultValue("5m") Duration deliveryLease
+) {
+}
@@ -0,0 +1,119 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import de.bettinger.processmgmt.collaboration.domain.task.TaskReminderScheduled;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drives the {@link ReminderDispatcher} from a single virtual thread per node.
+ *
+ * <p>Every {@code refresh-interval} the due times of pending reminders within {@code horizon} are loaded into a
+ * {@link ReminderSchedule}; reminders created on this node are added as they commit. The thread sleeps until the
+ * earliest due time (at most {@code max-idle}, which also catches retries and reminders created on other nodes)
+ * and then drains all due reminders.
+ */
+@Component
+@ConditionalOnProperty(name = "app.reminders.dispatch.enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderDispatchScheduler implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(ReminderDispatchScheduler.class);
+
+	private final ReminderDispatcher dispatcher;
+	private final TaskReminderRepository taskReminderRepository;
+	private final ReminderDispatchProperties properties;
+	private final Clock clock;
+	private final ReminderSchedule schedule;
+	private volatile boolean running;
+	private Thread worker;
+
+	public ReminderDispatchScheduler(ReminderDispatcher dispatcher, TaskReminderRepository taskReminderRepository,
+									 ReminderDispatchProperties properties, MeterRegistry meterRegistry) {
+		this.dispatcher = dispatcher;
+		this.taskReminderRepository = taskReminderRepository;
+		this.properties = properties;
+		this.clock = Clock.systemUTC();
+		this.schedule = new ReminderSchedule(clock, properties.lookaheadSize());
+		meterRegistry.gauge("reminders.schedule.size", schedule, ReminderSchedule::size);
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		worker = Thread.ofVirtual().name("reminder-dispatcher").start(this::run);
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		schedule.wakeUp();
+		if (worker != null) {
+			try {
+				worker.join(Duration.ofSeconds(10));
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onReminderScheduled(TaskReminderScheduled event) {
+		if (!event.remindAt().isAfter(clock.instant().plus(properties.horizon()))) {
+			schedule.offer(event.remindAt());
+		}
+	}
+
+	private void run() {
+		Instant nextRefresh = Instant.MIN;
+		while (running) {
+			try {
+				Instant now = clock.instant();
+				if (!now.isBefore(nextRefresh)) {
+					refreshSchedule(now);
+					nextRefresh = now.plus(properties.refreshInterval());
+				}
+				Duration untilRefresh = Duration.between(now, nextRefresh);
+				Duration maxWait = untilRefresh.compareTo(properties.maxIdle()) < 0 ? untilRefresh : properties.maxIdle();
+				schedule.awaitDue(maxWait);
+				while (running && dispatcher.dispatchDue() >= properties.batchSize()) {
+					log.debug("Reminder batch full, dispatching again");
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException ex) {
+				log.error("Reminder dispatch failed", ex);
+				sleepQuietly(properties.maxIdle());
+			}
+		}
+	}
+
+	private void refreshSchedule(Instant now) {
+		schedule.replaceAll(taskReminderRepository.findPendingDueTimes(now.plus(properties.horizon()),
+				Limit.of(properties.lookaheadSize())));
+	}
+
+	private void sleepQuietly(Duration duration) {
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			running = false;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Delivers due task reminders through the {@link ReminderNotifier}.
+ *
+ * <p>A short transaction claims each batch with {@code FOR UPDATE SKIP LOCKED} and leases the reminders for
+ * {@code delivery-lease} under a fresh claim id, so dispatchers on several nodes claim disjoint reminders. Delivery
+ * runs outside any transaction; each outcome is then written in its own short transaction, and only while the
+ * claim is still held. A reminder whose dispatcher died is claimed again after the lease, so delivery is
+ * at-least-once. Failed deliveries are retried with exponential backoff and marked {@code FAILED} after
+ * {@code max-attempts}.
+ */
+@Component
+public class ReminderDispatcher {
+
+	private static final Logger log = LoggerFactory.getLogger(ReminderDispatcher.class);
+
+	private final TaskReminderRepository taskReminderRepository;
+	private final ReminderNotifier notifier;
+	private final ReminderDispatchProperties properties;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+	private final Counter deliveredCounter;
+	private final Counter retriedCounter;
+	private final Counter failedCounter;
+	private final Timer lagTimer;
+	private final Timer batchTimer;
+
+	public ReminderDispatcher(TaskReminderRepository taskReminderRepository, ReminderNotifier notifier,
+							  ReminderDispatchProperties properties, PlatformTransactionManager transactionManager,
+							  MeterRegistry meterRegistry) {
+		this.taskReminderRepository = taskReminderRepository;
+		this.notifier = notifier;
+		this.properties = properties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.clock = Clock.systemUTC();
+		this.deliveredCounter = meterRegistry.counter("reminders.dispatch.reminders", "outcome", "delivered");
+		this.retriedCounter = meterRegistry.counter("reminders.dispatch.reminders", "outcome", "retried");
+		this.failedCounter = meterRegistry.counter("reminders.dispatch.reminders", "outcome", "failed");
+		this.lagTimer = Timer.builder("reminders.dispatch.lag")
+				.description("Time between a reminder's remindAt and its delivery")
+				.register(meterRegistry);
+		this.batchTimer = meterRegistry.timer("reminders.dispatch.batch");
+	}
+
+	/**
+	 * Claims and delivers one batch of due reminders. Returns the number of claimed reminders, so callers can
+	 * drain a backlog by looping while full batches come back.
+	 */
+	public int dispatchDue() {
+		Integer claimed = batchTimer.record(this::dispatchBatch);
+		return claimed == null ? 0 : claimed;
+	}
+
+	private int dispatchBatch() {
+		UUID claimId = UUID.randomUUID();
+		List<TaskReminderEntity> reminders = transactionTemplate.execute(status -> claimBatch(claimId));
+		if (reminders == null) {
+			return 0;
+		}
+		for (TaskReminderEntity reminder : reminders) {
+			Exception failure = deliver(reminder);
+			transactionTemplate.executeWithoutResult(status -> recordOutcome(reminder.getId(), claimId, failure));
+		}
+		return reminders.size();
+	}
+
+	private List<TaskReminderEntity> claimBatch(UUID claimId) {
+		Instant now = clock.instant();
+		List<TaskReminderEntity> reminders = taskReminderRepository.claimDue(now, properties.batchSize());
+		for (TaskReminderEntity reminder : reminders) {
+			reminder.claim(claimId, now.plus(properties.deliveryLease()));
+		}
+		return reminders;
+	}
+
+	private Exception deliver(TaskReminderEntity reminder) {
+		try {
+			notifier.notify(reminder);
+			return null;
+		} catch (Exception ex) {
+			return ex;
+		}
+	}
+
+	private void recordOutcome(UUID reminderId, UUID claimId, Exception failure) {
+		TaskReminderEntity reminder = taskReminderRepository.findWithLockById(reminderId).orElse(null);
+		if (reminder == null || !reminder.isClaimedBy(claimId)) {
+			log.warn("Task reminder lease expired before its outcome was recorded reminderId={}", reminderId);
+			return;
+		}
+		Instant now = clock.instant();
+		if (failure == null) {
+			reminder.markDispatched(now);
+			deliveredCounter.increment();
+			lagTimer.record(Duration.between(reminder.getRemindAt(), now));
+			return;
+		}
+		reminder.markAttemptFailed(failure.getClass().getSimpleName() + ": " + failure.getMessage(),
+				now.plus(backoff(reminder.getAttempts() + 1)), properties.maxAttempts());
+		if (TaskReminderStatus.FAILED.equals(reminder.getStatus())) {
+			failedCounter.increment();
+			log.warn("Task reminder gave up after {} attempts reminderId={}, taskId={}",
+					reminder.getAttempts(), reminder.getId(), reminder.getTaskId());
+		} else {
+			retriedCounter.increment();
+		}
+	}
+
+	private Duration backoff(int attempt) {
+		Duration initial = properties.initialBackoff();
+		int exponent = Math.min(attempt - 1, 20);
+		Duration delay = initial.multipliedBy(1L << exponent);
+		return delay.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : delay;
+	}
+}
@@ -0,0 +1,14 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderEntity;
+
+/**
+ * Delivery channel for due task reminders (mail, push, chat, ...). Called by {@link ReminderDispatcher} outside any
+ * transaction while the reminder is leased for {@code delivery-lease}; throwing schedules a retry with backoff.
+ * Delivery is at-least-once, so implementations should tolerate the rare duplicate after a crash or a delivery that
+ * outlasts its lease.
+ */
+public interface ReminderNotifier {
+
+	void notify(TaskReminderEntity reminder) throws Exception;
+}
@@ -0,0 +1,113 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory priority queue of reminder due times within the look-ahead horizon, earliest first.
+ *
+ * <p>It only decides <em>when</em> the dispatcher wakes up. Which node delivers a reminder is decided by the
+ * database claim, so entries may be stale (deleted reminders) or shared with other nodes without harm. The queue
+ * is bounded; times that do not fit are picked up by the next refresh.
+ */
+public class ReminderSchedule {
+
+	private final PriorityQueue<Instant> dueTimes = new PriorityQueue<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private final Clock clock;
+	private final int capacity;
+
+	public ReminderSchedule(Clock clock, int capacity) {
+		this.clock = clock;
+		this.capacity = capacity;
+	}
+
+	public void offer(Instant dueAt) {
+		lock.lock();
+		try {
+			if (dueTimes.size() >= capacity) {
+				return;
+			}
+			Instant previousHead = dueTimes.peek();
+			dueTimes.add(dueAt);
+			if (previousHead == null || dueAt.isBefore(previousHead)) {
+				changed.signalAll();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void replaceAll(Collection<Instant> upcoming) {
+		lock.lock();
+		try {
+			dueTimes.clear();
+			for (Instant dueAt : upcoming) {
+				if (dueTimes.size() >= capacity) {
+					break;
+				}
+				dueTimes.add(dueAt);
+			}
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Blocks until the earliest entry is due, {@code maxWait} has elapsed, an earlier entry is offered or
+	 * {@link #wakeUp()} is called. Due entries are removed. Returns whether any entry was due.
+	 */
+	public boolean awaitDue(Duration maxWait) throws InterruptedException {
+		lock.lock();
+		try {
+			Instant now = clock.instant();
+			if (removeDue(now)) {
+				return true;
+			}
+			Instant deadline = now.plus(maxWait);
+			Instant head = dueTimes.peek();
+			Instant wakeAt = head != null && head.isBefore(deadline) ? head : deadline;
+			long waitNanos = Duration.between(now, wakeAt).toNanos();
+			if (waitNanos > 0) {
+				changed.awaitNanos(waitNanos);
+			}
+			return removeDue(clock.instant());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void wakeUp() {
+		lock.lock();
+		try {
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int size() {
+		lock.lock();
+		try {
+			return dueTimes.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean removeDue(Instant now) {
+		boolean due = false;
+		while (!dueTimes.isEmpty() && !dueTimes.peek().isAfter(now)) {
+			dueTimes.poll();
+			due = true;
+		}
+		return due;
+	}
+}
@@ -0,0 +1,9 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ScheduledTask(UUID id, String title, TaskState state, LocalDate dueDate, boolean overdue,
+							int earliestStart, int latestStart, int slack, boolean critical) {
+}
@@ -1,35 +1,46 @@
 package de.bettinger.processmgmt.collaboration.application;
 
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseEntity;
-import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
-import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
+import de.bettinger.processmgmt.common.infrastructure.persistence.KeysetQueryExecutor;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class StakeholderTasksQueryService {
 
-	private final TaskRepository taskRepository;
-	private final ProcessCaseRepository processCaseRepository;
+	private final KeysetQueryExecutor keysetQueryExecutor;
 
-	public StakeholderTasksQueryService(TaskRepository taskRepository, ProcessCaseRepository processCaseRepository) {
-		this.taskRepository = taskRepository;
-		this.processCaseRepository = processCaseRepository;
+	public StakeholderTasksQueryService(KeysetQueryExecutor keysetQueryExecutor) {
+		this.keysetQueryExecutor = keysetQueryExecutor;
 	}
 
+	/**
+	 * Tasks assigned to the stakeholder within the tenant, optionally restricted to one state.
+	 * Tenant scoping joins {@code cases} on its primary key, so the query starts from the assignee's index range
+	 * ({@code idx_tasks_assignee_state_due}) and its cost does not grow with the number of cases in the tenant.
+	 */
 	@Transactional(readOnly = true)
-	public Page<TaskEntity> listAssignedTasks(String tenantId, UUID stakeholderId, Pageable pageable) {
-		List<UUID> caseIds = processCaseRepository.findAllByTenantIdOrderByCreatedAtDesc(tenantId).stream()
-				.map(ProcessCaseEntity::getId)
-				.toList();
-		if (caseIds.isEmpty()) {
-			return Page.empty(pageable);
-		}
-		return taskRepository.findAllByAssigneeIdAndCaseIdIn(stakeholderId.toString(), caseIds, pageable);
+	public KeysetPage<TaskEntity> listAssignedTasks(String tenantId, UUID stakeholderId, TaskState state,
+													KeysetPageRequest pageRequest) {
+		return keysetQueryExecutor.fetch(TaskEntity.class, (root, cb) -> {
+			Join<TaskEntity, ProcessCaseEntity> processCase = root.join(ProcessCaseEntity.class);
+			processCase.on(cb.equal(processCase.get("id"), root.get("caseId")));
+			List<Predicate> predicates = new ArrayList<>();
+			predicates.add(cb.equal(root.get("assigneeId"), stakeholderId.toString()));
+			predicates.add(cb.equal(processCase.get("tenantId"), tenantId));
+			if (state != null) {
+				predicates.add(cb.equal(root.get("state"), state));
+			}
+			return cb.and(predicates.toArray(Predicate[]::new));
+		}, pageRequest);
 	}
 }
@@ -1,70 +1,236 @@
 package de.bettinger.processmgmt.collaboration.application;
 
-import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
 import de.bettinger.processmgmt.collaboration.infrastructure.attachments.AttachmentStorage;
+import de.bettinger.processmgmt.collaboration.infrastructure.attachments.ResumableSha256;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.AttachmentBlobEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.AttachmentBlobRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.AttachmentUploadSessionEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.AttachmentUploadSessionRepository;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskAttachmentEntity;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskAttachmentRepository;
-import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
-import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.domain.UuidV7;
+import de.bettinger.processmgmt.common.errors.ConflictException;
 import de.bettinger.processmgmt.common.errors.NotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.NoSuchFileException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class TaskAttachmentService {
 
-	private final TaskRepository taskRepository;
+	private final TaskOwnershipResolver taskOwnershipResolver;
 	private final TaskAttachmentRepository attachmentRepository;
-	private final ProcessCaseRepository processCaseRepository;
+	private final AttachmentUploadSessionRepository uploadSessionRepository;
+	private final AttachmentBlobRepository blobRepository;
 	private final AttachmentStorage attachmentStorage;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate cleanupTransactionTemplate;
+	private final long maxUploadSizeBytes;
+	private final Duration chunkLease;
+	private final Duration uploadSessionTtl;
 
-	public TaskAttachmentService(TaskRepository taskRepository, TaskAttachmentRepository attachmentRepository,
-								 ProcessCaseRepository processCaseRepository, AttachmentStorage attachmentStorage) {
-		this.taskRepository = taskRepository;
+	public TaskAttachmentService(TaskOwnershipResolver taskOwnershipResolver,
+								 TaskAttachmentRepository attachmentRepository,
+								 AttachmentUploadSessionRepository uploadSessionRepository,
+								 AttachmentBlobRepository blobRepository, AttachmentStorage attachmentStorage,
+								 PlatformTransactionManager transactionManager,
+								 @Value("${app.attachments.max-upload-size-bytes:2147483648}") long maxUploadSizeBytes,
+								 @Value("${app.attachments.chunk-lease:PT15M}") Duration chunkLease,
+								 @Value("${app.attachments.upload-session-ttl:P1D}") Duration uploadSessionTtl) {
+		this.taskOwnershipResolver = taskOwnershipResolver;
 		this.attachmentRepository = attachmentRepository;
-		this.processCaseRepository = processCaseRepository;
+		this.uploadSessionRepository = uploadSessionRepository;
+		this.blobRepository = blobRepository;
 		this.attachmentStorage = attachmentStorage;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.cleanupTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.cleanupTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.maxUploadSizeBytes = maxUploadSizeBytes;
+		this.chunkLease = chunkLease;
+		this.uploadSessionTtl = uploadSessionTtl;
 	}
 
-	@Transactional
+	/**
+	 * Streams the file to staging and hashes it on the way, outside any transaction; only recording the attachment
+	 * takes a short one.
+	 */
 	public TaskAttachmentEntity uploadAttachment(String tenantId, String uploadedBy, UUID taskId, String fileName,
 												 String contentType, long sizeBytes, InputStream content) {
-		TaskEntity task = loadTaskForTenant(tenantId, taskId);
-		UUID attachmentId = UUID.randomUUID();
-		String storageKey = storeFile(tenantId, task.getId(), attachmentId, content);
-		TaskAttachmentEntity attachment = new TaskAttachmentEntity(
-				attachmentId,
-				task.getId(),
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
+		UUID uploadId = UUID.randomUUID();
+		MessageDigest digest = sha256();
+		String storageKey = null;
+		try {
+			long stagedBytes = attachmentStorage.writeStaged(uploadId, 0, sizeBytes,
+					new DigestInputStream(content, digest));
+			if (stagedBytes != sizeBytes) {
+				throw new IllegalArgumentException("Received " + stagedBytes + " of " + sizeBytes + " bytes");
+			}
+			String checksumSha256 = HexFormat.of().formatHex(digest.digest());
+			storageKey = prepareBlob(tenantId, uploadId, checksumSha256);
+			String preparedKey = storageKey;
+			return transactionTemplate.execute(status -> createAttachment(tenantId, taskId, uploadId, fileName,
+					contentType, sizeBytes, uploadedBy, checksumSha256, preparedKey));
+		} catch (IOException ex) {
+			RuntimeException failure = new RuntimeException("Failed to store attachment", ex);
+			abandonUpload(uploadId, storageKey, failure);
+			throw failure;
+		} catch (RuntimeException ex) {
+			abandonUpload(uploadId, storageKey, ex);
+			throw ex;
+		}
+	}
+
+	@Transactional
+	public AttachmentUploadSessionEntity startUpload(String tenantId, String uploadedBy, UUID taskId, String fileName,
+													 String contentType, long sizeBytes) {
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
+		if (sizeBytes <= 0) {
+			throw new IllegalArgumentException("sizeBytes must be positive");
+		}
+		if (sizeBytes > maxUploadSizeBytes) {
+			throw new IllegalArgumentException("File exceeds maximum size of " + maxUploadSizeBytes + " bytes");
+		}
+		Instant now = Instant.now();
+		AttachmentUploadSessionEntity session = new AttachmentUploadSessionEntity(
+				UUID.randomUUID(),
+				tenantId,
+				taskId,
 				fileName,
 				contentType,
 				sizeBytes,
-				storageKey,
-				Instant.now(),
-				uploadedBy
+				uploadedBy,
+				now,
+				now.plus(uploadSessionTtl)
 		);
-		return attachmentRepository.save(attachment);
+		return uploadSessionRepository.save(session);
+	}
+
+	@Transactional(readOnly = true)
+	public AttachmentUploadSessionEntity getUpload(String tenantId, UUID taskId, UUID uploadId) {
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
+		return uploadSessionRepository.findByIdAndTaskId(uploadId, taskId)
+				.filter(session -> session.getTenantId().equals(tenantId))
+				.filter(session -> !session.isExpired(Instant.now()))
+				.orElseThrow(() -> new NotFoundException("Upload not found: " + uploadId));
+	}
+
+	/**
+	 * Appends one chunk at {@code offset}, which must equal the bytes received so far. A short transaction claims the
+	 * chunk with a lease on the session, the bytes are written and hashed without a transaction or connection, and a
+	 * second short transaction records the new offset and SHA-256 state. The chunk that completes the upload turns it
+	 * into an attachment in that second transaction.
+	 */
+	public UploadProgress appendChunk(String tenantId, UUID taskId, UUID uploadId, long offset, InputStream content) {
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
+		UUID leaseId = UUID.randomUUID();
+		AttachmentUploadSessionEntity session = transactionTemplate.execute(
+				status -> startChunk(tenantId, taskId, uploadId, offset, leaseId));
+		String storageKey = null;
+		try {
+			ResumableSha256 digest = ResumableSha256.restore(session.getChecksumState());
+			long received = writeChunk(session, offset, new DigestInputStream(content, digest));
+			byte[] checksumState = digest.exportState();
+			String checksumSha256 = null;
+			if (received == session.getTotalSizeBytes()) {
+				checksumSha256 = HexFormat.of().formatHex(digest.digest());
+				storageKey = prepareBlob(tenantId, uploadId, checksumSha256);
+			}
+			String completedChecksum = checksumSha256;
+			String preparedKey = storageKey;
+			return transactionTemplate.execute(status -> finishChunk(tenantId, taskId, uploadId, leaseId, received,
+					checksumState, completedChecksum, preparedKey));
+		} catch (IOException ex) {
+			RuntimeException failure = new RuntimeException("Failed to store attachment chunk", ex);
+			abandonChunk(taskId, uploadId, leaseId, storageKey, failure);
+			throw failure;
+		} catch (RuntimeException ex) {
+			abandonChunk(taskId, uploadId, leaseId, storageKey, ex);
+			throw ex;
+		}
+	}
+
+	@Transactional
+	public void abortUpload(String tenantId, UUID taskId, UUID uploadId) {
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
+		AttachmentUploadSessionEntity session = lockSession(tenantId, taskId, uploadId);
+		if (session.isChunkInProgress(Instant.now())) {
+			throw new ConflictException("A chunk of upload " + uploadId + " is being written");
+		}
+		uploadSessionRepository.delete(session);
+		afterCommit(() -> attachmentStorage.deleteStaged(uploadId));
+	}
+
+	/**
+	 * Deletes up to {@code limit} upload sessions that expired without a running chunk, and their staging files after
+	 * commit. Returns the number of deleted sessions.
+	 */
+	@Transactional
+	public int deleteExpiredUploads(int limit) {
+		List<AttachmentUploadSessionEntity> expired = uploadSessionRepository.claimExpired(Instant.now(), limit);
+		for (AttachmentUploadSessionEntity session : expired) {
+			uploadSessionRepository.delete(session);
+			afterCommit(() -> attachmentStorage.deleteStaged(session.getId()));
+		}
+		return expired.size();
 	}
 
 	@Transactional(readOnly = true)
 	public List<TaskAttachmentEntity> listAttachments(String tenantId, UUID taskId) {
-		loadTaskForTenant(tenantId, taskId);
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
 		return attachmentRepository.findAllByTaskIdOrderByUploadedAtDesc(taskId);
 	}
 
+	/**
+	 * Attachments of several tasks, e.g. a task page, with one ownership check and one query instead of two per task.
+	 * Keyed by task in request order; each list is newest first.
+	 */
+	@Transactional(readOnly = true)
+	public Map<UUID, List<TaskAttachmentEntity>> listAttachments(String tenantId, Collection<UUID> taskIds) {
+		taskOwnershipResolver.requireTasksInTenant(tenantId, taskIds);
+		Map<UUID, List<TaskAttachmentEntity>> attachmentsByTask = new LinkedHashMap<>();
+		taskIds.forEach(taskId -> attachmentsByTask.put(taskId, new ArrayList<>()));
+		for (TaskAttachmentEntity attachment : attachmentRepository.findAllByTaskIdInOrderByTaskIdDescUploadedAtDesc(
+				attachmentsByTask.keySet())) {
+			attachmentsByTask.get(attachment.getTaskId()).add(attachment);
+		}
+		return attachmentsByTask;
+	}
+
+	/**
+	 * Resolves an attachment for download after the tenant check. The returned resource is opened lazily, when the
+	 * response body is written.
+	 */
 	@Transactional(readOnly = true)
 	public AttachmentDownload downloadAttachment(String tenantId, UUID taskId, UUID attachmentId) {
-		loadTaskForTenant(tenantId, taskId);
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
 		TaskAttachmentEntity attachment = attachmentRepository.findByIdAndTaskId(attachmentId, taskId)
 				.orElseThrow(() -> new NotFoundException("Attachment not found: " + attachmentId));
 		try {
-			byte[] bytes = attachmentStorage.load(attachment.getStorageKey());
-			return new AttachmentDownload(attachment, bytes);
+			Resource resource = attachmentStorage.open(attachment.getStorageKey());
+			return new AttachmentDownload(attachment, resource);
 		} catch (NoSuchFileException ex) {
 			throw new NotFoundException("Attachment not found: " + attachmentId);
 		} catch (IOException ex) {
@@ -72,41 +238,237 @@ public class TaskAttachmentService {
 		}
 	}
 
+	/**
+	 * Deletes the attachment and releases its blob. The file is only removed after commit, and only if the blob is
+	 * still unreferenced once its row is locked again, so a concurrent upload of the same content keeps it.
+	 */
 	@Transactional
 	public void deleteAttachment(String tenantId, UUID taskId, UUID attachmentId) {
-		loadTaskForTenant(tenantId, taskId);
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
 		TaskAttachmentEntity attachment = attachmentRepository.findByIdAndTaskId(attachmentId, taskId)
 				.orElseThrow(() -> new NotFoundException("Attachment not found: " + attachmentId));
-		deleteFile(attachment.getStorageKey());
 		attachmentRepository.delete(attachment);
+		String storageKey = attachment.getStorageKey();
+		Optional<AttachmentBlobEntity> blob = blobRepository.findWithLockByStorageKey(storageKey);
+		if (blob.isEmpty()) {
+			// stored before deduplication: the file belongs to this attachment alone
+			afterCommit(() -> attachmentStorage.delete(storageKey));
+		} else if (blob.get().releaseReference()) {
+			AttachmentBlobEntity released = blob.get();
+			afterCommit(() -> deleteUnreferencedBlob(released.getTenantId(), released.getChecksumSha256(),
+					storageKey, released.getSizeBytes()));
+		}
 	}
 
-	private TaskEntity loadTaskForTenant(String tenantId, UUID taskId) {
-		TaskEntity task = taskRepository.findById(taskId)
-				.orElseThrow(() -> new NotFoundException("Task not found: " + taskId));
-		boolean caseExists = processCaseRepository.findByIdAndTenantId(task.getCaseId(), tenantId).isPresent();
-		if (!caseExists) {
-			throw new NotFoundException("Task not found: " + taskId);
+	private AttachmentUploadSessionEntity startChunk(String tenantId, UUID taskId, UUID uploadId, long offset,
+													 UUID leaseId) {
+		AttachmentUploadSessionEntity session = lockSession(tenantId, taskId, uploadId);
+		if (offset != session.getReceivedBytes()) {
+			throw new ConflictException("Upload offset mismatch: expected " + session.getReceivedBytes());
 		}
-		return task;
+		Instant now = Instant.now();
+		if (session.isChunkInProgress(now)) {
+			throw new ConflictException("A chunk of upload " + uploadId + " is being written");
+		}
+		session.startChunk(leaseId, now.plus(chunkLease));
+		return session;
 	}
 
-	private String storeFile(String tenantId, UUID taskId, UUID attachmentId, InputStream content) {
+	/**
+	 * Writing stops being allowed when the lease expires, so a stalled writer cannot overwrite bytes that the writer
+	 * who took over its lease has already recorded.
+	 */
+	private long writeChunk(AttachmentUploadSessionEntity session, long offset, InputStream content)
+			throws IOException {
 		try {
-			return attachmentStorage.store(tenantId, taskId, attachmentId, content);
-		} catch (IOException ex) {
-			throw new RuntimeException("Failed to store attachment", ex);
+			return attachmentStorage.writeStaged(session.getId(), offset, session.remainingBytes(),
+					session.getChunkLeaseExpiresAt(), content);
+		} catch (IllegalStateException ex) {
+			throw new ConflictException(ex.getMessage());
+		}
+	}
+
+	private UploadProgress finishChunk(String tenantId, UUID taskId, UUID uploadId, UUID leaseId, long received,
+									   byte[] checksumState, String checksumSha256, String storageKey) {
+		AttachmentUploadSessionEntity session = lockSession(tenantId, taskId, uploadId);
+		if (!session.holdsChunkLease(leaseId)) {
+			throw new ConflictException("Chunk lease of upload " + uploadId + " expired");
+		}
+		session.finishChunk(received, checksumState, Instant.now().plus(uploadSessionTtl));
+		if (!session.isComplete()) {
+			return new UploadProgress(session, null);
 		}
+		TaskAttachmentEntity attachment = createAttachment(tenantId, taskId, uploadId, session.getFileName(),
+				session.getContentType(), session.getTotalSizeBytes(), session.getCreatedByStakeholderId(),
+				checksumSha256, storageKey);
+		uploadSessionRepository.delete(session);
+		return new UploadProgress(session, attachment);
 	}
 
-	private void deleteFile(String storageKey) {
+	/**
+	 * Gives up the lease of a failed chunk so the client can retry at once instead of waiting for it to expire. The
+	 * staged bytes stay; the retry overwrites them from the same offset.
+	 */
+	private void abandonChunk(UUID taskId, UUID uploadId, UUID leaseId, String storageKey,
+							  RuntimeException failure) {
 		try {
-			attachmentStorage.delete(storageKey);
+			transactionTemplate.executeWithoutResult(status -> uploadSessionRepository
+					.findWithLockByIdAndTaskId(uploadId, taskId)
+					.filter(session -> session.holdsChunkLease(leaseId))
+					.ifPresent(AttachmentUploadSessionEntity::releaseChunk));
+			if (storageKey != null) {
+				attachmentStorage.discardPrepared(uploadId, storageKey);
+			}
+		} catch (IOException | RuntimeException cleanupFailure) {
+			failure.addSuppressed(cleanupFailure);
+		}
+	}
+
+	private AttachmentUploadSessionEntity lockSession(String tenantId, UUID taskId, UUID uploadId) {
+		return uploadSessionRepository.findWithLockByIdAndTaskId(uploadId, taskId)
+				.filter(candidate -> candidate.getTenantId().equals(tenantId))
+				.filter(candidate -> !candidate.isExpired(Instant.now()))
+				.orElseThrow(() -> new NotFoundException("Upload not found: " + uploadId));
+	}
+
+	/**
+	 * Copies a complete upload next to its content-addressed key before any transaction starts, unless the content is
+	 * already stored. Returns the key.
+	 */
+	private String prepareBlob(String tenantId, UUID uploadId, String checksumSha256) throws IOException {
+		String storageKey = attachmentStorage.storageKey(tenantId, checksumSha256);
+		if (!attachmentStorage.exists(storageKey)) {
+			attachmentStorage.prepare(uploadId, storageKey);
+		}
+		return storageKey;
+	}
+
+	/**
+	 * Records the attachment and references its blob. The blob row is inserted if absent and then locked, so
+	 * concurrent uploads of the same content serialize on it; the first one publishes the prepared file while holding
+	 * the lock. Staging is deleted only after commit, so a rolled back chunk can be retried. A file published by a
+	 * rolled back transaction is deleted again under the lock unless another upload has referenced it meanwhile.
+	 */
+	private TaskAttachmentEntity createAttachment(String tenantId, UUID taskId, UUID uploadId, String fileName,
+												  String contentType, long sizeBytes, String uploadedBy,
+												  String checksumSha256, String storageKey) {
+		blobRepository.insertIfAbsent(UuidV7.generate(), tenantId, checksumSha256, storageKey, sizeBytes);
+		AttachmentBlobEntity blob = blobRepository.findWithLockByTenantIdAndChecksumSha256(tenantId, checksumSha256)
+				.orElseThrow(() -> new IllegalStateException("Attachment blob vanished: " + checksumSha256));
+		if (!attachmentStorage.exists(blob.getStorageKey())) {
+			try {
+				attachmentStorage.publish(uploadId, blob.getStorageKey());
+			} catch (IOException ex) {
+				throw new RuntimeException("Failed to store attachment", ex);
+			}
+			afterRollback(() -> deleteUnreferencedBlob(tenantId, checksumSha256, blob.getStorageKey(), sizeBytes));
+		}
+		blob.addReference();
+		afterCommit(() -> discardStaged(uploadId, storageKey));
+		TaskAttachmentEntity attachment = new TaskAttachmentEntity(
+				UuidV7.generate(),
+				taskId,
+				fileName,
+				contentType,
+				sizeBytes,
+				blob.getStorageKey(),
+				Instant.now(),
+				uploadedBy,
+				checksumSha256
+		);
+		return attachmentRepository.save(attachment);
+	}
+
+	/**
+	 * Deletes the file of a blob nobody references anymore. Runs in its own transaction because it is called after
+	 * the surrounding one completed. The row is inserted if absent before it is locked, so a concurrent first upload
+	 * that has not committed yet is waited for rather than overlooked; whichever side locks second sees the other's
+	 * outcome.
+	 */
+	private void deleteUnreferencedBlob(String tenantId, String checksumSha256, String storageKey, long sizeBytes) {
+		cleanupTransactionTemplate.executeWithoutResult(status -> {
+			blobRepository.insertIfAbsent(UuidV7.generate(), tenantId, checksumSha256, storageKey, sizeBytes);
+			blobRepository.findWithLockByTenantIdAndChecksumSha256(tenantId, checksumSha256)
+					.filter(blob -> blob.getRefCount() <= 0)
+					.ifPresent(blob -> {
+						try {
+							attachmentStorage.delete(blob.getStorageKey());
+						} catch (IOException ex) {
+							throw new RuntimeException("Failed to delete attachment file", ex);
+						}
+						blobRepository.delete(blob);
+					});
+		});
+	}
+
+	private void abandonUpload(UUID uploadId, String storageKey, RuntimeException failure) {
+		try {
+			discardStaged(uploadId, storageKey);
+		} catch (RuntimeException cleanupFailure) {
+			failure.addSuppressed(cleanupFailure);
+		}
+	}
+
+	private void discardStaged(UUID uploadId, String storageKey) {
+		try {
+			attachmentStorage.deleteStaged(uploadId);
+			if (storageKey != null) {
+				attachmentStorage.discardPrepared(uploadId, storageKey);
+			}
 		} catch (IOException ex) {
-			throw new RuntimeException("Failed to delete attachment", ex);
+			throw new RuntimeException("Failed to clean up attachment file", ex);
 		}
 	}
 
-	public record AttachmentDownload(TaskAttachmentEntity attachment, byte[] bytes) {
+	private MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not available", ex);
+		}
+	}
+
+	private void afterCommit(FileAction action) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				try {
+					action.run();
+				} catch (IOException ex) {
+					throw new RuntimeException("Failed to clean up attachment file", ex);
+				}
+			}
+		});
+	}
+
+	private void afterRollback(Runnable action) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					action.run();
+				}
+			}
+		});
+	}
+
+	@FunctionalInterface
+	private interface FileAction {
+		void run() throws IOException;
+	}
+
+	public record UploadProgress(AttachmentUploadSessionEntity session, TaskAttachmentEntity attachment) {
+	}
+
+	public record AttachmentDownload(TaskAttachmentEntity attachment, Resource resource) {
+
+		/**
+		 * Strong ETag from the stored SHA-256; attachments uploaded before checksums existed fall back to their id,
+		 * which is stable because stored content is never replaced.
+		 */
+		public String etag() {
+			String checksum = attachment.getChecksumSha256();
+			return "\"" + (checksum != null ? checksum : attachment.getId().toString()) + "\"";
+		}
 	}
 }
@@ -1,34 +1,47 @@
 package de.bettinger.processmgmt.collaboration.application;
 
 import de.bettinger.processmgmt.collaboration.domain.task.Task;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskAssigned;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskCreated;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskDependencyGraph;
 import de.bettinger.processmgmt.collaboration.domain.task.TaskResolutionKind;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskResolved;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskStatesChanged;
+import de.bettinger.processmgmt.collaboration.domain.task.TasksUnblocked;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.domain.CaseContentChanged;
+import de.bettinger.processmgmt.common.domain.DomainEvent;
+import de.bettinger.processmgmt.common.domain.SearchDocumentType;
+import de.bettinger.processmgmt.common.domain.SearchableContentChanged;
+import de.bettinger.processmgmt.common.errors.ItemValidationException;
 import de.bettinger.processmgmt.common.errors.NotFoundException;
-import de.bettinger.processmgmt.common.outbox.OutboxEventEntity;
-import de.bettinger.processmgmt.common.outbox.OutboxEventRepository;
-import java.time.Instant;
+import de.bettinger.processmgmt.common.outbox.OutboxEventWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class TaskCommandService {
 
-	private static final String AGGREGATE_TYPE = "Task";
-
 	private final TaskRepository taskRepository;
-	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxEventWriter outboxEventWriter;
+	private final ApplicationEventPublisher eventPublisher;
 
-	public TaskCommandService(TaskRepository taskRepository, OutboxEventRepository outboxEventRepository) {
+	public TaskCommandService(TaskRepository taskRepository, OutboxEventWriter outboxEventWriter,
+							  ApplicationEventPublisher eventPublisher) {
 		this.taskRepository = taskRepository;
-		this.outboxEventRepository = outboxEventRepository;
+		this.outboxEventWriter = outboxEventWriter;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Transactional
@@ -60,16 +73,96 @@ public class TaskCommandService {
 		entity.setCreatedFromMeetingId(createdFromMeetingId);
 		entity.replaceDependsOnTaskIds(normalizedDependencyIds);
 		taskRepository.save(entity);
-		outboxEventRepository.save(outboxEvent(task.getId(), "TaskCreated",
-				"{\"taskId\":\"" + task.getId() + "\",\"caseId\":\"" + caseId + "\"}"));
+		outboxEventWriter.append(new TaskCreated(task.getId(), caseId, null));
 		if (normalizedAssigneeId != null) {
-			outboxEventRepository.save(outboxEvent(task.getId(), "TaskAssigned",
-					"{\"taskId\":\"" + task.getId() + "\",\"caseId\":\"" + caseId + "\",\"assigneeId\":\""
-							+ normalizedAssigneeId + "\"}"));
+			outboxEventWriter.append(new TaskAssigned(task.getId(), caseId, normalizedAssigneeId));
 		}
+		eventPublisher.publishEvent(new TaskStatesChanged(caseId,
+				List.of(new TaskStatesChanged.Transition(null, entity.getState())), !normalizedDependencyIds.isEmpty()));
+		eventPublisher.publishEvent(SearchableContentChanged.created(SearchDocumentType.TASK, List.of(task.getId())));
+		eventPublisher.publishEvent(new CaseContentChanged(caseId));
 		return entity;
 	}
 
+	/**
+	 * Creates all tasks of a batch in one transaction, or none of them. Every command is validated before anything
+	 * is written and all rejections are reported together, keyed {@code tasks[index]}. Referenced existing tasks are
+	 * loaded with one query and dependencies between the new tasks are checked on one in-memory graph; existing tasks
+	 * cannot depend on tasks of the batch, so only those edges can close a cycle. Tasks, their dependency rows and
+	 * the outbox events are then flushed as JDBC batches.
+	 */
+	@Transactional
+	public List<TaskEntity> createTasks(UUID caseId, List<TaskCreateCommand> commands) {
+		if (commands == null || commands.isEmpty()) {
+			throw new IllegalArgumentException("tasks must not be empty");
+		}
+		Map<String, String> errors = new LinkedHashMap<>();
+		Map<String, Integer> indexByRef = new HashMap<>();
+		List<Task> tasks = new ArrayList<>(commands.size());
+		for (int index = 0; index < commands.size(); index++) {
+			TaskCreateCommand command = commands.get(index);
+			try {
+				registerRef(command.ref(), index, indexByRef);
+				tasks.add(newTask(caseId, command));
+			} catch (IllegalArgumentException ex) {
+				errors.put(itemKey(index), ex.getMessage());
+				tasks.add(null);
+			}
+		}
+
+		Map<UUID, UUID> caseIdByExistingTaskId = caseIdByExistingDependencyId(commands);
+		TaskDependencyGraph graph = new TaskDependencyGraph();
+		List<List<UUID>> dependencyIdsByIndex = new ArrayList<>(commands.size());
+		for (int index = 0; index < commands.size(); index++) {
+			Task task = tasks.get(index);
+			List<UUID> dependencyIds = List.of();
+			if (task != null) {
+				try {
+					dependencyIds = resolveBatchDependencies(caseId, task.getId(), commands.get(index), tasks,
+							indexByRef, caseIdByExistingTaskId);
+					if (graph.wouldCreateCycle(task.getId(), dependencyIds)) {
+						throw new IllegalArgumentException("Task dependencies must not contain cycles");
+					}
+					graph.replaceDependencies(task.getId(), dependencyIds);
+				} catch (IllegalArgumentException ex) {
+					errors.putIfAbsent(itemKey(index), ex.getMessage());
+				}
+			}
+			dependencyIdsByIndex.add(dependencyIds);
+		}
+		if (!errors.isEmpty()) {
+			throw new ItemValidationException("Invalid tasks", errors);
+		}
+
+		List<TaskEntity> entities = new ArrayList<>(commands.size());
+		List<DomainEvent> events = new ArrayList<>();
+		List<TaskStatesChanged.Transition> transitions = new ArrayList<>(commands.size());
+		boolean dependenciesChanged = false;
+		for (int index = 0; index < commands.size(); index++) {
+			TaskCreateCommand command = commands.get(index);
+			Task task = tasks.get(index);
+			TaskEntity entity = TaskEntity.fromDomain(task);
+			entity.setDueDate(command.dueDate());
+			entity.setOriginMeetingId(command.createdFromMeetingId());
+			entity.setCreatedFromMeetingId(command.createdFromMeetingId());
+			entity.replaceDependsOnTaskIds(dependencyIdsByIndex.get(index));
+			entities.add(entity);
+			transitions.add(new TaskStatesChanged.Transition(null, entity.getState()));
+			dependenciesChanged |= !dependencyIdsByIndex.get(index).isEmpty();
+			events.add(new TaskCreated(task.getId(), caseId, null));
+			if (task.getAssigneeId() != null) {
+				events.add(new TaskAssigned(task.getId(), caseId, task.getAssigneeId()));
+			}
+		}
+		taskRepository.saveAll(entities);
+		outboxEventWriter.appendAll(events);
+		eventPublisher.publishEvent(new TaskStatesChanged(caseId, transitions, dependenciesChanged));
+		eventPublisher.publishEvent(SearchableContentChanged.created(SearchDocumentType.TASK,
+				entities.stream().map(TaskEntity::getId).toList()));
+		eventPublisher.publishEvent(new CaseContentChanged(caseId));
+		return entities;
+	}
+
 	@Transactional
 	public TaskEntity updateTaskDependencies(UUID taskId, List<UUID> dependsOnTaskIds) {
 		TaskEntity entity = taskRepository.findById(taskId)
@@ -77,20 +170,24 @@ public class TaskCommandService {
 		List<UUID> normalizedDependencyIds = normalizeDependencyIds(dependsOnTaskIds);
 		validateDependencies(taskId, entity.getCaseId(), normalizedDependencyIds);
 		entity.replaceDependsOnTaskIds(normalizedDependencyIds);
-		return taskRepository.save(entity);
+		TaskEntity saved = taskRepository.save(entity);
+		eventPublisher.publishEvent(new TaskStatesChanged(saved.getCaseId(), List.of(), true));
+		eventPublisher.publishEvent(new CaseContentChanged(saved.getCaseId()));
+		return saved;
 	}
 
 	@Transactional
 	public TaskEntity assignTask(UUID taskId, String assigneeId) {
 		TaskEntity entity = taskRepository.findById(taskId)
 				.orElseThrow(() -> new NotFoundException("Task not found: " + taskId));
+		TaskState previousState = entity.getState();
 		Task task = entity.toDomain();
 		task.assign(assigneeId);
 		entity.applyFrom(task);
 		taskRepository.save(entity);
-		outboxEventRepository.save(outboxEvent(taskId, "TaskAssigned",
-				"{\"taskId\":\"" + taskId + "\",\"caseId\":\"" + entity.getCaseId() + "\",\"assigneeId\":\""
-						+ assigneeId + "\"}"));
+		outboxEventWriter.append(new TaskAssigned(taskId, entity.getCaseId(), assigneeId));
+		eventPublisher.publishEvent(TaskStatesChanged.transition(entity.getCaseId(), previousState, entity.getState()));
+		eventPublisher.publishEvent(new CaseContentChanged(entity.getCaseId()));
 		return entity;
 	}
 
@@ -98,12 +195,18 @@ public class TaskCommandService {
 	public TaskEntity resolveTask(UUID taskId, TaskResolutionKind kind, String reason, String resolvedBy) {
 		TaskEntity entity = taskRepository.findById(taskId)
 				.orElseThrow(() -> new NotFoundException("Task not found: " + taskId));
+		TaskState previousState = entity.getState();
 		Task task = entity.toDomain();
 		task.resolve(kind, reason, resolvedBy);
 		entity.applyFrom(task);
 		taskRepository.save(entity);
-		outboxEventRepository.save(outboxEvent(taskId, "TaskResolved",
-				"{\"taskId\":\"" + taskId + "\",\"caseId\":\"" + entity.getCaseId() + "\",\"kind\":\"" + kind + "\"}"));
+		outboxEventWriter.append(new TaskResolved(taskId, entity.getCaseId(), kind));
+		List<UUID> unblockedTaskIds = taskRepository.findTaskIdsUnblockedByResolving(taskId);
+		if (!unblockedTaskIds.isEmpty()) {
+			outboxEventWriter.append(new TasksUnblocked(taskId, entity.getCaseId(), unblockedTaskIds));
+		}
+		eventPublisher.publishEvent(TaskStatesChanged.transition(entity.getCaseId(), previousState, entity.getState()));
+		eventPublisher.publishEvent(new CaseContentChanged(entity.getCaseId()));
 		return entity;
 	}
 
@@ -111,53 +214,133 @@ public class TaskCommandService {
 	public TaskEntity startTask(UUID taskId) {
 		TaskEntity entity = taskRepository.findById(taskId)
 				.orElseThrow(() -> new NotFoundException("Task not found: " + taskId));
+		TaskState previousState = entity.getState();
 		Task task = entity.toDomain();
 		task.start();
 		entity.applyFrom(task);
-		return taskRepository.save(entity);
+		TaskEntity saved = taskRepository.save(entity);
+		eventPublisher.publishEvent(TaskStatesChanged.transition(saved.getCaseId(), previousState, saved.getState()));
+		eventPublisher.publishEvent(new CaseContentChanged(saved.getCaseId()));
+		return saved;
 	}
 
 	@Transactional
 	public TaskEntity blockTask(UUID taskId, String reason) {
 		TaskEntity entity = taskRepository.findById(taskId)
 				.orElseThrow(() -> new NotFoundException("Task not found: " + taskId));
+		TaskState previousState = entity.getState();
 		Task task = entity.toDomain();
 		task.block(reason);
 		entity.applyFrom(task);
-		return taskRepository.save(entity);
+		TaskEntity saved = taskRepository.save(entity);
+		eventPublisher.publishEvent(TaskStatesChanged.transition(saved.getCaseId(), previousState, saved.getState()));
+		eventPublisher.publishEvent(new CaseContentChanged(saved.getCaseId()));
+		return saved;
 	}
 
 	@Transactional
 	public TaskEntity unblockTask(UUID taskId) {
 		TaskEntity entity = taskRepository.findById(taskId)
 				.orElseThrow(() -> new NotFoundException("Task not found: " + taskId));
+		TaskState previousState = entity.getState();
 		Task task = entity.toDomain();
 		task.unblock();
 		entity.applyFrom(task);
-		return taskRepository.save(entity);
+		TaskEntity saved = taskRepository.save(entity);
+		eventPublisher.publishEvent(TaskStatesChanged.transition(saved.getCaseId(), previousState, saved.getState()));
+		eventPublisher.publishEvent(new CaseContentChanged(saved.getCaseId()));
+		return saved;
 	}
 
 	@Transactional
 	public TaskEntity declineAssignment(UUID taskId, String reason, String suggestedAssigneeId) {
 		TaskEntity entity = taskRepository.findById(taskId)
 				.orElseThrow(() -> new NotFoundException("Task not found: " + taskId));
+		TaskState previousState = entity.getState();
 		Task task = entity.toDomain();
 		task.declineAssignment(reason, suggestedAssigneeId);
 		entity.applyFrom(task);
-		return taskRepository.save(entity);
+		TaskEntity saved = taskRepository.save(entity);
+		eventPublisher.publishEvent(TaskStatesChanged.transition(saved.getCaseId(), previousState, saved.getState()));
+		eventPublisher.publishEvent(new CaseContentChanged(saved.getCaseId()));
+		return saved;
+	}
+
+	private Task newTask(UUID caseId, TaskCreateCommand command) {
+		Task task = Task.create(caseId, command.title(), command.description(), command.priority());
+		String normalizedAssigneeId = normalizeAssigneeId(command.assigneeId());
+		if (normalizedAssigneeId != null) {
+			task.assign(normalizedAssigneeId);
+		}
+		return task;
+	}
+
+	private void registerRef(String ref, int index, Map<String, Integer> indexByRef) {
+		if (ref == null || ref.isBlank()) {
+			return;
+		}
+		if (indexByRef.putIfAbsent(ref, index) != null) {
+			throw new IllegalArgumentException("ref must be unique within the batch: " + ref);
+		}
+	}
+
+	private Map<UUID, UUID> caseIdByExistingDependencyId(List<TaskCreateCommand> commands) {
+		Set<UUID> dependencyIds = new LinkedHashSet<>();
+		for (TaskCreateCommand command : commands) {
+			if (command.dependsOnTaskIds() != null) {
+				for (UUID dependencyId : command.dependsOnTaskIds()) {
+					if (dependencyId != null) {
+						dependencyIds.add(dependencyId);
+					}
+				}
+			}
+		}
+		Map<UUID, UUID> caseIdByTaskId = new HashMap<>();
+		if (!dependencyIds.isEmpty()) {
+			for (TaskEntity dependency : taskRepository.findAllById(dependencyIds)) {
+				caseIdByTaskId.put(dependency.getId(), dependency.getCaseId());
+			}
+		}
+		return caseIdByTaskId;
+	}
+
+	private List<UUID> resolveBatchDependencies(UUID caseId, UUID taskId, TaskCreateCommand command, List<Task> tasks,
+			Map<String, Integer> indexByRef, Map<UUID, UUID> caseIdByExistingTaskId) {
+		List<UUID> dependencyIds = new ArrayList<>(normalizeDependencyIds(command.dependsOnTaskIds()));
+		for (UUID dependencyId : dependencyIds) {
+			UUID dependencyCaseId = caseIdByExistingTaskId.get(dependencyId);
+			if (dependencyCaseId == null) {
+				throw new IllegalArgumentException("All dependsOnTaskIds must reference existing tasks");
+			}
+			if (!dependencyCaseId.equals(caseId)) {
+				throw new IllegalArgumentException("All dependencies must belong to the same case");
+			}
+		}
+		if (command.dependsOnRefs() != null) {
+			for (String ref : command.dependsOnRefs()) {
+				Integer dependencyIndex = ref == null ? null : indexByRef.get(ref);
+				if (dependencyIndex == null) {
+					throw new IllegalArgumentException("Unknown dependsOnRefs entry: " + ref);
+				}
+				Task dependency = tasks.get(dependencyIndex);
+				if (dependency == null) {
+					throw new IllegalArgumentException("dependsOnRefs references a rejected task: " + ref);
+				}
+				dependencyIds.add(dependency.getId());
+			}
+		}
+		Set<UUID> uniqueDependencyIds = new LinkedHashSet<>(dependencyIds);
+		if (uniqueDependencyIds.size() != dependencyIds.size()) {
+			throw new IllegalArgumentException("dependsOnTaskIds must contain unique task ids");
+		}
+		if (uniqueDependencyIds.contains(taskId)) {
+			throw new IllegalArgumentException("A task cannot depend on itself");
+		}
+		return dependencyIds;
 	}
 
-	private OutboxEventEntity outboxEvent(UUID aggregateId, String eventType, String payload) {
-		return new OutboxEventEntity(
-				UUID.randomUUID(),
-				AGGREGATE_TYPE,
-				aggregateId.toString(),
-				eventType,
-				Instant.now(),
-				payload,
-				null,
-				null
-		);
+	private String itemKey(int index) {
+		return "tasks[" + index + "]";
 	}
 
 	private String normalizeAssigneeId(String assigneeId) {
@@ -191,7 +374,7 @@ public class TaskCommandService {
 			throw new IllegalArgumentException("A task cannot depend on itself");
 		}
 		validateDependencyTargets(caseId, uniqueDependencyIds);
-		validateNoCycles(taskId, caseId, uniqueDependencyIds);
+		validateNoCycles(taskId, uniqueDependencyIds);
 	}
 
 	private void validateDependencyTargets(UUID caseId, Set<UUID> dependencyIds) {
@@ -211,41 +394,25 @@ public class TaskCommandService {
 		}
 	}
 
-	private void validateNoCycles(UUID taskId, UUID caseId, Set<UUID> dependencyIds) {
-		Map<UUID, Set<UUID>> graph = buildDependencyGraph(caseId);
-		graph.put(taskId, new LinkedHashSet<>(dependencyIds));
-		if (hasCycleFromTask(taskId, graph)) {
+	private void validateNoCycles(UUID taskId, Set<UUID> dependencyIds) {
+		if (dependencyIds.isEmpty()) {
+			return;
+		}
+		TaskDependencyGraph graph = reachableDependencyGraph(dependencyIds);
+		if (graph.wouldCreateCycle(taskId, dependencyIds)) {
 			throw new IllegalArgumentException("Task dependencies must not contain cycles");
 		}
 	}
 
-	private Map<UUID, Set<UUID>> buildDependencyGraph(UUID caseId) {
-		Map<UUID, Set<UUID>> graph = new HashMap<>();
-		List<TaskEntity> caseTasks = taskRepository.findAllByCaseIdOrderByCreatedAtDesc(caseId);
-		for (TaskEntity task : caseTasks) {
-			graph.put(task.getId(), new LinkedHashSet<>(task.getDependsOnTaskIds()));
+	private TaskDependencyGraph reachableDependencyGraph(Set<UUID> startTaskIds) {
+		TaskDependencyGraph graph = new TaskDependencyGraph();
+		for (Object[] edge : taskRepository.findReachableDependencyEdges(startTaskIds)) {
+			graph.addDependency(toUuid(edge[0]), toUuid(edge[1]));
 		}
 		return graph;
 	}
 
-	private boolean hasCycleFromTask(UUID startTaskId, Map<UUID, Set<UUID>> graph) {
-		return detectCycle(startTaskId, graph, new LinkedHashSet<>(), new LinkedHashSet<>());
-	}
-
-	private boolean detectCycle(UUID currentTaskId, Map<UUID, Set<UUID>> graph, Set<UUID> visiting, Set<UUID> visited) {
-		if (visited.contains(currentTaskId)) {
-			return false;
-		}
-		if (!visiting.add(currentTaskId)) {
-			return true;
-		}
-		for (UUID dependencyId : graph.getOrDefault(currentTaskId, Set.of())) {
-			if (detectCycle(dependencyId, graph, visiting, visited)) {
-				return true;
-			}
-		}
-		visiting.remove(currentTaskId);
-		visited.add(currentTaskId);
-		return false;
+	private UUID toUuid(Object value) {
+		return value instanceof UUID uuid ? uuid : UUID.fromString(value.toString());
 	}
 }
@@ -0,0 +1,22 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One task of a bulk creation. {@code ref} is an optional client-side key that other commands of the same batch can
+ * list in {@code dependsOnRefs}; {@code dependsOnTaskIds} references tasks that already exist.
+ */
+public record TaskCreateCommand(
+		String ref,
+		String title,
+		String description,
+		int priority,
+		LocalDate dueDate,
+		String assigneeId,
+		UUID createdFromMeetingId,
+		List<UUID> dependsOnTaskIds,
+		List<String> dependsOnRefs
+) {
+}
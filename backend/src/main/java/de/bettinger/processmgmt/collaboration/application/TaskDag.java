@@ -0,0 +1,122 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import java.util.Arrays;
+
+/**
+ * Task dependency DAG of one case over dense indexes {@code 0..size-1}, stored as compressed adjacency arrays: the
+ * dependents of task {@code i} are {@code dependents[dependentOffsets[i] .. dependentOffsets[i + 1])}. Building the
+ * graph and {@link #schedule} are both linear in tasks plus edges and allocate only primitive arrays; callers map
+ * task ids to indexes once at the boundary.
+ */
+public final class TaskDag {
+
+	private final int size;
+	private final int[] dependentOffsets;
+	private final int[] dependents;
+	private final int[] prerequisiteCounts;
+
+	private TaskDag(int size, int[] dependentOffsets, int[] dependents, int[] prerequisiteCounts) {
+		this.size = size;
+		this.dependentOffsets = dependentOffsets;
+		this.dependents = dependents;
+		this.prerequisiteCounts = prerequisiteCounts;
+	}
+
+	/**
+	 * Builds the graph from the first {@code edgeCount} entries of two parallel arrays: task {@code dependentIndexes[e]}
+	 * depends on task {@code prerequisiteIndexes[e]}.
+	 */
+	public static TaskDag fromEdges(int size, int[] dependentIndexes, int[] prerequisiteIndexes, int edgeCount) {
+		int[] offsets = new int[size + 1];
+		int[] prerequisiteCounts = new int[size];
+		for (int e = 0; e < edgeCount; e++) {
+			offsets[prerequisiteIndexes[e] + 1]++;
+			prerequisiteCounts[dependentIndexes[e]]++;
+		}
+		for (int i = 0; i < size; i++) {
+			offsets[i + 1] += offsets[i];
+		}
+		int[] next = Arrays.copyOf(offsets, size);
+		int[] dependents = new int[edgeCount];
+		for (int e = 0; e < edgeCount; e++) {
+			dependents[next[prerequisiteIndexes[e]]++] = dependentIndexes[e];
+		}
+		return new TaskDag(size, offsets, dependents, prerequisiteCounts);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Critical path method with {@code durations[i]} per task: a topological order (Kahn), earliest starts in that
+	 * order and latest starts in reverse order. The critical path is traced back from the task finishing last along
+	 * the prerequisite that determined each earliest start; tasks without duration are left out of it.
+	 *
+	 * @throws IllegalStateException if the dependencies contain a cycle
+	 */
+	public TaskSchedule schedule(int[] durations) {
+		int[] order = topologicalOrder();
+		int[] earliestStart = new int[size];
+		int[] drivingPrerequisite = new int[size];
+		Arrays.fill(drivingPrerequisite, -1);
+		int length = 0;
+		int last = -1;
+		for (int i = 0; i < size; i++) {
+			int task = order[i];
+			int finish = earliestStart[task] + durations[task];
+			if (finish > length) {
+				length = finish;
+				last = task;
+			}
+			for (int e = dependentOffsets[task]; e < dependentOffsets[task + 1]; e++) {
+				int dependent = dependents[e];
+				if (earliestStart[dependent] < finish) {
+					earliestStart[dependent] = finish;
+					drivingPrerequisite[dependent] = task;
+				}
+			}
+		}
+		int[] latestStart = new int[size];
+		for (int i = size - 1; i >= 0; i--) {
+			int task = order[i];
+			int latestFinish = length;
+			for (int e = dependentOffsets[task]; e < dependentOffsets[task + 1]; e++) {
+				latestFinish = Math.min(latestFinish, latestStart[dependents[e]]);
+			}
+			latestStart[task] = latestFinish - durations[task];
+		}
+		int[] criticalPath = new int[size];
+		int pathStart = size;
+		for (int task = last; task >= 0; task = drivingPrerequisite[task]) {
+			if (durations[task] > 0) {
+				criticalPath[--pathStart] = task;
+			}
+		}
+		return new TaskSchedule(order, earliestStart, latestStart, length,
+				Arrays.copyOfRange(criticalPath, pathStart, size));
+	}
+
+	private int[] topologicalOrder() {
+		int[] remaining = Arrays.copyOf(prerequisiteCounts, size);
+		int[] order = new int[size];
+		int tail = 0;
+		for (int task = 0; task < size; task++) {
+			if (remaining[task] == 0) {
+				order[tail++] = task;
+			}
+		}
+		for (int head = 0; head < tail; head++) {
+			int task = order[head];
+			for (int e = dependentOffsets[task]; e < dependentOffsets[task + 1]; e++) {
+				if (--remaining[dependents[e]] == 0) {
+					order[tail++] = dependents[e];
+				}
+			}
+		}
+		if (tail != size) {
+			throw new IllegalStateException("Task dependencies contain a cycle");
+		}
+		return order;
+	}
+}
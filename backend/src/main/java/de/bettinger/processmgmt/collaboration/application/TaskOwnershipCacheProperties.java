@@ -0,0 +1,11 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.task-ownership.cache")
+public record TaskOwnershipCacheProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("10000") int maxEntries
+) {
+}
@@ -0,0 +1,88 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.application.BoundedLruMap;
+import de.bettinger.processmgmt.common.errors.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tenant check for task-scoped endpoints (attachments, reminders): a task belongs to the tenant of its case. Resolves
+ * {@code task id -> tenant id} with a single projection query and keeps the answers in a bounded LRU cache
+ * ({@code app.task-ownership.cache.max-entries}). Tasks never move between cases and cases never change tenant,
+ * so an entry stays valid for the lifetime of the task; unknown tasks are not cached.
+ *
+ * <p>Tasks of another tenant are reported as not found, exactly like missing tasks.
+ */
+@Component
+@EnableConfigurationProperties(TaskOwnershipCacheProperties.class)
+public class TaskOwnershipResolver {
+
+	private final TaskRepository taskRepository;
+	private final TaskOwnershipCacheProperties properties;
+	private final BoundedLruMap<UUID, String> tenantIdsByTaskId;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public TaskOwnershipResolver(TaskRepository taskRepository, TaskOwnershipCacheProperties properties,
+								 MeterRegistry meterRegistry) {
+		this.taskRepository = taskRepository;
+		this.properties = properties;
+		this.tenantIdsByTaskId = new BoundedLruMap<>(properties.maxEntries());
+		this.hitCounter = meterRegistry.counter("task.ownership.cache.requests", "result", "hit");
+		this.missCounter = meterRegistry.counter("task.ownership.cache.requests", "result", "miss");
+		meterRegistry.gauge("task.ownership.cache.size", Tags.empty(), tenantIdsByTaskId, BoundedLruMap::size);
+	}
+
+	public void requireTaskInTenant(String tenantId, UUID taskId) {
+		requireTasksInTenant(tenantId, List.of(taskId));
+	}
+
+	/**
+	 * Batched variant for multi-task views: checks all tasks with at most one query.
+	 */
+	public void requireTasksInTenant(String tenantId, Collection<UUID> taskIds) {
+		Set<UUID> requested = new LinkedHashSet<>(taskIds);
+		List<UUID> uncached = new ArrayList<>();
+		synchronized (this) {
+			for (UUID taskId : requested) {
+				String cached = properties.enabled() ? tenantIdsByTaskId.get(taskId) : null;
+				if (cached == null) {
+					uncached.add(taskId);
+				} else if (!cached.equals(tenantId)) {
+					throw new NotFoundException("Task not found: " + taskId);
+				}
+			}
+		}
+		hitCounter.increment(requested.size() - uncached.size());
+		if (uncached.isEmpty()) {
+			return;
+		}
+		missCounter.increment(uncached.size());
+		Map<UUID, String> loaded = new LinkedHashMap<>();
+		for (Object[] row : taskRepository.findTenantIdsByTaskIds(uncached)) {
+			loaded.put((UUID) row[0], (String) row[1]);
+		}
+		if (properties.enabled()) {
+			synchronized (this) {
+				tenantIdsByTaskId.putAll(loaded);
+			}
+		}
+		for (UUID taskId : uncached) {
+			if (!tenantId.equals(loaded.get(taskId))) {
+				throw new NotFoundException("Task not found: " + taskId);
+			}
+		}
+	}
+}
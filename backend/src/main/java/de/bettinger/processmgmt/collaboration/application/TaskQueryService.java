@@ -3,24 +3,63 @@ package de.bettinger.processmgmt.collaboration.application;
 import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
+import de.bettinger.processmgmt.common.errors.NotFoundException;
+import de.bettinger.processmgmt.common.infrastructure.persistence.KeysetQueryExecutor;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class TaskQueryService {
 
 	private final TaskRepository taskRepository;
+	private final KeysetQueryExecutor keysetQueryExecutor;
 
-	public TaskQueryService(TaskRepository taskRepository) {
+	public TaskQueryService(TaskRepository taskRepository, KeysetQueryExecutor keysetQueryExecutor) {
 		this.taskRepository = taskRepository;
+		this.keysetQueryExecutor = keysetQueryExecutor;
 	}
 
 	public List<TaskEntity> listTasks(UUID caseId) {
-		return taskRepository.findAllByCaseIdOrderByCreatedAtDesc(caseId);
+		return taskRepository.findWithDependenciesByCaseIdOrderByCreatedAtDesc(caseId);
+	}
+
+	/**
+	 * Keyset page of a case's tasks. Dependencies are initialized inside the transaction; the page size is capped
+	 * at the collection's batch size, so that costs one extra query for the whole page.
+	 */
+	@Transactional(readOnly = true)
+	public KeysetPage<TaskEntity> listTasks(UUID caseId, KeysetPageRequest pageRequest) {
+		KeysetPage<TaskEntity> page = keysetQueryExecutor.fetch(TaskEntity.class,
+				(root, cb) -> cb.equal(root.get("caseId"), caseId), pageRequest);
+		page.items().forEach(task -> Hibernate.initialize(task.getDependsOnTaskIds()));
+		return page;
+	}
+
+	/**
+	 * Every task that waits on {@code taskId} directly or transitively, nearest first. Walks the reverse dependency
+	 * index in the database instead of loading the case's tasks.
+	 */
+	@Transactional(readOnly = true)
+	public List<DownstreamTask> listDownstreamTasks(UUID taskId) {
+		if (!taskRepository.existsById(taskId)) {
+			throw new NotFoundException("Task not found: " + taskId);
+		}
+		return taskRepository.findDownstreamTasks(taskId).stream()
+				.map(row -> new DownstreamTask(toUuid(row[0]), (String) row[1], TaskState.valueOf((String) row[2]),
+						((Number) row[3]).intValue()))
+				.sorted(Comparator.comparingInt(DownstreamTask::depth).thenComparing(DownstreamTask::id))
+				.toList();
 	}
 
 	public List<UUID> blockedByTaskIds(TaskEntity task) {
@@ -44,8 +83,27 @@ public class TaskQueryService {
 	}
 
 	public Map<UUID, TaskState> taskStateById(List<TaskEntity> tasks) {
-		return tasks.stream()
+		Map<UUID, TaskState> stateById = tasks.stream()
 				.collect(Collectors.toMap(TaskEntity::getId, TaskEntity::getState, (left, right) -> right,
 						java.util.LinkedHashMap::new));
+		Set<UUID> missingDependencyIds = new LinkedHashSet<>();
+		for (TaskEntity task : tasks) {
+			for (UUID dependencyId : task.getDependsOnTaskIds()) {
+				if (!stateById.containsKey(dependencyId)) {
+					missingDependencyIds.add(dependencyId);
+				}
+			}
+		}
+		// A page may reference prerequisites that live on another page.
+		if (!missingDependencyIds.isEmpty()) {
+			for (TaskEntity dependency : taskRepository.findAllById(missingDependencyIds)) {
+				stateById.put(dependency.getId(), dependency.getState());
+			}
+		}
+		return stateById;
+	}
+
+	private UUID toUuid(Object value) {
+		return value instanceof UUID uuid ? uuid : UUID.fromString(value.toString());
 	}
 }
@@ -1,43 +1,42 @@
 package de.bettinger.processmgmt.collaboration.application;
 
-import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
 import de.bettinger.processmgmt.collaboration.domain.task.TaskReminder;
-import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskReminderScheduled;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderEntity;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderRepository;
-import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.application.StakeholderService;
 import de.bettinger.processmgmt.common.errors.NotFoundException;
-import de.bettinger.processmgmt.common.infrastructure.persistence.StakeholderRepository;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class TaskReminderService {
 
-	private final TaskRepository taskRepository;
+	private final TaskOwnershipResolver taskOwnershipResolver;
 	private final TaskReminderRepository taskReminderRepository;
-	private final ProcessCaseRepository processCaseRepository;
-	private final StakeholderRepository stakeholderRepository;
+	private final StakeholderService stakeholderService;
+	private final ApplicationEventPublisher eventPublisher;
 
-	public TaskReminderService(TaskRepository taskRepository,
+	public TaskReminderService(TaskOwnershipResolver taskOwnershipResolver,
 							   TaskReminderRepository taskReminderRepository,
-							   ProcessCaseRepository processCaseRepository,
-							   StakeholderRepository stakeholderRepository) {
-		this.taskRepository = taskRepository;
+							   StakeholderService stakeholderService,
+							   ApplicationEventPublisher eventPublisher) {
+		this.taskOwnershipResolver = taskOwnershipResolver;
 		this.taskReminderRepository = taskReminderRepository;
-		this.processCaseRepository = processCaseRepository;
-		this.stakeholderRepository = stakeholderRepository;
+		this.stakeholderService = stakeholderService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Transactional
 	public TaskReminderEntity createReminder(String tenantId, UUID taskId, UUID stakeholderId, Instant remindAt,
 									 String note) {
-		TaskEntity task = loadTaskForTenant(tenantId, taskId);
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
 		ensureStakeholderExists(tenantId, stakeholderId);
-		TaskReminder reminder = TaskReminder.create(task.getId(), stakeholderId, remindAt, note);
+		TaskReminder reminder = TaskReminder.create(taskId, stakeholderId, remindAt, note);
 		TaskReminderEntity entity = new TaskReminderEntity(
 				reminder.getId(),
 				reminder.getTaskId(),
@@ -46,35 +45,27 @@ public class TaskReminderService {
 				reminder.getNote(),
 				reminder.getCreatedAt()
 		);
-		return taskReminderRepository.save(entity);
+		TaskReminderEntity saved = taskReminderRepository.save(entity);
+		eventPublisher.publishEvent(new TaskReminderScheduled(saved.getId(), saved.getRemindAt()));
+		return saved;
 	}
 
 	@Transactional(readOnly = true)
 	public List<TaskReminderEntity> listReminders(String tenantId, UUID taskId) {
-		loadTaskForTenant(tenantId, taskId);
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
 		return taskReminderRepository.findAllByTaskIdOrderByRemindAtAsc(taskId);
 	}
 
 	@Transactional
 	public void deleteReminder(String tenantId, UUID taskId, UUID reminderId) {
-		loadTaskForTenant(tenantId, taskId);
+		taskOwnershipResolver.requireTaskInTenant(tenantId, taskId);
 		TaskReminderEntity reminder = taskReminderRepository.findByIdAndTaskId(reminderId, taskId)
 				.orElseThrow(() -> new NotFoundException("Reminder not found: " + reminderId));
 		taskReminderRepository.delete(reminder);
 	}
 
-	private TaskEntity loadTaskForTenant(String tenantId, UUID taskId) {
-		TaskEntity task = taskRepository.findById(taskId)
-				.orElseThrow(() -> new NotFoundException("Task not found: " + taskId));
-		boolean caseExists = processCaseRepository.findByIdAndTenantId(task.getCaseId(), tenantId).isPresent();
-		if (!caseExists) {
-			throw new NotFoundException("Task not found: " + taskId);
-		}
-		return task;
-	}
-
 	private void ensureStakeholderExists(String tenantId, UUID stakeholderId) {
-		stakeholderRepository.findByIdAndTenantId(stakeholderId, tenantId)
+		stakeholderService.findStakeholder(tenantId, stakeholderId)
 				.orElseThrow(() -> new NotFoundException("Stakeholder not found: " + stakeholderId));
 	}
 }
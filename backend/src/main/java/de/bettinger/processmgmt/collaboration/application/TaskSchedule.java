@@ -0,0 +1,13 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+/**
+ * Result of {@link TaskDag#schedule}, indexed like the graph. Starts are in duration units from the beginning of the
+ * case's remaining work; {@code criticalPath} lists task indexes from first to last.
+ */
+public record TaskSchedule(int[] topologicalOrder, int[] earliestStarts, int[] latestStarts, int length,
+						   int[] criticalPath) {
+
+	public int slack(int task) {
+		return latestStarts[task] - earliestStarts[task];
+	}
+}
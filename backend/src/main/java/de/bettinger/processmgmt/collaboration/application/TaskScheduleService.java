@@ -0,0 +1,85 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Critical-path schedule of a case's remaining work. Tasks carry no effort estimate, so every unresolved task counts
+ * as one unit and resolved tasks as zero: {@code earliestStart} is the number of unresolved prerequisites on the
+ * longest chain before a task, and the schedule length is the longest chain of unresolved tasks.
+ *
+ * <p>The units say nothing about dates, so each task also carries its due date and whether it is overdue (due before
+ * today in UTC and not resolved).
+ *
+ * <p>Task ids are mapped to dense indexes once; the graph work itself runs on {@link TaskDag}.
+ */
+@Service
+public class TaskScheduleService {
+
+	private final TaskRepository taskRepository;
+	private final Clock clock;
+
+	public TaskScheduleService(TaskRepository taskRepository) {
+		this.taskRepository = taskRepository;
+		this.clock = Clock.systemUTC();
+	}
+
+	@Transactional(readOnly = true)
+	public CaseTaskSchedule schedule(UUID caseId) {
+		List<TaskEntity> tasks = taskRepository.findWithDependenciesByCaseIdOrderByCreatedAtDesc(caseId);
+		int size = tasks.size();
+		Map<UUID, Integer> indexById = new HashMap<>(size * 2);
+		int edgeCount = 0;
+		int[] durations = new int[size];
+		for (int i = 0; i < size; i++) {
+			TaskEntity task = tasks.get(i);
+			indexById.put(task.getId(), i);
+			durations[i] = task.getState() == TaskState.RESOLVED ? 0 : 1;
+			edgeCount += task.getDependsOnTaskIds().size();
+		}
+		int[] dependentIndexes = new int[edgeCount];
+		int[] prerequisiteIndexes = new int[edgeCount];
+		int edge = 0;
+		for (int i = 0; i < size; i++) {
+			for (UUID dependencyId : tasks.get(i).getDependsOnTaskIds()) {
+				Integer prerequisite = indexById.get(dependencyId);
+				// Prerequisites outside the case cannot be scheduled here.
+				if (prerequisite != null) {
+					dependentIndexes[edge] = i;
+					prerequisiteIndexes[edge] = prerequisite;
+					edge++;
+				}
+			}
+		}
+		TaskSchedule schedule = TaskDag.fromEdges(size, dependentIndexes, prerequisiteIndexes, edge)
+				.schedule(durations);
+
+		boolean[] critical = new boolean[size];
+		List<UUID> criticalPath = new ArrayList<>(schedule.criticalPath().length);
+		for (int task : schedule.criticalPath()) {
+			critical[task] = true;
+			criticalPath.add(tasks.get(task).getId());
+		}
+		LocalDate today = LocalDate.now(clock);
+		List<ScheduledTask> scheduledTasks = new ArrayList<>(size);
+		for (int task : schedule.topologicalOrder()) {
+			TaskEntity entity = tasks.get(task);
+			boolean overdue = entity.getDueDate() != null && entity.getDueDate().isBefore(today)
+					&& entity.getState() != TaskState.RESOLVED;
+			scheduledTasks.add(new ScheduledTask(entity.getId(), entity.getTitle(), entity.getState(),
+					entity.getDueDate(), overdue, schedule.earliestStarts()[task], schedule.latestStarts()[task],
+					schedule.slack(task), critical[task]));
+		}
+		return new CaseTaskSchedule(caseId, schedule.length(), criticalPath, scheduledTasks);
+	}
+}
@@ -0,0 +1,20 @@
+package de.bettinger.processmgmt.collaboration.domain.meeting;
+
+import de.bettinger.processmgmt.common.domain.DomainEvent;
+import java.util.UUID;
+
+public record MeetingHeld(UUID meetingId, UUID caseId, UUID locationId) implements DomainEvent {
+
+	public static final String TYPE = "MeetingHeld";
+	public static final String AGGREGATE_TYPE = "Meeting";
+
+	@Override
+	public String aggregateType() {
+		return AGGREGATE_TYPE;
+	}
+
+	@Override
+	public UUID aggregateId() {
+		return meetingId;
+	}
+}
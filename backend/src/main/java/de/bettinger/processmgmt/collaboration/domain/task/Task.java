@@ -1,5 +1,6 @@
 package de.bettinger.processmgmt.collaboration.domain.task;
 
+import de.bettinger.processmgmt.common.domain.UuidV7;
 import lombok.Getter;
 
 import java.time.Instant;
@@ -9,6 +10,7 @@ import java.util.UUID;
 @Getter
 public class Task {
 
+	public static final String AGGREGATE_TYPE = "Task";
 	public static final int MIN_PRIORITY = 1;
 	public static final int MAX_PRIORITY = 5;
 	public static final int DEFAULT_PRIORITY = 3;
@@ -55,7 +57,7 @@ public class Task {
 	}
 
 	public static Task create(UUID caseId, String title, String description, int priority) {
-		return new Task(UUID.randomUUID(), caseId, title, description, priority, Instant.now());
+		return new Task(UuidV7.generate(), caseId, title, description, priority, Instant.now());
 	}
 
 	public void assign(String assigneeId) {
@@ -0,0 +1,19 @@
+package de.bettinger.processmgmt.collaboration.domain.task;
+
+import de.bettinger.processmgmt.common.domain.DomainEvent;
+import java.util.UUID;
+
+public record TaskAssigned(UUID taskId, UUID caseId, String assigneeId) implements DomainEvent {
+
+	public static final String TYPE = "TaskAssigned";
+
+	@Override
+	public String aggregateType() {
+		return Task.AGGREGATE_TYPE;
+	}
+
+	@Override
+	public UUID aggregateId() {
+		return taskId;
+	}
+}
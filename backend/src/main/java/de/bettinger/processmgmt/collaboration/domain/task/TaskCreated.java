@@ -0,0 +1,21 @@
+package de.bettinger.processmgmt.collaboration.domain.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import de.bettinger.processmgmt.common.domain.DomainEvent;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskCreated(UUID taskId, UUID caseId, UUID meetingId) implements DomainEvent {
+
+	public static final String TYPE = "TaskCreated";
+
+	@Override
+	public String aggregateType() {
+		return Task.AGGREGATE_TYPE;
+	}
+
+	@Override
+	public UUID aggregateId() {
+		return taskId;
+	}
+}
@@ -0,0 +1,63 @@
+package de.bettinger.processmgmt.collaboration.domain.task;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Directed "depends on" graph over tasks. Usually holds only the part of a case reachable from the tasks under
+ * consideration. Traversals are iterative, so arbitrarily deep dependency chains do not grow the call stack.
+ */
+public final class TaskDependencyGraph {
+
+	private final Map<UUID, Set<UUID>> dependenciesByTaskId = new HashMap<>();
+
+	public void addDependency(UUID taskId, UUID dependsOnTaskId) {
+		dependenciesByTaskId.computeIfAbsent(taskId, key -> new LinkedHashSet<>()).add(dependsOnTaskId);
+	}
+
+	public void replaceDependencies(UUID taskId, Collection<UUID> dependsOnTaskIds) {
+		dependenciesByTaskId.put(taskId, new LinkedHashSet<>(dependsOnTaskIds));
+	}
+
+	public Set<UUID> dependenciesOf(UUID taskId) {
+		return dependenciesByTaskId.getOrDefault(taskId, Set.of());
+	}
+
+	/**
+	 * Returns whether letting {@code taskId} depend on {@code dependsOnTaskIds} would close a cycle, i.e. whether
+	 * {@code taskId} is one of them or is reachable from any of them.
+	 */
+	public boolean wouldCreateCycle(UUID taskId, Collection<UUID> dependsOnTaskIds) {
+		return reachesAny(dependsOnTaskIds, taskId);
+	}
+
+	/**
+	 * Depth-first search from all {@code startTaskIds} for {@code targetTaskId}, following "depends on" edges.
+	 */
+	public boolean reachesAny(Collection<UUID> startTaskIds, UUID targetTaskId) {
+		Deque<UUID> stack = new ArrayDeque<>(startTaskIds);
+		Set<UUID> visited = new HashSet<>();
+		while (!stack.isEmpty()) {
+			UUID current = stack.pop();
+			if (current.equals(targetTaskId)) {
+				return true;
+			}
+			if (!visited.add(current)) {
+				continue;
+			}
+			for (UUID dependencyId : dependenciesOf(current)) {
+				if (!visited.contains(dependencyId)) {
+					stack.push(dependencyId);
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,6 @@
 package de.bettinger.processmgmt.collaboration.domain.task;
 
+import de.bettinger.processmgmt.common.domain.UuidV7;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
@@ -31,7 +32,7 @@ public class TaskReminder {
 
 	public static TaskReminder create(UUID taskId, UUID stakeholderId, Instant remindAt, String note) {
 		Instant now = Instant.now();
-		return new TaskReminder(UUID.randomUUID(), taskId, stakeholderId, remindAt, note, now);
+		return new TaskReminder(UuidV7.generate(), taskId, stakeholderId, remindAt, note, now);
 	}
 
 	private static String normalizeNote(String note) {
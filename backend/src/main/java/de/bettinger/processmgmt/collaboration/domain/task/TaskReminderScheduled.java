@@ -0,0 +1,11 @@
+package de.bettinger.processmgmt.collaboration.domain.task;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * In-process notification that a reminder was stored, so the local dispatcher can wake up at {@code remindAt}
+ * without waiting for its next look-ahead refresh.
+ */
+public record TaskReminderScheduled(UUID reminderId, Instant remindAt) {
+}
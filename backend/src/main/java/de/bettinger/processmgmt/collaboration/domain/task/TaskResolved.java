@@ -0,0 +1,19 @@
+package de.bettinger.processmgmt.collaboration.domain.task;
+
+import de.bettinger.processmgmt.common.domain.DomainEvent;
+import java.util.UUID;
+
+public record TaskResolved(UUID taskId, UUID caseId, TaskResolutionKind kind) implements DomainEvent {
+
+	public static final String TYPE = "TaskResolved";
+
+	@Override
+	public String aggregateType() {
+		return Task.AGGREGATE_TYPE;
+	}
+
+	@Override
+	public UUID aggregateId() {
+		return taskId;
+	}
+}
@@ -0,0 +1,20 @@
+package de.bettinger.processmgmt.collaboration.domain.task;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-process notification of the task state transitions of one command, published inside its transaction so read
+ * models can be updated atomically with the tasks. {@code from} is {@code null} for created tasks.
+ * {@code dependenciesChanged} is set when the command can change which tasks wait on unresolved dependencies:
+ * dependencies were added or replaced, or a task was resolved.
+ */
+public record TaskStatesChanged(UUID caseId, List<Transition> transitions, boolean dependenciesChanged) {
+
+	public static TaskStatesChanged transition(UUID caseId, TaskState from, TaskState to) {
+		return new TaskStatesChanged(caseId, List.of(new Transition(from, to)), to == TaskState.RESOLVED);
+	}
+
+	public record Transition(TaskState from, TaskState to) {
+	}
+}
@@ -0,0 +1,23 @@
+package de.bettinger.processmgmt.collaboration.domain.task;
+
+import de.bettinger.processmgmt.common.domain.DomainEvent;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resolving {@code taskId} resolved the last open dependency of {@code unblockedTaskIds}.
+ */
+public record TasksUnblocked(UUID taskId, UUID caseId, List<UUID> unblockedTaskIds) implements DomainEvent {
+
+	public static final String TYPE = "TasksUnblocked";
+
+	@Override
+	public String aggregateType() {
+		return Task.AGGREGATE_TYPE;
+	}
+
+	@Override
+	public UUID aggregateId() {
+		return taskId;
+	}
+}
@@ -2,13 +2,69 @@ package de.bettinger.processmgmt.collaboration.infrastructure.attachments;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
 import java.util.UUID;
+import org.springframework.core.io.Resource;
 
+/**
+ * File storage for attachments. Uploads are first written to a staging object per upload id and then published to a
+ * content-addressed key, so identical content of a tenant is stored once.
+ *
+ * <p>Publishing copies the staged content and leaves the staging object in place until the caller deletes it, so an
+ * upload whose database transaction rolls back can be retried.
+ */
 public interface AttachmentStorage {
 
-	String store(String tenantId, UUID taskId, UUID attachmentId, InputStream content) throws IOException;
+	/**
+	 * Writes {@code content} to the staging object of an upload starting at {@code offset}. Anything previously
+	 * staged beyond {@code offset} is discarded, so a retried chunk simply overwrites its earlier attempt.
+	 *
+	 * @return the staged length after the write
+	 * @throws IllegalArgumentException if {@code content} is longer than {@code maxBytes}; nothing is kept then
+	 * @throws IllegalStateException if another write to the same staging object is in progress, or if
+	 * {@code notAfter} has passed by the time this write holds the staging object
+	 */
+	long writeStaged(UUID uploadId, long offset, long maxBytes, Instant notAfter, InputStream content)
+			throws IOException;
 
-	byte[] load(String storageKey) throws IOException;
+	default long writeStaged(UUID uploadId, long offset, long maxBytes, InputStream content) throws IOException {
+		return writeStaged(uploadId, offset, maxBytes, Instant.MAX, content);
+	}
+
+	Resource openStaged(UUID uploadId) throws IOException;
+
+	void deleteStaged(UUID uploadId) throws IOException;
+
+	/**
+	 * The content-addressed key for {@code checksumSha256}; the same for every upload of that content in a tenant.
+	 */
+	String storageKey(String tenantId, String checksumSha256);
+
+	boolean exists(String storageKey);
+
+	/**
+	 * Copies the staged upload next to {@code storageKey}, so that {@link #publish} only has to rename it. Meant to
+	 * run before the transaction that records the blob.
+	 */
+	void prepare(UUID uploadId, String storageKey) throws IOException;
+
+	/**
+	 * Atomically moves the prepared copy to {@code storageKey}, preparing it first if {@link #prepare} was skipped.
+	 * Callers serialize publishing of one key, e.g. by holding the blob row lock.
+	 */
+	void publish(UUID uploadId, String storageKey) throws IOException;
+
+	/**
+	 * Removes a prepared copy that was not published.
+	 */
+	void discardPrepared(UUID uploadId, String storageKey) throws IOException;
+
+	/**
+	 * Returns a resource for streaming the stored content. The file is not opened until the resource is read.
+	 *
+	 * @throws java.nio.file.NoSuchFileException if nothing is stored under the key
+	 */
+	Resource open(String storageKey) throws IOException;
 
 	void delete(String storageKey) throws IOException;
 }
@@ -2,16 +2,31 @@ package de.bettinger.processmgmt.collaboration.infrastructure.attachments;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 @Component
 public class LocalFileStorage implements AttachmentStorage {
 
+	private static final String STAGING_DIRECTORY = ".staging";
+	private static final String BLOB_DIRECTORY = "blobs";
+	private static final String PREPARED_SUFFIX = ".part";
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	private final Path root;
 
 	public LocalFileStorage(
@@ -20,21 +35,94 @@ public class LocalFileStorage implements AttachmentStorage {
 	}
 
 	@Override
-	public String store(String tenantId, UUID taskId, UUID attachmentId, InputStream content) throws IOException {
-		String safeTenant = sanitizeSegment(tenantId);
-		Path target = root.resolve(Path.of(safeTenant, taskId.toString(), attachmentId.toString())).normalize();
-		ensureWithinRoot(target);
+	public long writeStaged(UUID uploadId, long offset, long maxBytes, Instant notAfter, InputStream content)
+			throws IOException {
+		Path target = stagingPath(uploadId);
 		Files.createDirectories(target.getParent());
-		try (InputStream in = content) {
-			Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+		try (InputStream in = content;
+			 FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			 FileLock lock = tryLock(channel)) {
+			if (lock == null) {
+				throw new IllegalStateException("Another chunk of upload " + uploadId + " is being written");
+			}
+			if (Instant.now().isAfter(notAfter)) {
+				throw new IllegalStateException("Chunk lease of upload " + uploadId + " expired");
+			}
+			if (channel.size() < offset) {
+				throw new IllegalArgumentException("Offset " + offset + " is beyond staged length " + channel.size());
+			}
+			channel.truncate(offset);
+			channel.position(offset);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			long written = 0;
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				if (written + read > maxBytes) {
+					channel.truncate(offset);
+					throw new IllegalArgumentException("Chunk exceeds the declared upload size");
+				}
+				ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+				while (chunk.hasRemaining()) {
+					channel.write(chunk);
+				}
+				written += read;
+			}
+			return offset + written;
 		}
+	}
+
+	@Override
+	public Resource openStaged(UUID uploadId) throws IOException {
+		return openExisting(stagingPath(uploadId), uploadId.toString());
+	}
+
+	@Override
+	public void deleteStaged(UUID uploadId) throws IOException {
+		Files.deleteIfExists(stagingPath(uploadId));
+	}
+
+	@Override
+	public String storageKey(String tenantId, String checksumSha256) {
+		Path target = root.resolve(Path.of(sanitizeSegment(tenantId), BLOB_DIRECTORY,
+				checksumSha256.substring(0, 2), sanitizeSegment(checksumSha256))).normalize();
+		ensureWithinRoot(target);
 		return root.relativize(target).toString().replace('\\', '/');
 	}
 
 	@Override
-	public byte[] load(String storageKey) throws IOException {
+	public boolean exists(String storageKey) {
+		return Files.isRegularFile(resolveStorageKey(storageKey));
+	}
+
+	@Override
+	public void prepare(UUID uploadId, String storageKey) throws IOException {
+		Path prepared = preparedPath(uploadId, storageKey);
+		Files.createDirectories(prepared.getParent());
+		Files.copy(stagingPath(uploadId), prepared, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	@Override
+	public void publish(UUID uploadId, String storageKey) throws IOException {
+		Path prepared = preparedPath(uploadId, storageKey);
+		if (!Files.isRegularFile(prepared)) {
+			prepare(uploadId, storageKey);
+		}
 		Path target = resolveStorageKey(storageKey);
-		return Files.readAllBytes(target);
+		try {
+			Files.move(prepared, target, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException ex) {
+			Files.move(prepared, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	@Override
+	public void discardPrepared(UUID uploadId, String storageKey) throws IOException {
+		Files.deleteIfExists(preparedPath(uploadId, storageKey));
+	}
+
+	@Override
+	public Resource open(String storageKey) throws IOException {
+		return openExisting(resolveStorageKey(storageKey), storageKey);
 	}
 
 	@Override
@@ -43,6 +131,22 @@ public class LocalFileStorage implements AttachmentStorage {
 		Files.deleteIfExists(target);
 	}
 
+	private Resource openExisting(Path target, String name) throws IOException {
+		if (!Files.isRegularFile(target)) {
+			throw new NoSuchFileException(name);
+		}
+		return new FileSystemResource(target);
+	}
+
+	private Path stagingPath(UUID uploadId) {
+		return root.resolve(Path.of(STAGING_DIRECTORY, uploadId.toString()));
+	}
+
+	private Path preparedPath(UUID uploadId, String storageKey) {
+		Path target = resolveStorageKey(storageKey);
+		return target.resolveSibling(target.getFileName() + "." + uploadId + PREPARED_SUFFIX);
+	}
+
 	private Path resolveStorageKey(String storageKey) {
 		Path target = root.resolve(storageKey).normalize();
 		ensureWithinRoot(target);
@@ -55,6 +159,18 @@ public class LocalFileStorage implements AttachmentStorage {
 		}
 	}
 
+	/**
+	 * Guards against a writer whose chunk lease expired while it was still writing; {@code null} if the staging file
+	 * is locked by another writer of this or another process.
+	 */
+	private FileLock tryLock(FileChannel channel) throws IOException {
+		try {
+			return channel.tryLock();
+		} catch (OverlappingFileLockException ex) {
+			return null;
+		}
+	}
+
 	private String sanitizeSegment(String value) {
 		return value.replaceAll("[^a-zA-Z0-9_-]", "_");
 	}
@@ -0,0 +1,178 @@
+package de.bettinger.processmgmt.collaboration.infrastructure.attachments;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * SHA-256 whose intermediate state can be exported after each chunk and restored for the next one, so a chunked
+ * upload is hashed as it arrives instead of being read again once it is complete.
+ */
+public final class ResumableSha256 extends MessageDigest {
+
+	/** Exported state: eight hash words, the byte count and the partially filled block. */
+	public static final int STATE_LENGTH = 8 * Integer.BYTES + Long.BYTES + 64;
+
+	private static final int[] INITIAL_HASH = {
+			0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19
+	};
+
+	private static final int[] ROUND_CONSTANTS = {
+			0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+			0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+			0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+			0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+			0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+			0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+			0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+			0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2
+	};
+
+	private final int[] hash = new int[8];
+	private final byte[] block = new byte[64];
+	private final int[] schedule = new int[64];
+	private long byteCount;
+
+	public ResumableSha256() {
+		super("SHA-256");
+		engineReset();
+	}
+
+	/**
+	 * Continues from a state produced by {@link #exportState()}; {@code null} starts a new digest.
+	 */
+	public static ResumableSha256 restore(byte[] state) {
+		ResumableSha256 digest = new ResumableSha256();
+		if (state == null) {
+			return digest;
+		}
+		if (state.length != STATE_LENGTH) {
+			throw new IllegalArgumentException("Invalid SHA-256 state length " + state.length);
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(state);
+		for (int i = 0; i < digest.hash.length; i++) {
+			digest.hash[i] = buffer.getInt();
+		}
+		digest.byteCount = buffer.getLong();
+		buffer.get(digest.block);
+		return digest;
+	}
+
+	public byte[] exportState() {
+		ByteBuffer buffer = ByteBuffer.allocate(STATE_LENGTH);
+		for (int word : hash) {
+			buffer.putInt(word);
+		}
+		buffer.putLong(byteCount);
+		buffer.put(block);
+		return buffer.array();
+	}
+
+	@Override
+	protected int engineGetDigestLength() {
+		return 32;
+	}
+
+	@Override
+	protected void engineUpdate(byte input) {
+		block[(int) (byteCount & 63)] = input;
+		byteCount++;
+		if ((byteCount & 63) == 0) {
+			compress(block, 0);
+		}
+	}
+
+	@Override
+	protected void engineUpdate(byte[] input, int offset, int length) {
+		while (length > 0) {
+			int filled = (int) (byteCount & 63);
+			if (filled == 0 && length >= 64) {
+				compress(input, offset);
+				offset += 64;
+				length -= 64;
+				byteCount += 64;
+				continue;
+			}
+			int copied = Math.min(64 - filled, length);
+			System.arraycopy(input, offset, block, filled, copied);
+			offset += copied;
+			length -= copied;
+			byteCount += copied;
+			if ((byteCount & 63) == 0) {
+				compress(block, 0);
+			}
+		}
+	}
+
+	@Override
+	protected byte[] engineDigest() {
+		long bitLength = byteCount * 8;
+		engineUpdate((byte) 0x80);
+		while ((byteCount & 63) != 56) {
+			engineUpdate((byte) 0);
+		}
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			engineUpdate((byte) (bitLength >>> shift));
+		}
+		ByteBuffer result = ByteBuffer.allocate(32);
+		for (int word : hash) {
+			result.putInt(word);
+		}
+		engineReset();
+		return result.array();
+	}
+
+	@Override
+	protected void engineReset() {
+		System.arraycopy(INITIAL_HASH, 0, hash, 0, hash.length);
+		Arrays.fill(block, (byte) 0);
+		byteCount = 0;
+	}
+
+	private void compress(byte[] input, int offset) {
+		for (int i = 0; i < 16; i++) {
+			int index = offset + i * 4;
+			schedule[i] = (input[index] & 0xff) << 24 | (input[index + 1] & 0xff) << 16
+					| (input[index + 2] & 0xff) << 8 | (input[index + 3] & 0xff);
+		}
+		for (int i = 16; i < 64; i++) {
+			int s0 = Integer.rotateRight(schedule[i - 15], 7) ^ Integer.rotateRight(schedule[i - 15], 18)
+					^ (schedule[i - 15] >>> 3);
+			int s1 = Integer.rotateRight(schedule[i - 2], 17) ^ Integer.rotateRight(schedule[i - 2], 19)
+					^ (schedule[i - 2] >>> 10);
+			schedule[i] = schedule[i - 16] + s0 + schedule[i - 7] + s1;
+		}
+		int a = hash[0];
+		int b = hash[1];
+		int c = hash[2];
+		int d = hash[3];
+		int e = hash[4];
+		int f = hash[5];
+		int g = hash[6];
+		int h = hash[7];
+		for (int i = 0; i < 64; i++) {
+			int s1 = Integer.rotateRight(e, 6) ^ Integer.rotateRight(e, 11) ^ Integer.rotateRight(e, 25);
+			int choice = (e & f) ^ (~e & g);
+			int temp1 = h + s1 + choice + ROUND_CONSTANTS[i] + schedule[i];
+			int s0 = Integer.rotateRight(a, 2) ^ Integer.rotateRight(a, 13) ^ Integer.rotateRight(a, 22);
+			int majority = (a & b) ^ (a & c) ^ (b & c);
+			int temp2 = s0 + majority;
+			h = g;
+			g = f;
+			f = e;
+			e = d + temp1;
+			d = c;
+			c = b;
+			b = a;
+			a = temp1 + temp2;
+		}
+		hash[0] += a;
+		hash[1] += b;
+		hash[2] += c;
+		hash[3] += d;
+		hash[4] += e;
+		hash[5] += f;
+		hash[6] += g;
+		hash[7] += h;
+	}
+}
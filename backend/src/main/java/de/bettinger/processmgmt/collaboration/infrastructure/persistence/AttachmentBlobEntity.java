@@ -0,0 +1,56 @@
+package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * Content-addressed file shared by all attachments of a tenant with the same SHA-256. {@code refCount} is the number
+ * of {@code task_attachments} rows pointing at {@code storageKey}.
+ *
+ * <p>The row doubles as the lock for its file: it is created with {@code refCount} zero before the file is published,
+ * and every publish or delete of the file happens while the row is locked. A row at zero may have no file yet, or a
+ * file whose deletion is still pending.
+ */
+@Getter
+@Entity
+@Table(name = "attachment_blobs")
+public class AttachmentBlobEntity {
+
+	@Id
+	@Column(name = "id", nullable = false)
+	private UUID id;
+
+	@Column(name = "tenant_id", nullable = false)
+	private String tenantId;
+
+	@Column(name = "checksum_sha256", nullable = false)
+	private String checksumSha256;
+
+	@Column(name = "storage_key", nullable = false)
+	private String storageKey;
+
+	@Column(name = "size_bytes", nullable = false)
+	private long sizeBytes;
+
+	@Column(name = "ref_count", nullable = false)
+	private int refCount;
+
+	protected AttachmentBlobEntity() {
+	}
+
+	public void addReference() {
+		refCount++;
+	}
+
+	/**
+	 * @return {@code true} if no attachment references the blob anymore
+	 */
+	public boolean releaseReference() {
+		refCount--;
+		return refCount <= 0;
+	}
+}
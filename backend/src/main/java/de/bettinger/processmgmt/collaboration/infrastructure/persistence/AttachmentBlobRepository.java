@@ -0,0 +1,32 @@
+package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlobEntity, UUID> {
+
+	/**
+	 * Creates the unreferenced row of a blob so it can be locked before its file exists; a concurrent first upload of
+	 * the same content makes this a no-op.
+	 */
+	@Modifying
+	@Query(value = """
+			INSERT INTO attachment_blobs (id, tenant_id, checksum_sha256, storage_key, size_bytes, ref_count)
+			VALUES (:id, :tenantId, :checksumSha256, :storageKey, :sizeBytes, 0)
+			ON CONFLICT (tenant_id, checksum_sha256) DO NOTHING
+			""", nativeQuery = true)
+	void insertIfAbsent(@Param("id") UUID id, @Param("tenantId") String tenantId,
+						@Param("checksumSha256") String checksumSha256, @Param("storageKey") String storageKey,
+						@Param("sizeBytes") long sizeBytes);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<AttachmentBlobEntity> findWithLockByTenantIdAndChecksumSha256(String tenantId, String checksumSha256);
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<AttachmentBlobEntity> findWithLockByStorageKey(String storageKey);
+}
@@ -0,0 +1,123 @@
+package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+@Entity
+@Table(name = "attachment_upload_sessions")
+public class AttachmentUploadSessionEntity {
+
+	@Id
+	@Column(name = "id", nullable = false)
+	private UUID id;
+
+	@Column(name = "tenant_id", nullable = false)
+	private String tenantId;
+
+	@Column(name = "task_id", nullable = false)
+	private UUID taskId;
+
+	@Column(name = "file_name", nullable = false)
+	private String fileName;
+
+	@Column(name = "content_type", nullable = false)
+	private String contentType;
+
+	@Column(name = "total_size_bytes", nullable = false)
+	private long totalSizeBytes;
+
+	@Column(name = "received_bytes", nullable = false)
+	private long receivedBytes;
+
+	@Column(name = "created_by_stakeholder_id", nullable = false)
+	private String createdByStakeholderId;
+
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+	@Column(name = "checksum_state")
+	private byte[] checksumState;
+
+	@Column(name = "chunk_lease_id")
+	private UUID chunkLeaseId;
+
+	@Column(name = "chunk_lease_expires_at")
+	private Instant chunkLeaseExpiresAt;
+
+	protected AttachmentUploadSessionEntity() {
+	}
+
+	public AttachmentUploadSessionEntity(UUID id, String tenantId, UUID taskId, String fileName, String contentType,
+										 long totalSizeBytes, String createdByStakeholderId, Instant createdAt,
+										 Instant expiresAt) {
+		this.id = id;
+		this.tenantId = tenantId;
+		this.taskId = taskId;
+		this.fileName = fileName;
+		this.contentType = contentType;
+		this.totalSizeBytes = totalSizeBytes;
+		this.receivedBytes = 0;
+		this.createdByStakeholderId = createdByStakeholderId;
+		this.createdAt = createdAt;
+		this.expiresAt = expiresAt;
+	}
+
+	public boolean isComplete() {
+		return receivedBytes == totalSizeBytes;
+	}
+
+	public boolean isExpired(Instant now) {
+		return !expiresAt.isAfter(now);
+	}
+
+	public long remainingBytes() {
+		return totalSizeBytes - receivedBytes;
+	}
+
+	/**
+	 * Whether a chunk is being written under a lease that has not expired yet.
+	 */
+	public boolean isChunkInProgress(Instant now) {
+		return chunkLeaseId != null && chunkLeaseExpiresAt.isAfter(now);
+	}
+
+	/**
+	 * Claims the next chunk for the writer identified by {@code leaseId}, taking over an expired lease. The session
+	 * does not expire before the lease does.
+	 */
+	public void startChunk(UUID leaseId, Instant leaseExpiresAt) {
+		this.chunkLeaseId = leaseId;
+		this.chunkLeaseExpiresAt = leaseExpiresAt;
+		if (expiresAt.isBefore(leaseExpiresAt)) {
+			this.expiresAt = leaseExpiresAt;
+		}
+	}
+
+	public boolean holdsChunkLease(UUID leaseId) {
+		return leaseId.equals(chunkLeaseId);
+	}
+
+	/**
+	 * Records a written chunk; every chunk pushes the expiry out again, so only idle uploads expire.
+	 */
+	public void finishChunk(long receivedBytes, byte[] checksumState, Instant expiresAt) {
+		this.receivedBytes = receivedBytes;
+		this.checksumState = checksumState;
+		this.expiresAt = expiresAt;
+		releaseChunk();
+	}
+
+	public void releaseChunk() {
+		this.chunkLeaseId = null;
+		this.chunkLeaseExpiresAt = null;
+	}
+}
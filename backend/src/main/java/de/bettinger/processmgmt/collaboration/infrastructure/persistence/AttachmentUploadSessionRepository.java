@@ -0,0 +1,32 @@
+package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
+
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AttachmentUploadSessionRepository extends JpaRepository<AttachmentUploadSessionEntity, UUID> {
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<AttachmentUploadSessionEntity> findWithLockByIdAndTaskId(UUID id, UUID taskId);
+	Optional<AttachmentUploadSessionEntity> findByIdAndTaskId(UUID id, UUID taskId);
+
+	/**
+	 * Locks expired sessions without a running chunk with {@code FOR UPDATE SKIP LOCKED}, so sweeps on several nodes
+	 * and a client finishing a chunk never work on the same session. Served by
+	 * {@code idx_attachment_upload_sessions_expires_at}.
+	 */
+	@Query(value = """
+			SELECT * FROM attachment_upload_sessions
+			WHERE expires_at <= :now
+			  AND (chunk_lease_expires_at IS NULL OR chunk_lease_expires_at <= :now)
+			ORDER BY expires_at
+			LIMIT :limit
+			FOR UPDATE SKIP LOCKED
+			""", nativeQuery = true)
+	List<AttachmentUploadSessionEntity> claimExpired(@Param("now") Instant now, @Param("limit") int limit);
+}
@@ -59,4 +59,13 @@ public class MeetingActionItemEntity {
 		return id.getItemKey();
 	}
 
+	void updateFrom(MeetingActionItemEntity other) {
+		this.title = other.title;
+		this.assigneeId = other.assigneeId;
+		this.dueDate = other.dueDate;
+		if (other.createdTaskId != null) {
+			this.createdTaskId = other.createdTaskId;
+		}
+	}
+
 }
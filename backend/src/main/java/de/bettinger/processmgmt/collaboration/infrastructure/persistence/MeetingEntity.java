@@ -11,10 +11,15 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Getter
@@ -59,11 +64,13 @@ public class MeetingEntity {
 	private String minutesText;
 
 	@OneToMany(mappedBy = "meeting", cascade = jakarta.persistence.CascadeType.ALL, orphanRemoval = true,
-			fetch = FetchType.EAGER)
+			fetch = FetchType.LAZY)
+	@BatchSize(size = 100)
 	private final List<MeetingParticipantEntity> participants = new ArrayList<>();
 
 	@OneToMany(mappedBy = "meeting", cascade = jakarta.persistence.CascadeType.ALL, orphanRemoval = true,
-			fetch = FetchType.EAGER)
+			fetch = FetchType.LAZY)
+	@BatchSize(size = 100)
 	private final List<MeetingActionItemEntity> actionItems = new ArrayList<>();
 
 	protected MeetingEntity() {
@@ -82,16 +89,34 @@ public class MeetingEntity {
 		this.minutesText = minutesText;
 	}
 
-    public void replaceParticipants(List<String> participantIds) {
-		participants.clear();
-		for (String userId : participantIds) {
+	/**
+	 * Diffs by user id: only removed participants are deleted and only new ones inserted.
+	 */
+	public void replaceParticipants(List<String> participantIds) {
+		Set<String> wanted = new LinkedHashSet<>(participantIds);
+		participants.removeIf(participant -> !wanted.contains(participant.getUserId()));
+		for (MeetingParticipantEntity participant : participants) {
+			wanted.remove(participant.getUserId());
+		}
+		for (String userId : wanted) {
 			participants.add(new MeetingParticipantEntity(this, userId));
 		}
 	}
 
+	/**
+	 * Diffs by item key: items whose key is gone are removed (orphan delete), existing keys are updated in place, so
+	 * unchanged items cause no write at all, and only new keys are inserted.
+	 */
 	public void replaceActionItems(List<MeetingActionItemEntity> newItems) {
-		actionItems.clear();
-		actionItems.addAll(newItems);
+		Map<String, MeetingActionItemEntity> newItemsByKey = new LinkedHashMap<>();
+		for (MeetingActionItemEntity item : newItems) {
+			newItemsByKey.put(item.getItemKey(), item);
+		}
+		actionItems.removeIf(item -> !newItemsByKey.containsKey(item.getItemKey()));
+		for (MeetingActionItemEntity existing : actionItems) {
+			existing.updateFrom(newItemsByKey.remove(existing.getItemKey()));
+		}
+		actionItems.addAll(newItemsByKey.values());
 	}
 
 }
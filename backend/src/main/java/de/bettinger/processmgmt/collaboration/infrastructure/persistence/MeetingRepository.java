@@ -1,8 +1,33 @@
 package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
 
+import de.bettinger.processmgmt.collaboration.domain.meeting.MeetingStatus;
+import java.time.Instant;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MeetingRepository extends JpaRepository<MeetingEntity, UUID> {
+	@EntityGraph(attributePaths = "participants")
 	java.util.List<MeetingEntity> findAllByCaseIdOrderByScheduledAtDesc(UUID caseId);
+	@EntityGraph(attributePaths = "participants")
+	java.util.Optional<MeetingEntity> findWithParticipantsById(UUID id);
+
+	/**
+	 * For each of the given cases, its earliest scheduled meeting not before {@code now} and its latest held meeting,
+	 * selected with correlated {@code MIN}/{@code MAX} subqueries on the case's meetings. Scheduled meetings whose
+	 * date has passed without being held are skipped. Meetings sharing the extreme timestamp are all returned.
+	 */
+	@Query("""
+			SELECT m FROM MeetingEntity m
+			WHERE m.caseId IN :caseIds AND (
+				(m.status = :scheduled AND m.scheduledAt = (SELECT MIN(n.scheduledAt) FROM MeetingEntity n
+					WHERE n.caseId = m.caseId AND n.status = :scheduled AND n.scheduledAt >= :now))
+				OR (m.status = :held AND m.heldAt = (SELECT MAX(n.heldAt) FROM MeetingEntity n
+					WHERE n.caseId = m.caseId AND n.status = :held)))
+			""")
+	java.util.List<MeetingEntity> findNextScheduledAndLastHeldByCaseIdIn(
+			@Param("caseIds") java.util.Collection<UUID> caseIds, @Param("scheduled") MeetingStatus scheduled,
+			@Param("held") MeetingStatus held, @Param("now") Instant now);
 }
@@ -38,11 +38,15 @@ public class TaskAttachmentEntity {
 	@Column(name = "uploaded_by_stakeholder_id", nullable = false)
 	private String uploadedByStakeholderId;
 
+	@Column(name = "checksum_sha256")
+	private String checksumSha256;
+
 	protected TaskAttachmentEntity() {
 	}
 
 	public TaskAttachmentEntity(UUID id, UUID taskId, String fileName, String contentType, long sizeBytes,
-								String storageKey, Instant uploadedAt, String uploadedByStakeholderId) {
+								String storageKey, Instant uploadedAt, String uploadedByStakeholderId,
+								String checksumSha256) {
 		this.id = id;
 		this.taskId = taskId;
 		this.fileName = fileName;
@@ -51,5 +55,6 @@ public class TaskAttachmentEntity {
 		this.storageKey = storageKey;
 		this.uploadedAt = uploadedAt;
 		this.uploadedByStakeholderId = uploadedByStakeholderId;
+		this.checksumSha256 = checksumSha256;
 	}
 }
@@ -1,5 +1,6 @@
 package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,4 +9,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface TaskAttachmentRepository extends JpaRepository<TaskAttachmentEntity, UUID> {
 	List<TaskAttachmentEntity> findAllByTaskIdOrderByUploadedAtDesc(UUID taskId);
 	Optional<TaskAttachmentEntity> findByIdAndTaskId(UUID id, UUID taskId);
+	List<TaskAttachmentEntity> findAllByTaskIdInOrderByTaskIdDescUploadedAtDesc(Collection<UUID> taskIds);
 }
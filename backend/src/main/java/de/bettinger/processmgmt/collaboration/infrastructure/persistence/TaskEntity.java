@@ -2,6 +2,7 @@ package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
 
 import de.bettinger.processmgmt.collaboration.domain.task.TaskResolutionKind;
 import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import de.bettinger.processmgmt.common.infrastructure.persistence.AssignedIdEntity;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -14,6 +15,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -25,7 +27,7 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "tasks")
-public class TaskEntity {
+public class TaskEntity extends AssignedIdEntity {
 
 	@Id
 	@Column(name = "id", nullable = false)
@@ -84,7 +86,8 @@ public class TaskEntity {
 	@Column(name = "created_at", nullable = false)
 	private Instant createdAt;
 
-	@ElementCollection(fetch = FetchType.EAGER)
+	@ElementCollection(fetch = FetchType.LAZY)
+	@BatchSize(size = 100)
 	@CollectionTable(name = "task_dependencies", joinColumns = @JoinColumn(name = "task_id"))
 	@Column(name = "depends_on_task_id", nullable = false)
 	private final Set<UUID> dependsOnTaskIds = new LinkedHashSet<>();
@@ -32,6 +32,24 @@ public class TaskReminderEntity {
 	@Column(name = "created_at", nullable = false)
 	private Instant createdAt;
 
+	@Column(name = "status")
+	private String status;
+
+	@Column(name = "dispatched_at")
+	private Instant dispatchedAt;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at")
+	private Instant nextAttemptAt;
+
+	@Column(name = "last_error", length = 1000)
+	private String lastError;
+
+	@Column(name = "claim_id")
+	private UUID claimId;
+
 	protected TaskReminderEntity() {
 	}
 
@@ -44,4 +62,44 @@ public class TaskReminderEntity {
 		this.note = note;
 		this.createdAt = createdAt;
 	}
+
+	/**
+	 * Leases the reminder to one delivery: it stays pending but is not claimable again before {@code leaseUntil}.
+	 */
+	public void claim(UUID claimId, Instant leaseUntil) {
+		this.claimId = claimId;
+		this.nextAttemptAt = leaseUntil;
+	}
+
+	public boolean isClaimedBy(UUID claimId) {
+		return claimId.equals(this.claimId);
+	}
+
+	public void markDispatched(Instant dispatchedAt) {
+		this.status = TaskReminderStatus.DISPATCHED;
+		this.dispatchedAt = dispatchedAt;
+		this.nextAttemptAt = null;
+		this.lastError = null;
+		this.claimId = null;
+		this.attempts++;
+	}
+
+	public void markAttemptFailed(String error, Instant nextAttemptAt, int maxAttempts) {
+		this.attempts++;
+		this.lastError = truncate(error);
+		this.claimId = null;
+		if (attempts >= maxAttempts) {
+			this.status = TaskReminderStatus.FAILED;
+			this.nextAttemptAt = null;
+		} else {
+			this.nextAttemptAt = nextAttemptAt;
+		}
+	}
+
+	private static String truncate(String error) {
+		if (error == null || error.length() <= 1000) {
+			return error;
+		}
+		return error.substring(0, 1000);
+	}
 }
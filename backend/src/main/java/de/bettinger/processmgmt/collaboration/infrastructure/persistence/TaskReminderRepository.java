@@ -1,11 +1,48 @@
 package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
 
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TaskReminderRepository extends JpaRepository<TaskReminderEntity, UUID> {
 	List<TaskReminderEntity> findAllByTaskIdOrderByRemindAtAsc(UUID taskId);
 	Optional<TaskReminderEntity> findByIdAndTaskId(UUID id, UUID taskId);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<TaskReminderEntity> findWithLockById(UUID id);
+
+	/**
+	 * Locks due, pending reminders with {@code FOR UPDATE SKIP LOCKED} so concurrent dispatchers on other nodes
+	 * claim disjoint batches. A claimed reminder is leased through {@code next_attempt_at}, so it is not returned
+	 * again while its delivery runs. Served by {@code idx_task_reminders_status_remind_at}.
+	 */
+	@Query(value = """
+			SELECT * FROM task_reminders
+			WHERE status IS NULL AND remind_at <= :now
+			  AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+			ORDER BY remind_at
+			LIMIT :limit
+			FOR UPDATE SKIP LOCKED
+			""", nativeQuery = true)
+	List<TaskReminderEntity> claimDue(@Param("now") Instant now, @Param("limit") int limit);
+
+	/**
+	 * Next delivery times of pending reminders up to {@code until}, earliest first; retries and leased reminders
+	 * count from their next attempt, so the limit keeps the reminders that are really due soonest. Read without
+	 * locks: the result only tells the dispatcher when to wake up. On PostgreSQL this is served by the partial
+	 * expression index {@code idx_task_reminders_pending_due}.
+	 */
+	@Query("""
+			SELECT COALESCE(r.nextAttemptAt, r.remindAt) FROM TaskReminderEntity r
+			WHERE r.status IS NULL AND COALESCE(r.nextAttemptAt, r.remindAt) <= :until
+			ORDER BY COALESCE(r.nextAttemptAt, r.remindAt)
+			""")
+	List<Instant> findPendingDueTimes(@Param("until") Instant until, Limit limit);
 }
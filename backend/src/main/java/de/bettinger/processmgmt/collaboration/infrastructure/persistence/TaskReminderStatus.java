@@ -0,0 +1,13 @@
+package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
+
+/**
+ * Values stored in {@code task_reminders.status}. Pending reminders keep {@code status = NULL}.
+ */
+public final class TaskReminderStatus {
+
+	public static final String DISPATCHED = "DISPATCHED";
+	public static final String FAILED = "FAILED";
+
+	private TaskReminderStatus() {
+	}
+}
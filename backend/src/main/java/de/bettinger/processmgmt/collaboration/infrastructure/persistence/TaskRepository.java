@@ -1,14 +1,109 @@
 package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
 
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
 	java.util.List<TaskEntity> findAllByOriginMeetingId(UUID originMeetingId);
 	java.util.List<TaskEntity> findAllByCreatedFromMeetingId(UUID createdFromMeetingId);
 	java.util.List<TaskEntity> findAllByCaseIdOrderByCreatedAtDesc(UUID caseId);
-	Page<TaskEntity> findAllByAssigneeIdAndCaseIdIn(String assigneeId, java.util.List<UUID> caseIds,
-			Pageable pageable);
+	@EntityGraph(attributePaths = "dependsOnTaskIds")
+	java.util.List<TaskEntity> findWithDependenciesByCaseIdOrderByCreatedAtDesc(UUID caseId);
+
+	/**
+	 * Open tasks of a case due before {@code date}, counted on {@code idx_tasks_case_due_date}.
+	 */
+	long countByCaseIdAndStateNotAndDueDateBefore(UUID caseId, TaskState state, java.time.LocalDate date);
+
+	/**
+	 * Counts unresolved tasks of a case that wait on at least one unresolved dependency, the aggregate of
+	 * {@code blockedByTaskIds} in the task list.
+	 */
+	@Query("""
+			SELECT COUNT(DISTINCT t.id) FROM TaskEntity t JOIN t.dependsOnTaskIds dependencyId, TaskEntity dependency
+			WHERE t.caseId = :caseId AND t.state <> :resolved
+			  AND dependency.id = dependencyId AND dependency.state <> :resolved
+			""")
+	long countBlockedByDependency(@Param("caseId") UUID caseId, @Param("resolved") TaskState resolved);
+
+	/**
+	 * Returns {@code [case_id, unresolved count, overdue count]} for each of the given cases that has unresolved
+	 * tasks, grouped in one pass over {@code idx_tasks_case_due_date}.
+	 */
+	@Query("""
+			SELECT t.caseId, COUNT(t), SUM(CASE WHEN t.dueDate < :today THEN 1 ELSE 0 END)
+			FROM TaskEntity t
+			WHERE t.caseId IN :caseIds AND t.state <> :resolved
+			GROUP BY t.caseId
+			""")
+	java.util.List<Object[]> countUnresolvedAndOverdueByCaseIdIn(@Param("caseIds") java.util.Collection<UUID> caseIds,
+			@Param("resolved") TaskState resolved, @Param("today") java.time.LocalDate today);
+
+	/**
+	 * Returns {@code [task_id, tenant_id]} pairs for the given tasks, joining the owning case on its primary key.
+	 * Unknown task ids are missing from the result.
+	 */
+	@Query("""
+			SELECT t.id, c.tenantId FROM TaskEntity t, ProcessCaseEntity c
+			WHERE c.id = t.caseId AND t.id IN :taskIds
+			""")
+	java.util.List<Object[]> findTenantIdsByTaskIds(@Param("taskIds") java.util.Collection<UUID> taskIds);
+
+	/**
+	 * Unresolved tasks that depend on {@code taskId} and on no other unresolved task, i.e. the tasks that resolving
+	 * {@code taskId} unblocks. {@code taskId} itself is excluded by id, so the result does not depend on whether its
+	 * new state was flushed yet. Served by {@code idx_task_dependencies_depends_on}.
+	 */
+	@Query(value = """
+			SELECT td.task_id FROM task_dependencies td
+			JOIN tasks t ON t.id = td.task_id
+			WHERE td.depends_on_task_id = :taskId AND t.state <> 'RESOLVED'
+			  AND NOT EXISTS (
+				SELECT 1 FROM task_dependencies other
+				JOIN tasks dependency ON dependency.id = other.depends_on_task_id
+				WHERE other.task_id = td.task_id AND other.depends_on_task_id <> :taskId
+				  AND dependency.state <> 'RESOLVED'
+			  )
+			""", nativeQuery = true)
+	java.util.List<UUID> findTaskIdsUnblockedByResolving(@Param("taskId") UUID taskId);
+
+	/**
+	 * Returns {@code [task_id, title, state, depth]} for every task that depends on {@code taskId} directly or
+	 * transitively, walking the reverse dependency index with a recursive CTE. {@code depth} is the shortest path
+	 * length. Rows come unordered.
+	 */
+	@Query(value = """
+			WITH RECURSIVE downstream(task_id, depth) AS (
+				SELECT td.task_id, 1 FROM task_dependencies td WHERE td.depends_on_task_id = :taskId
+				UNION
+				SELECT td.task_id, d.depth + 1 FROM task_dependencies td
+				JOIN downstream d ON td.depends_on_task_id = d.task_id
+			)
+			SELECT t.id, t.title, t.state, MIN(d.depth)
+			FROM downstream d
+			JOIN tasks t ON t.id = d.task_id
+			GROUP BY t.id, t.title, t.state
+			""", nativeQuery = true)
+	java.util.List<Object[]> findDownstreamTasks(@Param("taskId") UUID taskId);
+
+	/**
+	 * Returns all dependency edges reachable from the given tasks as {@code [task_id, depends_on_task_id]} pairs,
+	 * walking {@code task_dependencies} with a recursive CTE instead of loading the whole case.
+	 */
+	@Query(value = """
+			WITH RECURSIVE reachable(task_id) AS (
+				SELECT td.task_id FROM task_dependencies td WHERE td.task_id IN (:startTaskIds)
+				UNION
+				SELECT td.depends_on_task_id FROM task_dependencies td
+				JOIN reachable r ON td.task_id = r.task_id
+			)
+			SELECT td.task_id, td.depends_on_task_id
+			FROM task_dependencies td
+			JOIN reachable r ON td.task_id = r.task_id
+			""", nativeQuery = true)
+	java.util.List<Object[]> findReachableDependencyEdges(@Param("startTaskIds") java.util.Collection<UUID> startTaskIds);
 }
@@ -0,0 +1,20 @@
+package de.bettinger.processmgmt.common.api.paging;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset query. {@code nextCursor} is null on the last page; {@code totalItems} is null when the
+ * count was skipped.
+ */
+public record KeysetPage<T>(List<T> items, PageCursor nextCursor, Long totalItems) {
+
+	public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+		List<R> mapped = items.stream().<R>map(mapper).toList();
+		return new KeysetPage<>(mapped, nextCursor, totalItems);
+	}
+
+	public String encodedNextCursor() {
+		return nextCursor == null ? null : nextCursor.encode();
+	}
+}
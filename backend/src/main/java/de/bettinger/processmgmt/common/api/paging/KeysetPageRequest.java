@@ -0,0 +1,86 @@
+package de.bettinger.processmgmt.common.api.paging;
+
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Page request for list endpoints ordered by a single sort field plus {@code id} as tiebreaker.
+ * With a {@code cursor} the page starts right after the cursor row (keyset); without one it starts at
+ * {@code page * size} so existing offset clients keep working. {@code includeTotal=false} skips the count query.
+ */
+public record KeysetPageRequest(
+		String sortField,
+		Sort.Direction direction,
+		int page,
+		int size,
+		PageCursor cursor,
+		boolean includeTotal
+) {
+
+	public static KeysetPageRequest of(int page, int size, String sort, String cursor, boolean includeTotal,
+									   Set<String> allowedSortFields, Sort.Order defaultOrder, int maxSize) {
+		if (page < 0) {
+			throw new IllegalArgumentException("page must be >= 0");
+		}
+		if (size < 1 || size > maxSize) {
+			throw new IllegalArgumentException("size must be between 1 and " + maxSize);
+		}
+		Sort.Order order = parseSort(sort, allowedSortFields, defaultOrder);
+		if (cursor == null || cursor.isBlank()) {
+			return new KeysetPageRequest(order.getProperty(), order.getDirection(), page, size, null, includeTotal);
+		}
+		if (page > 0) {
+			throw new IllegalArgumentException("page and cursor cannot be combined");
+		}
+		PageCursor decoded = PageCursor.decode(cursor);
+		if (!allowedSortFields.contains(decoded.sortField())) {
+			throw new IllegalArgumentException("Invalid cursor");
+		}
+		if (sort != null && !sort.isBlank()
+				&& (!decoded.sortField().equals(order.getProperty()) || decoded.direction() != order.getDirection())) {
+			throw new IllegalArgumentException("cursor does not match sort");
+		}
+		return new KeysetPageRequest(decoded.sortField(), decoded.direction(), 0, size, decoded, includeTotal);
+	}
+
+	/**
+	 * For lists that used to be returned unbounded: paging only applies once the client sends
+	 * {@code size}, {@code sort} or {@code cursor}.
+	 */
+	public static Optional<KeysetPageRequest> ifRequested(Integer size, String sort, String cursor,
+														  boolean includeTotal, Set<String> allowedSortFields,
+														  Sort.Order defaultOrder, int defaultSize, int maxSize) {
+		if (size == null && (sort == null || sort.isBlank()) && (cursor == null || cursor.isBlank())) {
+			return Optional.empty();
+		}
+		return Optional.of(of(0, size == null ? defaultSize : size, sort, cursor, includeTotal, allowedSortFields,
+				defaultOrder, maxSize));
+	}
+
+	public int offset() {
+		return cursor == null ? page * size : 0;
+	}
+
+	private static Sort.Order parseSort(String sort, Set<String> allowedFields, Sort.Order defaultOrder) {
+		if (sort == null || sort.isBlank()) {
+			return defaultOrder;
+		}
+		String[] parts = sort.split(",", -1);
+		if (parts.length != 2) {
+			throw new IllegalArgumentException("sort must be in format field,asc|desc");
+		}
+		String field = parts[0].trim();
+		String direction = parts[1].trim().toLowerCase();
+		if (field.isEmpty() || !allowedFields.contains(field)) {
+			throw new IllegalArgumentException("Unsupported sort field: " + field);
+		}
+		if ("asc".equals(direction)) {
+			return Sort.Order.asc(field);
+		}
+		if ("desc".equals(direction)) {
+			return Sort.Order.desc(field);
+		}
+		throw new IllegalArgumentException("sort direction must be asc or desc");
+	}
+}
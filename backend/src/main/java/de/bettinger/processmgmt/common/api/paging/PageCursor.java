@@ -0,0 +1,46 @@
+package de.bettinger.processmgmt.common.api.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Position after the last row of a keyset page: the sort key of that row plus its id as tiebreaker.
+ * Clients only see the opaque {@link #encode() token}; the sort is embedded so a cursor cannot be replayed
+ * against a different ordering.
+ */
+public record PageCursor(String sortField, Sort.Direction direction, String sortValue, UUID id) {
+
+	private static final String SEPARATOR = "\n";
+	private static final String NULL_VALUE = "~";
+	private static final String VALUE_PREFIX = "=";
+
+	public String encode() {
+		String value = sortValue == null ? NULL_VALUE : VALUE_PREFIX + sortValue;
+		String raw = sortField + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + value;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static PageCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split(SEPARATOR, 4);
+			if (parts.length != 4) {
+				throw new IllegalArgumentException("Invalid cursor");
+			}
+			String value = parts[3];
+			String sortValue;
+			if (NULL_VALUE.equals(value)) {
+				sortValue = null;
+			} else if (value.startsWith(VALUE_PREFIX)) {
+				sortValue = value.substring(VALUE_PREFIX.length());
+			} else {
+				throw new IllegalArgumentException("Invalid cursor");
+			}
+			return new PageCursor(parts[0], Sort.Direction.valueOf(parts[1]), sortValue, UUID.fromString(parts[2]));
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Invalid cursor", ex);
+		}
+	}
+}
@@ -1,22 +1,26 @@
 package de.bettinger.processmgmt.common.api.paging;
 
 import java.util.List;
-import org.springframework.data.domain.Page;
 
 public record PageResponse<T>(
 		List<T> items,
 		int page,
 		int size,
-		long totalItems,
-		int totalPages
+		Long totalItems,
+		Integer totalPages,
+		String nextCursor
 ) {
-	public static <T> PageResponse<T> from(Page<T> page) {
+	public static <T> PageResponse<T> from(KeysetPage<T> result, KeysetPageRequest request) {
+		Integer totalPages = result.totalItems() == null
+				? null
+				: (int) ((result.totalItems() + request.size() - 1) / request.size());
 		return new PageResponse<>(
-				page.getContent(),
-				page.getNumber(),
-				page.getSize(),
-				page.getTotalElements(),
-				page.getTotalPages()
+				result.items(),
+				request.page(),
+				request.size(),
+				result.totalItems(),
+				totalPages,
+				result.encodedNextCursor()
 		);
 	}
 }
@@ -2,6 +2,9 @@ package de.bettinger.processmgmt.common.api.stakeholders;
 
 import de.bettinger.processmgmt.auth.DevAuthFilter;
 import de.bettinger.processmgmt.collaboration.application.StakeholderTasksQueryService;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
 import de.bettinger.processmgmt.common.api.paging.PageResponse;
 import de.bettinger.processmgmt.common.api.stakeholders.dto.CreateStakeholderRequest;
 import de.bettinger.processmgmt.common.api.stakeholders.dto.CreateStakeholderResponse;
@@ -14,9 +17,6 @@ import de.bettinger.processmgmt.common.infrastructure.persistence.StakeholderEnt
 import jakarta.validation.Valid;
 import java.util.Set;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -67,13 +67,15 @@ public class StakeholdersController {
 			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId,
 			@RequestParam(defaultValue = "" + DEFAULT_PAGE) int page,
 			@RequestParam(defaultValue = "" + DEFAULT_SIZE) int size,
-			@RequestParam(required = false) String sort
+			@RequestParam(required = false) String sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "true") boolean includeTotal
 	) {
-		Pageable pageable = toPageable(page, size, sort, STAKEHOLDER_SORT_FIELDS,
-				Sort.by("createdAt").descending());
-		Page<StakeholderSummaryResponse> pageResult = stakeholderService.listStakeholders(tenantId, pageable)
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(page, size, sort, cursor, includeTotal,
+				STAKEHOLDER_SORT_FIELDS, Sort.Order.desc("createdAt"), MAX_SIZE);
+		KeysetPage<StakeholderSummaryResponse> pageResult = stakeholderService.listStakeholders(tenantId, pageRequest)
 				.map(this::toSummary);
-		return ListStakeholdersResponse.from(PageResponse.from(pageResult));
+		return ListStakeholdersResponse.from(PageResponse.from(pageResult, pageRequest));
 	}
 
 	@GetMapping("/{stakeholderId}/tasks")
@@ -82,13 +84,16 @@ public class StakeholdersController {
 			@PathVariable UUID stakeholderId,
 			@RequestParam(defaultValue = "" + DEFAULT_PAGE) int page,
 			@RequestParam(defaultValue = "" + DEFAULT_SIZE) int size,
-			@RequestParam(required = false) String sort
+			@RequestParam(required = false) String sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "true") boolean includeTotal,
+			@RequestParam(required = false) TaskState state
 	) {
 		stakeholderService.getStakeholder(tenantId, stakeholderId);
-		Pageable pageable = toPageable(page, size, sort, TASK_SORT_FIELDS,
-				Sort.by("createdAt").descending());
-		Page<StakeholderTaskSummaryResponse> pageResult = stakeholderTasksQueryService
-				.listAssignedTasks(tenantId, stakeholderId, pageable)
+		KeysetPageRequest pageRequest = KeysetPageRequest.of(page, size, sort, cursor, includeTotal,
+				TASK_SORT_FIELDS, Sort.Order.desc("createdAt"), MAX_SIZE);
+		KeysetPage<StakeholderTaskSummaryResponse> pageResult = stakeholderTasksQueryService
+				.listAssignedTasks(tenantId, stakeholderId, state, pageRequest)
 				.map(task -> new StakeholderTaskSummaryResponse(
 						task.getId(),
 						task.getCaseId(),
@@ -97,42 +102,7 @@ public class StakeholdersController {
 						task.getAssigneeId(),
 						task.getDueDate()
 				));
-		return StakeholderTasksResponse.from(stakeholderId, PageResponse.from(pageResult));
-	}
-
-	private Pageable toPageable(int page, int size, String sort, Set<String> allowedFields, Sort defaultSort) {
-		if (page < 0) {
-			throw new IllegalArgumentException("page must be >= 0");
-		}
-		if (size < 1 || size > MAX_SIZE) {
-			throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE);
-		}
-		Sort sortSpec = parseSort(sort, allowedFields, defaultSort);
-		return PageRequest.of(page, size, sortSpec);
-	}
-
-	private Sort parseSort(String sort, Set<String> allowedFields, Sort defaultSort) {
-		if (sort == null || sort.isBlank()) {
-			return defaultSort;
-		}
-		String[] parts = sort.split(",", -1);
-		if (parts.length != 2) {
-			throw new IllegalArgumentException("sort must be in format field,asc|desc");
-		}
-		String field = parts[0].trim();
-		String direction = parts[1].trim().toLowerCase();
-		if (field.isEmpty() || !allowedFields.contains(field)) {
-			throw new IllegalArgumentException("Unsupported sort field: " + field);
-		}
-		Sort.Direction sortDirection;
-		if ("asc".equals(direction)) {
-			sortDirection = Sort.Direction.ASC;
-		} else if ("desc".equals(direction)) {
-			sortDirection = Sort.Direction.DESC;
-		} else {
-			throw new IllegalArgumentException("sort direction must be asc or desc");
-		}
-		return Sort.by(sortDirection, field);
+		return StakeholderTasksResponse.from(stakeholderId, PageResponse.from(pageResult, pageRequest));
 	}
 
 	private StakeholderSummaryResponse toSummary(StakeholderEntity entity) {
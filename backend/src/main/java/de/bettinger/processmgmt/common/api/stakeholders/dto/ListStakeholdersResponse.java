@@ -6,8 +6,9 @@ public record ListStakeholdersResponse(
 		List<StakeholderSummaryResponse> items,
 		int page,
 		int size,
-		long totalItems,
-		int totalPages
+		Long totalItems,
+		Integer totalPages,
+		String nextCursor
 ) {
 	public static ListStakeholdersResponse from(
 			de.bettinger.processmgmt.common.api.paging.PageResponse<StakeholderSummaryResponse> pageResponse) {
@@ -16,7 +17,8 @@ public record ListStakeholdersResponse(
 				pageResponse.page(),
 				pageResponse.size(),
 				pageResponse.totalItems(),
-				pageResponse.totalPages()
+				pageResponse.totalPages(),
+				pageResponse.nextCursor()
 		);
 	}
 }
@@ -8,8 +8,9 @@ public record StakeholderTasksResponse(
 		List<StakeholderTaskSummaryResponse> items,
 		int page,
 		int size,
-		long totalItems,
-		int totalPages
+		Long totalItems,
+		Integer totalPages,
+		String nextCursor
 ) {
 	public static StakeholderTasksResponse from(
 			UUID stakeholderId,
@@ -21,7 +22,8 @@ public record StakeholderTasksResponse(
 				pageResponse.page(),
 				pageResponse.size(),
 				pageResponse.totalItems(),
-				pageResponse.totalPages()
+				pageResponse.totalPages(),
+				pageResponse.nextCursor()
 		);
 	}
 }
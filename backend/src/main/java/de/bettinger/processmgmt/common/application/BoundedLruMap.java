@@ -0,0 +1,70 @@
+package de.bettinger.processmgmt.common.application;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Access-ordered map that drops its least recently used entry once it holds more than {@code maxEntries}; the
+ * eviction callback sees every dropped entry (for metrics or bookkeeping). Not thread-safe: the caches using it guard
+ * it together with their other state under their own lock.
+ */
+public final class BoundedLruMap<K, V> {
+
+	private final LinkedHashMap<K, V> entries;
+
+	public BoundedLruMap(int maxEntries) {
+		this(maxEntries, (key, value) -> {
+		});
+	}
+
+	public BoundedLruMap(int maxEntries, BiConsumer<K, V> onEviction) {
+		if (maxEntries < 1) {
+			throw new IllegalArgumentException("maxEntries must be positive");
+		}
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				if (size() > maxEntries) {
+					onEviction.accept(eldest.getKey(), eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * The value of {@code key}, marking it as most recently used; null if absent.
+	 */
+	public V get(K key) {
+		return entries.get(key);
+	}
+
+	/**
+	 * Stores the value and returns the previous one; may evict the least recently used entry.
+	 */
+	public V put(K key, V value) {
+		return entries.put(key, value);
+	}
+
+	public void putAll(Map<? extends K, ? extends V> values) {
+		entries.putAll(values);
+	}
+
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> factory) {
+		return entries.computeIfAbsent(key, factory);
+	}
+
+	/**
+	 * Removes the entry without reporting it as evicted; returns the removed value or null.
+	 */
+	public V remove(K key) {
+		return entries.remove(key);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+}
@@ -1,26 +1,34 @@
 package de.bettinger.processmgmt.common.application;
 
 import de.bettinger.processmgmt.common.domain.Address;
+import de.bettinger.processmgmt.common.domain.UuidV7;
 import de.bettinger.processmgmt.common.errors.NotFoundException;
 import de.bettinger.processmgmt.common.infrastructure.persistence.LocationEntity;
 import de.bettinger.processmgmt.common.infrastructure.persistence.LocationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 public class LocationService {
 
 	private final LocationRepository locationRepository;
+	private final TenantReferenceCache<LocationEntity> locationCache;
 
-	public LocationService(LocationRepository locationRepository) {
+	public LocationService(LocationRepository locationRepository, ReferenceDataCacheProperties cacheProperties,
+						   MeterRegistry meterRegistry) {
 		this.locationRepository = locationRepository;
+		this.locationCache = new TenantReferenceCache<>("locations", cacheProperties, meterRegistry);
 	}
 
 	@Transactional
 	public LocationEntity createLocation(String tenantId, String label, Address address) {
-		LocationEntity entity = new LocationEntity(UUID.randomUUID(), tenantId, label, address);
+		LocationEntity entity = new LocationEntity(UuidV7.generate(), tenantId, label, address);
 		return locationRepository.save(entity);
 	}
 
@@ -29,9 +37,23 @@ public class LocationService {
 		return locationRepository.findAllByTenantId(tenantId);
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Read-through lookup for existence checks and labels; served from {@link TenantReferenceCache}.
+	 */
+	public Optional<LocationEntity> findLocation(String tenantId, UUID locationId) {
+		return locationCache.get(tenantId, locationId,
+				() -> locationRepository.findByIdAndTenantId(locationId, tenantId));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onReferenceDataChanged(ReferenceDataChanged changed) {
+		if (changed.type() == LocationEntity.class) {
+			locationCache.invalidate(changed.tenantId(), changed.id());
+		}
+	}
+
 	public LocationEntity getLocation(String tenantId, UUID locationId) {
-		return locationRepository.findByIdAndTenantId(locationId, tenantId)
+		return findLocation(tenantId, locationId)
 				.orElseThrow(() -> new NotFoundException("Location not found: " + locationId));
 	}
 }
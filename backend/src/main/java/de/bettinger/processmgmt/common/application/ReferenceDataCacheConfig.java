@@ -0,0 +1,9 @@
+package de.bettinger.processmgmt.common.application;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReferenceDataCacheProperties.class)
+public class ReferenceDataCacheConfig {
+}
@@ -0,0 +1,14 @@
+package de.bettinger.processmgmt.common.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.reference-data.cache")
+public record ReferenceDataCacheProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("1000") int maxTenants,
+		@DefaultValue("500") int maxEntriesPerTenant,
+		@DefaultValue("10m") Duration ttl
+) {
+}
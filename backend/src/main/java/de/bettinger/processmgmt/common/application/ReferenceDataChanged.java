@@ -0,0 +1,10 @@
+package de.bettinger.processmgmt.common.application;
+
+import java.util.UUID;
+
+/**
+ * In-process notification that a cached reference entity (location, kita, stakeholder) was inserted, updated or
+ * deleted. The owning service invalidates its {@link TenantReferenceCache} entry after commit.
+ */
+public record ReferenceDataChanged(Class<?> type, String tenantId, UUID id) {
+}
@@ -2,31 +2,48 @@ package de.bettinger.processmgmt.common.application;
 
 import de.bettinger.processmgmt.common.domain.Stakeholder;
 import de.bettinger.processmgmt.common.domain.StakeholderId;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
+import de.bettinger.processmgmt.common.domain.SearchDocumentType;
+import de.bettinger.processmgmt.common.domain.SearchableContentChanged;
+import de.bettinger.processmgmt.common.domain.UuidV7;
 import de.bettinger.processmgmt.common.errors.NotFoundException;
+import de.bettinger.processmgmt.common.infrastructure.persistence.KeysetQueryExecutor;
 import de.bettinger.processmgmt.common.infrastructure.persistence.StakeholderEntity;
 import de.bettinger.processmgmt.common.infrastructure.persistence.StakeholderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 public class StakeholderService {
 
 	private final StakeholderRepository stakeholderRepository;
+	private final KeysetQueryExecutor keysetQueryExecutor;
+	private final TenantReferenceCache<StakeholderEntity> stakeholderCache;
+	private final ApplicationEventPublisher eventPublisher;
 
-	public StakeholderService(StakeholderRepository stakeholderRepository) {
+	public StakeholderService(StakeholderRepository stakeholderRepository, KeysetQueryExecutor keysetQueryExecutor,
+							  ReferenceDataCacheProperties cacheProperties, MeterRegistry meterRegistry,
+							  ApplicationEventPublisher eventPublisher) {
 		this.stakeholderRepository = stakeholderRepository;
+		this.keysetQueryExecutor = keysetQueryExecutor;
+		this.stakeholderCache = new TenantReferenceCache<>("stakeholders", cacheProperties, meterRegistry);
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Transactional
 	public StakeholderEntity createStakeholder(String tenantId, String firstName, String lastName,
 											   de.bettinger.processmgmt.common.domain.StakeholderRole role) {
 		Stakeholder stakeholder = new Stakeholder(
-				new StakeholderId(UUID.randomUUID()),
+				new StakeholderId(UuidV7.generate()),
 				tenantId,
 				firstName,
 				lastName,
@@ -41,7 +58,10 @@ public class StakeholderService {
 				stakeholder.role(),
 				stakeholder.createdAt()
 		);
-		return stakeholderRepository.save(entity);
+		StakeholderEntity saved = stakeholderRepository.save(entity);
+		eventPublisher.publishEvent(SearchableContentChanged.created(SearchDocumentType.STAKEHOLDER,
+				List.of(saved.getId())));
+		return saved;
 	}
 
 	@Transactional(readOnly = true)
@@ -50,13 +70,28 @@ public class StakeholderService {
 	}
 
 	@Transactional(readOnly = true)
-	public Page<StakeholderEntity> listStakeholders(String tenantId, Pageable pageable) {
-		return stakeholderRepository.findByTenantId(tenantId, pageable);
+	public KeysetPage<StakeholderEntity> listStakeholders(String tenantId, KeysetPageRequest pageRequest) {
+		return keysetQueryExecutor.fetch(StakeholderEntity.class,
+				(root, cb) -> cb.equal(root.get("tenantId"), tenantId), pageRequest);
+	}
+
+	/**
+	 * Read-through lookup for existence checks; served from {@link TenantReferenceCache}.
+	 */
+	public Optional<StakeholderEntity> findStakeholder(String tenantId, UUID stakeholderId) {
+		return stakeholderCache.get(tenantId, stakeholderId,
+				() -> stakeholderRepository.findByIdAndTenantId(stakeholderId, tenantId));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onReferenceDataChanged(ReferenceDataChanged changed) {
+		if (changed.type() == StakeholderEntity.class) {
+			stakeholderCache.invalidate(changed.tenantId(), changed.id());
+		}
 	}
 
-	@Transactional(readOnly = true)
 	public StakeholderEntity getStakeholder(String tenantId, UUID stakeholderId) {
-		return stakeholderRepository.findByIdAndTenantId(stakeholderId, tenantId)
+		return findStakeholder(tenantId, stakeholderId)
 				.orElseThrow(() -> new NotFoundException("Stakeholder not found: " + stakeholderId));
 	}
 }
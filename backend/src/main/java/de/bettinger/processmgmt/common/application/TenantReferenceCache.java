@@ -0,0 +1,124 @@
+package de.bettinger.processmgmt.common.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for rarely changing, tenant-owned reference data (locations, kitas, stakeholders), keyed by
+ * tenant and id. Each tenant gets its own LRU partition of {@code max-entries-per-tenant}, so one busy tenant cannot
+ * evict another tenant's entries; the least recently used tenant is dropped once {@code max-tenants} is exceeded.
+ * Entries expire after {@code ttl}, which bounds staleness on other nodes. The cached entities publish
+ * {@link ReferenceDataChanged} on every insert, update and delete, and the owning service calls {@link #invalidate}
+ * after commit.
+ *
+ * <p>Only found entities are cached, and as in {@code TimelineGraphCache} a load only populates the cache if the key
+ * was not invalidated while it was running. Cached entities are detached and shared between requests; the cached
+ * types expose getters only.
+ */
+public class TenantReferenceCache<V> {
+
+	private final ReferenceDataCacheProperties properties;
+	private final long ttlNanos;
+	private final BoundedLruMap<String, BoundedLruMap<UUID, CacheEntry<V>>> partitions;
+	private final Map<CacheKey, Object> loadsInFlight = new HashMap<>();
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter sizeEvictionCounter;
+	private final Counter expiredEvictionCounter;
+	private final Counter invalidationCounter;
+	private int entryCount;
+
+	public TenantReferenceCache(String name, ReferenceDataCacheProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.ttlNanos = properties.ttl().toNanos();
+		this.hitCounter = meterRegistry.counter("reference.data.cache.requests", "cache", name, "result", "hit");
+		this.missCounter = meterRegistry.counter("reference.data.cache.requests", "cache", name, "result", "miss");
+		this.sizeEvictionCounter = meterRegistry.counter("reference.data.cache.evictions", "cache", name,
+				"cause", "size");
+		this.expiredEvictionCounter = meterRegistry.counter("reference.data.cache.evictions", "cache", name,
+				"cause", "expired");
+		this.invalidationCounter = meterRegistry.counter("reference.data.cache.evictions", "cache", name,
+				"cause", "invalidated");
+		this.partitions = new BoundedLruMap<>(properties.maxTenants(), (tenantId, partition) -> {
+			entryCount -= partition.size();
+			sizeEvictionCounter.increment(partition.size());
+		});
+		Gauge.builder("reference.data.cache.size", this, cache -> cache.size())
+				.tag("cache", name)
+				.register(meterRegistry);
+	}
+
+	public Optional<V> get(String tenantId, UUID id, Supplier<Optional<V>> loader) {
+		if (!properties.enabled()) {
+			return loader.get();
+		}
+		CacheKey key = new CacheKey(tenantId, id);
+		Object loadToken = new Object();
+		synchronized (this) {
+			BoundedLruMap<UUID, CacheEntry<V>> partition = partitions.get(tenantId);
+			CacheEntry<V> entry = partition == null ? null : partition.get(id);
+			if (entry != null) {
+				if (!entry.isExpired(System.nanoTime())) {
+					hitCounter.increment();
+					return Optional.of(entry.value());
+				}
+				partition.remove(id);
+				entryCount--;
+				expiredEvictionCounter.increment();
+			}
+			loadsInFlight.put(key, loadToken);
+		}
+		missCounter.increment();
+		Optional<V> loaded = Optional.empty();
+		try {
+			loaded = loader.get();
+			return loaded;
+		} finally {
+			synchronized (this) {
+				if (loadsInFlight.remove(key, loadToken) && loaded.isPresent()) {
+					put(tenantId, id, loaded.get());
+				}
+			}
+		}
+	}
+
+	public synchronized void invalidate(String tenantId, UUID id) {
+		loadsInFlight.remove(new CacheKey(tenantId, id));
+		BoundedLruMap<UUID, CacheEntry<V>> partition = partitions.get(tenantId);
+		if (partition != null && partition.remove(id) != null) {
+			entryCount--;
+			invalidationCounter.increment();
+		}
+	}
+
+	public synchronized int size() {
+		return entryCount;
+	}
+
+	private void put(String tenantId, UUID id, V value) {
+		BoundedLruMap<UUID, CacheEntry<V>> partition = partitions.computeIfAbsent(tenantId, ignored ->
+				new BoundedLruMap<>(properties.maxEntriesPerTenant(), (evictedId, evicted) -> {
+					entryCount--;
+					sizeEvictionCounter.increment();
+				}));
+		if (partition.put(id, new CacheEntry<>(value, System.nanoTime() + ttlNanos)) == null) {
+			entryCount++;
+		}
+	}
+
+	private record CacheKey(String tenantId, UUID id) {
+	}
+
+	private record CacheEntry<V>(V value, long expiresAtNanos) {
+
+		boolean isExpired(long nowNanos) {
+			return nowNanos - expiresAtNanos >= 0;
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package de.bettinger.processmgmt.common.domain;
+
+import java.util.UUID;
+
+/**
+ * In-process notification that tasks or meetings of a case were changed. Read-side caches use it for invalidation.
+ */
+public record CaseContentChanged(UUID caseId) {
+}
@@ -0,0 +1,19 @@
+package de.bettinger.processmgmt.common.domain;
+
+import java.util.UUID;
+
+/**
+ * Domain event recorded in the outbox. Implementations are records whose components form the JSON payload.
+ */
+public interface DomainEvent {
+
+	String aggregateType();
+
+	UUID aggregateId();
+
+	UUID caseId();
+
+	default String eventType() {
+		return getClass().getSimpleName();
+	}
+}
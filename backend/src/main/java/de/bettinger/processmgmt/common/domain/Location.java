@@ -1,7 +1,6 @@
 package de.bettinger.processmgmt.common.domain;
 
 import java.util.Objects;
-import java.util.UUID;
 import lombok.Getter;
 
 @Getter
@@ -20,6 +19,6 @@ public class Location {
 	}
 
 	public static Location create(String tenantId, String label, Address address) {
-		return new Location(new LocationId(UUID.randomUUID()), tenantId, label, address);
+		return new Location(new LocationId(UuidV7.generate()), tenantId, label, address);
 	}
 }
@@ -0,0 +1,7 @@
+package de.bettinger.processmgmt.common.domain;
+
+public enum SearchDocumentType {
+	TASK,
+	MEETING,
+	STAKEHOLDER
+}
@@ -0,0 +1,20 @@
+package de.bettinger.processmgmt.common.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-process notification that searchable text of tasks, meetings or stakeholders was written. Carries ids only;
+ * the search index reads the text from the source tables in the same transaction. {@code created} marks ids that
+ * cannot be indexed yet, so no stale document has to be removed first.
+ */
+public record SearchableContentChanged(SearchDocumentType type, List<UUID> ids, boolean created) {
+
+	public static SearchableContentChanged created(SearchDocumentType type, List<UUID> ids) {
+		return new SearchableContentChanged(type, ids, true);
+	}
+
+	public static SearchableContentChanged updated(SearchDocumentType type, UUID id) {
+		return new SearchableContentChanged(type, List.of(id), false);
+	}
+}
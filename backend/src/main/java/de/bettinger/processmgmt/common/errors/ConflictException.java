@@ -0,0 +1,8 @@
+package de.bettinger.processmgmt.common.errors;
+
+public class ConflictException extends RuntimeException {
+
+	public ConflictException(String message) {
+		super(message);
+	}
+}
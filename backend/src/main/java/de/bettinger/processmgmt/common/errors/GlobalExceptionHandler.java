@@ -1,16 +1,20 @@
 package de.bettinger.processmgmt.common.errors;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.sql.SQLTransientConnectionException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -31,6 +35,12 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
 	}
 
+	@ExceptionHandler(ConflictException.class)
+	public ResponseEntity<ApiError> handleConflict(ConflictException ex) {
+		ApiError error = new ApiError("CONFLICT", ex.getMessage(), null, traceId());
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+	}
+
 	@ExceptionHandler(MissingRequestHeaderException.class)
 	public ResponseEntity<ApiError> handleMissingHeader(MissingRequestHeaderException ex) {
 		ApiError error = new ApiError("UNAUTHORIZED", ex.getMessage(), null, traceId());
@@ -43,18 +53,57 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.badRequest().body(error);
 	}
 
+	@ExceptionHandler(ItemValidationException.class)
+	public ResponseEntity<ApiError> handleItemValidation(ItemValidationException ex) {
+		ApiError error = new ApiError("VALIDATION_ERROR", ex.getMessage(), ex.getDetails(), traceId());
+		return ResponseEntity.badRequest().body(error);
+	}
+
+	@ExceptionHandler(MethodArgumentTypeMismatchException.class)
+	public ResponseEntity<ApiError> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+		ApiError error = new ApiError("VALIDATION_ERROR", "Invalid value for parameter: " + ex.getName(), null,
+				traceId());
+		return ResponseEntity.badRequest().body(error);
+	}
+
 	@ExceptionHandler(IllegalStateException.class)
 	public ResponseEntity<ApiError> handleIllegalState(IllegalStateException ex) {
 		ApiError error = new ApiError("DOMAIN_ERROR", ex.getMessage(), null, traceId());
 		return ResponseEntity.badRequest().body(error);
 	}
 
+	/**
+	 * No pooled connection became available within {@code spring.datasource.hikari.connection-timeout}. With virtual
+	 * request threads the pool is the back-pressure point, so this is reported as a retryable overload. Hikari signals
+	 * the timeout with a {@link SQLTransientConnectionException}; it carries a cause only when opening connections
+	 * failed as well (database unreachable), which like any other failure to begin a transaction stays a 500.
+	 */
+	@ExceptionHandler(CannotCreateTransactionException.class)
+	public ResponseEntity<ApiError> handleUnavailable(CannotCreateTransactionException ex, HttpServletRequest request) {
+		if (!isPoolTimeout(ex)) {
+			return handleUnexpected(ex, request);
+		}
+		ApiError error = new ApiError("UNAVAILABLE", "Service temporarily overloaded", null, traceId());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, "1")
+				.body(error);
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ApiError> handleUnexpected(Exception ex, HttpServletRequest request) {
 		ApiError error = new ApiError("INTERNAL_ERROR", "Unexpected error", null, traceId());
 		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
 	}
 
+	private boolean isPoolTimeout(Throwable ex) {
+		for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLTransientConnectionException) {
+				return cause.getCause() == null;
+			}
+		}
+		return false;
+	}
+
 	private String traceId() {
 		return UUID.randomUUID().toString();
 	}
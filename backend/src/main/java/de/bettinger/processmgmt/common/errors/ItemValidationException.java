@@ -0,0 +1,21 @@
+package de.bettinger.processmgmt.common.errors;
+
+import java.util.Map;
+
+/**
+ * Validation failure of a batch request; {@code details} maps each rejected item (e.g. {@code tasks[3]}) to its
+ * reason.
+ */
+public class ItemValidationException extends IllegalArgumentException {
+
+	private final Map<String, String> details;
+
+	public ItemValidationException(String message, Map<String, String> details) {
+		super(message);
+		this.details = Map.copyOf(details);
+	}
+
+	public Map<String, String> getDetails() {
+		return details;
+	}
+}
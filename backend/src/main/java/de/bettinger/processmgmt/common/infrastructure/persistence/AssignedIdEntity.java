@@ -0,0 +1,31 @@
+package de.bettinger.processmgmt.common.infrastructure.persistence;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import java.util.UUID;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Base of entities whose id is assigned by the application. Spring Data would otherwise treat a set id as an
+ * existing row and merge (SELECT, then INSERT) on every {@code save}, which also defeats JDBC insert batching. An
+ * instance counts as new until it has been persisted or loaded.
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<UUID> {
+
+	@Transient
+	private boolean persisted;
+
+	@Override
+	public boolean isNew() {
+		return !persisted;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markPersisted() {
+		this.persisted = true;
+	}
+}
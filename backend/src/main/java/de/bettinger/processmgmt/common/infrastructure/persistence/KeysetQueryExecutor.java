@@ -0,0 +1,145 @@
+package de.bettinger.processmgmt.common.infrastructure.persistence;
+
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
+import de.bettinger.processmgmt.common.api.paging.PageCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Nulls;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs keyset-paginated list queries for entities with a {@code UUID id}.
+ * Rows are ordered by {@code (sortField, id)} in the requested direction with nulls sorting high (PostgreSQL's
+ * default), so a composite index on {@code (filter columns, sort column, id)} serves the page as a range scan.
+ * One extra row is fetched to decide whether a next cursor exists; the count query only runs on request.
+ */
+@Component
+public class KeysetQueryExecutor {
+
+	private static final String ID = "id";
+
+	private final EntityManager entityManager;
+
+	public KeysetQueryExecutor(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	public <T> KeysetPage<T> fetch(Class<T> entityType, Filter<T> filter, KeysetPageRequest request) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> query = cb.createQuery(entityType);
+		Root<T> root = query.from(entityType);
+		Path<Comparable<Object>> sortPath = root.get(request.sortField());
+		Path<UUID> idPath = root.get(ID);
+		Predicate predicate = filter.toPredicate(root, cb);
+		if (request.cursor() != null) {
+			predicate = cb.and(predicate, after(cb, sortPath, idPath, request.cursor()));
+		}
+		boolean ascending = request.direction().isAscending();
+		query.select(root)
+				.where(predicate)
+				.orderBy(
+						ascending ? cb.asc(sortPath, Nulls.LAST) : cb.desc(sortPath, Nulls.FIRST),
+						ascending ? cb.asc(idPath) : cb.desc(idPath)
+				);
+		List<T> rows = entityManager.createQuery(query)
+				.setFirstResult(request.offset())
+				.setMaxResults(request.size() + 1)
+				.getResultList();
+
+		PageCursor nextCursor = null;
+		List<T> items = rows;
+		if (rows.size() > request.size()) {
+			items = rows.subList(0, request.size());
+			nextCursor = cursorOf(items.getLast(), request);
+		}
+		Long totalItems = request.includeTotal() ? count(entityType, filter) : null;
+		return new KeysetPage<>(List.copyOf(items), nextCursor, totalItems);
+	}
+
+	private <T> long count(Class<T> entityType, Filter<T> filter) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<T> root = query.from(entityType);
+		query.select(cb.count(root)).where(filter.toPredicate(root, cb));
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	private Predicate after(CriteriaBuilder cb, Path<Comparable<Object>> sortPath, Path<UUID> idPath,
+							PageCursor cursor) {
+		boolean ascending = cursor.direction().isAscending();
+		if (cursor.sortValue() == null) {
+			// The cursor sits in the null block: ascending it is last, descending it is first.
+			Predicate sameBlock = cb.and(cb.isNull(sortPath),
+					ascending ? cb.greaterThan(idPath, cursor.id()) : cb.lessThan(idPath, cursor.id()));
+			return ascending ? sameBlock : cb.or(sameBlock, cb.isNotNull(sortPath));
+		}
+		Comparable<Object> value = parseValue(sortPath.getJavaType(), cursor.sortValue());
+		if (ascending) {
+			Predicate afterValue = cb.and(cb.greaterThanOrEqualTo(sortPath, value),
+					cb.or(cb.greaterThan(sortPath, value), cb.greaterThan(idPath, cursor.id())));
+			return cb.or(afterValue, cb.isNull(sortPath));
+		}
+		return cb.and(cb.lessThanOrEqualTo(sortPath, value),
+				cb.or(cb.lessThan(sortPath, value), cb.lessThan(idPath, cursor.id())));
+	}
+
+	private PageCursor cursorOf(Object entity, KeysetPageRequest request) {
+		BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+		Object sortValue = wrapper.getPropertyValue(request.sortField());
+		UUID id = (UUID) wrapper.getPropertyValue(ID);
+		return new PageCursor(request.sortField(), request.direction(), formatValue(sortValue), id);
+	}
+
+	private String formatValue(Object value) {
+		if (value == null) {
+			return null;
+		}
+		return value instanceof Enum<?> enumValue ? enumValue.name() : value.toString();
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Comparable<Object> parseValue(Class<?> type, String value) {
+		if (type != String.class && type != Instant.class && type != LocalDate.class && type != UUID.class
+				&& type != Integer.class && type != int.class && !type.isEnum()) {
+			throw new IllegalStateException("Unsupported keyset sort type: " + type.getName());
+		}
+		try {
+			Object parsed;
+			if (type == Instant.class) {
+				parsed = Instant.parse(value);
+			} else if (type == LocalDate.class) {
+				parsed = LocalDate.parse(value);
+			} else if (type == UUID.class) {
+				parsed = UUID.fromString(value);
+			} else if (type == Integer.class || type == int.class) {
+				parsed = Integer.valueOf(value);
+			} else if (type.isEnum()) {
+				parsed = Enum.valueOf((Class<? extends Enum>) type, value);
+			} else {
+				parsed = value;
+			}
+			return (Comparable<Object>) parsed;
+		} catch (RuntimeException ex) {
+			throw new IllegalArgumentException("Invalid cursor", ex);
+		}
+	}
+
+	/**
+	 * Filter shared by the page query and the count query, e.g. the tenant or case the list belongs to.
+	 */
+	@FunctionalInterface
+	public interface Filter<T> {
+		Predicate toPredicate(Root<T> root, CriteriaBuilder cb);
+	}
+}
@@ -4,6 +4,7 @@ import de.bettinger.processmgmt.common.domain.Address;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.util.UUID;
@@ -11,8 +12,9 @@ import lombok.Getter;
 
 @Getter
 @Entity
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "locations")
-public class LocationEntity {
+public class LocationEntity implements TenantOwnedEntity {
 
 	@Id
 	@Column(name = "id", nullable = false)
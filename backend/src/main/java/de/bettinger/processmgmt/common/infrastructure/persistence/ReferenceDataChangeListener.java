@@ -0,0 +1,30 @@
+package de.bettinger.processmgmt.common.infrastructure.persistence;
+
+import de.bettinger.processmgmt.common.application.ReferenceDataChanged;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener of the cached reference entities. Every insert, update and delete that goes through the persistence
+ * context publishes {@link ReferenceDataChanged}, so a new write path cannot forget to invalidate the cache. Bulk
+ * JPQL or native statements bypass it and must invalidate themselves.
+ */
+@Component
+public class ReferenceDataChangeListener {
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	public ReferenceDataChangeListener(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	void changed(TenantOwnedEntity entity) {
+		eventPublisher.publishEvent(new ReferenceDataChanged(entity.getClass(), entity.getTenantId(), entity.getId()));
+	}
+}
@@ -3,6 +3,7 @@ package de.bettinger.processmgmt.common.infrastructure.persistence;
 import de.bettinger.processmgmt.common.domain.StakeholderRole;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
@@ -14,8 +15,9 @@ import java.util.UUID;
 
 @Getter
 @Entity
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "stakeholders")
-public class StakeholderEntity {
+public class StakeholderEntity implements TenantOwnedEntity {
 	@Id
 	@Column(name = "id", nullable = false)
 	private UUID id;
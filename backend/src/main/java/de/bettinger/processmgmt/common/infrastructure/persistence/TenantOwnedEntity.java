@@ -0,0 +1,13 @@
+package de.bettinger.processmgmt.common.infrastructure.persistence;
+
+import java.util.UUID;
+
+/**
+ * Entity that belongs to one tenant and is looked up by {@code (tenantId, id)}.
+ */
+public interface TenantOwnedEntity {
+
+	UUID getId();
+
+	String getTenantId();
+}
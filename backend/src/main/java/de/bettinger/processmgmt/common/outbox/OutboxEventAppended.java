@@ -0,0 +1,8 @@
+package de.bettinger.processmgmt.common.outbox;
+
+/**
+ * Published synchronously when a new outbox event is saved, inside the writing transaction.
+ * In-process projections listen to this instead of scanning the outbox table.
+ */
+public record OutboxEventAppended(OutboxEventEntity event) {
+}
@@ -0,0 +1,51 @@
+package de.bettinger.processmgmt.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import de.bettinger.processmgmt.common.domain.DomainEvent;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serializes typed domain events to outbox payloads and back. Jackson readers and writers are resolved once per
+ * event type and cached, so encoding a command's events does not rebuild serializers or parse JSON trees.
+ */
+@Component
+public class OutboxEventCodec {
+
+	private final ObjectMapper objectMapper;
+	private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+	private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+	public OutboxEventCodec(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	public String encode(DomainEvent event) {
+		ObjectWriter writer = writers.computeIfAbsent(event.getClass(), objectMapper::writerFor);
+		try {
+			return writer.writeValueAsString(event);
+		} catch (JsonProcessingException ex) {
+			throw new IllegalStateException("Failed to serialize " + event.eventType(), ex);
+		}
+	}
+
+	/**
+	 * Decodes the payload of a stored event. Returns empty for malformed payloads so read models can skip them.
+	 */
+	public <T extends DomainEvent> Optional<T> decode(OutboxEventEntity event, Class<T> type) {
+		ObjectReader reader = readers.computeIfAbsent(type, key -> objectMapper.readerFor(key)
+				.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+		try {
+			return Optional.ofNullable(reader.readValue(event.getPayload()));
+		} catch (IOException ex) {
+			return Optional.empty();
+		}
+	}
+}
@@ -1,18 +1,25 @@
 package de.bettinger.processmgmt.common.outbox;
 
+import de.bettinger.processmgmt.common.infrastructure.persistence.AssignedIdEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Getter
 @Entity
 @Table(name = "outbox_events")
-public class OutboxEventEntity {
+public class OutboxEventEntity extends AssignedIdEntity {
 
 	@Id
 	@Column(name = "id", nullable = false)
@@ -27,6 +34,9 @@ public class OutboxEventEntity {
 	@Column(name = "event_type", nullable = false)
 	private String eventType;
 
+	@Column(name = "case_id")
+	private UUID caseId;
+
 	@Column(name = "occurred_at", nullable = false)
 	private Instant occurredAt;
 
@@ -39,19 +49,78 @@ public class OutboxEventEntity {
 	@Column(name = "trace_id")
 	private String traceId;
 
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at")
+	private Instant nextAttemptAt;
+
+	@Column(name = "published_at")
+	private Instant publishedAt;
+
+	@Column(name = "last_error", length = 1000)
+	private String lastError;
+
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private boolean appendPending;
+
 	protected OutboxEventEntity() {
 	}
 
 	public OutboxEventEntity(UUID id, String aggregateType, String aggregateId, String eventType, Instant occurredAt,
 							 String payload, String status, String traceId) {
+		this(id, aggregateType, aggregateId, eventType, null, occurredAt, payload, status, traceId);
+	}
+
+	public OutboxEventEntity(UUID id, String aggregateType, String aggregateId, String eventType, UUID caseId,
+							 Instant occurredAt, String payload, String status, String traceId) {
 		this.id = id;
 		this.aggregateType = aggregateType;
 		this.aggregateId = aggregateId;
 		this.eventType = eventType;
+		this.caseId = caseId;
 		this.occurredAt = occurredAt;
 		this.payload = payload;
 		this.status = status;
 		this.traceId = traceId;
+		this.appendPending = true;
+	}
+
+	public void markPublished(Instant publishedAt) {
+		this.status = OutboxEventStatus.PUBLISHED;
+		this.publishedAt = publishedAt;
+		this.nextAttemptAt = null;
+		this.lastError = null;
+		this.attempts++;
+	}
+
+	public void markAttemptFailed(String error, Instant nextAttemptAt, int maxAttempts) {
+		this.attempts++;
+		this.lastError = truncate(error);
+		if (attempts >= maxAttempts) {
+			this.status = OutboxEventStatus.FAILED;
+			this.nextAttemptAt = null;
+		} else {
+			this.nextAttemptAt = nextAttemptAt;
+		}
+	}
+
+	private static String truncate(String error) {
+		if (error == null || error.length() <= 1000) {
+			return error;
+		}
+		return error.substring(0, 1000);
+	}
+
+	@DomainEvents
+	Collection<OutboxEventAppended> domainEvents() {
+		return appendPending ? List.of(new OutboxEventAppended(this)) : List.of();
+	}
+
+	@AfterDomainEventPublication
+	void clearDomainEvents() {
+		appendPending = false;
 	}
 
 }
@@ -0,0 +1,14 @@
+package de.bettinger.processmgmt.common.outbox;
+
+/**
+ * In-process consumer of relayed outbox events. Handlers are invoked on the relay worker pool, outside the
+ * writing transaction, and must be idempotent: an event is redelivered if any handler fails.
+ */
+public interface OutboxEventHandler {
+
+	default boolean supports(String eventType) {
+		return true;
+	}
+
+	void handle(OutboxEventEntity event) throws Exception;
+}
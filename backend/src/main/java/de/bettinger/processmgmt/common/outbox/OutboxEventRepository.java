@@ -1,8 +1,53 @@
 package de.bettinger.processmgmt.common.outbox;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
-	java.util.List<OutboxEventEntity> findAllByPayloadContainingOrderByOccurredAtAsc(String payload);
+	Slice<OutboxEventEntity> findAllByEventTypeIn(Collection<String> eventTypes, Pageable pageable);
+
+	Optional<OutboxEventEntity> findFirstByCaseIdOrderByOccurredAtDescIdDesc(UUID caseId);
+
+	/**
+	 * Due pending events that are the oldest pending event of their aggregate in {@code (occurred_at, id)} order. An
+	 * event whose predecessor is backed off, or claimed by another node, stays unclaimed until the predecessor is
+	 * published or given up; the {@code NOT EXISTS} probe is served by {@code idx_outbox_events_aggregate_occurred}.
+	 */
+	@Query(value = """
+			SELECT * FROM outbox_events e
+			WHERE e.status IS NULL AND (e.next_attempt_at IS NULL OR e.next_attempt_at <= :now)
+			  AND NOT EXISTS (
+				SELECT 1 FROM outbox_events earlier
+				WHERE earlier.aggregate_id = e.aggregate_id
+				  AND earlier.status IS NULL
+				  AND (earlier.occurred_at < e.occurred_at
+					   OR (earlier.occurred_at = e.occurred_at AND earlier.id < e.id)))
+			ORDER BY e.occurred_at, e.id
+			LIMIT :limit
+			FOR UPDATE SKIP LOCKED
+			""", nativeQuery = true)
+	List<OutboxEventEntity> claimPending(@Param("now") Instant now, @Param("limit") int limit);
+
+	/**
+	 * Events of a case strictly after the given event in {@code (occurred_at, id)} order, served by
+	 * {@code idx_outbox_events_case_occurred}.
+	 */
+	@Query(value = """
+			SELECT * FROM outbox_events
+			WHERE case_id = :caseId
+			  AND (occurred_at > :afterOccurredAt OR (occurred_at = :afterOccurredAt AND id > :afterId))
+			ORDER BY occurred_at, id
+			LIMIT :limit
+			""", nativeQuery = true)
+	List<OutboxEventEntity> findCaseEventsAfter(@Param("caseId") UUID caseId,
+												@Param("afterOccurredAt") Instant afterOccurredAt,
+												@Param("afterId") UUID afterId, @Param("limit") int limit);
 }
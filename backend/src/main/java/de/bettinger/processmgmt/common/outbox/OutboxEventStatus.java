@@ -0,0 +1,13 @@
+package de.bettinger.processmgmt.common.outbox;
+
+/**
+ * Values stored in {@code outbox_events.status}. Pending events keep {@code status = NULL}.
+ */
+public final class OutboxEventStatus {
+
+	public static final String PUBLISHED = "PUBLISHED";
+	public static final String FAILED = "FAILED";
+
+	private OutboxEventStatus() {
+	}
+}
@@ -0,0 +1,53 @@
+package de.bettinger.processmgmt.common.outbox;
+
+import de.bettinger.processmgmt.common.domain.DomainEvent;
+import de.bettinger.processmgmt.common.domain.UuidV7;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single entry point for appending domain events to the outbox within the caller's transaction.
+ */
+@Component
+public class OutboxEventWriter {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxEventCodec outboxEventCodec;
+
+	public OutboxEventWriter(OutboxEventRepository outboxEventRepository, OutboxEventCodec outboxEventCodec) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxEventCodec = outboxEventCodec;
+	}
+
+	public OutboxEventEntity append(DomainEvent event) {
+		return outboxEventRepository.save(toEntity(event, Instant.now()));
+	}
+
+	public List<OutboxEventEntity> appendAll(List<? extends DomainEvent> events) {
+		if (events.isEmpty()) {
+			return List.of();
+		}
+		Instant now = Instant.now();
+		List<OutboxEventEntity> entities = new ArrayList<>(events.size());
+		for (DomainEvent event : events) {
+			entities.add(toEntity(event, now));
+		}
+		return outboxEventRepository.saveAll(entities);
+	}
+
+	private OutboxEventEntity toEntity(DomainEvent event, Instant occurredAt) {
+		return new OutboxEventEntity(
+				UuidV7.generate(),
+				event.aggregateType(),
+				event.aggregateId().toString(),
+				event.eventType(),
+				event.caseId(),
+				occurredAt,
+				outboxEventCodec.encode(event),
+				null,
+				null
+		);
+	}
+}
@@ -0,0 +1,146 @@
+package de.bettinger.processmgmt.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Relays pending outbox events ({@code status IS NULL}) to the registered {@link OutboxEventHandler}s.
+ *
+ * <p>Each batch is claimed with {@code FOR UPDATE SKIP LOCKED} and kept locked until its outcome is written, so
+ * several application nodes can relay concurrently without delivering the same event twice. Only the oldest pending
+ * event of each aggregate is claimable, so events of one aggregate are delivered in occurrence order even across
+ * batches, nodes and backoff, and an event waiting behind a failing predecessor does not use up its own attempts.
+ * The claimed events therefore belong to different aggregates and are handled in parallel on the worker pool.
+ */
+@Component
+public class OutboxRelay {
+
+	private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final List<OutboxEventHandler> handlers;
+	private final ThreadPoolTaskExecutor executor;
+	private final OutboxRelayProperties properties;
+	private final TransactionTemplate transactionTemplate;
+	private final Counter publishedCounter;
+	private final Counter retriedCounter;
+	private final Counter failedCounter;
+	private final Timer lagTimer;
+	private final Timer batchTimer;
+
+	public OutboxRelay(OutboxEventRepository outboxEventRepository, List<OutboxEventHandler> handlers,
+					   @Qualifier("outboxRelayExecutor") ThreadPoolTaskExecutor executor,
+					   OutboxRelayProperties properties, PlatformTransactionManager transactionManager,
+					   MeterRegistry meterRegistry) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.handlers = List.copyOf(handlers);
+		this.executor = executor;
+		this.properties = properties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.publishedCounter = meterRegistry.counter("outbox.relay.events", "outcome", "published");
+		this.retriedCounter = meterRegistry.counter("outbox.relay.events", "outcome", "retried");
+		this.failedCounter = meterRegistry.counter("outbox.relay.events", "outcome", "failed");
+		this.lagTimer = Timer.builder("outbox.relay.lag")
+				.description("Time between an event occurring and being published")
+				.register(meterRegistry);
+		this.batchTimer = meterRegistry.timer("outbox.relay.batch");
+	}
+
+	/**
+	 * Claims and dispatches one batch. Returns the number of claimed events, so callers can drain the backlog
+	 * by looping until it returns zero.
+	 */
+	public int relayBatch() {
+		Integer claimed = batchTimer.record(() -> transactionTemplate.execute(status -> relayClaimedBatch()));
+		return claimed == null ? 0 : claimed;
+	}
+
+	private int relayClaimedBatch() {
+		List<OutboxEventEntity> events = outboxEventRepository.claimPending(Instant.now(), properties.batchSize());
+		if (events.isEmpty()) {
+			return 0;
+		}
+		List<Future<Exception>> futures = new ArrayList<>(events.size());
+		for (OutboxEventEntity event : events) {
+			futures.add(executor.submit(() -> dispatch(event)));
+		}
+		Map<OutboxEventEntity, Exception> failures = new HashMap<>();
+		for (int i = 0; i < events.size(); i++) {
+			Exception failure = awaitQuietly(futures.get(i));
+			if (failure != null) {
+				failures.put(events.get(i), failure);
+			}
+		}
+		Instant now = Instant.now();
+		for (OutboxEventEntity event : events) {
+			Exception failure = failures.get(event);
+			if (failure == null) {
+				event.markPublished(now);
+				publishedCounter.increment();
+				lagTimer.record(Duration.between(event.getOccurredAt(), now));
+			} else {
+				event.markAttemptFailed(describe(failure), now.plus(backoff(event.getAttempts() + 1)),
+						properties.maxAttempts());
+				if (OutboxEventStatus.FAILED.equals(event.getStatus())) {
+					failedCounter.increment();
+					log.warn("Outbox event gave up after {} attempts id={}, type={}", event.getAttempts(),
+							event.getId(), event.getEventType());
+				} else {
+					retriedCounter.increment();
+				}
+			}
+		}
+		return events.size();
+	}
+
+	private Exception dispatch(OutboxEventEntity event) {
+		try {
+			for (OutboxEventHandler handler : handlers) {
+				if (handler.supports(event.getEventType())) {
+					handler.handle(event);
+				}
+			}
+			return null;
+		} catch (Exception ex) {
+			return ex;
+		}
+	}
+
+	private Exception awaitQuietly(Future<Exception> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while relaying outbox events", ex);
+		} catch (ExecutionException ex) {
+			throw new IllegalStateException("Outbox relay worker failed", ex.getCause());
+		}
+	}
+
+	private Duration backoff(int attempt) {
+		Duration initial = properties.initialBackoff();
+		int exponent = Math.min(attempt - 1, 20);
+		Duration delay = initial.multipliedBy(1L << exponent);
+		return delay.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : delay;
+	}
+
+	private String describe(Exception failure) {
+		return failure.getClass().getSimpleName() + ": " + failure.getMessage();
+	}
+}
@@ -0,0 +1,24 @@
+package de.bettinger.processmgmt.common.outbox;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+public class OutboxRelayConfig {
+
+	@Bean
+	public ThreadPoolTaskExecutor outboxRelayExecutor(OutboxRelayProperties properties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("outbox-relay-");
+		executor.setCorePoolSize(properties.workerThreads());
+		executor.setMaxPoolSize(properties.workerThreads());
+		executor.setQueueCapacity(properties.batchSize());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+}
@@ -0,0 +1,17 @@
+package de.bettinger.processmgmt.common.outbox;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.outbox.relay")
+public record OutboxRelayProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("100") int batchSize,
+		@DefaultValue("4") int workerThreads,
+		@DefaultValue("1s") Duration pollInterval,
+		@DefaultValue("10") int maxAttempts,
+		@DefaultValue("1s") Duration initialBackoff,
+		@DefaultValue("5m") Duration maxBackoff
+) {
+}
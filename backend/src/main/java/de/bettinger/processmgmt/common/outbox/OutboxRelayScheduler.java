@@ -0,0 +1,35 @@
+package de.bettinger.processmgmt.common.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableScheduling
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(OutboxRelayScheduler.class);
+
+	private final OutboxRelay outboxRelay;
+
+	public OutboxRelayScheduler(OutboxRelay outboxRelay) {
+		this.outboxRelay = outboxRelay;
+	}
+
+	@Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:PT1S}")
+	public void poll() {
+		try {
+			// Drain the backlog before sleeping again; publishing an event makes the next one of its aggregate
+			// claimable, so even a partial batch may have unblocked more work.
+			while (outboxRelay.relayBatch() > 0) {
+				log.debug("Outbox relay claimed events, polling again");
+			}
+		} catch (RuntimeException ex) {
+			log.error("Outbox relay poll failed", ex);
+		}
+	}
+}
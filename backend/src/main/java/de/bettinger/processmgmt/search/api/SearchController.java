@@ -0,0 +1,55 @@
+package de.bettinger.processmgmt.search.api;
+
+import de.bettinger.processmgmt.auth.DevAuthFilter;
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.domain.SearchDocumentType;
+import de.bettinger.processmgmt.search.api.SearchDtos.SearchHitResponse;
+import de.bettinger.processmgmt.search.api.SearchDtos.SearchResponse;
+import de.bettinger.processmgmt.search.application.SearchHit;
+import de.bettinger.processmgmt.search.application.SearchPage;
+import de.bettinger.processmgmt.search.application.SearchService;
+import java.util.List;
+import java.util.Set;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
+
+	private final SearchService searchService;
+
+	public SearchController(SearchService searchService) {
+		this.searchService = searchService;
+	}
+
+	/**
+	 * Ranked prefix search in the caller's tenant. Hits carry ids and titles only, never matched content such as
+	 * meeting minutes. {@code approximate} tells the client that only the most recently updated matches were
+	 * ranked.
+	 */
+	@GetMapping
+	public SearchResponse search(
+			@RequestHeader(DevAuthFilter.TENANT_HEADER) String tenantId,
+			@RequestParam(required = false) String q,
+			@RequestParam(required = false) Set<SearchDocumentType> types,
+			@RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+			@RequestParam(required = false) String cursor
+	) {
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+		}
+		SearchPage result = searchService.search(tenantId, q, types, size, cursor);
+		KeysetPage<SearchHit> page = result.page();
+		List<SearchHitResponse> items = page.items().stream()
+				.map(hit -> new SearchHitResponse(hit.type(), hit.id(), hit.caseId(), hit.title()))
+				.toList();
+		return new SearchResponse(items, page.encodedNextCursor(), result.approximate());
+	}
+}
@@ -0,0 +1,17 @@
+package de.bettinger.processmgmt.search.api;
+
+import de.bettinger.processmgmt.common.domain.SearchDocumentType;
+import java.util.List;
+import java.util.UUID;
+
+public final class SearchDtos {
+
+	private SearchDtos() {
+	}
+
+	public record SearchHitResponse(SearchDocumentType type, UUID id, UUID caseId, String title) {
+	}
+
+	public record SearchResponse(List<SearchHitResponse> items, String nextCursor, boolean approximate) {
+	}
+}
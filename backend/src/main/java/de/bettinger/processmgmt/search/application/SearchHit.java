@@ -0,0 +1,7 @@
+package de.bettinger.processmgmt.search.application;
+
+import de.bettinger.processmgmt.common.domain.SearchDocumentType;
+import java.util.UUID;
+
+public record SearchHit(SearchDocumentType type, UUID id, UUID caseId, String title, int score) {
+}
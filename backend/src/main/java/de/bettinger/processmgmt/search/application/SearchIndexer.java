@@ -0,0 +1,41 @@
+package de.bettinger.processmgmt.search.application;
+
+import de.bettinger.processmgmt.common.domain.SearchableContentChanged;
+import de.bettinger.processmgmt.search.infrastructure.persistence.SearchDocumentRepository;
+import java.time.Instant;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps {@code search_documents} in step with tasks, meetings and stakeholders, in the transaction of the write:
+ * a search sees exactly the committed source rows, and a rolled-back command leaves no document behind. Changed
+ * documents are replaced as a whole (delete plus copy); new ones are only copied.
+ *
+ * <p>Several writes are not in the outbox (meeting scheduling and edits, stakeholders), so the indexer listens to
+ * {@link SearchableContentChanged} rather than {@code OutboxEventAppended}.
+ */
+@Service
+public class SearchIndexer {
+
+	private final SearchDocumentRepository searchDocumentRepository;
+
+	public SearchIndexer(SearchDocumentRepository searchDocumentRepository) {
+		this.searchDocumentRepository = searchDocumentRepository;
+	}
+
+	@EventListener
+	public void onSearchableContentChanged(SearchableContentChanged changed) {
+		if (changed.ids().isEmpty()) {
+			return;
+		}
+		if (!changed.created()) {
+			searchDocumentRepository.deleteDocuments(changed.ids());
+		}
+		Instant now = Instant.now();
+		switch (changed.type()) {
+			case TASK -> searchDocumentRepository.copyTasks(changed.ids(), now);
+			case MEETING -> searchDocumentRepository.copyMeetings(changed.ids(), now);
+			case STAKEHOLDER -> searchDocumentRepository.copyStakeholders(changed.ids(), now);
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package de.bettinger.processmgmt.search.application;
+
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+
+/**
+ * One page of search hits; {@code approximate} as in {@link SearchResult}.
+ */
+public record SearchPage(KeysetPage<SearchHit> page, boolean approximate) {
+}
@@ -0,0 +1,15 @@
+package de.bettinger.processmgmt.search.application;
+
+/**
+ * Query side of the search index. The index table is the same on every database; implementations differ in how
+ * they match and rank ({@code PostgresSearchAdapter} with full-text search, {@code PortableSearchAdapter} with
+ * {@code LIKE} as the H2 fallback).
+ */
+public interface SearchPort {
+
+	/**
+	 * Up to {@code query.limit()} hits of the tenant, best first: by score descending, then id. Implementations may
+	 * rank only a bounded number of matches and then report the result as approximate.
+	 */
+	SearchResult search(SearchQuery query);
+}
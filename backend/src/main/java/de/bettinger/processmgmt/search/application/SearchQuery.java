@@ -0,0 +1,15 @@
+package de.bettinger.processmgmt.search.application;
+
+import de.bettinger.processmgmt.common.domain.SearchDocumentType;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Normalized search: lowercase {@code terms} of letters and digits that must all match as word prefixes. An empty
+ * {@code types} set searches all document types. With {@code afterScore}/{@code afterId} the result continues after
+ * that hit in {@code (score desc, id asc)} order.
+ */
+public record SearchQuery(String tenantId, List<String> terms, Set<SearchDocumentType> types, Integer afterScore,
+						  UUID afterId, int limit) {
+}
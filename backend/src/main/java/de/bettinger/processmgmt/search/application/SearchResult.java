@@ -0,0 +1,10 @@
+package de.bettinger.processmgmt.search.application;
+
+import java.util.List;
+
+/**
+ * Hits of one {@link SearchQuery}. {@code approximate} is set when the query matched more documents than the
+ * adapter ranks, so older documents that would rank higher may be missing.
+ */
+public record SearchResult(List<SearchHit> hits, boolean approximate) {
+}
@@ -0,0 +1,92 @@
+package de.bettinger.processmgmt.search.application;
+
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.common.api.paging.PageCursor;
+import de.bettinger.processmgmt.common.domain.SearchDocumentType;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tenant-scoped search over tasks, meetings and stakeholders. The query text is split into terms of letters and
+ * digits; terms shorter than {@value #MIN_TERM_LENGTH} characters are ignored, since a one-letter prefix matches
+ * most of the index. Results are keyset-paginated on {@code (score desc, id)}; the cursor carries the score.
+ * Broad queries are ranked over a bounded set of the most recently updated matches and flagged as approximate.
+ */
+@Service
+public class SearchService {
+
+	static final int MIN_TERM_LENGTH = 2;
+	static final int MAX_TERMS = 8;
+	private static final String SORT_FIELD = "score";
+	private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private final SearchPort searchPort;
+
+	public SearchService(SearchPort searchPort) {
+		this.searchPort = searchPort;
+	}
+
+	@Transactional(readOnly = true)
+	public SearchPage search(String tenantId, String text, Set<SearchDocumentType> types, int size,
+										String cursor) {
+		List<String> terms = terms(text);
+		PageCursor after = decodeCursor(cursor);
+		Integer afterScore = after == null ? null : parseScore(after.sortValue());
+		SearchResult result = searchPort.search(new SearchQuery(tenantId, terms,
+				types == null ? Set.of() : types, afterScore, after == null ? null : after.id(), size + 1));
+		List<SearchHit> hits = result.hits();
+		if (hits.size() <= size) {
+			return new SearchPage(new KeysetPage<>(hits, null, null), result.approximate());
+		}
+		List<SearchHit> page = hits.subList(0, size);
+		SearchHit last = page.getLast();
+		return new SearchPage(new KeysetPage<>(page, new PageCursor(SORT_FIELD, Sort.Direction.DESC,
+				String.valueOf(last.score()), last.id()), null), result.approximate());
+	}
+
+	static List<String> terms(String text) {
+		if (text == null) {
+			throw new IllegalArgumentException("q must not be empty");
+		}
+		Set<String> terms = new LinkedHashSet<>();
+		for (String term : TERM_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+			if (term.length() >= MIN_TERM_LENGTH) {
+				terms.add(term);
+			}
+		}
+		if (terms.isEmpty()) {
+			throw new IllegalArgumentException("q must contain a word of at least " + MIN_TERM_LENGTH
+					+ " letters or digits");
+		}
+		if (terms.size() > MAX_TERMS) {
+			throw new IllegalArgumentException("q must not contain more than " + MAX_TERMS + " words");
+		}
+		return new ArrayList<>(terms);
+	}
+
+	private PageCursor decodeCursor(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		PageCursor decoded = PageCursor.decode(cursor);
+		if (!SORT_FIELD.equals(decoded.sortField()) || decoded.direction() != Sort.Direction.DESC) {
+			throw new IllegalArgumentException("Invalid cursor");
+		}
+		return decoded;
+	}
+
+	private int parseScore(String value) {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid cursor", ex);
+		}
+	}
+}
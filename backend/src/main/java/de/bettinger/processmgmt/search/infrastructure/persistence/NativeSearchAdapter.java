@@ -0,0 +1,81 @@
+package de.bettinger.processmgmt.search.infrastructure.persistence;
+
+import de.bettinger.processmgmt.common.domain.SearchDocumentType;
+import de.bettinger.processmgmt.search.application.SearchHit;
+import de.bettinger.processmgmt.search.application.SearchPort;
+import de.bettinger.processmgmt.search.application.SearchQuery;
+import de.bettinger.processmgmt.search.application.SearchResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared SQL of the search adapters: tenant and type filter, keyset continuation on {@code (score desc, id)} and
+ * the limit. Subclasses supply the match predicate and the integer score over the alias {@code d}.
+ *
+ * <p>Only the {@value #MAX_CANDIDATES} most recently updated matches are scored, so a broad term costs a bounded
+ * amount of ranking work however many documents it matches. When the bound is reached the result is approximate:
+ * an older document may score higher than every hit returned.
+ */
+abstract class NativeSearchAdapter implements SearchPort {
+
+	static final int MAX_CANDIDATES = 1000;
+
+	private final EntityManager entityManager;
+
+	NativeSearchAdapter(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	public SearchResult search(SearchQuery query) {
+		StringBuilder sql = new StringBuilder()
+				.append("SELECT ranked.document_type, ranked.document_id, ranked.case_id, ranked.title, ranked.score,")
+				.append(" ranked.candidates")
+				.append(" FROM (SELECT d.document_type, d.document_id, d.case_id, d.title, ")
+				.append(scoreExpression(query.terms())).append(" AS score, COUNT(*) OVER () AS candidates")
+				.append(" FROM (SELECT d.* FROM search_documents d WHERE d.tenant_id = :tenantId AND ")
+				.append(matchPredicate(query.terms()));
+		if (!query.types().isEmpty()) {
+			sql.append(" AND d.document_type IN (:types)");
+		}
+		sql.append(" ORDER BY d.updated_at DESC LIMIT :candidateLimit) d) ranked");
+		if (query.afterId() != null) {
+			sql.append(" WHERE ranked.score < :afterScore")
+					.append(" OR (ranked.score = :afterScore AND ranked.document_id > :afterId)");
+		}
+		sql.append(" ORDER BY ranked.score DESC, ranked.document_id LIMIT :limit");
+
+		Query nativeQuery = entityManager.createNativeQuery(sql.toString())
+				.setParameter("tenantId", query.tenantId())
+				.setParameter("candidateLimit", MAX_CANDIDATES)
+				.setParameter("limit", query.limit());
+		bindTerms(nativeQuery, query.terms());
+		if (!query.types().isEmpty()) {
+			nativeQuery.setParameter("types", query.types().stream().map(Enum::name).toList());
+		}
+		if (query.afterId() != null) {
+			nativeQuery.setParameter("afterScore", query.afterScore())
+					.setParameter("afterId", query.afterId());
+		}
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = nativeQuery.getResultList();
+		List<SearchHit> hits = rows.stream()
+				.map(row -> new SearchHit(SearchDocumentType.valueOf(row[0].toString()), toUuid(row[1]),
+						row[2] == null ? null : toUuid(row[2]), (String) row[3], ((Number) row[4]).intValue()))
+				.toList();
+		boolean approximate = !rows.isEmpty() && ((Number) rows.getFirst()[5]).intValue() >= MAX_CANDIDATES;
+		return new SearchResult(hits, approximate);
+	}
+
+	protected abstract String matchPredicate(List<String> terms);
+
+	protected abstract String scoreExpression(List<String> terms);
+
+	protected abstract void bindTerms(Query query, List<String> terms);
+
+	private UUID toUuid(Object value) {
+		return value instanceof UUID uuid ? uuid : UUID.fromString(value.toString());
+	}
+}
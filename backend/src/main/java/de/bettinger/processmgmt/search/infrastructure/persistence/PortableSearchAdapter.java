@@ -0,0 +1,52 @@
+package de.bettinger.processmgmt.search.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fallback for databases without the full-text column (H2 in dev and tests): a term matches where a word of title or
+ * content starts with it. Words are separated by anything but letters and digits, the same boundaries the search
+ * terms are split on and close to PostgreSQL's {@code simple} parser, so hyphens, punctuation and line breaks split
+ * words here as they do in production. Each term scores 2 for a title match and 1 for a content match. Without an
+ * index this scans the tenant's documents, which is fine for local data but not for production volumes.
+ */
+class PortableSearchAdapter extends NativeSearchAdapter {
+
+	private static final String WORD_START = "(^|[^\\p{L}\\p{N}])";
+
+	PortableSearchAdapter(EntityManager entityManager) {
+		super(entityManager);
+	}
+
+	@Override
+	protected String matchPredicate(List<String> terms) {
+		List<String> predicates = new ArrayList<>(terms.size());
+		for (int i = 0; i < terms.size(); i++) {
+			predicates.add("(" + matches("d.title", i) + " OR " + matches("d.content", i) + ")");
+		}
+		return String.join(" AND ", predicates);
+	}
+
+	@Override
+	protected String scoreExpression(List<String> terms) {
+		List<String> scores = new ArrayList<>(terms.size());
+		for (int i = 0; i < terms.size(); i++) {
+			scores.add("CASE WHEN " + matches("d.title", i) + " THEN 2 ELSE 1 END");
+		}
+		return "(" + String.join(" + ", scores) + ")";
+	}
+
+	@Override
+	protected void bindTerms(Query query, List<String> terms) {
+		// Terms consist of letters and digits only, so they contain no regex metacharacters.
+		for (int i = 0; i < terms.size(); i++) {
+			query.setParameter("wordPrefix" + i, WORD_START + terms.get(i));
+		}
+	}
+
+	private String matches(String column, int term) {
+		return "REGEXP_LIKE(LOWER(" + column + "), :wordPrefix" + term + ")";
+	}
+}
@@ -0,0 +1,36 @@
+package de.bettinger.processmgmt.search.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL full-text search on the generated {@code search_vector} column, served by its GIN index. Every term
+ * becomes a prefix lexeme ({@code term:*}) and all must match; {@code ts_rank} weighs title hits above content hits
+ * and is scaled to an integer so that it round-trips through page cursors exactly.
+ */
+class PostgresSearchAdapter extends NativeSearchAdapter {
+
+	private static final String TS_QUERY = "to_tsquery('simple', :tsQuery)";
+
+	PostgresSearchAdapter(EntityManager entityManager) {
+		super(entityManager);
+	}
+
+	@Override
+	protected String matchPredicate(List<String> terms) {
+		return "d.search_vector @@ " + TS_QUERY;
+	}
+
+	@Override
+	protected String scoreExpression(List<String> terms) {
+		return "CAST(ts_rank(d.search_vector, " + TS_QUERY + ") * 1000000 AS INTEGER)";
+	}
+
+	@Override
+	protected void bindTerms(Query query, List<String> terms) {
+		// Terms consist of letters and digits only, so they need no tsquery escaping.
+		query.setParameter("tsQuery", terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & ")));
+	}
+}
@@ -0,0 +1,51 @@
+package de.bettinger.processmgmt.search.infrastructure.persistence;
+
+import de.bettinger.processmgmt.common.domain.SearchDocumentType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Row of the {@code search_documents} index. Rows are only written by the copy statements of
+ * {@link SearchDocumentRepository}; the PostgreSQL-only {@code search_vector} column is generated from
+ * {@code title} and {@code content} and not mapped.
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "search_documents")
+public class SearchDocumentEntity {
+
+	@Id
+	@Column(name = "document_id", nullable = false)
+	private UUID documentId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "document_type", nullable = false, length = 20)
+	private SearchDocumentType documentType;
+
+	@Column(name = "tenant_id", nullable = false)
+	private String tenantId;
+
+	@Column(name = "case_id")
+	private UUID caseId;
+
+	@Column(name = "title", nullable = false)
+	private String title;
+
+	@Column(name = "content", columnDefinition = "TEXT", nullable = false)
+	private String content;
+
+	@Column(name = "updated_at", nullable = false)
+	private Instant updatedAt;
+
+	protected SearchDocumentEntity() {
+	}
+}
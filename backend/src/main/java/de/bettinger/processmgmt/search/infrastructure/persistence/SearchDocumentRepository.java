@@ -0,0 +1,51 @@
+package de.bettinger.processmgmt.search.infrastructure.persistence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Copies searchable text from the source tables into {@code search_documents}, one statement per document type
+ * and batch. The copies flush pending entity writes first, since they read rows saved in the same transaction.
+ * Tasks and meetings take the tenant of their case; rows without a case are not indexed.
+ */
+public interface SearchDocumentRepository extends JpaRepository<SearchDocumentEntity, UUID> {
+
+	@Modifying
+	@Query(value = "DELETE FROM search_documents WHERE document_id IN (:ids)", nativeQuery = true)
+	void deleteDocuments(@Param("ids") Collection<UUID> ids);
+
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+			INSERT INTO search_documents (document_id, document_type, tenant_id, case_id, title, content, updated_at)
+			SELECT t.id, 'TASK', c.tenant_id, t.case_id, t.title, t.description, :now
+			FROM tasks t
+			JOIN cases c ON c.id = t.case_id
+			WHERE t.id IN (:ids)
+			""", nativeQuery = true)
+	void copyTasks(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+			INSERT INTO search_documents (document_id, document_type, tenant_id, case_id, title, content, updated_at)
+			SELECT m.id, 'MEETING', c.tenant_id, m.case_id, m.title,
+				   COALESCE(m.description, '') || ' ' || COALESCE(m.minutes_text, ''), :now
+			FROM meetings m
+			JOIN cases c ON c.id = m.case_id
+			WHERE m.id IN (:ids)
+			""", nativeQuery = true)
+	void copyMeetings(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+			INSERT INTO search_documents (document_id, document_type, tenant_id, case_id, title, content, updated_at)
+			SELECT s.id, 'STAKEHOLDER', s.tenant_id, NULL, s.first_name || ' ' || s.last_name, s.role, :now
+			FROM stakeholders s
+			WHERE s.id IN (:ids)
+			""", nativeQuery = true)
+	void copyStakeholders(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+}
@@ -0,0 +1,27 @@
+package de.bettinger.processmgmt.search.infrastructure.persistence;
+
+import de.bettinger.processmgmt.search.application.SearchPort;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Picks the search adapter for the connected database. PostgreSQL gets the full-text column through the
+ * {@code db/vendor/postgresql} migrations; every other database uses the portable fallback.
+ */
+@Configuration
+public class SearchPortConfig {
+
+	@Bean
+	public SearchPort searchPort(DataSource dataSource, EntityManager entityManager) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			if ("PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+				return new PostgresSearchAdapter(entityManager);
+			}
+		}
+		return new PortableSearchAdapter(entityManager);
+	}
+}
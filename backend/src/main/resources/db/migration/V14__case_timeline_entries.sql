@@ -0,0 +1,12 @@
+CREATE TABLE case_timeline_entries (
+	event_id UUID PRIMARY KEY,
+	case_id UUID NOT NULL,
+	occurred_at TIMESTAMP NOT NULL,
+	entry_type VARCHAR(50) NOT NULL,
+	meeting_id UUID NULL,
+	task_id UUID NULL,
+	assignee_id VARCHAR(255) NULL,
+	location_id UUID NULL
+);
+
+CREATE INDEX idx_case_timeline_entries_case_occurred ON case_timeline_entries (case_id, occurred_at);
@@ -0,0 +1,6 @@
+ALTER TABLE outbox_events ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE outbox_events ADD COLUMN next_attempt_at TIMESTAMP NULL;
+ALTER TABLE outbox_events ADD COLUMN published_at TIMESTAMP NULL;
+ALTER TABLE outbox_events ADD COLUMN last_error VARCHAR(1000) NULL;
+
+CREATE INDEX idx_outbox_events_status_occurred_at ON outbox_events (status, occurred_at);
@@ -0,0 +1,3 @@
+ALTER TABLE outbox_events ADD COLUMN case_id UUID NULL;
+
+CREATE INDEX idx_outbox_events_case_occurred ON outbox_events (case_id, occurred_at);
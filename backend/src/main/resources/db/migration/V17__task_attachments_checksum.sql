@@ -0,0 +1 @@
+ALTER TABLE task_attachments ADD COLUMN checksum_sha256 VARCHAR(64) NULL;
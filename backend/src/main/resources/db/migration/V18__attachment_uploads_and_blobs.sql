@@ -0,0 +1,24 @@
+CREATE TABLE attachment_upload_sessions (
+	id UUID PRIMARY KEY,
+	tenant_id VARCHAR(255) NOT NULL,
+	task_id UUID NOT NULL,
+	file_name VARCHAR(255) NOT NULL,
+	content_type VARCHAR(255) NOT NULL,
+	total_size_bytes BIGINT NOT NULL,
+	received_bytes BIGINT NOT NULL,
+	created_by_stakeholder_id VARCHAR(255) NOT NULL,
+	created_at TIMESTAMP NOT NULL,
+	CONSTRAINT fk_attachment_upload_sessions_task
+		FOREIGN KEY (task_id) REFERENCES tasks (id)
+);
+
+CREATE TABLE attachment_blobs (
+	id UUID PRIMARY KEY,
+	tenant_id VARCHAR(255) NOT NULL,
+	checksum_sha256 VARCHAR(64) NOT NULL,
+	storage_key VARCHAR(500) NOT NULL,
+	size_bytes BIGINT NOT NULL,
+	ref_count INT NOT NULL,
+	CONSTRAINT uq_attachment_blobs_tenant_checksum UNIQUE (tenant_id, checksum_sha256),
+	CONSTRAINT uq_attachment_blobs_storage_key UNIQUE (storage_key)
+);
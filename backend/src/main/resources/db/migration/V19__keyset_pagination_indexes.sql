@@ -0,0 +1,13 @@
+-- Composite indexes for keyset pagination: equality filter, sort key, id tiebreaker.
+CREATE INDEX idx_stakeholders_tenant_created ON stakeholders (tenant_id, created_at, id);
+CREATE INDEX idx_stakeholders_tenant_last_name ON stakeholders (tenant_id, last_name, id);
+CREATE INDEX idx_stakeholders_tenant_first_name ON stakeholders (tenant_id, first_name, id);
+
+CREATE INDEX idx_tasks_case_created ON tasks (case_id, created_at, id);
+CREATE INDEX idx_tasks_case_due_date ON tasks (case_id, due_date, id);
+CREATE INDEX idx_tasks_assignee_created ON tasks (assignee_id, created_at, id);
+CREATE INDEX idx_tasks_assignee_due_date ON tasks (assignee_id, due_date, id);
+
+CREATE INDEX idx_meetings_case_scheduled ON meetings (case_id, scheduled_at, id);
+
+CREATE INDEX idx_cases_tenant_created ON cases (tenant_id, created_at, id);
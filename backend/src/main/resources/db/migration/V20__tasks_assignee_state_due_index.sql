@@ -0,0 +1,2 @@
+-- "My tasks": assignee range first, tenant checked via the cases primary key.
+CREATE INDEX idx_tasks_assignee_state_due ON tasks (assignee_id, state, due_date, id);
@@ -0,0 +1,12 @@
+-- Pending reminders keep status = NULL; the dispatcher sets DISPATCHED or, after max attempts, FAILED.
+ALTER TABLE task_reminders ADD COLUMN status VARCHAR(20) NULL;
+ALTER TABLE task_reminders ADD COLUMN dispatched_at TIMESTAMP NULL;
+ALTER TABLE task_reminders ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE task_reminders ADD COLUMN next_attempt_at TIMESTAMP NULL;
+ALTER TABLE task_reminders ADD COLUMN last_error VARCHAR(1000) NULL;
+
+-- Reminders that were due before this migration have already been delivered by the external process that read the
+-- table until now; only future ones are left to the in-app dispatcher.
+UPDATE task_reminders SET status = 'DISPATCHED', dispatched_at = remind_at WHERE remind_at <= CURRENT_TIMESTAMP;
+
+CREATE INDEX idx_task_reminders_status_remind_at ON task_reminders (status, remind_at);
@@ -0,0 +1,9 @@
+-- Events written by one command share occurred_at; their time-ordered (UUIDv7) ids break the tie.
+DROP INDEX idx_outbox_events_status_occurred_at;
+CREATE INDEX idx_outbox_events_status_occurred_at ON outbox_events (status, occurred_at, id);
+
+DROP INDEX idx_outbox_events_case_occurred;
+CREATE INDEX idx_outbox_events_case_occurred ON outbox_events (case_id, occurred_at, id);
+
+DROP INDEX idx_case_timeline_entries_case_occurred;
+CREATE INDEX idx_case_timeline_entries_case_occurred ON case_timeline_entries (case_id, occurred_at, event_id);
@@ -0,0 +1,13 @@
+-- Indexes for the remaining repository finders. Ordered finders get the ORDER BY column as trailing key; B-tree
+-- indexes are scanned backwards for DESC, so (case_id, created_at, id) from V19 already serves created_at DESC.
+CREATE INDEX idx_tasks_origin_meeting ON tasks (origin_meeting_id);
+CREATE INDEX idx_tasks_created_from_meeting ON tasks (created_from_meeting_id);
+
+CREATE INDEX idx_locations_tenant ON locations (tenant_id);
+CREATE INDEX idx_kitas_tenant ON kitas (tenant_id);
+
+DROP INDEX idx_task_attachments_task_id;
+CREATE INDEX idx_task_attachments_task_uploaded ON task_attachments (task_id, uploaded_at);
+
+DROP INDEX idx_task_reminders_task_id;
+CREATE INDEX idx_task_reminders_task_remind_at ON task_reminders (task_id, remind_at);
@@ -0,0 +1,28 @@
+-- Per-case task counters, maintained in the transaction of every task state change (CaseTaskStatsProjector).
+CREATE TABLE case_task_stats (
+	case_id UUID PRIMARY KEY,
+	open_count INT NOT NULL DEFAULT 0,
+	assigned_count INT NOT NULL DEFAULT 0,
+	in_progress_count INT NOT NULL DEFAULT 0,
+	blocked_count INT NOT NULL DEFAULT 0,
+	resolved_count INT NOT NULL DEFAULT 0,
+	blocked_by_dependency_count INT NOT NULL DEFAULT 0,
+	updated_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO case_task_stats (case_id, open_count, assigned_count, in_progress_count, blocked_count, resolved_count,
+							 blocked_by_dependency_count, updated_at)
+SELECT t.case_id,
+	   SUM(CASE WHEN t.state = 'OPEN' THEN 1 ELSE 0 END),
+	   SUM(CASE WHEN t.state = 'ASSIGNED' THEN 1 ELSE 0 END),
+	   SUM(CASE WHEN t.state = 'IN_PROGRESS' THEN 1 ELSE 0 END),
+	   SUM(CASE WHEN t.state = 'BLOCKED' THEN 1 ELSE 0 END),
+	   SUM(CASE WHEN t.state = 'RESOLVED' THEN 1 ELSE 0 END),
+	   SUM(CASE WHEN t.state <> 'RESOLVED' AND EXISTS (
+			   SELECT 1 FROM task_dependencies td
+			   JOIN tasks dependency ON dependency.id = td.depends_on_task_id
+			   WHERE td.task_id = t.id AND dependency.state <> 'RESOLVED'
+		   ) THEN 1 ELSE 0 END),
+	   CURRENT_TIMESTAMP
+FROM tasks t
+GROUP BY t.case_id;
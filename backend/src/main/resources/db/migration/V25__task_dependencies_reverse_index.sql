@@ -0,0 +1,3 @@
+-- Reverse lookup "which tasks depend on this one": the primary key (task_id, depends_on_task_id) only serves the
+-- forward direction.
+CREATE INDEX idx_task_dependencies_depends_on ON task_dependencies (depends_on_task_id, task_id);
@@ -0,0 +1,29 @@
+-- Tenant-scoped search index over tasks, meetings and stakeholders, maintained in the transaction of every write
+-- (SearchIndexer). Task and meeting tenants come from their case. The full-text column and its GIN index are
+-- PostgreSQL-only (db/vendor/postgresql); other databases search title and content with LIKE.
+CREATE TABLE search_documents (
+	document_id UUID PRIMARY KEY,
+	document_type VARCHAR(20) NOT NULL,
+	tenant_id VARCHAR(255) NOT NULL,
+	case_id UUID NULL,
+	title VARCHAR(255) NOT NULL,
+	content TEXT NOT NULL,
+	updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_search_documents_tenant_type ON search_documents (tenant_id, document_type);
+
+INSERT INTO search_documents (document_id, document_type, tenant_id, case_id, title, content, updated_at)
+SELECT t.id, 'TASK', c.tenant_id, t.case_id, t.title, t.description, CURRENT_TIMESTAMP
+FROM tasks t
+JOIN cases c ON c.id = t.case_id;
+
+INSERT INTO search_documents (document_id, document_type, tenant_id, case_id, title, content, updated_at)
+SELECT m.id, 'MEETING', c.tenant_id, m.case_id, m.title,
+	   COALESCE(m.description, '') || ' ' || COALESCE(m.minutes_text, ''), CURRENT_TIMESTAMP
+FROM meetings m
+JOIN cases c ON c.id = m.case_id;
+
+INSERT INTO search_documents (document_id, document_type, tenant_id, case_id, title, content, updated_at)
+SELECT s.id, 'STAKEHOLDER', s.tenant_id, NULL, s.first_name || ' ' || s.last_name, s.role, CURRENT_TIMESTAMP
+FROM stakeholders s;
@@ -0,0 +1,6 @@
+-- Chunked uploads carry their SHA-256 state between chunks, so completion needs no second read of the staged file.
+-- The chunk lease marks a chunk as being written outside any transaction; a lease that outlives its expiry is taken
+-- over by the next chunk.
+ALTER TABLE attachment_upload_sessions ADD COLUMN checksum_state BYTEA;
+ALTER TABLE attachment_upload_sessions ADD COLUMN chunk_lease_id UUID;
+ALTER TABLE attachment_upload_sessions ADD COLUMN chunk_lease_expires_at TIMESTAMP;
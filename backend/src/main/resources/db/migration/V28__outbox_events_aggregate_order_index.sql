@@ -0,0 +1,3 @@
+-- The relay only claims the oldest pending event of each aggregate; this index answers "is there an earlier pending
+-- event of the same aggregate" without scanning the aggregate's history.
+CREATE INDEX idx_outbox_events_aggregate_occurred ON outbox_events (aggregate_id, occurred_at, id);
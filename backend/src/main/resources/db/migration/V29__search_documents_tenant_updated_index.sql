@@ -0,0 +1,3 @@
+-- Search ranks at most the most recently updated matches of a tenant; this index lets broad queries walk a tenant's
+-- documents newest first and stop at the bound instead of sorting every match.
+CREATE INDEX idx_search_documents_tenant_updated ON search_documents (tenant_id, updated_at);
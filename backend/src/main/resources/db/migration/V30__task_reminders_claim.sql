@@ -0,0 +1,4 @@
+-- A dispatcher claims a reminder by writing its claim id and pushing next_attempt_at to the end of the delivery
+-- lease, then delivers it outside the claim transaction. Only the claim holder records the outcome; a reminder whose
+-- dispatcher died becomes claimable again once the lease has expired.
+ALTER TABLE task_reminders ADD COLUMN claim_id UUID NULL;
@@ -0,0 +1,7 @@
+-- Upload sessions expire when no chunk has arrived for app.attachments.upload-session-ttl; a scheduled sweep deletes
+-- expired sessions and their staging files. Open sessions get a day from their creation.
+ALTER TABLE attachment_upload_sessions ADD COLUMN expires_at TIMESTAMP NULL;
+UPDATE attachment_upload_sessions SET expires_at = created_at + INTERVAL '1' DAY;
+ALTER TABLE attachment_upload_sessions ALTER COLUMN expires_at SET NOT NULL;
+
+CREATE INDEX idx_attachment_upload_sessions_expires_at ON attachment_upload_sessions (expires_at);
@@ -0,0 +1,189 @@
+package de.bettinger.processmgmt.analytics.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import de.bettinger.processmgmt.auth.DevAuthFilter;
+import de.bettinger.processmgmt.casemanagement.application.CaseCommandService;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaEntity;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaRepository;
+import de.bettinger.processmgmt.collaboration.application.MeetingCommandService;
+import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskResolutionKind;
+import de.bettinger.processmgmt.common.domain.Address;
+import de.bettinger.processmgmt.common.infrastructure.persistence.HibernateStatementCounter;
+import de.bettinger.processmgmt.common.infrastructure.persistence.LocationEntity;
+import de.bettinger.processmgmt.common.infrastructure.persistence.LocationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CaseOverviewControllerIntegrationTest {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private CaseCommandService caseCommandService;
+
+	@Autowired
+	private TaskCommandService taskCommandService;
+
+	@Autowired
+	private MeetingCommandService meetingCommandService;
+
+	@Autowired
+	private LocationRepository locationRepository;
+
+	@Autowired
+	private KitaRepository kitaRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private MockMvc mockMvc;
+	private String tenantId;
+	private UUID locationId;
+	private UUID kitaId;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		tenantId = "tenant-" + UUID.randomUUID();
+		locationId = UUID.randomUUID();
+		locationRepository.saveAndFlush(new LocationEntity(locationId, tenantId, "Kita 1",
+				new Address("Musterstrasse", "12", "10115", "Berlin", "DE")));
+		kitaId = UUID.randomUUID();
+		kitaRepository.saveAndFlush(new KitaEntity(kitaId, tenantId, "Kita 1", locationId));
+	}
+
+	@Test
+	void summarizesMeetingsAndTasksPerCase() throws Exception {
+		UUID caseId = caseCommandService.createCase(tenantId, "Case 1", kitaId).getId();
+		Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		UUID heldMeetingId = scheduleMeeting(caseId, "Kickoff", now.minus(7, ChronoUnit.DAYS));
+		meetingCommandService.holdMeeting(tenantId, heldMeetingId, locationId, now.minus(6, ChronoUnit.DAYS),
+				"Minutes", List.of("u-1"), List.of());
+		scheduleMeeting(caseId, "Follow-up", now.plus(14, ChronoUnit.DAYS));
+		UUID nextMeetingId = scheduleMeeting(caseId, "Review", now.plus(7, ChronoUnit.DAYS));
+		taskCommandService.createTask(caseId, "Overdue", "Desc", 3, LocalDate.now().minusDays(2), null);
+		taskCommandService.createTask(caseId, "Open", "Desc", 3, LocalDate.now().plusDays(2), "u-1");
+		UUID doneTaskId = taskCommandService.createTask(caseId, "Done", "Desc", 3, LocalDate.now().minusDays(2), null)
+				.getId();
+		taskCommandService.resolveTask(doneTaskId, TaskResolutionKind.COMPLETED, "Done", "u-1");
+		UUID emptyCaseId = caseCommandService.createCase(tenantId, "Case 2", kitaId).getId();
+
+		listOverviews()
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andExpect(jsonPath("$.items[0].caseId").value(emptyCaseId.toString()))
+				.andExpect(jsonPath("$.items[0].nextMeeting").value(nullValue()))
+				.andExpect(jsonPath("$.items[0].lastHeldMeeting").value(nullValue()))
+				.andExpect(jsonPath("$.items[0].openTaskCount").value(0))
+				.andExpect(jsonPath("$.items[1].caseId").value(caseId.toString()))
+				.andExpect(jsonPath("$.items[1].title").value("Case 1"))
+				.andExpect(jsonPath("$.items[1].nextMeeting.id").value(nextMeetingId.toString()))
+				.andExpect(jsonPath("$.items[1].nextMeeting.title").value("Review"))
+				.andExpect(jsonPath("$.items[1].lastHeldMeeting.id").value(heldMeetingId.toString()))
+				.andExpect(jsonPath("$.items[1].openTaskCount").value(2))
+				.andExpect(jsonPath("$.items[1].overdueTaskCount").value(1))
+				.andExpect(jsonPath("$.nextCursor").value(nullValue()));
+	}
+
+	@Test
+	void skipsScheduledMeetingsWhoseDateHasPassed() throws Exception {
+		UUID caseId = caseCommandService.createCase(tenantId, "Case 1", kitaId).getId();
+		Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		scheduleMeeting(caseId, "Never held", now.minus(3, ChronoUnit.DAYS));
+		UUID nextMeetingId = scheduleMeeting(caseId, "Review", now.plus(7, ChronoUnit.DAYS));
+		UUID staleOnlyCaseId = caseCommandService.createCase(tenantId, "Case 2", kitaId).getId();
+		scheduleMeeting(staleOnlyCaseId, "Never held", now.minus(1, ChronoUnit.DAYS));
+
+		listOverviews()
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andExpect(jsonPath("$.items[0].caseId").value(staleOnlyCaseId.toString()))
+				.andExpect(jsonPath("$.items[0].nextMeeting").value(nullValue()))
+				.andExpect(jsonPath("$.items[1].caseId").value(caseId.toString()))
+				.andExpect(jsonPath("$.items[1].nextMeeting.id").value(nextMeetingId.toString()));
+	}
+
+	@Test
+	void pagesByKeysetWithConstantStatementCount() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			UUID caseId = caseCommandService.createCase(tenantId, "Case " + i, kitaId).getId();
+			scheduleMeeting(caseId, "Kickoff", Instant.now().plus(1, ChronoUnit.DAYS));
+			taskCommandService.createTask(caseId, "Task", "Desc", 3, null, null);
+		}
+		caseCommandService.createCase("other-" + tenantId, "Foreign case", seedForeignKita());
+
+		HibernateStatementCounter statementCounter = new HibernateStatementCounter(entityManagerFactory);
+		statementCounter.reset();
+		String firstPage = listOverviews("size", "3", "includeTotal", "true")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(3))
+				.andExpect(jsonPath("$.totalItems").value(5))
+				.andReturn().getResponse().getContentAsString();
+		// case page, case count, meetings and grouped task counts
+		assertThat(statementCounter.statementCount()).isEqualTo(4);
+
+		String cursor = JsonPath.read(firstPage, "$.nextCursor");
+		listOverviews("size", "3", "cursor", cursor)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andExpect(jsonPath("$.items[*].openTaskCount").value(List.of(1, 1)))
+				.andExpect(jsonPath("$.nextCursor").value(nullValue()));
+	}
+
+	@Test
+	void rejectsOversizedPages() throws Exception {
+		listOverviews("size", "101")
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+	}
+
+	private UUID scheduleMeeting(UUID caseId, String title, Instant scheduledAt) {
+		return meetingCommandService.scheduleMeeting(tenantId, caseId, locationId, title, "Desc", scheduledAt,
+				List.of("u-1")).getId();
+	}
+
+	private UUID seedForeignKita() {
+		String foreignTenantId = "other-" + tenantId;
+		UUID foreignLocationId = UUID.randomUUID();
+		locationRepository.saveAndFlush(new LocationEntity(foreignLocationId, foreignTenantId, "Kita 2",
+				new Address("Musterstrasse", "14", "10115", "Berlin", "DE")));
+		UUID foreignKitaId = UUID.randomUUID();
+		kitaRepository.saveAndFlush(new KitaEntity(foreignKitaId, foreignTenantId, "Kita 2", foreignLocationId));
+		return foreignKitaId;
+	}
+
+	private ResultActions listOverviews(String... params) throws Exception {
+		MockHttpServletRequestBuilder request = get("/api/cases/overview")
+				.header(DevAuthFilter.USER_HEADER, "u-1")
+				.header(DevAuthFilter.TENANT_HEADER, tenantId);
+		for (int i = 0; i < params.length; i += 2) {
+			request.param(params[i], params[i + 1]);
+		}
+		return mockMvc.perform(request);
+	}
+}
@@ -0,0 +1,100 @@
+package de.bettinger.processmgmt.analytics.api;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskResolutionKind;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class CaseTaskStatsControllerIntegrationTest {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskCommandService taskCommandService;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+	}
+
+	@Test
+	void countsTasksPerStateAfterEveryTransition() throws Exception {
+		UUID caseId = UUID.randomUUID();
+		UUID overdueTaskId = taskCommandService.createTask(caseId, "Overdue", "Desc", 3,
+				LocalDate.now().minusDays(2), null).getId();
+		taskCommandService.createTask(caseId, "Waiting", "Desc", 3, null, "u-1", null, List.of(overdueTaskId));
+		UUID blockedTaskId = taskCommandService.createTask(caseId, "Blocked", "Desc", 3, null, "u-2").getId();
+		taskCommandService.startTask(blockedTaskId);
+		taskCommandService.blockTask(blockedTaskId, "Waiting for parents");
+		UUID declinedTaskId = taskCommandService.createTask(caseId, "Declined", "Desc", 3, null, "u-3").getId();
+		taskCommandService.declineAssignment(declinedTaskId, "On leave", null);
+		UUID doneTaskId = taskCommandService.createTask(caseId, "Done", "Desc", 3, null, null).getId();
+		taskCommandService.resolveTask(doneTaskId, TaskResolutionKind.COMPLETED, "Done", "u-1");
+
+		getStats(caseId)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.caseId").value(caseId.toString()))
+				.andExpect(jsonPath("$.open").value(2))
+				.andExpect(jsonPath("$.assigned").value(1))
+				.andExpect(jsonPath("$.inProgress").value(0))
+				.andExpect(jsonPath("$.blocked").value(1))
+				.andExpect(jsonPath("$.resolved").value(1))
+				.andExpect(jsonPath("$.overdue").value(1))
+				.andExpect(jsonPath("$.blockedByDependency").value(1));
+
+		taskCommandService.resolveTask(overdueTaskId, TaskResolutionKind.COMPLETED, "Done", "u-1");
+		taskCommandService.unblockTask(blockedTaskId);
+
+		getStats(caseId)
+				.andExpect(jsonPath("$.open").value(1))
+				.andExpect(jsonPath("$.inProgress").value(1))
+				.andExpect(jsonPath("$.blocked").value(0))
+				.andExpect(jsonPath("$.resolved").value(2))
+				.andExpect(jsonPath("$.overdue").value(0))
+				.andExpect(jsonPath("$.blockedByDependency").value(0));
+	}
+
+	@Test
+	void recountsBlockedByDependencyWhenDependenciesChange() throws Exception {
+		UUID caseId = UUID.randomUUID();
+		UUID firstTaskId = taskCommandService.createTask(caseId, "First", "Desc", 3, null, null).getId();
+		UUID secondTaskId = taskCommandService.createTask(caseId, "Second", "Desc", 3, null, null).getId();
+
+		taskCommandService.updateTaskDependencies(secondTaskId, List.of(firstTaskId));
+		getStats(caseId).andExpect(jsonPath("$.blockedByDependency").value(1));
+
+		taskCommandService.updateTaskDependencies(secondTaskId, List.of());
+		getStats(caseId).andExpect(jsonPath("$.blockedByDependency").value(0));
+	}
+
+	@Test
+	void returnsZeroCountsForCaseWithoutTasks() throws Exception {
+		getStats(UUID.randomUUID())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.open").value(0))
+				.andExpect(jsonPath("$.overdue").value(0))
+				.andExpect(jsonPath("$.updatedAt").value(nullValue()));
+	}
+
+	private ResultActions getStats(UUID caseId) throws Exception {
+		return mockMvc.perform(get("/api/cases/{caseId}/task-stats", caseId));
+	}
+}
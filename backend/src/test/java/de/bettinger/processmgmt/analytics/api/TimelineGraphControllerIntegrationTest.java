@@ -1,7 +1,9 @@
 package de.bettinger.processmgmt.analytics.api;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -168,6 +170,39 @@ class TimelineGraphControllerIntegrationTest {
 				.andExpect(jsonPath("$.tasks[2].createdFromMeetingId").value(nullValue()));
 	}
 
+	@Test
+	void answersUnchangedGraphWithNotModifiedUntilATaskCommandChangesTheCase() throws Exception {
+		String tenantId = "tenant-1";
+		UUID locationId = seedLocation(tenantId, "Kita Regenbogen");
+		UUID kitaId = seedKita(tenantId, "Kita Regenbogen", locationId);
+		UUID caseId = caseCommandService.createCase(tenantId, "Case Graph ETag", kitaId).getId();
+		UUID taskId = taskCommandService.createTask(caseId, "Title", "Desc", 3, null, null).getId();
+
+		String etag = mockMvc.perform(get("/api/cases/{caseId}/timeline-graph", caseId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isOk())
+				.andExpect(header().exists("ETag"))
+				.andReturn().getResponse().getHeader("ETag");
+
+		mockMvc.perform(get("/api/cases/{caseId}/timeline-graph", caseId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId)
+						.header("If-None-Match", etag))
+				.andExpect(status().isNotModified());
+
+		taskCommandService.assignTask(taskId, "u-2");
+
+		String changedEtag = mockMvc.perform(get("/api/cases/{caseId}/timeline-graph", caseId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId)
+						.header("If-None-Match", etag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.tasks[0].state").value("ASSIGNED"))
+				.andReturn().getResponse().getHeader("ETag");
+		assertThat(changedEtag).isNotEqualTo(etag);
+	}
+
 	private UUID seedKita(String tenantId, String name, UUID locationId) {
 		KitaEntity kita = new KitaEntity(UUID.randomUUID(), tenantId, name, locationId);
 		kitaRepository.saveAndFlush(kita);
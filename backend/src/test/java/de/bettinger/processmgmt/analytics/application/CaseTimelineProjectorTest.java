@@ -0,0 +1,69 @@
+package de.bettinger.processmgmt.analytics.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bettinger.processmgmt.analytics.api.TimelineDtos.TimelineEntry;
+import de.bettinger.processmgmt.analytics.infrastructure.persistence.CaseTimelineEntryRepository;
+import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskResolutionKind;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class CaseTimelineProjectorTest {
+
+	@Autowired
+	private TaskCommandService taskCommandService;
+
+	@Autowired
+	private CaseTimelineProjector caseTimelineProjector;
+
+	@Autowired
+	private CaseTimelineEntryRepository caseTimelineEntryRepository;
+
+	@Autowired
+	private TimelineQueryService timelineQueryService;
+
+	@Test
+	void projectsOutboxEventsOnWriteAndRebuildsFromOutbox() {
+		UUID caseId = UUID.randomUUID();
+		UUID otherCaseId = UUID.randomUUID();
+		UUID taskId = taskCommandService.createTask(caseId, "Title", "Desc", 3, null, "u-1").getId();
+		taskCommandService.resolveTask(taskId, TaskResolutionKind.COMPLETED, "Done", "u-1");
+		taskCommandService.createTask(otherCaseId, "Other", "Desc", 3, null, null);
+
+		assertThat(timelineQueryService.getTimeline(caseId).entries())
+				.extracting(TimelineEntry::type)
+				.containsExactly("TASK_CREATED", "TASK_ASSIGNED", "TASK_RESOLVED");
+
+		caseTimelineEntryRepository.deleteAll();
+		assertThat(timelineQueryService.getTimeline(caseId).entries()).isEmpty();
+
+		caseTimelineProjector.rebuild();
+
+		assertThat(timelineQueryService.getTimeline(caseId).entries())
+				.extracting(TimelineEntry::type)
+				.containsExactly("TASK_CREATED", "TASK_ASSIGNED", "TASK_RESOLVED");
+		assertThat(timelineQueryService.getTimeline(otherCaseId).entries())
+				.extracting(TimelineEntry::taskId)
+				.doesNotContain(taskId);
+	}
+
+	@Test
+	void backfillSkipsEventsThatAlreadyHaveAnEntry() {
+		UUID caseId = UUID.randomUUID();
+		UUID taskId = taskCommandService.createTask(caseId, "Title", "Desc", 3, null, "u-1").getId();
+		caseTimelineEntryRepository.findAllByCaseIdOrderByOccurredAtAscEventIdAsc(caseId).stream()
+				.filter(entry -> entry.getEntryType().equals("TASK_ASSIGNED"))
+				.forEach(caseTimelineEntryRepository::delete);
+		taskCommandService.resolveTask(taskId, TaskResolutionKind.COMPLETED, "Done", "u-1");
+
+		caseTimelineProjector.backfill();
+
+		assertThat(timelineQueryService.getTimeline(caseId).entries())
+				.extracting(TimelineEntry::type)
+				.containsExactly("TASK_CREATED", "TASK_ASSIGNED", "TASK_RESOLVED");
+	}
+}
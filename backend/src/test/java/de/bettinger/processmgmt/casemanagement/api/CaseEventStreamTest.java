@@ -0,0 +1,155 @@
+package de.bettinger.processmgmt.casemanagement.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import de.bettinger.processmgmt.auth.DevAuthFilter;
+import de.bettinger.processmgmt.casemanagement.domain.ProcessCaseStatus;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseEntity;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
+import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.common.outbox.OutboxEventRepository;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class CaseEventStreamTest {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private ProcessCaseRepository processCaseRepository;
+
+	@Autowired
+	private TaskCommandService taskCommandService;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+	}
+
+	@Test
+	void pushesCommittedTaskEventsToSubscribers() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID caseId = seedCase(tenantId);
+
+		MvcResult result = mockMvc.perform(get("/api/cases/{caseId}/events", caseId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		UUID taskId = taskCommandService.createTask(caseId, "Live Task", "Desc", 3, null, "u-2").getId();
+
+		String body = awaitBody(result.getResponse(), content -> content.contains("event:TaskAssigned"));
+		assertThat(body).contains("event:TaskCreated");
+		assertThat(body).contains(taskId.toString());
+		assertThat(body.indexOf("event:TaskCreated")).isLessThan(body.indexOf("event:TaskAssigned"));
+	}
+
+	@Test
+	void pushesChangedEventForChangesWithoutOutboxEvent() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID caseId = seedCase(tenantId);
+		UUID taskId = taskCommandService.createTask(caseId, "Live Task", "Desc", 3, null, "u-2").getId();
+
+		MvcResult result = mockMvc.perform(get("/api/cases/{caseId}/events", caseId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		taskCommandService.startTask(taskId);
+
+		String body = awaitBody(result.getResponse(), content -> content.contains("event:changed"));
+		assertThat(body).contains(caseId.toString());
+	}
+
+	@Test
+	void replaysEventsAfterLastEventId() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID caseId = seedCase(tenantId);
+		UUID seenTaskId = taskCommandService.createTask(caseId, "Seen", "Desc", 3, null, null).getId();
+		UUID lastEventId = outboxEventRepository.findFirstByCaseIdOrderByOccurredAtDescIdDesc(caseId)
+				.orElseThrow()
+				.getId();
+		UUID missedTaskId = taskCommandService.createTask(caseId, "Missed", "Desc", 3, null, null).getId();
+
+		MvcResult result = mockMvc.perform(get("/api/cases/{caseId}/events", caseId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId)
+						.header("Last-Event-ID", lastEventId.toString()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String body = awaitBody(result.getResponse(), content -> content.contains(missedTaskId.toString()));
+		assertThat(body).doesNotContain(seenTaskId.toString());
+	}
+
+	@Test
+	void sendsResetForUnknownLastEventId() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID caseId = seedCase(tenantId);
+
+		MvcResult result = mockMvc.perform(get("/api/cases/{caseId}/events", caseId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId)
+						.header("Last-Event-ID", UUID.randomUUID().toString()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		awaitBody(result.getResponse(), content -> content.contains("event:reset"));
+	}
+
+	@Test
+	void rejectsCrossTenantSubscription() throws Exception {
+		UUID caseId = seedCase("tenant-" + UUID.randomUUID());
+
+		mockMvc.perform(get("/api/cases/{caseId}/events", caseId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, "tenant-other"))
+				.andExpect(status().isNotFound());
+	}
+
+	private String awaitBody(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+		long deadline = System.nanoTime() + 5_000_000_000L;
+		String content = response.getContentAsString();
+		while (!condition.test(content) && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+			content = response.getContentAsString();
+		}
+		assertThat(content).matches(condition);
+		return content;
+	}
+
+	private UUID seedCase(String tenantId) {
+		UUID caseId = UUID.randomUUID();
+		processCaseRepository.saveAndFlush(new ProcessCaseEntity(
+				caseId,
+				tenantId,
+				"Case Title",
+				UUID.randomUUID(),
+				ProcessCaseStatus.DRAFT,
+				Instant.now()
+		));
+		return caseId;
+	}
+}
@@ -1,18 +1,36 @@
 package de.bettinger.processmgmt.collaboration.api;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.jayway.jsonpath.JsonPath;
 import de.bettinger.processmgmt.auth.DevAuthFilter;
 import de.bettinger.processmgmt.casemanagement.domain.ProcessCaseStatus;
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseEntity;
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
+import de.bettinger.processmgmt.collaboration.application.TaskAttachmentService;
 import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.AttachmentBlobRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskAttachmentEntity;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskAttachmentRepository;
 import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
+import de.bettinger.processmgmt.common.infrastructure.persistence.HibernateStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,19 +38,24 @@ import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.mock.web.MockMultipartFile;
 
-@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@SpringBootTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
 class TaskAttachmentControllerTest {
 
 	@TempDir
-	static java.nio.file.Path tempDir;
+	static Path tempDir;
 
 	@DynamicPropertySource
 	static void overrideStorageRoot(DynamicPropertyRegistry registry) {
@@ -51,6 +74,18 @@ class TaskAttachmentControllerTest {
 	@Autowired
 	private TaskAttachmentRepository taskAttachmentRepository;
 
+	@Autowired
+	private AttachmentBlobRepository attachmentBlobRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TaskAttachmentService taskAttachmentService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
 	private MockMvc mockMvc;
 
 	@BeforeEach
@@ -96,6 +131,88 @@ class TaskAttachmentControllerTest {
 				.andExpect(content().bytes("Hallo".getBytes(java.nio.charset.StandardCharsets.UTF_8)));
 	}
 
+	@Test
+	void servesRangeRequestsAndConditionalDownloads() throws Exception {
+		String tenantId = "tenant-1";
+		TaskEntity task = seedTask(tenantId);
+		MockMultipartFile file = new MockMultipartFile(
+				"file",
+				"notes.txt",
+				"text/plain",
+				"Hallo Welt".getBytes(java.nio.charset.StandardCharsets.UTF_8)
+		);
+		mockMvc.perform(MockMvcRequestBuilders.multipart("/api/tasks/{taskId}/attachments", task.getId())
+						.file(file)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isCreated());
+		UUID attachmentId = taskAttachmentRepository.findAllByTaskIdOrderByUploadedAtDesc(task.getId())
+				.getFirst()
+				.getId();
+
+		String etag = mockMvc.perform(get("/api/tasks/{taskId}/attachments/{attachmentId}", task.getId(), attachmentId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Accept-Ranges", "bytes"))
+				.andExpect(header().exists("ETag"))
+				.andReturn().getResponse().getHeader("ETag");
+
+		mockMvc.perform(get("/api/tasks/{taskId}/attachments/{attachmentId}", task.getId(), attachmentId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId)
+						.header("Range", "bytes=6-9"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string("Content-Range", "bytes 6-9/10"))
+				.andExpect(content().bytes("Welt".getBytes(java.nio.charset.StandardCharsets.UTF_8)));
+
+		mockMvc.perform(get("/api/tasks/{taskId}/attachments/{attachmentId}", task.getId(), attachmentId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId)
+						.header("If-None-Match", etag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void listsAttachmentsOfSeveralTasksWithOneOwnershipCheck() throws Exception {
+		String tenantId = "tenant-1";
+		TaskEntity first = seedTask(tenantId);
+		TaskEntity second = seedTask(tenantId);
+		TaskEntity third = seedTask(tenantId);
+		upload(tenantId, first.getId(), "first.txt");
+		upload(tenantId, second.getId(), "second-a.txt");
+		upload(tenantId, second.getId(), "second-b.txt");
+
+		HibernateStatementCounter statementCounter = new HibernateStatementCounter(entityManagerFactory);
+		statementCounter.reset();
+		mockMvc.perform(get("/api/tasks/attachments")
+						.param("taskIds", second.getId().toString(), first.getId().toString(),
+								third.getId().toString())
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(3))
+				.andExpect(jsonPath("$.items[0].fileName").value("second-b.txt"))
+				.andExpect(jsonPath("$.items[1].fileName").value("second-a.txt"))
+				.andExpect(jsonPath("$.items[2].fileName").value("first.txt"));
+
+		// ownership of the uploaded-to tasks is cached; only the third task and the attachments are queried
+		assertThat(statementCounter.statementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void rejectsBatchListingWithForeignTask() throws Exception {
+		TaskEntity own = seedTask("tenant-1");
+		TaskEntity foreign = seedTask("tenant-2");
+
+		mockMvc.perform(get("/api/tasks/attachments")
+						.param("taskIds", own.getId().toString(), foreign.getId().toString())
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, "tenant-1"))
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.code").value("NOT_FOUND"));
+	}
+
 	@Test
 	void rejectsCrossTenantAccess() throws Exception {
 		String tenantId = "tenant-1";
@@ -124,6 +241,162 @@ class TaskAttachmentControllerTest {
 				.andExpect(status().isNotFound());
 	}
 
+	@Test
+	void uploadsInChunksAndResumesFromReportedOffset() throws Exception {
+		String tenantId = "tenant-chunked";
+		TaskEntity task = seedTask(tenantId);
+		byte[] content = "Erster Teil, zweiter Teil".getBytes(StandardCharsets.UTF_8);
+
+		UUID uploadId = startUpload(tenantId, task.getId(), "protocol.txt", content.length);
+
+		appendChunk(tenantId, task.getId(), uploadId, 0, Arrays.copyOfRange(content, 0, 12))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.receivedBytes").value(12))
+				.andExpect(jsonPath("$.attachmentId").doesNotExist());
+
+		appendChunk(tenantId, task.getId(), uploadId, 5, Arrays.copyOfRange(content, 5, 12))
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.code").value("CONFLICT"));
+
+		mockMvc.perform(get("/api/tasks/{taskId}/attachments/uploads/{uploadId}", task.getId(), uploadId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.receivedBytes").value(12))
+				.andExpect(jsonPath("$.totalSizeBytes").value(content.length));
+
+		appendChunk(tenantId, task.getId(), uploadId, 12, Arrays.copyOfRange(content, 12, content.length))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.receivedBytes").value(content.length))
+				.andExpect(jsonPath("$.attachmentId").exists());
+
+		TaskAttachmentEntity attachment = taskAttachmentRepository
+				.findAllByTaskIdOrderByUploadedAtDesc(task.getId()).getFirst();
+		assertThat(attachment.getFileName()).isEqualTo("protocol.txt");
+		assertThat(attachment.getChecksumSha256())
+				.isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+		mockMvc.perform(get("/api/tasks/{taskId}/attachments/{attachmentId}", task.getId(), attachment.getId())
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isOk())
+				.andExpect(content().bytes(content));
+		mockMvc.perform(get("/api/tasks/{taskId}/attachments/uploads/{uploadId}", task.getId(), uploadId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void deletesExpiredUploadsAndTheirStagedBytes() throws Exception {
+		String tenantId = "tenant-expiry";
+		TaskEntity task = seedTask(tenantId);
+		UUID expiredId = startUpload(tenantId, task.getId(), "stale.txt", 10);
+		appendChunk(tenantId, task.getId(), expiredId, 0, "Teil".getBytes(StandardCharsets.UTF_8))
+				.andExpect(status().isOk());
+		UUID activeId = startUpload(tenantId, task.getId(), "active.txt", 10);
+		Path stagedPath = tempDir.resolve(".staging").resolve(expiredId.toString());
+		assertThat(Files.exists(stagedPath)).isTrue();
+
+		jdbcTemplate.update("UPDATE attachment_upload_sessions SET expires_at = ? WHERE id = ?",
+				Timestamp.from(Instant.now().minusSeconds(1)), expiredId);
+
+		appendChunk(tenantId, task.getId(), expiredId, 4, "Rest".getBytes(StandardCharsets.UTF_8))
+				.andExpect(status().isNotFound());
+		assertThat(taskAttachmentService.deleteExpiredUploads(100)).isEqualTo(1);
+		assertThat(Files.exists(stagedPath)).isFalse();
+		mockMvc.perform(get("/api/tasks/{taskId}/attachments/uploads/{uploadId}", task.getId(), expiredId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isNotFound());
+		mockMvc.perform(get("/api/tasks/{taskId}/attachments/uploads/{uploadId}", task.getId(), activeId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void storesIdenticalContentOncePerTenant() throws Exception {
+		String tenantId = "tenant-dedup";
+		TaskEntity first = seedTask(tenantId);
+		TaskEntity second = seedTask(tenantId);
+		byte[] content = "Gleicher Inhalt".getBytes(StandardCharsets.UTF_8);
+
+		MockMultipartFile file = new MockMultipartFile("file", "notes.txt", "text/plain", content);
+		mockMvc.perform(MockMvcRequestBuilders.multipart("/api/tasks/{taskId}/attachments", first.getId())
+						.file(file)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isCreated());
+		UUID uploadId = startUpload(tenantId, second.getId(), "copy.txt", content.length);
+		appendChunk(tenantId, second.getId(), uploadId, 0, content).andExpect(status().isOk());
+
+		TaskAttachmentEntity firstAttachment = taskAttachmentRepository
+				.findAllByTaskIdOrderByUploadedAtDesc(first.getId()).getFirst();
+		TaskAttachmentEntity secondAttachment = taskAttachmentRepository
+				.findAllByTaskIdOrderByUploadedAtDesc(second.getId()).getFirst();
+		assertThat(secondAttachment.getStorageKey()).isEqualTo(firstAttachment.getStorageKey());
+		assertThat(attachmentBlobRepository.findAll())
+				.filteredOn(blob -> blob.getTenantId().equals(tenantId))
+				.singleElement()
+				.satisfies(blob -> assertThat(blob.getRefCount()).isEqualTo(2));
+
+		Path storedPath = tempDir.resolve(firstAttachment.getStorageKey());
+		mockMvc.perform(delete("/api/tasks/{taskId}/attachments/{attachmentId}", first.getId(),
+						firstAttachment.getId())
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isNoContent());
+		assertThat(Files.exists(storedPath)).isTrue();
+
+		mockMvc.perform(delete("/api/tasks/{taskId}/attachments/{attachmentId}", second.getId(),
+						secondAttachment.getId())
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isNoContent());
+		assertThat(Files.exists(storedPath)).isFalse();
+		assertThat(attachmentBlobRepository.findAll()).noneMatch(blob -> blob.getTenantId().equals(tenantId));
+
+		UUID reuploadId = startUpload(tenantId, second.getId(), "again.txt", content.length);
+		appendChunk(tenantId, second.getId(), reuploadId, 0, content).andExpect(status().isOk());
+		assertThat(Files.exists(storedPath)).isTrue();
+		try (var stagedFiles = Files.list(tempDir.resolve(".staging"))) {
+			assertThat(stagedFiles).noneMatch(path -> path.getFileName().toString().equals(reuploadId.toString()));
+		}
+	}
+
+	private UUID startUpload(String tenantId, UUID taskId, String fileName, long sizeBytes) throws Exception {
+		String response = mockMvc.perform(post("/api/tasks/{taskId}/attachments/uploads", taskId)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"fileName\":\"" + fileName + "\",\"contentType\":\"text/plain\",\"sizeBytes\":"
+								+ sizeBytes + "}"))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.receivedBytes").value(0))
+				.andReturn().getResponse().getContentAsString();
+		return UUID.fromString(JsonPath.read(response, "$.uploadId"));
+	}
+
+	private ResultActions appendChunk(String tenantId, UUID taskId, UUID uploadId, long offset, byte[] chunk)
+			throws Exception {
+		return mockMvc.perform(patch("/api/tasks/{taskId}/attachments/uploads/{uploadId}", taskId, uploadId)
+				.header(DevAuthFilter.USER_HEADER, "u-1")
+				.header(DevAuthFilter.TENANT_HEADER, tenantId)
+				.header("Upload-Offset", offset)
+				.contentType(MediaType.APPLICATION_OCTET_STREAM)
+				.content(chunk));
+	}
+
+	private void upload(String tenantId, UUID taskId, String fileName) throws Exception {
+		MockMultipartFile file = new MockMultipartFile("file", fileName, "text/plain",
+				fileName.getBytes(StandardCharsets.UTF_8));
+		mockMvc.perform(MockMvcRequestBuilders.multipart("/api/tasks/{taskId}/attachments", taskId)
+						.file(file)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isCreated());
+	}
+
 	private TaskEntity seedTask(String tenantId) {
 		UUID caseId = UUID.randomUUID();
 		ProcessCaseEntity processCase = new ProcessCaseEntity(
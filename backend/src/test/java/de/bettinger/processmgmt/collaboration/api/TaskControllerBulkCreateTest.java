@@ -0,0 +1,172 @@
+package de.bettinger.processmgmt.collaboration.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import de.bettinger.processmgmt.auth.DevAuthFilter;
+import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.infrastructure.persistence.HibernateStatementCounter;
+import de.bettinger.processmgmt.common.outbox.OutboxEventRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.StringJoiner;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskControllerBulkCreateTest {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TaskCommandService taskCommandService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	private MockMvc mockMvc;
+	private HibernateStatementCounter statementCounter;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		statementCounter = new HibernateStatementCounter(entityManagerFactory);
+	}
+
+	@Test
+	void createsTasksWithDependenciesOnExistingAndBatchTasks() throws Exception {
+		UUID caseId = UUID.randomUUID();
+		TaskEntity existing = taskCommandService.createTask(caseId, "Existing", "Desc", 3, null, null);
+		String payload = """
+				{
+				  "tasks": [
+				    {"ref": "collect", "title": "Collect documents", "priority": 2, "assigneeId": "u-1",
+				     "dependsOnTaskIds": ["%s"]},
+				    {"ref": "review", "title": "Review documents", "priority": 3, "dependsOnRefs": ["collect"]}
+				  ]
+				}
+				""".formatted(existing.getId());
+
+		perform(caseId, payload)
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andExpect(jsonPath("$.items[0].ref").value("collect"))
+				.andExpect(jsonPath("$.items[0].state").value("ASSIGNED"))
+				.andExpect(jsonPath("$.items[0].dependsOnTaskIds[0]").value(existing.getId().toString()))
+				.andExpect(jsonPath("$.items[0].blockedByTaskIds[0]").value(existing.getId().toString()))
+				.andExpect(jsonPath("$.items[1].state").value("OPEN"))
+				.andExpect(jsonPath("$.items[1].blockedByTaskIds.length()").value(1));
+
+		assertThat(taskRepository.findAllByCaseIdOrderByCreatedAtDesc(caseId)).hasSize(3);
+	}
+
+	@Test
+	void reportsEveryRejectedItemAndWritesNothing() throws Exception {
+		UUID caseId = UUID.randomUUID();
+		TaskEntity otherCaseTask = taskCommandService.createTask(UUID.randomUUID(), "Other", "Desc", 3, null, null);
+		long outboxEventsBefore = outboxEventRepository.count();
+		String payload = """
+				{
+				  "tasks": [
+				    {"ref": "a", "title": "Valid", "priority": 3},
+				    {"ref": "b", "title": "Cross case", "priority": 3, "dependsOnTaskIds": ["%s"]},
+				    {"ref": "c", "title": "Unknown ref", "priority": 3, "dependsOnRefs": ["missing"]},
+				    {"ref": "a", "title": "Duplicate ref", "priority": 3}
+				  ]
+				}
+				""".formatted(otherCaseTask.getId());
+
+		perform(caseId, payload)
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.code").value("VALIDATION_ERROR"))
+				.andExpect(jsonPath("$.details['tasks[0]']").doesNotExist())
+				.andExpect(jsonPath("$.details['tasks[1]']").value("All dependencies must belong to the same case"))
+				.andExpect(jsonPath("$.details['tasks[2]']").value("Unknown dependsOnRefs entry: missing"))
+				.andExpect(jsonPath("$.details['tasks[3]']").value("ref must be unique within the batch: a"));
+
+		assertThat(taskRepository.findAllByCaseIdOrderByCreatedAtDesc(caseId)).isEmpty();
+		assertThat(outboxEventRepository.count()).isEqualTo(outboxEventsBefore);
+	}
+
+	@Test
+	void rejectsCycleBetweenBatchTasks() throws Exception {
+		UUID caseId = UUID.randomUUID();
+		String payload = """
+				{
+				  "tasks": [
+				    {"ref": "a", "title": "A", "priority": 3, "dependsOnRefs": ["b"]},
+				    {"ref": "b", "title": "B", "priority": 3, "dependsOnRefs": ["a"]}
+				  ]
+				}
+				""";
+
+		perform(caseId, payload)
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.details['tasks[1]']").value("Task dependencies must not contain cycles"));
+
+		assertThat(taskRepository.findAllByCaseIdOrderByCreatedAtDesc(caseId)).isEmpty();
+	}
+
+	@Test
+	void rejectsInvalidItemFields() throws Exception {
+		String payload = """
+				{"tasks": [{"title": " ", "priority": 9}]}
+				""";
+
+		perform(UUID.randomUUID(), payload)
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.code").value("VALIDATION_ERROR"))
+				.andExpect(jsonPath("$.details['tasks[0].title']").exists())
+				.andExpect(jsonPath("$.details['tasks[0].priority']").exists());
+	}
+
+	@Test
+	void writesBatchWithOneInsertBatchPerTable() throws Exception {
+		int count = 20;
+		StringJoiner tasks = new StringJoiner(",", "{\"tasks\":[", "]}");
+		for (int i = 0; i < count; i++) {
+			String dependsOn = i == 0 ? "" : ", \"dependsOnRefs\": [\"t" + (i - 1) + "\"]";
+			tasks.add("{\"ref\": \"t" + i + "\", \"title\": \"Task " + i + "\", \"priority\": 3, \"assigneeId\": \"u-1\""
+					+ dependsOn + "}");
+		}
+
+		statementCounter.reset();
+		perform(UUID.randomUUID(), tasks.toString())
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.items.length()").value(count));
+
+		// tasks, task_dependencies, outbox_events and case_timeline_entries: one insert batch each, no merge SELECTs;
+		// case_task_stats: counter update, row insert and retried update for the new case, then one blocked count
+		// and its update; search_documents: one copy statement for the whole batch
+		assertThat(statementCounter.statementCount()).isLessThanOrEqualTo(10);
+	}
+
+	private ResultActions perform(UUID caseId, String payload) throws Exception {
+		return mockMvc.perform(post("/api/cases/{caseId}/tasks/bulk", caseId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(payload)
+				.header(DevAuthFilter.USER_HEADER, "u-1")
+				.header(DevAuthFilter.TENANT_HEADER, "tenant-1"));
+	}
+}
@@ -97,7 +97,7 @@ class TaskControllerDependencyValidationTest {
 					.header(DevAuthFilter.TENANT_HEADER, "tenant-1"))
 				.andExpect(status().isCreated());
 
-		TaskEntity taskB = taskRepository.findAllByCaseIdOrderByCreatedAtDesc(caseId).stream()
+		TaskEntity taskB = taskRepository.findWithDependenciesByCaseIdOrderByCreatedAtDesc(caseId).stream()
 				.filter(task -> "Task B".equals(task.getTitle()))
 				.findFirst()
 				.orElseThrow();
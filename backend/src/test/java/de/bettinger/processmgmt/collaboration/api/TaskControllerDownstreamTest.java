@@ -0,0 +1,84 @@
+package de.bettinger.processmgmt.collaboration.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import de.bettinger.processmgmt.auth.DevAuthFilter;
+import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskResolutionKind;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class TaskControllerDownstreamTest {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskCommandService taskCommandService;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+	}
+
+	@Test
+	void listsTransitiveDependentsByShortestDepth() throws Exception {
+		UUID caseId = UUID.randomUUID();
+		UUID root = createTask(caseId, "Root");
+		UUID left = createTask(caseId, "Left", root);
+		UUID right = createTask(caseId, "Right", root);
+		UUID join = createTask(caseId, "Join", left, right, root);
+		UUID leaf = createTask(caseId, "Leaf", join);
+		createTask(caseId, "Unrelated");
+		taskCommandService.resolveTask(right, TaskResolutionKind.COMPLETED, "Done", "u-1");
+
+		listDownstream(root)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.taskId").value(root.toString()))
+				.andExpect(jsonPath("$.items.length()").value(4))
+				.andExpect(jsonPath("$.items[0].id").value(left.toString()))
+				.andExpect(jsonPath("$.items[0].depth").value(1))
+				.andExpect(jsonPath("$.items[1].id").value(right.toString()))
+				.andExpect(jsonPath("$.items[1].state").value("RESOLVED"))
+				.andExpect(jsonPath("$.items[2].id").value(join.toString()))
+				.andExpect(jsonPath("$.items[2].depth").value(1))
+				.andExpect(jsonPath("$.items[3].id").value(leaf.toString()))
+				.andExpect(jsonPath("$.items[3].title").value("Leaf"))
+				.andExpect(jsonPath("$.items[3].depth").value(2));
+
+		listDownstream(leaf)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(0));
+	}
+
+	@Test
+	void returnsNotFoundForUnknownTask() throws Exception {
+		listDownstream(UUID.randomUUID())
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.code").value("NOT_FOUND"));
+	}
+
+	private UUID createTask(UUID caseId, String title, UUID... dependsOnTaskIds) {
+		return taskCommandService.createTask(caseId, title, "Desc", 3, null, null, null, List.of(dependsOnTaskIds))
+				.getId();
+	}
+
+	private ResultActions listDownstream(UUID taskId) throws Exception {
+		return mockMvc.perform(get("/api/tasks/{taskId}/downstream", taskId)
+				.header(DevAuthFilter.USER_HEADER, "u-1")
+				.header(DevAuthFilter.TENANT_HEADER, "tenant-1"));
+	}
+}
@@ -0,0 +1,115 @@
+package de.bettinger.processmgmt.collaboration.api;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import de.bettinger.processmgmt.auth.DevAuthFilter;
+import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskResolutionKind;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class TaskControllerScheduleTest {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private TaskCommandService taskCommandService;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+	}
+
+	@Test
+	void computesCriticalPathAndSlackOverUnresolvedTasks() throws Exception {
+		UUID caseId = UUID.randomUUID();
+		UUID root = createTask(caseId, "Root");
+		UUID middle = createTask(caseId, "Middle", root);
+		UUID last = createTask(caseId, "Last", middle);
+		UUID side = createTask(caseId, "Side", root);
+		UUID unrelated = createTask(caseId, "Unrelated");
+
+		getSchedule(caseId)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.caseId").value(caseId.toString()))
+				.andExpect(jsonPath("$.length").value(3))
+				.andExpect(jsonPath("$.criticalPath", contains(root.toString(), middle.toString(), last.toString())))
+				.andExpect(jsonPath("$.tasks.length()").value(5))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + side + "')].earliestStart", contains(1)))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + side + "')].slack", contains(1)))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + side + "')].critical", contains(false)))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + unrelated + "')].slack", contains(2)))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + last + "')].critical", contains(true)));
+
+		taskCommandService.resolveTask(root, TaskResolutionKind.COMPLETED, "Done", "u-1");
+
+		getSchedule(caseId)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length").value(2))
+				.andExpect(jsonPath("$.criticalPath", contains(middle.toString(), last.toString())))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + root + "')].critical", contains(false)));
+	}
+
+	@Test
+	void flagsUnresolvedTasksPastTheirDueDateAsOverdue() throws Exception {
+		UUID caseId = UUID.randomUUID();
+		LocalDate yesterday = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+		LocalDate today = LocalDate.now(ZoneOffset.UTC);
+		UUID late = createTask(caseId, "Late", yesterday);
+		UUID resolvedLate = createTask(caseId, "Resolved late", yesterday);
+		UUID dueToday = createTask(caseId, "Due today", today, late);
+		UUID undated = createTask(caseId, "Undated");
+		taskCommandService.resolveTask(resolvedLate, TaskResolutionKind.COMPLETED, "Done", "u-1");
+
+		getSchedule(caseId)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + late + "')].dueDate", contains(yesterday.toString())))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + late + "')].overdue", contains(true)))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + resolvedLate + "')].overdue", contains(false)))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + dueToday + "')].overdue", contains(false)))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + undated + "')].dueDate", contains(nullValue())))
+				.andExpect(jsonPath("$.tasks[?(@.id == '" + undated + "')].overdue", contains(false)));
+	}
+
+	@Test
+	void returnsEmptyScheduleForCaseWithoutTasks() throws Exception {
+		getSchedule(UUID.randomUUID())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length").value(0))
+				.andExpect(jsonPath("$.criticalPath.length()").value(0))
+				.andExpect(jsonPath("$.tasks.length()").value(0));
+	}
+
+	private UUID createTask(UUID caseId, String title, UUID... dependsOnTaskIds) {
+		return createTask(caseId, title, null, dependsOnTaskIds);
+	}
+
+	private UUID createTask(UUID caseId, String title, LocalDate dueDate, UUID... dependsOnTaskIds) {
+		return taskCommandService.createTask(caseId, title, "Desc", 3, dueDate, null, null,
+				List.of(dependsOnTaskIds)).getId();
+	}
+
+	private ResultActions getSchedule(UUID caseId) throws Exception {
+		return mockMvc.perform(get("/api/cases/{caseId}/task-schedule", caseId)
+				.header(DevAuthFilter.USER_HEADER, "u-1")
+				.header(DevAuthFilter.TENANT_HEADER, "tenant-1"));
+	}
+}
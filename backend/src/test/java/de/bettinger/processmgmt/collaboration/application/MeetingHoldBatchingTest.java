@@ -0,0 +1,134 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingActionItemEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.domain.Address;
+import de.bettinger.processmgmt.common.infrastructure.persistence.HibernateStatementCounter;
+import de.bettinger.processmgmt.common.infrastructure.persistence.LocationEntity;
+import de.bettinger.processmgmt.common.infrastructure.persistence.LocationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class MeetingHoldBatchingTest {
+
+	private static final String TENANT_ID = "tenant-1";
+
+	@Autowired
+	private MeetingCommandService meetingCommandService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private LocationRepository locationRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private HibernateStatementCounter statementCounter;
+	private UUID locationId;
+
+	@BeforeEach
+	void setUp() {
+		statementCounter = new HibernateStatementCounter(entityManagerFactory);
+		locationId = seedLocation();
+	}
+
+	@Test
+	void statementCountDoesNotGrowWithActionItems() {
+		MeetingEntity small = scheduleMeeting();
+		MeetingEntity large = scheduleMeeting();
+
+		long smallCount = holdAndCount(small, actionItems(5, "Item"));
+		long largeCount = holdAndCount(large, actionItems(40, "Item"));
+
+		assertThat(taskRepository.findAllByOriginMeetingId(large.getId())).hasSize(40);
+		// meeting, action items, participants, meeting update and one insert batch each for tasks, action items,
+		// outbox events and timeline entries, plus update, insert and update of the case task stats row (first tasks
+		// of the case), one search index copy for the new tasks and delete plus copy of the meeting's search
+		// document; the location check is served from the reference data cache
+		assertThat(largeCount).isEqualTo(smallCount).isLessThanOrEqualTo(14);
+	}
+
+	@Test
+	void reholdingWithUnchangedActionItemsWritesNoChildRows() {
+		MeetingEntity meeting = scheduleMeeting();
+		List<MeetingActionItemCommand> items = actionItems(10, "Item");
+		hold(meeting, items);
+
+		statementCounter.reset();
+		hold(meeting, items);
+
+		assertThat(statementCounter.entityWriteCount(MeetingActionItemEntity.class)).isZero();
+		assertThat(statementCounter.entityWriteCount(TaskEntity.class)).isZero();
+	}
+
+	@Test
+	void diffsChangedRemovedAndAddedActionItems() {
+		MeetingEntity meeting = scheduleMeeting();
+		List<MeetingActionItemCommand> items = actionItems(3, "Item");
+		hold(meeting, items);
+
+		List<MeetingActionItemCommand> changed = new ArrayList<>(items.subList(0, 2));
+		MeetingActionItemCommand first = changed.getFirst();
+		changed.set(0, new MeetingActionItemCommand(first.key(), "Renamed", null, null, null, null));
+		changed.add(new MeetingActionItemCommand("ai-new", "New item", null, null, null, null));
+
+		statementCounter.reset();
+		MeetingEntity held = hold(meeting, changed);
+
+		// one update, one orphan delete, one insert
+		assertThat(statementCounter.entityWriteCount(MeetingActionItemEntity.class)).isEqualTo(3);
+		assertThat(statementCounter.entityWriteCount(TaskEntity.class)).isEqualTo(1);
+		assertThat(held.getActionItems())
+				.extracting(MeetingActionItemEntity::getItemKey)
+				.containsExactlyInAnyOrder("ai-0", "ai-1", "ai-new");
+		assertThat(taskRepository.findAllByOriginMeetingId(meeting.getId())).hasSize(4);
+	}
+
+	private long holdAndCount(MeetingEntity meeting, List<MeetingActionItemCommand> items) {
+		statementCounter.reset();
+		hold(meeting, items);
+		return statementCounter.statementCount();
+	}
+
+	private MeetingEntity hold(MeetingEntity meeting, List<MeetingActionItemCommand> items) {
+		return meetingCommandService.holdMeeting(TENANT_ID, meeting.getId(), locationId, Instant.now(), "Minutes",
+				List.of("u-1"), items);
+	}
+
+	private MeetingEntity scheduleMeeting() {
+		return meetingCommandService.scheduleMeeting(TENANT_ID, UUID.randomUUID(), locationId, "Kickoff", "Desc",
+				Instant.now(), List.of("u-1"));
+	}
+
+	private List<MeetingActionItemCommand> actionItems(int count, String titlePrefix) {
+		List<MeetingActionItemCommand> items = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			items.add(new MeetingActionItemCommand("ai-" + i, titlePrefix + " " + i, null, null, null, null));
+		}
+		return items;
+	}
+
+	private UUID seedLocation() {
+		UUID id = UUID.randomUUID();
+		locationRepository.saveAndFlush(new LocationEntity(id, TENANT_ID, "Kita Sonnenblume",
+				new Address("Musterstrasse", "12", "10115", "Berlin", "DE")));
+		return id;
+	}
+}
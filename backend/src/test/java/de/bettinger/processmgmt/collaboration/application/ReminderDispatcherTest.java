@@ -0,0 +1,183 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderEntity;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SpringBootTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"app.reminders.dispatch.max-attempts=2",
+		"app.reminders.dispatch.initial-backoff=0s"
+})
+@Import(ReminderDispatcherTest.RecordingNotifierConfig.class)
+class ReminderDispatcherTest {
+
+	@Autowired
+	private ReminderDispatcher reminderDispatcher;
+
+	@Autowired
+	private TaskReminderRepository taskReminderRepository;
+
+	@Autowired
+	private TaskCommandService taskCommandService;
+
+	@Autowired
+	private RecordingNotifier notifier;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private UUID taskId;
+
+	@BeforeEach
+	void setUp() {
+		taskReminderRepository.deleteAll();
+		notifier.delivered.clear();
+		notifier.failing.clear();
+		notifier.deliveredInTransaction.clear();
+		notifier.stateDuringDelivery.clear();
+		taskId = taskCommandService.createTask(UUID.randomUUID(), "Task", "Desc", 3, null, null).getId();
+	}
+
+	@Test
+	void deliversDueRemindersOnceAndLeavesFutureOnesPending() {
+		Instant now = Instant.now();
+		TaskReminderEntity due = save(now.minus(5, ChronoUnit.MINUTES));
+		TaskReminderEntity alsoDue = save(now.minusSeconds(1));
+		TaskReminderEntity future = save(now.plus(1, ChronoUnit.HOURS));
+
+		assertThat(reminderDispatcher.dispatchDue()).isEqualTo(2);
+		assertThat(reminderDispatcher.dispatchDue()).isZero();
+
+		assertThat(notifier.delivered).containsExactly(due.getId(), alsoDue.getId());
+		TaskReminderEntity dispatched = taskReminderRepository.findById(due.getId()).orElseThrow();
+		assertThat(dispatched.getStatus()).isEqualTo(TaskReminderStatus.DISPATCHED);
+		assertThat(dispatched.getDispatchedAt()).isAfterOrEqualTo(due.getRemindAt());
+		assertThat(taskReminderRepository.findById(future.getId()).orElseThrow().getStatus()).isNull();
+		assertThat(meterRegistry.get("reminders.dispatch.lag").timer().count()).isGreaterThanOrEqualTo(2);
+	}
+
+	@Test
+	void retriesFailedDeliveryAndGivesUpAfterMaxAttempts() {
+		TaskReminderEntity reminder = save(Instant.now().minusSeconds(10));
+		notifier.failing.add(reminder.getId());
+
+		reminderDispatcher.dispatchDue();
+		TaskReminderEntity afterFirstAttempt = taskReminderRepository.findById(reminder.getId()).orElseThrow();
+		assertThat(afterFirstAttempt.getStatus()).isNull();
+		assertThat(afterFirstAttempt.getAttempts()).isEqualTo(1);
+		assertThat(afterFirstAttempt.getLastError()).contains("channel down");
+
+		reminderDispatcher.dispatchDue();
+		TaskReminderEntity afterSecondAttempt = taskReminderRepository.findById(reminder.getId()).orElseThrow();
+		assertThat(afterSecondAttempt.getStatus()).isEqualTo(TaskReminderStatus.FAILED);
+		assertThat(afterSecondAttempt.getAttempts()).isEqualTo(2);
+		assertThat(reminderDispatcher.dispatchDue()).isZero();
+		assertThat(notifier.delivered).isEmpty();
+	}
+
+	@Test
+	void deliversOutsideTheClaimTransactionWhileTheReminderIsLeased() {
+		TaskReminderEntity reminder = save(Instant.now().minusSeconds(10));
+
+		assertThat(reminderDispatcher.dispatchDue()).isEqualTo(1);
+
+		assertThat(notifier.deliveredInTransaction).containsExactly(false);
+		TaskReminderEntity duringDelivery = notifier.stateDuringDelivery.getFirst();
+		assertThat(duringDelivery.getStatus()).isNull();
+		assertThat(duringDelivery.getClaimId()).isNotNull();
+		assertThat(duringDelivery.getNextAttemptAt()).isAfter(Instant.now());
+		TaskReminderEntity dispatched = taskReminderRepository.findById(reminder.getId()).orElseThrow();
+		assertThat(dispatched.getStatus()).isEqualTo(TaskReminderStatus.DISPATCHED);
+		assertThat(dispatched.getClaimId()).isNull();
+		assertThat(dispatched.getNextAttemptAt()).isNull();
+	}
+
+	@Test
+	void reclaimsReminderWhoseLeaseExpired() {
+		TaskReminderEntity reminder = save(Instant.now().minusSeconds(60));
+		reminder.claim(UUID.randomUUID(), Instant.now().minusSeconds(1));
+		taskReminderRepository.saveAndFlush(reminder);
+
+		assertThat(reminderDispatcher.dispatchDue()).isEqualTo(1);
+
+		assertThat(notifier.delivered).containsExactly(reminder.getId());
+		assertThat(taskReminderRepository.findById(reminder.getId()).orElseThrow().getStatus())
+				.isEqualTo(TaskReminderStatus.DISPATCHED);
+	}
+
+	@Test
+	void looksAheadByTheNextAttemptOfRetriedReminders() {
+		Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+		TaskReminderEntity retried = save(now.minus(1, ChronoUnit.HOURS));
+		retried.markAttemptFailed("channel down", now.plus(20, ChronoUnit.MINUTES), 5);
+		taskReminderRepository.saveAndFlush(retried);
+		TaskReminderEntity backedOff = save(now.minus(2, ChronoUnit.HOURS));
+		backedOff.markAttemptFailed("channel down", now.plus(8, ChronoUnit.MINUTES), 5);
+		taskReminderRepository.saveAndFlush(backedOff);
+		TaskReminderEntity due = save(now.plus(5, ChronoUnit.MINUTES));
+
+		List<Instant> dueTimes = taskReminderRepository.findPendingDueTimes(now.plus(10, ChronoUnit.MINUTES),
+				Limit.of(1));
+
+		assertThat(dueTimes).containsExactly(due.getRemindAt());
+		assertThat(taskReminderRepository.findPendingDueTimes(now.plus(10, ChronoUnit.MINUTES), Limit.of(10)))
+				.containsExactly(due.getRemindAt(), now.plus(8, ChronoUnit.MINUTES));
+	}
+
+	private TaskReminderEntity save(Instant remindAt) {
+		return taskReminderRepository.saveAndFlush(new TaskReminderEntity(UUID.randomUUID(), taskId,
+				UUID.randomUUID(), remindAt, "note", remindAt.minus(1, ChronoUnit.DAYS)));
+	}
+
+	static class RecordingNotifier implements ReminderNotifier {
+
+		private final List<UUID> delivered = new CopyOnWriteArrayList<>();
+		private final Set<UUID> failing = ConcurrentHashMap.newKeySet();
+		private final List<Boolean> deliveredInTransaction = new CopyOnWriteArrayList<>();
+		private final List<TaskReminderEntity> stateDuringDelivery = new CopyOnWriteArrayList<>();
+
+		@Autowired
+		private TaskReminderRepository taskReminderRepository;
+
+		@Override
+		public void notify(TaskReminderEntity reminder) {
+			deliveredInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+			stateDuringDelivery.add(taskReminderRepository.findById(reminder.getId()).orElseThrow());
+			if (failing.contains(reminder.getId())) {
+				throw new IllegalStateException("channel down");
+			}
+			delivered.add(reminder.getId());
+		}
+	}
+
+	@TestConfiguration
+	static class RecordingNotifierConfig {
+
+		@Bean
+		@Primary
+		RecordingNotifier recordingNotifier() {
+			return new RecordingNotifier();
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ReminderScheduleTest {
+
+	private final Clock clock = Clock.systemUTC();
+
+	@Test
+	void returnsImmediatelyWhenEntryIsDueAndRemovesIt() throws Exception {
+		ReminderSchedule schedule = new ReminderSchedule(clock, 10);
+		schedule.replaceAll(List.of(clock.instant().minusSeconds(1), clock.instant().plusSeconds(3600)));
+
+		assertThat(schedule.awaitDue(Duration.ofSeconds(5))).isTrue();
+		assertThat(schedule.size()).isEqualTo(1);
+	}
+
+	@Test
+	void waitsAtMostMaxWaitWhenNothingIsDue() throws Exception {
+		ReminderSchedule schedule = new ReminderSchedule(clock, 10);
+		schedule.offer(clock.instant().plusSeconds(3600));
+
+		long started = System.nanoTime();
+		assertThat(schedule.awaitDue(Duration.ofMillis(50))).isFalse();
+		assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+	}
+
+	@Test
+	void earlierEntryWakesWaitingDispatcher() throws Exception {
+		ReminderSchedule schedule = new ReminderSchedule(clock, 10);
+		CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+			try {
+				return schedule.awaitDue(Duration.ofSeconds(30));
+			} catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		Thread.sleep(50);
+
+		Instant dueAt = clock.instant().plusMillis(100);
+		schedule.offer(dueAt);
+
+		// The first wake-up happens on offer, the caller polls the database and waits again.
+		assertThat(waiting.get(5, TimeUnit.SECONDS)).isFalse();
+		assertThat(schedule.awaitDue(Duration.ofSeconds(30))).isTrue();
+		assertThat(clock.instant()).isAfterOrEqualTo(dueAt);
+	}
+
+	@Test
+	void dropsEntriesBeyondCapacity() {
+		ReminderSchedule schedule = new ReminderSchedule(clock, 2);
+		Instant base = clock.instant().plusSeconds(60);
+		schedule.replaceAll(List.of(base, base.plusSeconds(1), base.plusSeconds(2)));
+		schedule.offer(base.plusSeconds(3));
+
+		assertThat(schedule.size()).isEqualTo(2);
+	}
+}
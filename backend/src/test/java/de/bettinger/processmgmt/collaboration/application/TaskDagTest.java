@@ -0,0 +1,55 @@
+package de.bettinger.processmgmt.collaboration.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class TaskDagTest {
+
+	// 1 and 2 depend on 0, 3 depends on 1 and 2
+	private static final int[] DEPENDENTS = {1, 2, 3, 3};
+	private static final int[] PREREQUISITES = {0, 0, 1, 2};
+
+	@Test
+	void computesStartsSlackAndCriticalPath() {
+		TaskDag dag = TaskDag.fromEdges(4, DEPENDENTS, PREREQUISITES, 4);
+
+		TaskSchedule schedule = dag.schedule(new int[] {2, 3, 1, 1});
+
+		assertThat(schedule.topologicalOrder()).containsExactly(0, 1, 2, 3);
+		assertThat(schedule.earliestStarts()).containsExactly(0, 2, 2, 5);
+		assertThat(schedule.latestStarts()).containsExactly(0, 2, 4, 5);
+		assertThat(schedule.slack(2)).isEqualTo(2);
+		assertThat(schedule.length()).isEqualTo(6);
+		assertThat(schedule.criticalPath()).containsExactly(0, 1, 3);
+	}
+
+	@Test
+	void leavesTasksWithoutDurationOffTheCriticalPath() {
+		TaskDag dag = TaskDag.fromEdges(5, DEPENDENTS, PREREQUISITES, 4);
+
+		TaskSchedule schedule = dag.schedule(new int[] {0, 3, 1, 1, 2});
+
+		assertThat(schedule.length()).isEqualTo(4);
+		assertThat(schedule.criticalPath()).containsExactly(1, 3);
+		assertThat(schedule.slack(4)).isEqualTo(2);
+	}
+
+	@Test
+	void schedulesEmptyGraph() {
+		TaskSchedule schedule = TaskDag.fromEdges(0, new int[0], new int[0], 0).schedule(new int[0]);
+
+		assertThat(schedule.length()).isZero();
+		assertThat(schedule.criticalPath()).isEmpty();
+	}
+
+	@Test
+	void rejectsCycles() {
+		TaskDag dag = TaskDag.fromEdges(3, new int[] {1, 2, 0}, new int[] {0, 1, 2}, 3);
+
+		assertThatThrownBy(() -> dag.schedule(new int[] {1, 1, 1}))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("cycle");
+	}
+}
@@ -2,7 +2,10 @@ package de.bettinger.processmgmt.collaboration.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import de.bettinger.processmgmt.collaboration.domain.task.TaskAssigned;
 import de.bettinger.processmgmt.collaboration.domain.task.TaskResolutionKind;
+import de.bettinger.processmgmt.collaboration.domain.task.TasksUnblocked;
+import de.bettinger.processmgmt.common.outbox.OutboxEventCodec;
 import de.bettinger.processmgmt.common.outbox.OutboxEventEntity;
 import de.bettinger.processmgmt.common.outbox.OutboxEventRepository;
 import java.util.List;
@@ -20,6 +23,9 @@ class TaskOutboxIntegrationTest {
 	@Autowired
 	private OutboxEventRepository outboxEventRepository;
 
+	@Autowired
+	private OutboxEventCodec outboxEventCodec;
+
 	@Test
 	void writesOutboxEventsForTaskLifecycle() {
 		outboxEventRepository.deleteAll();
@@ -36,4 +42,52 @@ class TaskOutboxIntegrationTest {
 		assertThat(eventTypes).contains("TaskCreated", "TaskAssigned", "TaskResolved");
 		assertThat(outboxEventRepository.count()).isEqualTo(3);
 	}
+
+	@Test
+	void storesCaseIdAndEscapesPayloadValues() {
+		outboxEventRepository.deleteAll();
+		UUID caseId = UUID.randomUUID();
+		String assigneeId = "u-\"quoted\"\\1";
+		UUID taskId = taskCommandService.createTask(caseId, "Title", "Desc", 3, null, assigneeId).getId();
+
+		List<OutboxEventEntity> events = outboxEventRepository.findAll();
+		assertThat(events).extracting(OutboxEventEntity::getCaseId).containsOnly(caseId);
+
+		OutboxEventEntity assigned = events.stream()
+				.filter(event -> TaskAssigned.TYPE.equals(event.getEventType()))
+				.findFirst()
+				.orElseThrow();
+		assertThat(outboxEventCodec.decode(assigned, TaskAssigned.class))
+				.contains(new TaskAssigned(taskId, caseId, assigneeId));
+	}
+
+	@Test
+	void writesTasksUnblockedWhenLastOpenDependencyIsResolved() {
+		UUID caseId = UUID.randomUUID();
+		UUID first = taskCommandService.createTask(caseId, "First", "Desc", 3, null, null).getId();
+		UUID second = taskCommandService.createTask(caseId, "Second", "Desc", 3, null, null).getId();
+		UUID afterFirst = taskCommandService.createTask(caseId, "After first", "Desc", 3, null, null, null,
+				List.of(first)).getId();
+		UUID afterBoth = taskCommandService.createTask(caseId, "After both", "Desc", 3, null, null, null,
+				List.of(first, second)).getId();
+		outboxEventRepository.deleteAll();
+
+		taskCommandService.resolveTask(first, TaskResolutionKind.COMPLETED, "Done", "u-1");
+		assertThat(unblockedEvents()).containsExactly(new TasksUnblocked(first, caseId, List.of(afterFirst)));
+
+		outboxEventRepository.deleteAll();
+		taskCommandService.resolveTask(second, TaskResolutionKind.COMPLETED, "Done", "u-1");
+		assertThat(unblockedEvents()).containsExactly(new TasksUnblocked(second, caseId, List.of(afterBoth)));
+
+		outboxEventRepository.deleteAll();
+		taskCommandService.resolveTask(afterBoth, TaskResolutionKind.COMPLETED, "Done", "u-1");
+		assertThat(unblockedEvents()).isEmpty();
+	}
+
+	private List<TasksUnblocked> unblockedEvents() {
+		return outboxEventRepository.findAll().stream()
+				.filter(event -> TasksUnblocked.TYPE.equals(event.getEventType()))
+				.flatMap(event -> outboxEventCodec.decode(event, TasksUnblocked.class).stream())
+				.toList();
+	}
 }
@@ -0,0 +1,53 @@
+package de.bettinger.processmgmt.collaboration.domain.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TaskDependencyGraphTest {
+
+	@Test
+	void detectsCycleThroughTransitiveDependencies() {
+		UUID a = UUID.randomUUID();
+		UUID b = UUID.randomUUID();
+		UUID c = UUID.randomUUID();
+		TaskDependencyGraph graph = new TaskDependencyGraph();
+		graph.addDependency(b, a);
+		graph.addDependency(c, b);
+
+		assertThat(graph.wouldCreateCycle(a, Set.of(c))).isTrue();
+		assertThat(graph.wouldCreateCycle(a, Set.of(a))).isTrue();
+		assertThat(graph.wouldCreateCycle(c, Set.of(a))).isFalse();
+	}
+
+	@Test
+	void replacingDependenciesDropsOldEdges() {
+		UUID a = UUID.randomUUID();
+		UUID b = UUID.randomUUID();
+		TaskDependencyGraph graph = new TaskDependencyGraph();
+		graph.addDependency(b, a);
+
+		graph.replaceDependencies(b, List.of());
+
+		assertThat(graph.wouldCreateCycle(a, Set.of(b))).isFalse();
+	}
+
+	@Test
+	void handlesDeepChainsWithoutRecursion() {
+		List<UUID> chain = new ArrayList<>();
+		TaskDependencyGraph graph = new TaskDependencyGraph();
+		chain.add(UUID.randomUUID());
+		for (int i = 1; i < 100_000; i++) {
+			UUID next = UUID.randomUUID();
+			graph.addDependency(next, chain.getLast());
+			chain.add(next);
+		}
+
+		assertThat(graph.wouldCreateCycle(chain.getFirst(), Set.of(chain.getLast()))).isTrue();
+		assertThat(graph.wouldCreateCycle(UUID.randomUUID(), Set.of(chain.getLast()))).isFalse();
+	}
+}
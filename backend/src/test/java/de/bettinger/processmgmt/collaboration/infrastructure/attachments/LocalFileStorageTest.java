@@ -1,33 +1,109 @@
 package de.bettinger.processmgmt.collaboration.infrastructure.attachments;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 class LocalFileStorageTest {
 
+	private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
 	@TempDir
 	Path tempDir;
 
 	@Test
 	void storesLoadsAndDeletesFiles() throws Exception {
 		LocalFileStorage storage = new LocalFileStorage(tempDir.toString());
-		byte[] content = "hello".getBytes(java.nio.charset.StandardCharsets.UTF_8);
-		UUID taskId = UUID.randomUUID();
-		UUID attachmentId = UUID.randomUUID();
+		byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+		UUID uploadId = UUID.randomUUID();
 
-		String key = storage.store("tenant-1", taskId, attachmentId, new ByteArrayInputStream(content));
+		storage.writeStaged(uploadId, 0, content.length, new ByteArrayInputStream(content));
+		String key = storage.storageKey("tenant-1", HELLO_SHA256);
+		assertThat(storage.exists(key)).isFalse();
+		storage.prepare(uploadId, key);
+		storage.publish(uploadId, key);
 
 		Path storedPath = tempDir.resolve(key);
-		assertThat(Files.exists(storedPath)).isTrue();
-		assertThat(storage.load(key)).isEqualTo(content);
+		assertThat(key).isEqualTo("tenant-1/blobs/2c/" + HELLO_SHA256);
+		assertThat(storage.exists(key)).isTrue();
+		assertThat(storage.open(key).getContentAsByteArray()).isEqualTo(content);
+		assertThat(storage.openStaged(uploadId).getContentAsByteArray()).isEqualTo(content);
+		try (var files = Files.list(storedPath.getParent())) {
+			assertThat(files).containsExactly(storedPath);
+		}
+
+		storage.deleteStaged(uploadId);
+		assertThatThrownBy(() -> storage.openStaged(uploadId)).isInstanceOf(NoSuchFileException.class);
 
 		storage.delete(key);
 		assertThat(Files.exists(storedPath)).isFalse();
+		assertThatThrownBy(() -> storage.open(key)).isInstanceOf(NoSuchFileException.class);
+	}
+
+	@Test
+	void appendsChunksAndOverwritesRetriedChunk() throws Exception {
+		LocalFileStorage storage = new LocalFileStorage(tempDir.toString());
+		UUID uploadId = UUID.randomUUID();
+
+		assertThat(storage.writeStaged(uploadId, 0, 5, new ByteArrayInputStream(bytes("hel")))).isEqualTo(3);
+		assertThat(storage.writeStaged(uploadId, 3, 2, new ByteArrayInputStream(bytes("xx")))).isEqualTo(5);
+		assertThat(storage.writeStaged(uploadId, 3, 2, new ByteArrayInputStream(bytes("lo")))).isEqualTo(5);
+
+		assertThat(storage.openStaged(uploadId).getContentAsByteArray()).isEqualTo(bytes("hello"));
+	}
+
+	@Test
+	void rejectsChunkLongerThanAllowed() throws Exception {
+		LocalFileStorage storage = new LocalFileStorage(tempDir.toString());
+		UUID uploadId = UUID.randomUUID();
+		storage.writeStaged(uploadId, 0, 5, new ByteArrayInputStream(bytes("he")));
+
+		assertThatThrownBy(() -> storage.writeStaged(uploadId, 2, 3, new ByteArrayInputStream(bytes("llo!"))))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(storage.openStaged(uploadId).getContentAsByteArray()).isEqualTo(bytes("he"));
+	}
+
+	@Test
+	void publishesWithoutPreparedCopyAndDiscardsUnpublishedOne() throws Exception {
+		LocalFileStorage storage = new LocalFileStorage(tempDir.toString());
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		storage.writeStaged(first, 0, 5, new ByteArrayInputStream(bytes("hello")));
+		storage.writeStaged(second, 0, 5, new ByteArrayInputStream(bytes("hello")));
+		String key = storage.storageKey("tenant-1", HELLO_SHA256);
+
+		storage.prepare(second, key);
+		storage.publish(first, key);
+		storage.discardPrepared(second, key);
+
+		assertThat(storage.open(key).getContentAsByteArray()).isEqualTo(bytes("hello"));
+		try (var files = Files.list(tempDir.resolve(key).getParent())) {
+			assertThat(files).containsExactly(tempDir.resolve(key));
+		}
+	}
+
+	@Test
+	void rejectsWriteAfterDeadline() throws Exception {
+		LocalFileStorage storage = new LocalFileStorage(tempDir.toString());
+		UUID uploadId = UUID.randomUUID();
+		storage.writeStaged(uploadId, 0, 5, new ByteArrayInputStream(bytes("he")));
+
+		assertThatThrownBy(() -> storage.writeStaged(uploadId, 2, 3, Instant.now().minusSeconds(1),
+				new ByteArrayInputStream(bytes("llo"))))
+				.isInstanceOf(IllegalStateException.class);
+		assertThat(storage.openStaged(uploadId).getContentAsByteArray()).isEqualTo(bytes("he"));
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
 	}
 }
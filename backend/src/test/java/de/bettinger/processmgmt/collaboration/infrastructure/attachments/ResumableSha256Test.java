@@ -0,0 +1,123 @@
+package de.bettinger.processmgmt.collaboration.infrastructure.attachments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The digest is hand-written so its state can be stored between chunks; it is checked against the FIPS 180-2 / NIST
+ * CAVS example vectors and against the JDK implementation for random messages split at random points.
+ */
+class ResumableSha256Test {
+
+	private static final Map<String, String> NIST_VECTORS = Map.of(
+			"", "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+			"abc", "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+			"abcdbcdecdefdefgefghfghighijhijkijkljklmklmnlmnomnopnopq",
+			"248d6a61d20638b8e5c026930c3e6039a33ce45964ff2167f6ecedd419db06c1",
+			"abcdefghbcdefghicdefghijdefghijkefghijklfghijklmghijklmnhijklmnoijklmnopjklmnopqklmnopqrlmnopqrsmnopqrst"
+					+ "nopqrstu",
+			"cf5b16a778af8380036ce59e7b0492370b249b11e8f07a51afac45037afee9d1"
+	);
+
+	@Test
+	void matchesNistExampleVectors() {
+		NIST_VECTORS.forEach((message, expected) -> {
+			byte[] content = message.getBytes(StandardCharsets.US_ASCII);
+			assertThat(HexFormat.of().formatHex(new ResumableSha256().digest(content))).as(message)
+					.isEqualTo(expected);
+			assertThat(HexFormat.of().formatHex(hashInChunks(content, new Random(message.length()))))
+					.as("%s in chunks", message)
+					.isEqualTo(expected);
+		});
+	}
+
+	@Test
+	void matchesNistMillionCharacterVector() {
+		byte[] content = new byte[1_000_000];
+		Arrays.fill(content, (byte) 'a');
+
+		assertThat(HexFormat.of().formatHex(hashInChunks(content, new Random(7))))
+				.isEqualTo("cdc76e5c9914fb9281a1c7e284d73e67f1809a48a497200e046d39ccc7112cd0");
+	}
+
+	@Test
+	void matchesJdkDigestForRandomMessagesAndSplits() throws Exception {
+		Random random = new Random(2026);
+		for (int message = 0; message < 500; message++) {
+			byte[] content = new byte[random.nextInt(4096)];
+			random.nextBytes(content);
+
+			byte[] expected = MessageDigest.getInstance("SHA-256").digest(content);
+			assertThat(hashInChunks(content, random)).as("message %d of %d bytes", message, content.length)
+					.isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void matchesJdkDigestAcrossExportedChunks() throws Exception {
+		Random random = new Random(42);
+		for (int length : new int[] {0, 1, 55, 56, 63, 64, 65, 1000, 70_000}) {
+			byte[] content = new byte[length];
+			random.nextBytes(content);
+			byte[] state = null;
+			int offset = 0;
+			while (offset < length) {
+				int chunk = Math.min(length - offset, 1 + random.nextInt(200));
+				ResumableSha256 digest = ResumableSha256.restore(state);
+				digest.update(content, offset, chunk);
+				state = digest.exportState();
+				offset += chunk;
+			}
+
+			byte[] expected = MessageDigest.getInstance("SHA-256").digest(content);
+			assertThat(ResumableSha256.restore(state).digest()).as("length %d", length).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void hashesSingleBytesLikeArrays() {
+		byte[] content = new byte[130];
+		Arrays.fill(content, (byte) 7);
+		ResumableSha256 bytewise = new ResumableSha256();
+		for (byte value : content) {
+			bytewise.update(value);
+		}
+
+		assertThat(bytewise.digest()).isEqualTo(new ResumableSha256().digest(content));
+	}
+
+	@Test
+	void rejectsForeignState() {
+		assertThatThrownBy(() -> ResumableSha256.restore(new byte[10]))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Feeds the content in chunks of random size (including empty ones and single-byte updates), exporting and
+	 * restoring the state after each chunk as the upload service does.
+	 */
+	private static byte[] hashInChunks(byte[] content, Random random) {
+		byte[] state = null;
+		int offset = 0;
+		while (offset < content.length) {
+			int chunk = Math.min(content.length - offset, random.nextInt(3 * 64 + 1));
+			ResumableSha256 digest = ResumableSha256.restore(state);
+			if (chunk == 1) {
+				digest.update(content[offset]);
+			} else {
+				digest.update(content, offset, chunk);
+			}
+			state = digest.exportState();
+			offset += chunk;
+		}
+		return ResumableSha256.restore(state).digest();
+	}
+}
@@ -0,0 +1,65 @@
+package de.bettinger.processmgmt.collaboration.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Migrates a database that already holds reminders from before in-app dispatch (V20) to V21: reminders that were
+ * due at that point count as delivered, future ones stay pending.
+ */
+class TaskReminderDispatchMigrationTest {
+
+	@Test
+	void marksRemindersDueBeforeTheMigrationAsDispatched() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:reminder-migration-"
+				+ UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		migrateTo(dataSource, "20");
+
+		Instant now = Instant.now();
+		UUID past = UUID.randomUUID();
+		UUID future = UUID.randomUUID();
+		jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+		insertReminder(jdbcTemplate, past, now.minus(1, ChronoUnit.DAYS));
+		insertReminder(jdbcTemplate, future, now.plus(1, ChronoUnit.DAYS));
+		jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+		migrateTo(dataSource, "21");
+
+		Map<String, Object> delivered = jdbcTemplate.queryForMap(
+				"SELECT status, dispatched_at, remind_at, attempts FROM task_reminders WHERE id = ?", past);
+		assertThat(delivered.get("status")).isEqualTo("DISPATCHED");
+		assertThat(delivered.get("dispatched_at")).isEqualTo(delivered.get("remind_at"));
+		assertThat(delivered.get("attempts")).isEqualTo(0);
+		Map<String, Object> pending = jdbcTemplate.queryForMap(
+				"SELECT status, dispatched_at FROM task_reminders WHERE id = ?", future);
+		assertThat(pending.get("status")).isNull();
+		assertThat(pending.get("dispatched_at")).isNull();
+	}
+
+	private void migrateTo(DriverManagerDataSource dataSource, String version) {
+		Flyway.configure()
+				.dataSource(dataSource)
+				.locations("classpath:db/migration")
+				.target(version)
+				.load()
+				.migrate();
+	}
+
+	private void insertReminder(JdbcTemplate jdbcTemplate, UUID id, Instant remindAt) {
+		jdbcTemplate.update("""
+				INSERT INTO task_reminders (id, task_id, stakeholder_id, remind_at, note, created_at)
+				VALUES (?, ?, ?, ?, ?, ?)
+				""", id, UUID.randomUUID(), UUID.randomUUID(), Timestamp.from(remindAt), "note",
+				Timestamp.from(remindAt.minus(2, ChronoUnit.DAYS)));
+	}
+}
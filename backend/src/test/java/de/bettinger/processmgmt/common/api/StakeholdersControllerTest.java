@@ -1,10 +1,12 @@
 package de.bettinger.processmgmt.common.api;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.jayway.jsonpath.JsonPath;
 import de.bettinger.processmgmt.auth.DevAuthFilter;
 import de.bettinger.processmgmt.casemanagement.domain.ProcessCaseStatus;
 import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseEntity;
@@ -14,6 +16,8 @@ import de.bettinger.processmgmt.common.application.StakeholderService;
 import de.bettinger.processmgmt.common.domain.StakeholderRole;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -193,6 +197,130 @@ class StakeholdersControllerTest {
 				.andExpect(jsonPath("$.totalPages").value(2));
 	}
 
+	@Test
+	void walksStakeholdersWithCursorWithoutCount() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		for (String lastName : List.of("Becker", "Meyer", "Becker", "Schulz", "Adler")) {
+			stakeholderService.createStakeholder(tenantId, "Anna", lastName, StakeholderRole.CONSULTANT);
+		}
+
+		List<String> lastNames = new ArrayList<>();
+		List<String> ids = new ArrayList<>();
+		String cursor = null;
+		do {
+			var request = get("/api/stakeholders")
+					.param("size", "2")
+					.param("sort", "lastName,asc")
+					.param("includeTotal", "false")
+					.header(DevAuthFilter.USER_HEADER, "u-1")
+					.header(DevAuthFilter.TENANT_HEADER, tenantId);
+			if (cursor != null) {
+				request.param("cursor", cursor);
+			}
+			String body = mockMvc.perform(request)
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.totalItems").doesNotExist())
+					.andExpect(jsonPath("$.totalPages").doesNotExist())
+					.andReturn().getResponse().getContentAsString();
+			lastNames.addAll(JsonPath.read(body, "$.items[*].lastName"));
+			ids.addAll(JsonPath.read(body, "$.items[*].id"));
+			cursor = JsonPath.read(body, "$.nextCursor");
+		} while (cursor != null);
+
+		assertThat(lastNames).containsExactly("Adler", "Becker", "Becker", "Meyer", "Schulz");
+		assertThat(ids).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void walksStakeholderTasksByNullableDueDate() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID stakeholderId = stakeholderService.createStakeholder(tenantId, "Maria", "Becker",
+				StakeholderRole.CONSULTANT).getId();
+		UUID caseId = UUID.randomUUID();
+		processCaseRepository.save(new ProcessCaseEntity(caseId, tenantId, "Fall A",
+				UUID.randomUUID(), ProcessCaseStatus.ACTIVE, Instant.now()));
+		List<LocalDate> dueDates = new ArrayList<>();
+		dueDates.add(LocalDate.of(2026, 3, 1));
+		dueDates.add(null);
+		dueDates.add(LocalDate.of(2026, 2, 1));
+		dueDates.add(null);
+		dueDates.add(LocalDate.of(2026, 2, 1));
+		for (LocalDate dueDate : dueDates) {
+			taskCommandService.createTask(caseId, "Task", "Desc", 3, dueDate, stakeholderId.toString());
+		}
+
+		for (String direction : List.of("asc", "desc")) {
+			List<String> seen = new ArrayList<>();
+			List<String> ids = new ArrayList<>();
+			String cursor = null;
+			do {
+				var request = get("/api/stakeholders/{stakeholderId}/tasks", stakeholderId)
+						.param("size", "2")
+						.param("sort", "dueDate," + direction)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId);
+				if (cursor != null) {
+					request.param("cursor", cursor);
+				}
+				String body = mockMvc.perform(request)
+						.andExpect(status().isOk())
+						.andExpect(jsonPath("$.totalItems").value(5))
+						.andReturn().getResponse().getContentAsString();
+				List<String> pageDueDates = JsonPath.read(body, "$.items[*].dueDate");
+				seen.addAll(pageDueDates.stream().map(String::valueOf).toList());
+				ids.addAll(JsonPath.read(body, "$.items[*].id"));
+				cursor = JsonPath.read(body, "$.nextCursor");
+			} while (cursor != null);
+
+			List<String> expected = "asc".equals(direction)
+					? List.of("2026-02-01", "2026-02-01", "2026-03-01", "null", "null")
+					: List.of("null", "null", "2026-03-01", "2026-02-01", "2026-02-01");
+			assertThat(seen).containsExactlyElementsOf(expected);
+			assertThat(ids).hasSize(5).doesNotHaveDuplicates();
+		}
+	}
+
+	@Test
+	void filtersStakeholderTasksByState() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID stakeholderId = stakeholderService.createStakeholder(tenantId, "Maria", "Becker",
+				StakeholderRole.CONSULTANT).getId();
+		UUID caseId = UUID.randomUUID();
+		processCaseRepository.save(new ProcessCaseEntity(caseId, tenantId, "Fall A",
+				UUID.randomUUID(), ProcessCaseStatus.ACTIVE, Instant.now()));
+		taskCommandService.createTask(caseId, "Assigned", "Desc", 3, null, stakeholderId.toString());
+		UUID startedTaskId = taskCommandService
+				.createTask(caseId, "Started", "Desc", 3, null, stakeholderId.toString())
+				.getId();
+		taskCommandService.startTask(startedTaskId);
+
+		mockMvc.perform(get("/api/stakeholders/{stakeholderId}/tasks", stakeholderId)
+						.param("state", "IN_PROGRESS")
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(1))
+				.andExpect(jsonPath("$.items[0].id").value(startedTaskId.toString()))
+				.andExpect(jsonPath("$.totalItems").value(1));
+
+		mockMvc.perform(get("/api/stakeholders/{stakeholderId}/tasks", stakeholderId)
+						.param("state", "UNKNOWN")
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+	}
+
+	@Test
+	void rejectsMalformedCursor() throws Exception {
+		mockMvc.perform(get("/api/stakeholders")
+						.param("cursor", "not-a-cursor")
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, "tenant-1"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+	}
+
 	@Test
 	void returnsNotFoundWhenStakeholderMissing() throws Exception {
 		mockMvc.perform(get("/api/stakeholders/{stakeholderId}/tasks", UUID.randomUUID())
@@ -0,0 +1,49 @@
+package de.bettinger.processmgmt.common.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class BoundedLruMapTest {
+
+	@Test
+	void evictsTheLeastRecentlyUsedEntryBeyondTheBound() {
+		List<String> evicted = new ArrayList<>();
+		BoundedLruMap<String, Integer> map = new BoundedLruMap<>(2, (key, value) -> evicted.add(key + "=" + value));
+		map.put("a", 1);
+		map.put("b", 2);
+		map.get("a");
+
+		map.put("c", 3);
+
+		assertThat(evicted).containsExactly("b=2");
+		assertThat(map.size()).isEqualTo(2);
+		assertThat(map.get("a")).isEqualTo(1);
+		assertThat(map.get("b")).isNull();
+		assertThat(map.get("c")).isEqualTo(3);
+	}
+
+	@Test
+	void doesNotReportReplacedOrRemovedEntriesAsEvicted() {
+		List<String> evicted = new ArrayList<>();
+		BoundedLruMap<String, Integer> map = new BoundedLruMap<>(2, (key, value) -> evicted.add(key));
+		map.putAll(Map.of("a", 1, "b", 2));
+
+		assertThat(map.put("a", 10)).isEqualTo(1);
+		assertThat(map.remove("b")).isEqualTo(2);
+		assertThat(map.computeIfAbsent("c", key -> 3)).isEqualTo(3);
+
+		assertThat(evicted).isEmpty();
+		assertThat(map.size()).isEqualTo(2);
+	}
+
+	@Test
+	void rejectsNonPositiveBounds() {
+		assertThatThrownBy(() -> new BoundedLruMap<String, Integer>(0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
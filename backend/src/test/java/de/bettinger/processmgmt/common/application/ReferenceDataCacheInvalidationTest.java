@@ -0,0 +1,61 @@
+package de.bettinger.processmgmt.common.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bettinger.processmgmt.casemanagement.application.KitaService;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaRepository;
+import de.bettinger.processmgmt.common.domain.Address;
+import de.bettinger.processmgmt.common.domain.StakeholderRole;
+import de.bettinger.processmgmt.common.infrastructure.persistence.LocationRepository;
+import de.bettinger.processmgmt.common.infrastructure.persistence.StakeholderRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Writes that bypass the owning services (here: plain repository deletes) still invalidate the cached entries, so a
+ * new update or delete path cannot leave stale reference data behind.
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class ReferenceDataCacheInvalidationTest {
+
+	@Autowired
+	private LocationService locationService;
+
+	@Autowired
+	private KitaService kitaService;
+
+	@Autowired
+	private StakeholderService stakeholderService;
+
+	@Autowired
+	private LocationRepository locationRepository;
+
+	@Autowired
+	private KitaRepository kitaRepository;
+
+	@Autowired
+	private StakeholderRepository stakeholderRepository;
+
+	@Test
+	void dropsCachedEntriesWhenTheEntityIsDeleted() {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID locationId = locationService.createLocation(tenantId, "Standort Mitte",
+				new Address("Musterstrasse", "12", "10115", "Berlin", "DE")).getId();
+		UUID kitaId = kitaService.createKita(tenantId, "Kita Sonnenblume", locationId).getId();
+		UUID stakeholderId = stakeholderService.createStakeholder(tenantId, "Erika", "Mustermann",
+				StakeholderRole.DIRECTOR).getId();
+		assertThat(locationService.findLocation(tenantId, locationId)).isPresent();
+		assertThat(kitaService.findKita(tenantId, kitaId)).isPresent();
+		assertThat(stakeholderService.findStakeholder(tenantId, stakeholderId)).isPresent();
+
+		kitaRepository.deleteById(kitaId);
+		locationRepository.deleteById(locationId);
+		stakeholderRepository.deleteById(stakeholderId);
+
+		assertThat(locationService.findLocation(tenantId, locationId)).isEmpty();
+		assertThat(kitaService.findKita(tenantId, kitaId)).isEmpty();
+		assertThat(stakeholderService.findStakeholder(tenantId, stakeholderId)).isEmpty();
+	}
+}
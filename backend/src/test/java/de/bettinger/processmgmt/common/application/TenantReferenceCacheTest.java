@@ -0,0 +1,104 @@
+package de.bettinger.processmgmt.common.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TenantReferenceCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private TenantReferenceCache<String> cache;
+	private AtomicInteger loads;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new TenantReferenceCache<>("locations",
+				new ReferenceDataCacheProperties(true, 2, 2, Duration.ofMinutes(10)), meterRegistry);
+		loads = new AtomicInteger();
+	}
+
+	@Test
+	void servesRepeatedLookupsFromCache() {
+		UUID id = UUID.randomUUID();
+
+		assertThat(get("tenant-1", id)).contains("tenant-1/" + id);
+		assertThat(get("tenant-1", id)).contains("tenant-1/" + id);
+
+		assertThat(loads).hasValue(1);
+		assertThat(requests("hit")).isEqualTo(1);
+		assertThat(requests("miss")).isEqualTo(1);
+	}
+
+	@Test
+	void keepsTenantsApart() {
+		UUID id = UUID.randomUUID();
+		get("tenant-1", id);
+
+		Optional<String> otherTenant = cache.get("tenant-2", id, () -> {
+			loads.incrementAndGet();
+			return Optional.empty();
+		});
+
+		assertThat(otherTenant).isEmpty();
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void doesNotCacheMissingEntries() {
+		UUID id = UUID.randomUUID();
+		cache.get("tenant-1", id, Optional::empty);
+
+		assertThat(get("tenant-1", id)).isPresent();
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void boundsEntriesPerTenantAndTenants() {
+		UUID first = UUID.randomUUID();
+		get("tenant-1", first);
+		get("tenant-1", UUID.randomUUID());
+		get("tenant-1", UUID.randomUUID());
+		get("tenant-2", UUID.randomUUID());
+
+		assertThat(cache.size()).isEqualTo(3);
+		get("tenant-1", first);
+		assertThat(loads).hasValue(5);
+
+		get("tenant-3", UUID.randomUUID());
+		// tenant-2 was used least recently and is dropped with its entry
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(meterRegistry.counter("reference.data.cache.evictions", "cache", "locations", "cause", "size")
+				.count()).isEqualTo(3);
+	}
+
+	@Test
+	void reloadsAfterInvalidation() {
+		UUID id = UUID.randomUUID();
+		get("tenant-1", id);
+
+		cache.invalidate("tenant-1", id);
+		get("tenant-1", id);
+
+		assertThat(loads).hasValue(2);
+		assertThat(meterRegistry.get("reference.data.cache.size").tag("cache", "locations").gauge().value())
+				.isEqualTo(1);
+	}
+
+	private Optional<String> get(String tenantId, UUID id) {
+		return cache.get(tenantId, id, () -> {
+			loads.incrementAndGet();
+			return Optional.of(tenantId + "/" + id);
+		});
+	}
+
+	private double requests(String result) {
+		return meterRegistry.counter("reference.data.cache.requests", "cache", "locations", "result", result).count();
+	}
+}
@@ -0,0 +1,44 @@
+package de.bettinger.processmgmt.common.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+	@Test
+	void setsVersionAndVariant() {
+		UUID id = UuidV7.generate();
+
+		assertThat(id.version()).isEqualTo(7);
+		assertThat(id.variant()).isEqualTo(2);
+	}
+
+	@Test
+	void embedsCurrentTimestamp() {
+		long before = System.currentTimeMillis();
+		UUID id = UuidV7.generate();
+		long after = System.currentTimeMillis();
+
+		long millis = id.getMostSignificantBits() >>> 16;
+		// After a burst of more than 4096 ids per millisecond the timestamp runs slightly ahead of the clock.
+		assertThat(millis).isBetween(before, after + 1_000);
+	}
+
+	@Test
+	void isStrictlyIncreasingWithinAMillisecondBurst() {
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 20_000; i++) {
+			ids.add(UuidV7.generate());
+		}
+
+		for (int i = 1; i < ids.size(); i++) {
+			assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+		}
+		assertThat(new HashSet<>(ids)).hasSize(ids.size());
+	}
+}
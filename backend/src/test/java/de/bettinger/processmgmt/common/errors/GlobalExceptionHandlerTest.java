@@ -0,0 +1,53 @@
+package de.bettinger.processmgmt.common.errors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ConnectException;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+class GlobalExceptionHandlerTest {
+
+	private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+	@Test
+	void reportsPoolTimeoutsAsRetryableOverload() {
+		ResponseEntity<ApiError> response = handle(new SQLTransientConnectionException(
+				"HikariPool-1 - Connection is not available, request timed out after 5000ms."));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(response.getBody().code()).isEqualTo("UNAVAILABLE");
+	}
+
+	@Test
+	void reportsUnreachableDatabaseAsInternalError() {
+		ResponseEntity<ApiError> response = handle(new SQLTransientConnectionException(
+				"HikariPool-1 - Connection is not available, request timed out after 5000ms.",
+				new SQLException("Connection refused", new ConnectException("Connection refused"))));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+		assertThat(response.getHeaders().containsHeader(HttpHeaders.RETRY_AFTER)).isFalse();
+		assertThat(response.getBody().code()).isEqualTo("INTERNAL_ERROR");
+	}
+
+	@Test
+	void reportsOtherTransactionFailuresAsInternalError() {
+		ResponseEntity<ApiError> response = handle(new SQLException("FATAL: password authentication failed"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+		assertThat(response.getBody().code()).isEqualTo("INTERNAL_ERROR");
+	}
+
+	private ResponseEntity<ApiError> handle(Throwable cause) {
+		return handler.handleUnavailable(
+				new CannotCreateTransactionException("Could not open JPA EntityManager for transaction", cause),
+				new MockHttpServletRequest());
+	}
+}
@@ -0,0 +1,35 @@
+package de.bettinger.processmgmt.common.infrastructure.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Counts JDBC statements prepared by Hibernate. Requires {@code spring.jpa.properties.hibernate.generate_statistics=true}.
+ */
+public final class HibernateStatementCounter {
+
+	private final Statistics statistics;
+
+	public HibernateStatementCounter(EntityManagerFactory entityManagerFactory) {
+		this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	public void reset() {
+		statistics.clear();
+	}
+
+	public long statementCount() {
+		return statistics.getPrepareStatementCount();
+	}
+
+	/**
+	 * Rows of {@code entityType} inserted, updated or deleted since the last {@link #reset()}.
+	 */
+	public long entityWriteCount(Class<?> entityType) {
+		EntityStatistics entityStatistics = statistics.getEntityStatistics(entityType.getName());
+		return entityStatistics.getInsertCount() + entityStatistics.getUpdateCount()
+				+ entityStatistics.getDeleteCount();
+	}
+}
@@ -0,0 +1,169 @@
+package de.bettinger.processmgmt.common.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import de.bettinger.processmgmt.auth.DevAuthFilter;
+import de.bettinger.processmgmt.casemanagement.application.CaseCommandService;
+import de.bettinger.processmgmt.casemanagement.domain.StakeholderRole;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaEntity;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaRepository;
+import de.bettinger.processmgmt.collaboration.application.MeetingCommandService;
+import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.common.domain.Address;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ListEndpointQueryCountTest {
+
+	private static final int ROWS = 5;
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CaseCommandService caseCommandService;
+
+	@Autowired
+	private MeetingCommandService meetingCommandService;
+
+	@Autowired
+	private TaskCommandService taskCommandService;
+
+	@Autowired
+	private LocationRepository locationRepository;
+
+	@Autowired
+	private KitaRepository kitaRepository;
+
+	private MockMvc mockMvc;
+	private HibernateStatementCounter statementCounter;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		statementCounter = new HibernateStatementCounter(entityManagerFactory);
+	}
+
+	@Test
+	void listMeetingsLoadsParticipantsInOneQuery() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID locationId = seedLocation(tenantId);
+		UUID caseId = UUID.randomUUID();
+		for (int i = 0; i < ROWS; i++) {
+			meetingCommandService.scheduleMeeting(tenantId, caseId, locationId, "Meeting " + i, "Desc",
+					Instant.now().plus(i, ChronoUnit.DAYS), List.of("u-1", "u-2"));
+		}
+
+		perform("/api/cases/{caseId}/meetings", caseId, tenantId)
+				.andExpect(jsonPath("$.items.length()").value(ROWS))
+				.andExpect(jsonPath("$.items[0].participantIds.length()").value(2));
+
+		assertThat(statementCounter.statementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void listTasksLoadsDependenciesInOneQuery() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID caseId = UUID.randomUUID();
+		UUID previousTaskId = null;
+		for (int i = 0; i < ROWS; i++) {
+			List<UUID> dependsOn = previousTaskId == null ? List.of() : List.of(previousTaskId);
+			previousTaskId = taskCommandService.createTask(caseId, "Task " + i, "Desc", 3, null, null, null,
+					dependsOn).getId();
+		}
+
+		perform("/api/cases/{caseId}/tasks", caseId, tenantId)
+				.andExpect(jsonPath("$.items.length()").value(ROWS));
+
+		assertThat(statementCounter.statementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void pagedListTasksLoadsDependenciesInOneBatch() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID caseId = UUID.randomUUID();
+		UUID previousTaskId = null;
+		for (int i = 0; i < ROWS; i++) {
+			List<UUID> dependsOn = previousTaskId == null ? List.of() : List.of(previousTaskId);
+			previousTaskId = taskCommandService.createTask(caseId, "Task " + i, "Desc", 3, null, null, null,
+					dependsOn).getId();
+		}
+
+		statementCounter.reset();
+		mockMvc.perform(get("/api/cases/{caseId}/tasks", caseId)
+						.param("size", "3")
+						.param("sort", "createdAt,asc")
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(3))
+				.andExpect(jsonPath("$.nextCursor").isNotEmpty())
+				.andExpect(jsonPath("$.totalItems").doesNotExist());
+
+		// page query + one batched load of the page's dependency collections
+		assertThat(statementCounter.statementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void listCasesLoadsStakeholdersInOneQuery() throws Exception {
+		String tenantId = "tenant-" + UUID.randomUUID();
+		UUID kitaId = seedKita(tenantId, seedLocation(tenantId));
+		for (int i = 0; i < ROWS; i++) {
+			UUID caseId = caseCommandService.createCase(tenantId, "Case " + i, kitaId).getId();
+			caseCommandService.addStakeholder(caseId, "u-" + i, StakeholderRole.CONSULTANT);
+		}
+
+		perform("/api/cases", null, tenantId)
+				.andExpect(jsonPath("$.items.length()").value(ROWS))
+				.andExpect(jsonPath("$.items[0].stakeholders.length()").value(1));
+
+		assertThat(statementCounter.statementCount()).isEqualTo(1);
+	}
+
+	private ResultActions perform(String path, UUID caseId, String tenantId) throws Exception {
+		statementCounter.reset();
+		Object[] uriVariables = caseId == null ? new Object[0] : new Object[] {caseId};
+		return mockMvc.perform(get(path, uriVariables)
+						.header(DevAuthFilter.USER_HEADER, "u-1")
+						.header(DevAuthFilter.TENANT_HEADER, tenantId))
+				.andExpect(status().isOk());
+	}
+
+	private UUID seedLocation(String tenantId) {
+		UUID locationId = UUID.randomUUID();
+		locationRepository.saveAndFlush(new LocationEntity(
+				locationId,
+				tenantId,
+				"Kita Sonnenblume",
+				new Address("Musterstrasse", "12", "10115", "Berlin", "DE")
+		));
+		return locationId;
+	}
+
+	private UUID seedKita(String tenantId, UUID locationId) {
+		KitaEntity kita = new KitaEntity(UUID.randomUUID(), tenantId, "Kita Sonnenblume", locationId);
+		kitaRepository.saveAndFlush(kita);
+		return kita.getId();
+	}
+}
@@ -0,0 +1,35 @@
+package de.bettinger.processmgmt.common.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL Hibernate sends to the database. Register it with
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}; Hibernate instantiates it itself,
+ * so the recorded statements are shared statically.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+	private static final List<String> STATEMENTS = new ArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		synchronized (STATEMENTS) {
+			STATEMENTS.add(sql);
+		}
+		return sql;
+	}
+
+	public static void reset() {
+		synchronized (STATEMENTS) {
+			STATEMENTS.clear();
+		}
+	}
+
+	public static List<String> statements() {
+		synchronized (STATEMENTS) {
+			return List.copyOf(STATEMENTS);
+		}
+	}
+}
@@ -0,0 +1,284 @@
+package de.bettinger.processmgmt.common.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bettinger.processmgmt.analytics.infrastructure.persistence.CaseTimelineEntryRepository;
+import de.bettinger.processmgmt.casemanagement.application.CaseQueryService;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaRepository;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.ProcessCaseRepository;
+import de.bettinger.processmgmt.collaboration.application.MeetingQueryService;
+import de.bettinger.processmgmt.collaboration.application.StakeholderTasksQueryService;
+import de.bettinger.processmgmt.collaboration.application.TaskQueryService;
+import de.bettinger.processmgmt.collaboration.domain.meeting.MeetingStatus;
+import de.bettinger.processmgmt.collaboration.domain.task.TaskState;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.AttachmentBlobRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.AttachmentUploadSessionRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.MeetingRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskAttachmentRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskReminderRepository;
+import de.bettinger.processmgmt.collaboration.infrastructure.persistence.TaskRepository;
+import de.bettinger.processmgmt.common.api.paging.KeysetPageRequest;
+import de.bettinger.processmgmt.common.application.StakeholderService;
+import de.bettinger.processmgmt.common.outbox.OutboxEventRepository;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Runs every repository finder and keyset list against the Flyway schema on PostgreSQL, captures the SQL Hibernate
+ * generates and fails if its plan contains a sequential scan, or a sort for queries with {@code ORDER BY}.
+ *
+ * <p>Plans are taken with {@code EXPLAIN (GENERIC_PLAN)} (PostgreSQL 16+) so no bind values are needed, and with
+ * {@code enable_seqscan} and {@code enable_sort} off: on near-empty tables the planner would otherwise prefer a
+ * sequential scan even where an index exists, while with both disabled it only falls back to one when no index
+ * can serve the query. {@code OutboxEventRepository.findAllByEventTypeIn} is left out on purpose; it backs the
+ * read-model rebuild, which reads the whole table.
+ */
+@SpringBootTest(properties = {
+		"app.outbox.relay.enabled=false",
+		"app.reminders.dispatch.enabled=false",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "de.bettinger.processmgmt.common.infrastructure.persistence.RecordingStatementInspector"
+})
+@ActiveProfiles("prod")
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryPlanIT {
+
+	private static final String TENANT_ID = "tenant-1";
+	private static final Pattern PLACEHOLDER = Pattern.compile("\\?");
+	private static final Pattern SORT_NODE = Pattern.compile("(?m)^\\s*(->\\s+)?(Incremental )?Sort\\b");
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private MeetingRepository meetingRepository;
+
+	@Autowired
+	private ProcessCaseRepository processCaseRepository;
+
+	@Autowired
+	private StakeholderRepository stakeholderRepository;
+
+	@Autowired
+	private LocationRepository locationRepository;
+
+	@Autowired
+	private KitaRepository kitaRepository;
+
+	@Autowired
+	private TaskAttachmentRepository taskAttachmentRepository;
+
+	@Autowired
+	private TaskReminderRepository taskReminderRepository;
+
+	@Autowired
+	private AttachmentBlobRepository attachmentBlobRepository;
+
+	@Autowired
+	private AttachmentUploadSessionRepository attachmentUploadSessionRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private CaseTimelineEntryRepository caseTimelineEntryRepository;
+
+	@Autowired
+	private TaskQueryService taskQueryService;
+
+	@Autowired
+	private MeetingQueryService meetingQueryService;
+
+	@Autowired
+	private CaseQueryService caseQueryService;
+
+	@Autowired
+	private StakeholderService stakeholderService;
+
+	@Autowired
+	private StakeholderTasksQueryService stakeholderTasksQueryService;
+
+	@TestFactory
+	Stream<DynamicTest> findersUseIndexes() {
+		UUID id = UUID.randomUUID();
+		Instant now = Instant.now();
+		return Stream.of(
+				finder("TaskRepository.findAllByOriginMeetingId", () -> taskRepository.findAllByOriginMeetingId(id)),
+				finder("TaskRepository.findAllByCreatedFromMeetingId",
+						() -> taskRepository.findAllByCreatedFromMeetingId(id)),
+				finder("TaskRepository.findAllByCaseIdOrderByCreatedAtDesc",
+						() -> taskRepository.findAllByCaseIdOrderByCreatedAtDesc(id)),
+				finder("TaskRepository.findWithDependenciesByCaseIdOrderByCreatedAtDesc",
+						() -> taskRepository.findWithDependenciesByCaseIdOrderByCreatedAtDesc(id)),
+				finder("TaskRepository.findReachableDependencyEdges",
+						() -> taskRepository.findReachableDependencyEdges(List.of(id, UUID.randomUUID()))),
+				finder("TaskRepository.findTaskIdsUnblockedByResolving",
+						() -> taskRepository.findTaskIdsUnblockedByResolving(id)),
+				finder("TaskRepository.findDownstreamTasks", () -> taskRepository.findDownstreamTasks(id)),
+				finder("TaskRepository.findTenantIdsByTaskIds",
+						() -> taskRepository.findTenantIdsByTaskIds(List.of(id, UUID.randomUUID()))),
+				finder("TaskRepository.countByCaseIdAndStateNotAndDueDateBefore",
+						() -> taskRepository.countByCaseIdAndStateNotAndDueDateBefore(id, TaskState.RESOLVED,
+								LocalDate.now())),
+				finder("TaskRepository.countBlockedByDependency",
+						() -> taskRepository.countBlockedByDependency(id, TaskState.RESOLVED)),
+				finder("TaskRepository.countUnresolvedAndOverdueByCaseIdIn",
+						() -> taskRepository.countUnresolvedAndOverdueByCaseIdIn(List.of(id, UUID.randomUUID()),
+								TaskState.RESOLVED, LocalDate.now())),
+				finder("MeetingRepository.findAllByCaseIdOrderByScheduledAtDesc",
+						() -> meetingRepository.findAllByCaseIdOrderByScheduledAtDesc(id)),
+				finder("MeetingRepository.findWithParticipantsById", () -> meetingRepository.findWithParticipantsById(id)),
+				finder("MeetingRepository.findNextScheduledAndLastHeldByCaseIdIn",
+						() -> meetingRepository.findNextScheduledAndLastHeldByCaseIdIn(List.of(id, UUID.randomUUID()),
+								MeetingStatus.SCHEDULED, MeetingStatus.HELD, Instant.now())),
+				finder("ProcessCaseRepository.findAllByTenantIdOrderByCreatedAtDesc",
+						() -> processCaseRepository.findAllByTenantIdOrderByCreatedAtDesc(TENANT_ID)),
+				finder("ProcessCaseRepository.findByIdAndTenantId",
+						() -> processCaseRepository.findByIdAndTenantId(id, TENANT_ID)),
+				finder("ProcessCaseRepository.findWithStakeholdersById",
+						() -> processCaseRepository.findWithStakeholdersById(id)),
+				finder("ProcessCaseRepository.findWithStakeholdersByTenantIdOrderByCreatedAtDesc",
+						() -> processCaseRepository.findWithStakeholdersByTenantIdOrderByCreatedAtDesc(TENANT_ID)),
+				finder("StakeholderRepository.findByTenantId", () -> stakeholderRepository.findByTenantId(TENANT_ID)),
+				finder("StakeholderRepository.findByIdAndTenantId",
+						() -> stakeholderRepository.findByIdAndTenantId(id, TENANT_ID)),
+				finder("LocationRepository.findAllByTenantId", () -> locationRepository.findAllByTenantId(TENANT_ID)),
+				finder("LocationRepository.findByIdAndTenantId",
+						() -> locationRepository.findByIdAndTenantId(id, TENANT_ID)),
+				finder("KitaRepository.findAllByTenantId", () -> kitaRepository.findAllByTenantId(TENANT_ID)),
+				finder("KitaRepository.findByIdAndTenantId", () -> kitaRepository.findByIdAndTenantId(id, TENANT_ID)),
+				finder("TaskAttachmentRepository.findAllByTaskIdOrderByUploadedAtDesc",
+						() -> taskAttachmentRepository.findAllByTaskIdOrderByUploadedAtDesc(id)),
+				finder("TaskAttachmentRepository.findByIdAndTaskId",
+						() -> taskAttachmentRepository.findByIdAndTaskId(id, id)),
+				finder("TaskAttachmentRepository.findAllByTaskIdInOrderByTaskIdDescUploadedAtDesc",
+						() -> taskAttachmentRepository.findAllByTaskIdInOrderByTaskIdDescUploadedAtDesc(
+								List.of(id, UUID.randomUUID()))),
+				finder("TaskReminderRepository.findAllByTaskIdOrderByRemindAtAsc",
+						() -> taskReminderRepository.findAllByTaskIdOrderByRemindAtAsc(id)),
+				finder("TaskReminderRepository.findByIdAndTaskId", () -> taskReminderRepository.findByIdAndTaskId(id, id)),
+				finder("TaskReminderRepository.findWithLockById", () -> taskReminderRepository.findWithLockById(id)),
+				finder("TaskReminderRepository.claimDue", () -> taskReminderRepository.claimDue(now, 10)),
+				finder("TaskReminderRepository.findPendingDueTimes",
+						() -> taskReminderRepository.findPendingDueTimes(now, Limit.of(10))),
+				finder("AttachmentBlobRepository.findWithLockByTenantIdAndChecksumSha256",
+						() -> attachmentBlobRepository.findWithLockByTenantIdAndChecksumSha256(TENANT_ID, "abc")),
+				finder("AttachmentBlobRepository.findWithLockByStorageKey",
+						() -> attachmentBlobRepository.findWithLockByStorageKey("key")),
+				finder("AttachmentUploadSessionRepository.findWithLockByIdAndTaskId",
+						() -> attachmentUploadSessionRepository.findWithLockByIdAndTaskId(id, id)),
+				finder("AttachmentUploadSessionRepository.findByIdAndTaskId",
+						() -> attachmentUploadSessionRepository.findByIdAndTaskId(id, id)),
+				finder("AttachmentUploadSessionRepository.claimExpired",
+						() -> attachmentUploadSessionRepository.claimExpired(now, 10)),
+				finder("OutboxEventRepository.findFirstByCaseIdOrderByOccurredAtDescIdDesc",
+						() -> outboxEventRepository.findFirstByCaseIdOrderByOccurredAtDescIdDesc(id)),
+				finder("OutboxEventRepository.claimPending", () -> outboxEventRepository.claimPending(now, 10)),
+				finder("OutboxEventRepository.findCaseEventsAfter",
+						() -> outboxEventRepository.findCaseEventsAfter(id, now, id, 10)),
+				finder("CaseTimelineEntryRepository.findAllByCaseIdOrderByOccurredAtAscEventIdAsc",
+						() -> caseTimelineEntryRepository.findAllByCaseIdOrderByOccurredAtAscEventIdAsc(id)),
+				finder("CaseTimelineEntryRepository.findExistingEventIds",
+						() -> caseTimelineEntryRepository.findExistingEventIds(List.of(id, UUID.randomUUID()))),
+				finder("TaskQueryService.listTasks by createdAt",
+						() -> taskQueryService.listTasks(id, page("createdAt,desc", "createdAt", "dueDate"))),
+				finder("TaskQueryService.listTasks by dueDate",
+						() -> taskQueryService.listTasks(id, page("dueDate,asc", "createdAt", "dueDate"))),
+				finder("MeetingQueryService.listMeetings",
+						() -> meetingQueryService.listMeetings(id, page("scheduledAt,desc", "scheduledAt"))),
+				finder("CaseQueryService.listCases",
+						() -> caseQueryService.listCases(TENANT_ID, page("createdAt,desc", "createdAt"))),
+				finder("StakeholderService.listStakeholders",
+						() -> stakeholderService.listStakeholders(TENANT_ID, page("lastName,asc", "lastName"))),
+				finder("StakeholderTasksQueryService.listAssignedTasks",
+						() -> stakeholderTasksQueryService.listAssignedTasks(TENANT_ID, id, null,
+								page("dueDate,asc", "dueDate"))),
+				finder("StakeholderTasksQueryService.listAssignedTasks by state",
+						() -> stakeholderTasksQueryService.listAssignedTasks(TENANT_ID, id, TaskState.OPEN,
+								page("dueDate,asc", "dueDate")))
+		);
+	}
+
+	private DynamicTest finder(String name, Runnable call) {
+		return DynamicTest.dynamicTest(name, () -> {
+			RecordingStatementInspector.reset();
+			// Lock finders need a read-write transaction; nothing is written.
+			transactionTemplate.executeWithoutResult(status -> call.run());
+			List<String> statements = RecordingStatementInspector.statements();
+			assertThat(statements).as("SQL of %s", name).isNotEmpty();
+			for (String sql : statements) {
+				String plan = explain(sql);
+				assertThat(plan).as("plan of %s%n%s", sql, plan).doesNotContain("Seq Scan");
+				if (sql.toLowerCase().contains("order by")) {
+					assertThat(SORT_NODE.matcher(plan).find()).as("sort in plan of %s%n%s", sql, plan).isFalse();
+				}
+			}
+		});
+	}
+
+	private String explain(String sql) {
+		return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET enable_seqscan = off");
+				statement.execute("SET enable_sort = off");
+				List<String> lines = new ArrayList<>();
+				try (ResultSet plan = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numberPlaceholders(sql))) {
+					while (plan.next()) {
+						lines.add(plan.getString(1));
+					}
+				} finally {
+					statement.execute("RESET ALL");
+				}
+				return String.join("\n", lines);
+			}
+		});
+	}
+
+	private static String numberPlaceholders(String sql) {
+		Matcher matcher = PLACEHOLDER.matcher(sql);
+		StringBuilder numbered = new StringBuilder();
+		int index = 0;
+		while (matcher.find()) {
+			matcher.appendReplacement(numbered, "\\$" + ++index);
+		}
+		matcher.appendTail(numbered);
+		return numbered.toString();
+	}
+
+	private static KeysetPageRequest page(String sort, String... sortFields) {
+		return KeysetPageRequest.of(0, 20, sort, null, true, Set.of(sortFields), Sort.Order.desc(sortFields[0]), 100);
+	}
+}
@@ -0,0 +1,138 @@
+package de.bettinger.processmgmt.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+@SpringBootTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"app.outbox.relay.max-attempts=2",
+		"app.outbox.relay.initial-backoff=0s"
+})
+@Import(OutboxRelayTest.InMemorySinkConfig.class)
+class OutboxRelayTest {
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private InMemorySink sink;
+
+	@BeforeEach
+	void setUp() {
+		outboxEventRepository.deleteAll();
+		sink.received.clear();
+	}
+
+	@Test
+	void publishesPendingEventsInOccurrenceOrderPerAggregate() {
+		UUID aggregateId = UUID.randomUUID();
+		Instant now = Instant.now();
+		OutboxEventEntity first = save(aggregateId, "TaskCreated", now.minusSeconds(2));
+		OutboxEventEntity second = save(aggregateId, "TaskResolved", now.minusSeconds(1));
+		OutboxEventEntity other = save(UUID.randomUUID(), "TaskCreated", now.minusSeconds(1));
+
+		// only the oldest pending event of each aggregate is claimable
+		assertThat(outboxRelay.relayBatch()).isEqualTo(2);
+		assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+		assertThat(outboxRelay.relayBatch()).isZero();
+
+		assertThat(sink.received).containsExactlyInAnyOrder(first.getId(), second.getId(), other.getId());
+		assertThat(sink.received.indexOf(first.getId())).isLessThan(sink.received.indexOf(second.getId()));
+		assertThat(outboxEventRepository.findAll())
+				.allSatisfy(event -> {
+					assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+					assertThat(event.getPublishedAt()).isNotNull();
+				});
+	}
+
+	@Test
+	void retriesFailingEventsAndMarksThemFailedAfterMaxAttempts() {
+		OutboxEventEntity poison = save(UUID.randomUUID(), InMemorySink.POISON_TYPE, Instant.now());
+
+		outboxRelay.relayBatch();
+		OutboxEventEntity afterFirstAttempt = outboxEventRepository.findById(poison.getId()).orElseThrow();
+		assertThat(afterFirstAttempt.getStatus()).isNull();
+		assertThat(afterFirstAttempt.getAttempts()).isEqualTo(1);
+		assertThat(afterFirstAttempt.getLastError()).contains("poison");
+
+		outboxRelay.relayBatch();
+		OutboxEventEntity afterSecondAttempt = outboxEventRepository.findById(poison.getId()).orElseThrow();
+		assertThat(afterSecondAttempt.getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+		assertThat(afterSecondAttempt.getAttempts()).isEqualTo(2);
+		assertThat(outboxRelay.relayBatch()).isZero();
+	}
+
+	@Test
+	void holdsLaterEventsBackWhileEarlierOneIsBackedOff() {
+		UUID aggregateId = UUID.randomUUID();
+		Instant now = Instant.now();
+		OutboxEventEntity leader = save(aggregateId, InMemorySink.POISON_TYPE, now.minusSeconds(2));
+		OutboxEventEntity follower = save(aggregateId, "TaskResolved", now.minusSeconds(1));
+
+		assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+		OutboxEventEntity failedLeader = outboxEventRepository.findById(leader.getId()).orElseThrow();
+		assertThat(failedLeader.getAttempts()).isEqualTo(1);
+		// push the retry into the future, as a non-zero backoff would
+		failedLeader.markAttemptFailed("poison", now.plusSeconds(3600), 5);
+		outboxEventRepository.saveAndFlush(failedLeader);
+
+		assertThat(outboxRelay.relayBatch()).isZero();
+
+		OutboxEventEntity waiting = outboxEventRepository.findById(follower.getId()).orElseThrow();
+		assertThat(waiting.getStatus()).isNull();
+		assertThat(waiting.getAttempts()).isZero();
+		assertThat(waiting.getLastError()).isNull();
+		assertThat(sink.received).isEmpty();
+
+		OutboxEventEntity givenUp = outboxEventRepository.findById(leader.getId()).orElseThrow();
+		givenUp.markAttemptFailed("poison", null, givenUp.getAttempts() + 1);
+		outboxEventRepository.saveAndFlush(givenUp);
+
+		assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+		assertThat(sink.received).containsExactly(follower.getId());
+		assertThat(outboxEventRepository.findById(follower.getId()).orElseThrow().getAttempts()).isEqualTo(1);
+	}
+
+	private OutboxEventEntity save(UUID aggregateId, String eventType, Instant occurredAt) {
+		return outboxEventRepository.saveAndFlush(new OutboxEventEntity(UUID.randomUUID(), "Task",
+				aggregateId.toString(), eventType, occurredAt, "{}", null, null));
+	}
+
+	static class InMemorySink implements OutboxEventHandler {
+
+		static final String POISON_TYPE = "Poison";
+
+		private final List<UUID> received = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void handle(OutboxEventEntity event) {
+			if (POISON_TYPE.equals(event.getEventType())) {
+				throw new IllegalStateException("poison");
+			}
+			received.add(event.getId());
+		}
+	}
+
+	@TestConfiguration
+	static class InMemorySinkConfig {
+
+		@Bean
+		InMemorySink inMemorySink() {
+			return new InMemorySink();
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package de.bettinger.processmgmt.search.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import de.bettinger.processmgmt.auth.DevAuthFilter;
+import de.bettinger.processmgmt.casemanagement.application.CaseCommandService;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaEntity;
+import de.bettinger.processmgmt.casemanagement.infrastructure.persistence.KitaRepository;
+import de.bettinger.processmgmt.collaboration.application.MeetingCommandService;
+import de.bettinger.processmgmt.collaboration.application.TaskCommandService;
+import de.bettinger.processmgmt.common.application.StakeholderService;
+import de.bettinger.processmgmt.common.domain.Address;
+import de.bettinger.processmgmt.common.domain.StakeholderRole;
+import de.bettinger.processmgmt.common.infrastructure.persistence.LocationEntity;
+import de.bettinger.processmgmt.common.infrastructure.persistence.LocationRepository;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class SearchControllerIntegrationTest {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private CaseCommandService caseCommandService;
+
+	@Autowired
+	private TaskCommandService taskCommandService;
+
+	@Autowired
+	private MeetingCommandService meetingCommandService;
+
+	@Autowired
+	private StakeholderService stakeholderService;
+
+	@Autowired
+	private LocationRepository locationRepository;
+
+	@Autowired
+	private KitaRepository kitaRepository;
+
+	private MockMvc mockMvc;
+	private String tenantId;
+	private UUID locationId;
+	private UUID caseId;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+		tenantId = "tenant-" + UUID.randomUUID();
+		locationId = seedLocation(tenantId);
+		caseId = caseCommandService.createCase(tenantId, "Case 1", seedKita(tenantId, locationId)).getId();
+	}
+
+	@Test
+	void ranksTitleMatchesAboveContentMatchesWithinTheTenant() throws Exception {
+		UUID taskId = taskCommandService.createTask(caseId, "Elterngespräch vorbereiten", "Unterlagen sammeln", 3,
+				null, null).getId();
+		UUID meetingId = scheduleMeeting("Fallkonferenz", "Elterngespräch auswerten");
+		taskCommandService.createTask(caseId, "Protokoll schreiben", "Desc", 3, null, null);
+		String otherTenantId = "other-" + tenantId;
+		UUID otherCaseId = caseCommandService.createCase(otherTenantId, "Foreign case",
+				seedKita(otherTenantId, seedLocation(otherTenantId))).getId();
+		taskCommandService.createTask(otherCaseId, "Elterngespräch führen", "Desc", 3, null, null);
+
+		search("q", "Eltern")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andExpect(jsonPath("$.items[0].type").value("TASK"))
+				.andExpect(jsonPath("$.items[0].id").value(taskId.toString()))
+				.andExpect(jsonPath("$.items[0].caseId").value(caseId.toString()))
+				.andExpect(jsonPath("$.items[0].title").value("Elterngespräch vorbereiten"))
+				.andExpect(jsonPath("$.items[1].type").value("MEETING"))
+				.andExpect(jsonPath("$.items[1].id").value(meetingId.toString()))
+				.andExpect(jsonPath("$.nextCursor").value(nullValue()))
+				.andExpect(jsonPath("$.approximate").value(false));
+
+		search("q", "eltern", "types", "MEETING")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(1))
+				.andExpect(jsonPath("$.items[0].id").value(meetingId.toString()));
+
+		search("q", "eltern vorb")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(1))
+				.andExpect(jsonPath("$.items[0].id").value(taskId.toString()));
+	}
+
+	@Test
+	void reindexesMeetingsOnEditAndHold() throws Exception {
+		Instant scheduledAt = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+		UUID meetingId = scheduleMeeting("Fallkonferenz", "Desc");
+		meetingCommandService.updateMeeting(tenantId, caseId, meetingId, locationId, "Hilfeplangespräch", "Desc",
+				scheduledAt, List.of("u-1"));
+		meetingCommandService.holdMeeting(tenantId, meetingId, locationId, scheduledAt,
+				"Vereinbarung zur Schutzplanung", List.of("u-1"), List.of());
+
+		search("q", "fallkonferenz")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(0));
+		search("q", "hilfeplan")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(1));
+		search("q", "schutzplan")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(1))
+				.andExpect(jsonPath("$.items[0].id").value(meetingId.toString()))
+				.andExpect(jsonPath("$.items[0].content").doesNotExist());
+	}
+
+	@Test
+	void splitsWordsOnHyphensPunctuationAndLineBreaks() throws Exception {
+		UUID taskId = taskCommandService.createTask(caseId, "Follow-up Hausbesuch", "Termin:\nBudget,Antrag", 3,
+				null, null).getId();
+
+		for (String query : List.of("up", "hausbesuch", "budget", "antrag", "follow")) {
+			search("q", query)
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.items.length()").value(1))
+					.andExpect(jsonPath("$.items[0].id").value(taskId.toString()));
+		}
+		search("q", "llow")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(0));
+	}
+
+	@Test
+	void findsStakeholdersByName() throws Exception {
+		UUID stakeholderId = stakeholderService.createStakeholder(tenantId, "Erika", "Mustermann",
+				StakeholderRole.CONSULTANT).getId();
+
+		search("q", "must")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(1))
+				.andExpect(jsonPath("$.items[0].type").value("STAKEHOLDER"))
+				.andExpect(jsonPath("$.items[0].id").value(stakeholderId.toString()))
+				.andExpect(jsonPath("$.items[0].title").value("Erika Mustermann"))
+				.andExpect(jsonPath("$.items[0].caseId").value(nullValue()));
+	}
+
+	@Test
+	void pagesByKeyset() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			taskCommandService.createTask(caseId, "Bericht " + i, "Desc", 3, null, null);
+		}
+
+		String firstPage = search("q", "bericht", "size", "2")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(2))
+				.andReturn().getResponse().getContentAsString();
+		List<String> firstIds = JsonPath.read(firstPage, "$.items[*].id");
+		String cursor = JsonPath.read(firstPage, "$.nextCursor");
+
+		String secondPage = search("q", "bericht", "size", "2", "cursor", cursor)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(1))
+				.andExpect(jsonPath("$.nextCursor").value(nullValue()))
+				.andReturn().getResponse().getContentAsString();
+		List<String> secondIds = JsonPath.read(secondPage, "$.items[*].id");
+		assertThat(firstIds).doesNotContainAnyElementsOf(secondIds);
+	}
+
+	@Test
+	void rejectsQueriesWithoutSearchableWords() throws Exception {
+		search("q", "a -")
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+		search("q", "bericht", "cursor", "not-a-cursor")
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+	}
+
+	private UUID scheduleMeeting(String title, String description) {
+		return meetingCommandService.scheduleMeeting(tenantId, caseId, locationId, title, description,
+				Instant.now().plus(1, ChronoUnit.DAYS), List.of("u-1")).getId();
+	}
+
+	private UUID seedLocation(String tenant) {
+		UUID id = UUID.randomUUID();
+		locationRepository.saveAndFlush(new LocationEntity(id, tenant, "Kita 1",
+				new Address("Musterstrasse", "12", "10115", "Berlin", "DE")));
+		return id;
+	}
+
+	private UUID seedKita(String tenant, UUID kitaLocationId) {
+		UUID id = UUID.randomUUID();
+		kitaRepository.saveAndFlush(new KitaEntity(id, tenant, "Kita 1", kitaLocationId));
+		return id;
+	}
+
+	private ResultActions search(String... params) throws Exception {
+		MockHttpServletRequestBuilder request = get("/api/search")
+				.header(DevAuthFilter.USER_HEADER, "u-1")
+				.header(DevAuthFilter.TENANT_HEADER, tenantId);
+		for (int i = 0; i < params.length; i += 2) {
+			request.param(params[i], params[i + 1]);
+		}
+		return mockMvc.perform(request);
+	}
+}
@@ -0,0 +1,182 @@
+package de.bettinger.processmgmt.search.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bettinger.processmgmt.common.api.paging.KeysetPage;
+import de.bettinger.processmgmt.search.application.SearchHit;
+import de.bettinger.processmgmt.search.application.SearchPage;
+import de.bettinger.processmgmt.search.application.SearchService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Runs the search against the Flyway schema on PostgreSQL with {@value #DOCUMENTS} documents for one tenant and the
+ * same documents for {@value #NOISE_TENANTS} other tenants. Titles are {@code Thema<i % 50> Vorgang<i>} and newer
+ * documents have a higher {@code i}, so the expected hits of every query can be derived from the term alone. One
+ * older document, {@value #SPECIAL_TITLE}, outranks all of them for {@code thema1}.
+ */
+@SpringBootTest(properties = {
+		"app.outbox.relay.enabled=false",
+		"app.reminders.dispatch.enabled=false"
+})
+@ActiveProfiles("prod")
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresSearchIT {
+
+	private static final String TENANT_ID = "tenant-1";
+	private static final int DOCUMENTS = 100_000;
+	private static final int NOISE_TENANTS = 3;
+	private static final long MAX_LATENCY_MILLIS = 100;
+	private static final String SPECIAL_TITLE = "Thema1 Thema1 Sonderfall";
+	private static final Pattern TITLE = Pattern.compile("Thema(\\d+) Vorgang(\\d+)");
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+	@Autowired
+	private SearchService searchService;
+
+	@BeforeAll
+	static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+		List<String> tenants = new ArrayList<>(List.of(TENANT_ID));
+		for (int noise = 1; noise <= NOISE_TENANTS; noise++) {
+			tenants.add("noise-" + noise);
+		}
+		for (String tenant : tenants) {
+			jdbcTemplate.update("""
+					INSERT INTO search_documents (document_id, document_type, tenant_id, case_id, title, content,
+					                              updated_at)
+					SELECT gen_random_uuid(), (ARRAY['TASK', 'MEETING', 'STAKEHOLDER'])[1 + i % 3], ?,
+					       CASE WHEN i % 3 = 2 THEN NULL ELSE gen_random_uuid() END,
+					       'Thema' || (i % 50) || ' Vorgang' || i,
+					       'Protokoll Abschnitt' || (i % 7) || ' Hausbesuch-Termin mit Rückfragen',
+					       TIMESTAMP '2026-01-01 00:00:00' + i * INTERVAL '1 second'
+					FROM generate_series(1, ?) AS i
+					""", tenant, DOCUMENTS);
+		}
+		jdbcTemplate.update("""
+				INSERT INTO search_documents (document_id, document_type, tenant_id, case_id, title, content,
+				                              updated_at)
+				VALUES (gen_random_uuid(), 'TASK', ?, gen_random_uuid(), ?, 'Thema1', TIMESTAMP '2020-01-01 00:00:00')
+				""", TENANT_ID, SPECIAL_TITLE);
+		jdbcTemplate.execute("VACUUM ANALYZE search_documents");
+	}
+
+	@Test
+	void findsOnlyTheMatchingDocumentOfTheTenant() {
+		SearchPage result = search("vorgang12345", 20, null);
+		List<SearchHit> hits = result.page().items();
+
+		assertThat(hits).extracting(SearchHit::title).containsExactly("Thema45 Vorgang12345");
+		assertThat(result.approximate()).isFalse();
+	}
+
+	@Test
+	void requiresEveryTerm() {
+		List<SearchHit> hits = search("thema4 vorgang1234", 20, null).page().items();
+
+		// vorgang1234 matches 1234 and 12340-12349; thema4 keeps the ones with i % 50 in {4, 40..49}
+		assertThat(hits).extracting(hit -> number(hit, 2)).containsExactlyInAnyOrder(
+				12340, 12341, 12342, 12343, 12344, 12345, 12346, 12347, 12348, 12349);
+	}
+
+	@Test
+	void pagesThroughAllMatchesWithoutGapsOrDuplicates() {
+		List<SearchHit> hits = collect("vorgang123", 50);
+
+		// 123, 1230-1239 and 12300-12399
+		assertThat(hits).hasSize(111);
+		assertThat(hits).extracting(SearchHit::id).doesNotHaveDuplicates();
+		assertThat(hits).extracting(hit -> number(hit, 2)).allSatisfy(number ->
+				assertThat(String.valueOf(number)).startsWith("123"));
+		for (int i = 1; i < hits.size(); i++) {
+			assertThat(hits.get(i).score()).isLessThanOrEqualTo(hits.get(i - 1).score());
+		}
+	}
+
+	@Test
+	void ranksOnlyTheMostRecentlyUpdatedMatchesOfBroadTerms() {
+		List<SearchHit> hits = collect("thema1", 200);
+
+		// thema1 matches i % 50 in {1, 10..19}, about 22,000 documents; only the newest ones are ranked
+		Set<Integer> expected = new HashSet<>();
+		for (int i = DOCUMENTS; expected.size() < NativeSearchAdapter.MAX_CANDIDATES; i--) {
+			int theme = i % 50;
+			if (theme == 1 || (theme >= 10 && theme <= 19)) {
+				expected.add(i);
+			}
+		}
+		assertThat(hits).extracting(hit -> number(hit, 2)).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	void flagsBroadQueriesAsApproximateAndFindsOlderBetterMatchesWithMoreWords() {
+		SearchPage broad = search("thema1", 20, null);
+
+		assertThat(broad.approximate()).isTrue();
+		assertThat(broad.page().items()).extracting(SearchHit::title).doesNotContain(SPECIAL_TITLE);
+
+		SearchPage specific = search("thema1 sonderfall", 20, null);
+
+		assertThat(specific.approximate()).isFalse();
+		assertThat(specific.page().items()).extracting(SearchHit::title).containsExactly(SPECIAL_TITLE);
+	}
+
+	@Test
+	void answersWithinTheLatencyBudget() {
+		List<String> queries = List.of("vorgang12345", "thema4 vorgang1234", "vorgang123", "thema1", "th",
+				"hausbesuch termin");
+		for (String query : queries) {
+			for (int warmup = 0; warmup < 5; warmup++) {
+				search(query, 20, null);
+			}
+			String nextPage = search(query, 20, null).page().encodedNextCursor();
+			List<Long> millis = new ArrayList<>();
+			for (int run = 0; run < 20; run++) {
+				long started = System.nanoTime();
+				search(query, 20, run % 2 == 0 ? null : nextPage);
+				millis.add((System.nanoTime() - started) / 1_000_000);
+			}
+			millis.sort(null);
+			assertThat(millis.get(millis.size() * 9 / 10 - 1))
+					.as("p90 latency of '%s' in ms", query)
+					.isLessThan(MAX_LATENCY_MILLIS);
+		}
+	}
+
+	private SearchPage search(String text, int size, String cursor) {
+		return searchService.search(TENANT_ID, text, null, size, cursor);
+	}
+
+	private List<SearchHit> collect(String text, int size) {
+		List<SearchHit> hits = new ArrayList<>();
+		String cursor = null;
+		do {
+			KeysetPage<SearchHit> page = search(text, size, cursor).page();
+			hits.addAll(page.items());
+			cursor = page.encodedNextCursor();
+		} while (cursor != null);
+		return hits;
+	}
+
+	private static int number(SearchHit hit, int group) {
+		Matcher matcher = TITLE.matcher(hit.title());
+		assertThat(matcher.matches()).as(hit.title()).isTrue();
+		return Integer.parseInt(matcher.group(group));
+	}
+}